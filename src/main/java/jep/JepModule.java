@@ -8,6 +8,7 @@ import com.google.inject.AbstractModule;
 
 import jep.example.ExampleRegistry;
 import jep.main.JavaExamplesProjectMain;
+import jep.main.SourceCodeCache;
 
 /**
  * This class implements a binding module to allow google guice injection.
@@ -21,6 +22,8 @@ public class JepModule extends AbstractModule {
 
     private final ExampleRegistry exampleRegistry;
 
+    private final SourceCodeCache sourceCodeCache;
+
     /**
      * Constructs a new {@link JepModule}-instance. The given {@link JavaExamplesProjectMain}-class
      * is bound to the given instance.
@@ -31,6 +34,7 @@ public class JepModule extends AbstractModule {
         this.main = Objects.requireNonNull(main);
         this.bundle = assembleResourceBundle();
         this.exampleRegistry = new ExampleRegistry();
+        this.sourceCodeCache = new SourceCodeCache();
     }
 
     private ResourceBundle assembleResourceBundle() {
@@ -42,6 +46,7 @@ public class JepModule extends AbstractModule {
         bind(JavaExamplesProjectMain.class).toInstance(main);
         bind(ResourceBundle.class).toInstance(bundle);
         bind(ExampleRegistry.class).toInstance(exampleRegistry);
+        bind(SourceCodeCache.class).toInstance(sourceCodeCache);
     }
 
 }
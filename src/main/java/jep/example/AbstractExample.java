@@ -17,65 +17,153 @@ public abstract class AbstractExample implements Example {
     @Inject
     protected ResourceBundle bundle;
 
-    private final StringBuilder logger = new StringBuilder();
+    private final LogBuffer logBuffer = new LogBuffer();
+
+    /**
+     * Holds the text logged since the last line break, it is appended to the {@link #logBuffer} as
+     * soon as the line is completed.
+     */
+    private final StringBuilder pendingLine = new StringBuilder();
+
+    private volatile boolean cancelled = false;
+
+    private volatile ExampleProgressListener progressListener;
+
+    private double reportedProgress = -1;
 
     /**
      * Adds a general message to the log, which states that no arguments are required by this
      * example.
      */
     protected void logNoArgumentsRequired() {
-        logger.append("This example requires no arguments.").append('\n');
+        appendToLog("This example requires no arguments.", true);
     }
 
     /**
      * Logs the following string '- - - - - - - -\n' which is used as a separator between to lines.
      */
     public void logLineSeparator() {
-        logger.append("- - - - - - - -").append('\n');
+        appendToLog("- - - - - - - -", true);
     }
 
     @Override
     public void log(String text) {
-        logger.append(text);
+        appendToLog(String.valueOf(text), false);
     }
 
     @Override
     public void log(Object object) {
-        if (object == null) {
-            logger.append("null");
-        } else {
-            logger.append(object.toString());
-        }
+        appendToLog(String.valueOf(object), false);
     }
 
     @Override
     public void logln(String line) {
-        logger.append(line).append('\n');
+        appendToLog(String.valueOf(line), true);
     }
 
     @Override
     public void logln(Object object) {
-        if (object == null) {
-            logger.append("null");
-        } else {
-            logger.append(object.toString());
-        }
-        logger.append('\n');
+        appendToLog(String.valueOf(object), true);
     }
 
     @Override
     public void logln() {
-        logger.append('\n');
+        appendToLog("", true);
+    }
+
+    /**
+     * Appends the given <code>text</code> to the pending line and appends every completed line to
+     * the {@link LogBuffer}.
+     * 
+     * @param text text which is logged
+     * @param endLine if <code>true</code> the pending line is completed after the text was added
+     */
+    private void appendToLog(String text, boolean endLine) {
+        synchronized (pendingLine) {
+            int lineStart = 0;
+            int lineEnd = text.indexOf('\n');
+            while (lineEnd >= 0) {
+                pendingLine.append(text, lineStart, lineEnd);
+                logBuffer.append(pendingLine.toString());
+                pendingLine.setLength(0);
+                lineStart = lineEnd + 1;
+                lineEnd = text.indexOf('\n', lineStart);
+            }
+            pendingLine.append(text, lineStart, text.length());
+            if (endLine) {
+                logBuffer.append(pendingLine.toString());
+                pendingLine.setLength(0);
+            }
+        }
+    }
+
+    @Override
+    public void completeLog() {
+        synchronized (pendingLine) {
+            if (pendingLine.length() > 0) {
+                logBuffer.append(pendingLine.toString());
+                pendingLine.setLength(0);
+            }
+        }
     }
 
     @Override
     public void clearLog() {
-        logger.setLength(0);
+        synchronized (pendingLine) {
+            pendingLine.setLength(0);
+            logBuffer.clear();
+        }
     }
 
     @Override
     public String getLoggedText() {
-        return logger.toString();
+        StringBuilder sb = new StringBuilder();
+        logBuffer.drainTo(0, line -> sb.append(line).append('\n'));
+        synchronized (pendingLine) {
+            sb.append(pendingLine);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public LogBuffer getLogBuffer() {
+        return logBuffer;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void resetCancellation() {
+        cancelled = false;
+    }
+
+    @Override
+    public void setProgressListener(ExampleProgressListener listener) {
+        this.progressListener = listener;
+        this.reportedProgress = -1;
+    }
+
+    /**
+     * Informs the progress listener (if one is set) about the given <code>progress</code>. To keep
+     * this method cheap enough to be called each iteration of an algorithm, the listener is only
+     * informed if the progress changed by at least a tenth of a percent since the last update.
+     * 
+     * @param progress progress of this example within [0, 1]
+     */
+    protected void updateProgress(double progress) {
+        ExampleProgressListener listener = progressListener;
+        if (listener != null && Math.abs(progress - reportedProgress) >= 0.001D) {
+            reportedProgress = progress;
+            listener.progressChanged(Math.min(1, Math.max(0, progress)));
+        }
     }
 
     /**
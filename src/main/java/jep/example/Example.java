@@ -58,12 +58,58 @@ public interface Example extends ExampleContent {
 
     /**
      * Returns the logged text (every text logged via {@link #log(String)}, {@link #logln()} or
-     * {@link #logln(String)}).
+     * {@link #logln(String)}). Note that only the last {@link LogBuffer#getCapacity()} lines are
+     * kept.
      * 
      * @return
      */
     String getLoggedText();
 
+    /**
+     * Returns the {@link LogBuffer}-instance holding the completed lines of the log, which allows to
+     * read the log while the example is still running.
+     * 
+     * @return
+     */
+    LogBuffer getLogBuffer();
+
+    /**
+     * Completes the pending line of the log, so text logged without a trailing line break (via
+     * {@link #log(String)}) is appended to the {@link LogBuffer} as well. This is called once the
+     * example finished running.
+     */
+    void completeLog();
+
+    /**
+     * Requests the cancellation of this example if it is currently running. Examples running long
+     * lasting algorithms are to check {@link #isCancelled()} regularly and return as soon as
+     * possible once it returns <code>true</code>.
+     */
+    void cancel();
+
+    /**
+     * Returns <code>true</code> if the cancellation of this example was requested via
+     * {@link #cancel()} since the last call of {@link #resetCancellation()}, <code>false</code>
+     * otherwise.
+     * 
+     * @return
+     */
+    boolean isCancelled();
+
+    /**
+     * Resets the cancellation state of this example, this is to be done before each run.
+     */
+    void resetCancellation();
+
+    /**
+     * Sets the given <code>listener</code> as the listener which is informed about the progress of
+     * this example while it is running.
+     * 
+     * @param listener {@link ExampleProgressListener}-instance informed about the progress or
+     *        <code>null</code> to remove the current listener
+     */
+    void setProgressListener(ExampleProgressListener listener);
+
     /**
      * Returns the description text of this example.
      * 
@@ -0,0 +1,19 @@
+package jep.example;
+
+/**
+ * This functional interface defines a listener which is informed about the progress of a running
+ * {@link Example}.
+ *
+ */
+@FunctionalInterface
+public interface ExampleProgressListener {
+
+    /**
+     * This method is called by a running example whenever its progress changed.
+     * 
+     * @param progress progress of the running example within [0, 1] or a negative value if the
+     *        progress is unknown
+     */
+    void progressChanged(double progress);
+
+}
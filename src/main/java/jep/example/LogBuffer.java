@@ -0,0 +1,136 @@
+package jep.example;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * This class implements a bounded, lock-free ring buffer of log lines. Each appended line is given
+ * a sequence number. Once more than {@link #getCapacity()} lines were appended the oldest lines are
+ * overwritten.
+ * <p>
+ * Lines can be appended by multiple threads at once. Readers do not remove lines from the buffer,
+ * instead every reader keeps track of the sequence number of the next line it wants to read and
+ * passes it to {@link #drainTo(long, Consumer)}. This allows a reader (like an user interface) to
+ * fetch only the lines appended since its last read, while the writer never has to wait for it.
+ *
+ */
+public class LogBuffer {
+
+    /**
+     * Default number of lines which are kept by a {@link LogBuffer}.
+     */
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    private final int capacity;
+    private final AtomicReferenceArray<Line> lines;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private volatile long clearedSequence = 0;
+
+    /**
+     * Constructs a new {@link LogBuffer}-instance which keeps {@link #DEFAULT_CAPACITY} lines.
+     */
+    public LogBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new {@link LogBuffer}-instance which keeps the given number of lines.
+     *
+     * @param capacity maximal number of lines kept by this buffer (has to be true positive [> 0])
+     */
+    public LogBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity has to be true positive (> 0).");
+        }
+        this.capacity = capacity;
+        this.lines = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Appends the given <code>line</code> to this buffer, overwriting the oldest line if the buffer
+     * is full.
+     *
+     * @param line line appended to this buffer (without line separator)
+     */
+    public void append(String line) {
+        long sequence = nextSequence.getAndIncrement();
+        lines.set(indexOf(sequence), new Line(sequence, line));
+    }
+
+    /**
+     * Passes all lines starting at the given <code>fromSequence</code> which are still available
+     * to the given <code>consumer</code> (in order) and returns the sequence number the next call
+     * of this method should start at. Lines which were overwritten or cleared are skipped.
+     *
+     * @param fromSequence sequence number of the first line which is to be read (use <code>0</code>
+     *        to read all available lines)
+     * @param consumer consumer which is passed the read lines
+     * @return
+     */
+    public long drainTo(long fromSequence, Consumer<String> consumer) {
+        long end = nextSequence.get();
+        long sequence = Math.max(fromSequence, getFirstAvailableSequence(end));
+        while (sequence < end) {
+            Line line = lines.get(indexOf(sequence));
+            if (line == null || line.sequence < sequence) {
+                // the writer which reserved this sequence did not publish its line yet
+                break;
+            }
+            if (line.sequence == sequence) {
+                consumer.accept(line.text);
+            }
+            sequence++;
+        }
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence number the next appended line will be given.
+     *
+     * @return
+     */
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * Returns the maximal number of lines kept by this buffer.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Clears this buffer. Lines appended before this method was called are no longer passed to
+     * readers.
+     */
+    public void clear() {
+        clearedSequence = nextSequence.get();
+    }
+
+    private long getFirstAvailableSequence(long end) {
+        return Math.max(clearedSequence, end - capacity);
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    /**
+     * Immutable pair of a line and its sequence number.
+     */
+    private static final class Line {
+
+        private final long sequence;
+        private final String text;
+
+        private Line(long sequence, String text) {
+            this.sequence = sequence;
+            this.text = text;
+        }
+    }
+
+}
@@ -18,10 +18,14 @@ import jep.model.optimizationProblem.correctiveProcedure.ThresholdAcceptingProce
 import jep.model.optimizationProblem.correctiveProcedure.ThresholdBreakCondition;
 import jep.model.optimizationProblem.correctiveProcedure.ThresholdSinkingFunction;
 import jep.model.optimizationProblem.correctiveProcedure.CorrectiveProcedure.ResultMode;
+import jep.model.optimizationProblem.termination.TerminationBreakCondition;
+import jep.model.optimizationProblem.termination.TerminationCondition;
+import jep.model.optimizationProblem.termination.WallClockBudget;
 import jep.model.optimizationProblem.tsp.InitialTSPSolutionConstructor;
 import jep.model.optimizationProblem.tsp.TSPSolution;
 import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem;
 import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+import jep.model.random.RandomStreamProvider;
 
 /**
  * This class implements an example which illustrates how corrective procedures could be implemented
@@ -33,12 +37,16 @@ public class CorrectiveProceduresExample extends AbstractExample {
     @Override
     public void run(String... arguments) {
         TravelingSalesmanProblem tsp = new TravelingSalesmanProblem();
-        long time = System.currentTimeMillis();
-        Random random = new Random();
+        // an optional first argument defines the master seed, which makes a run reproducible
+        RandomStreamProvider streamProvider = arguments.length > 0
+                ? new RandomStreamProvider(Long.parseLong(arguments[0]))
+                : new RandomStreamProvider();
+        logln("Master seed of the random number generators: " + streamProvider.getMasterSeed());
+        Random random = streamProvider.getStream(0L);
 
         logln("Initialize corrective procedure components.");
         InitialSolutionConstructor<TravelingSalesmanProblem> initialSolutionConstructor =
-                new InitialTSPSolutionConstructor(tsp);
+                new InitialTSPSolutionConstructor(tsp, streamProvider.getStream(1L));
 
         // initial solution is one, where each city is reached, but the cities
         // are in random order
@@ -62,15 +70,15 @@ public class CorrectiveProceduresExample extends AbstractExample {
             return new TSPSolution(tsp, cities);
         };
 
-        BreakCondition<TravelingSalesmanProblem> breakCondition =
-                (currentSolution, iterationCount, iterationWithAcceptanceCount) -> {
-                    // terminate after two minutes (180.000ms)
-                    if (System.currentTimeMillis() - time >= 180_000L) {
-                        logln("Break procedure due to general break condition being fulfilled.");
-                        return true;
-                    }
-                    return false;
+        // terminate after three minutes (180.000ms), the clock is read every few iterations only
+        WallClockBudget<TravelingSalesmanProblem> timeBudget = new WallClockBudget<>(180_000L);
+        TerminationCondition<TravelingSalesmanProblem> progressAndCancellation =
+                (iterationCount, fitness) -> {
+                    updateProgress(timeBudget.getProgress());
+                    return isCancelled();
                 };
+        BreakCondition<TravelingSalesmanProblem> breakCondition =
+                new TerminationBreakCondition<>(progressAndCancellation.or(timeBudget));
 
         FitnessComparator<TravelingSalesmanProblem> fitnessComparator = new FitnessComparator<>();
 
@@ -92,6 +100,7 @@ public class CorrectiveProceduresExample extends AbstractExample {
         logln("Run threshold accepting procedure.");
         TSPSolution bestSolution =
                 (TSPSolution) thresholdAcceptingProcedure.run(ResultMode.TOTAL_BEST);
+        logTermination(timeBudget);
         logln("Number of iterations: " + thresholdAcceptingProcedure.getNumberOfIterations());
         logln("Best Solution:");
         logln(">> " + bestSolution.getStringRepresentation());
@@ -110,10 +119,11 @@ public class CorrectiveProceduresExample extends AbstractExample {
         SimulatedAnnealingProcedure<TravelingSalesmanProblem> simulatedAnnealingProcedure =
                 new SimulatedAnnealingProcedure<>(initialSolutionConstructor, fitnessComparator,
                         neighborFunction, new AnnealingFunction<>(fitnessComparator, temperature,
-                                alpha, worseItrThreshold),
+                                alpha, worseItrThreshold, streamProvider.getStream(2L)),
                         breakCondition);
         logln("Run simulated annealing procedure.");
         bestSolution = (TSPSolution) simulatedAnnealingProcedure.run(ResultMode.TOTAL_BEST);
+        logTermination(timeBudget);
         logln("Number of iterations: " + thresholdAcceptingProcedure.getNumberOfIterations());
         logln("Best Solution:");
         logln(">> " + bestSolution.getStringRepresentation());
@@ -123,6 +133,14 @@ public class CorrectiveProceduresExample extends AbstractExample {
         logLineSeparator();
     }
 
+    private void logTermination(WallClockBudget<TravelingSalesmanProblem> timeBudget) {
+        if (isCancelled()) {
+            logln("Break procedure because the example was cancelled.");
+        } else if (timeBudget.isExhausted()) {
+            logln("Break procedure due to general break condition being fulfilled.");
+        }
+    }
+
     @Override
     public Class<?>[] getRelevantClasses() {
         Class<?>[] relevantClasses = {CorrectiveProceduresExample.class, AbstractSolution.class,
@@ -131,7 +149,8 @@ public class CorrectiveProceduresExample extends AbstractExample {
                 AcceptanceFunction.class, NeighborFunction.class, BreakCondition.class,
                 ThresholdAcceptingProcedure.class, ThresholdBreakCondition.class,
                 ThresholdSinkingFunction.class, SimulatedAnnealingProcedure.class,
-                AnnealingFunction.class};
+                AnnealingFunction.class, RandomStreamProvider.class, TerminationCondition.class,
+                TerminationBreakCondition.class, WallClockBudget.class};
         return relevantClasses;
     }
 
@@ -0,0 +1,178 @@
+package jep.example.general.preference;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+/**
+ * This class implements a {@link PreferenceHandler} which keeps a typed in-memory snapshot of all
+ * preferences and writes changes behind.
+ * <p>
+ * Reads are served from an immutable snapshot without touching the {@link Preferences}-instance
+ * (and without parsing stored strings again). Setters only replace the snapshot and mark the
+ * changed key as dirty. Dirty keys are written to the backing store in one batch (followed by a
+ * single {@link Preferences#flush()}) by a background scheduler, when {@link #flush()} or
+ * {@link #close()} is called and when the virtual machine shuts down. Multiple changes of the same
+ * key between two flushes are therefore coalesced into a single write.
+ *
+ */
+public class CachedPreferenceHandler extends PreferenceHandler implements AutoCloseable {
+
+    /**
+     * Default interval between two automatic flushes in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1_000L;
+
+    private enum Key {
+        PATH, NUMBER;
+    }
+
+    private final Preferences preferences;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Set<Key> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flushScheduler;
+    private final Thread shutdownHook;
+
+    /**
+     * Constructs a new {@link CachedPreferenceHandler}-instance for the given
+     * <code>preferences</code> using the {@link #DEFAULT_FLUSH_INTERVAL_MILLIS} as flush interval.
+     *
+     * @param preferences {@link Preferences}-instances set for this handler
+     */
+    public CachedPreferenceHandler(Preferences preferences) {
+        this(preferences, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a new {@link CachedPreferenceHandler}-instance for the given
+     * <code>preferences</code>.
+     *
+     * @param preferences {@link Preferences}-instances set for this handler
+     * @param flushIntervalMillis interval in milliseconds in which dirty preferences are written to
+     *        the backing store (has to be true positive [> 0])
+     */
+    public CachedPreferenceHandler(Preferences preferences, long flushIntervalMillis) {
+        super(preferences);
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "The flush interval has to be set as a true positive value (> 0).");
+        }
+        this.preferences = Objects.requireNonNull(preferences);
+        this.snapshot.set(loadSnapshot());
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "preference-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis,
+                flushIntervalMillis, TimeUnit.MILLISECONDS);
+        this.shutdownHook = new Thread(this::flush, "preference-flush-on-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    private Snapshot loadSnapshot() {
+        return new Snapshot(super.getWorkdirPathPreference(), super.getNumberPreference());
+    }
+
+    @Override
+    public Path getWorkdirPathPreference() {
+        return snapshot.get().path;
+    }
+
+    @Override
+    public void setWorkdirPathPreference(Path path) {
+        Objects.requireNonNull(path);
+        update(Key.PATH, current -> new Snapshot(path, current.number));
+    }
+
+    @Override
+    public int getNumberPreference() {
+        return snapshot.get().number;
+    }
+
+    @Override
+    public void setNumberPreference(int number) {
+        update(Key.NUMBER, current -> new Snapshot(current.path, number));
+    }
+
+    private void update(Key key, UnaryOperator<Snapshot> change) {
+        snapshot.updateAndGet(change);
+        // the key is marked after the snapshot was replaced, therefore a flush which misses this
+        // mark did already see the new value or will be followed by another flush
+        dirtyKeys.add(key);
+    }
+
+    /**
+     * Writes all dirty preferences to the backing store and flushes it once afterwards. Does
+     * nothing if there are no dirty preferences.
+     */
+    public synchronized void flush() {
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+        for (Key key : Key.values()) {
+            if (dirtyKeys.remove(key)) {
+                Snapshot current = snapshot.get();
+                switch (key) {
+                    case PATH:
+                        super.setWorkdirPathPreference(current.path);
+                        break;
+                    case NUMBER:
+                        super.setNumberPreference(current.number);
+                        break;
+                    default:
+                        throw new AssertionError();
+                }
+            }
+        }
+        try {
+            preferences.flush();
+        } catch (BackingStoreException exc) {
+        }
+    }
+
+    @Override
+    public synchronized void clearPreferences() {
+        dirtyKeys.clear();
+        super.clearPreferences();
+        snapshot.set(loadSnapshot());
+    }
+
+    /**
+     * Stops the background flushing and writes all remaining dirty preferences to the backing
+     * store.
+     */
+    @Override
+    public void close() {
+        flushScheduler.shutdown();
+        flush();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException exc) {
+            // the virtual machine is already shutting down, the hook will flush (again)
+        }
+    }
+
+    /**
+     * Immutable snapshot of all preferences handled by this class.
+     */
+    private static final class Snapshot {
+
+        private final Path path;
+        private final int number;
+
+        private Snapshot(Path path, int number) {
+            this.path = path;
+            this.number = number;
+        }
+    }
+
+}
@@ -82,13 +82,31 @@ public class PreferenceExample extends AbstractExample {
         logln(preferenceHandler.getWorkdirPathPreference().toString());
         log("Number: ");
         logln(preferenceHandler.getNumberPreference());
+        logLineSeparator();
+
+        logln("Each access of the handler above reads from or writes to the preferences directly. "
+                + "If preferences are read frequently we can use a cached handler instead, which "
+                + "serves reads from memory and writes changes behind in batches.");
+        try (CachedPreferenceHandler cachedHandler = new CachedPreferenceHandler(preferences)) {
+            logln("Attempting to set the number preference as '1', '2' and '3' (only the last value is written).");
+            cachedHandler.setNumberPreference(1);
+            cachedHandler.setNumberPreference(2);
+            cachedHandler.setNumberPreference(3);
+            log("Number (cached): ");
+            logln(cachedHandler.getNumberPreference());
+            logln("Flushing the cached handler.");
+            cachedHandler.flush();
+            log("Number (stored): ");
+            logln(preferences.getInt(keyNumber, 0));
+        }
 
     }
 
     @Override
     public Class<?>[] getRelevantClasses() {
         Class<?>[] relevantClasses =
-                {PreferenceExample.class, Preferences.class, PreferenceHandler.class};
+                {PreferenceExample.class, Preferences.class, PreferenceHandler.class,
+                        CachedPreferenceHandler.class};
         return relevantClasses;
     }
 
@@ -3,7 +3,6 @@ package jep.example.geneticAlgorithm;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 import jep.example.AbstractExample;
 import jep.model.optimizationProblem.AbstractSolution;
@@ -20,33 +19,56 @@ import jep.model.optimizationProblem.ga.NoCrossoverFunction;
 import jep.model.optimizationProblem.ga.Population;
 import jep.model.optimizationProblem.ga.RouletteWheelSelection;
 import jep.model.optimizationProblem.ga.SelectionFunction;
+import jep.model.optimizationProblem.ga.crossover.OrderCrossover;
+import jep.model.optimizationProblem.ga.crossover.PermutationCrossoverFunction;
 import jep.model.optimizationProblem.ga.mutation.FixedRateMutationFunction;
 import jep.model.optimizationProblem.ga.mutation.MutationFunction;
+import jep.model.optimizationProblem.termination.IterationBudget;
+import jep.model.optimizationProblem.termination.TargetFitnessCondition;
+import jep.model.optimizationProblem.termination.TerminationBreakCondition;
+import jep.model.optimizationProblem.termination.TerminationCondition;
+import jep.model.optimizationProblem.termination.WallClockBudget;
+import jep.model.optimizationProblem.tsp.HeldKarpSolver;
 import jep.model.optimizationProblem.tsp.InitialTSPSolutionConstructor;
 import jep.model.optimizationProblem.tsp.TSPSolution;
 import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem;
 import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+import jep.model.random.RandomStreamProvider;
 
 public class GeneticAlgorithmExample extends AbstractExample {
 
     private final static FitnessComparator<TravelingSalesmanProblem> FITNESS_COPMPARATOR =
             new FitnessComparator<>();
     private final static TravelingSalesmanProblem TSP = new TravelingSalesmanProblem();
-    private final static Random RANDOM = new Random();
 
     // this is the same implementation of the threshold sinking function as used in the
     // corrective procedure example
     private final static ThresholdSinkingFunction THRESHOLD_SINKING_FUNCTION =
             new ThresholdSinkingFunction(25_000.0D, 0.99D, 100);
 
+    // random number generator of the operators of the current run, derived from the master seed
+    private Random random;
+    // iteration count of the last check of the break condition, logged after a run
+    private long lastIterationCount;
 
     @Override
     public void run(String... arguments) {
-        long time = System.currentTimeMillis();
+        // an optional first argument defines the master seed, which makes a run reproducible
+        RandomStreamProvider streamProvider = arguments.length > 0
+                ? new RandomStreamProvider(Long.parseLong(arguments[0]))
+                : new RandomStreamProvider();
+        logln("Master seed of the random number generators: " + streamProvider.getMasterSeed());
+        random = streamProvider.getStream(0L);
+
+        // the optimal tour is computed exactly, the algorithms stop as soon as they found it
+        TSPSolution optimalSolution = new HeldKarpSolver(TSP).solve();
+        double optimalFitness = optimalSolution.getFitness();
+        logln("Optimal solution (Held-Karp):");
+        logln(">> " + optimalSolution.getStringRepresentation());
 
         logln("Initializing components for a simple threshold accepting 1+1 (1 parent, 1 child, plus selection) genetic algorithm.");
         InitialTSPSolutionConstructor initialSolutionConstructor =
-                new InitialTSPSolutionConstructor(TSP);
+                new InitialTSPSolutionConstructor(TSP, streamProvider.getStream(1L));
         // population of a single individual
         Population<TravelingSalesmanProblem> initialPopulation =
                 new Population<>(initialSolutionConstructor, 1);
@@ -56,29 +78,25 @@ public class GeneticAlgorithmExample extends AbstractExample {
         CrossoverFunction<TravelingSalesmanProblem> crossoverFunction = new NoCrossoverFunction<>();
 
         MutationFunction<TravelingSalesmanProblem> mutationFunction =
-                GeneticAlgorithmExample::createNeighborPopulation;
+                this::createNeighborPopulation;
 
         SelectionFunction<TravelingSalesmanProblem> selectionFunction =
-                GeneticAlgorithmExample::thresdholdAcceptingSelection;
-
-        BreakCondition<TravelingSalesmanProblem> breakCondition =
-                (currentPopulation, iterationCount, bestFoundSolution) -> {
-                    if (iterationCount >= 2000000) {
-                        logln("Breaking GA due to iteration counter. Iterations: " + iterationCount
-                                + ".");
-                        return true;
-                    } else if (bestFoundSolution.getFitness() >= -45811.0D) {
-                        logln("Breaking GA because optimal solution was found (fitness: "
-                                + bestFoundSolution.getFitness() + "). Iterations: "
-                                + iterationCount + ".");
-                        return true;
-                    } else if (System.currentTimeMillis() - time >= 120_000L) {
-                        logln("Breaking GA because it ran for 2 minutes. Iterations: "
-                                + iterationCount + ".");
-                        return true;
-                    }
-                    return false;
+                this::thresdholdAcceptingSelection;
+
+        // the clock is read every few iterations only, the other conditions are cheap enough to
+        // be checked on each iteration
+        WallClockBudget<TravelingSalesmanProblem> timeBudget = new WallClockBudget<>(120_000L);
+        TerminationCondition<TravelingSalesmanProblem> progressAndCancellation =
+                (iterationCount, fitness) -> {
+                    lastIterationCount = iterationCount;
+                    updateProgress(timeBudget.getProgress());
+                    return isCancelled();
                 };
+        BreakCondition<TravelingSalesmanProblem> breakCondition =
+                new TerminationBreakCondition<>(progressAndCancellation
+                        .or(new IterationBudget<>(2_000_000L))
+                        .or(new TargetFitnessCondition<>(FITNESS_COPMPARATOR, optimalFitness))
+                        .or(timeBudget));
 
         GeneticAlgorithm<TravelingSalesmanProblem> geneticAlgorithm =
                 new GeneticAlgorithm<>(initialPopulation, crossoverFunction, mutationFunction,
@@ -86,6 +104,7 @@ public class GeneticAlgorithmExample extends AbstractExample {
 
         logln("Running 1+1 threshold accepting genetic algorithm.");
         TSPSolution bestSolution = (TSPSolution) geneticAlgorithm.run(ResultMode.TOTAL_BEST);
+        logTermination(bestSolution, optimalFitness, timeBudget);
         logln("Best Solution:");
         logln(">> " + bestSolution.getStringRepresentation());
         logLineSeparator();
@@ -93,19 +112,44 @@ public class GeneticAlgorithmExample extends AbstractExample {
         logln("Initializing components for a 10,10 (10 parents, 10 childs, comma selection) genetic algorithm.");
         int populationSize = 10;
         initialPopulation = createNewInitialPopulation(populationSize, initialSolutionConstructor);
-        crossoverFunction = GeneticAlgorithmExample::crossover;
-        mutationFunction =
-                new FixedRateMutationFunction<>(0.5D, GeneticAlgorithmExample::mutateSolution);
-        selectionFunction = new RouletteWheelSelection<>(false, populationSize);
+        // order crossover: a random block of the first parent is kept, the other cities are added
+        // in the order of the second parent
+        crossoverFunction = new PermutationCrossoverFunction<>(
+                () -> new OrderCrossover(TSP.getNumberOfCities()),
+                solution -> ((TSPSolution) solution).getTour(),
+                tour -> new TSPSolution(TSP, tour), streamProvider.getStream(4L));
+        mutationFunction = new FixedRateMutationFunction<>(0.5D, this::mutateSolution,
+                streamProvider.getStream(2L));
+        selectionFunction = new RouletteWheelSelection<>(false, populationSize,
+                streamProvider.getStream(3L));
         geneticAlgorithm = new GeneticAlgorithm<>(initialPopulation, crossoverFunction,
                 mutationFunction, selectionFunction, breakCondition);
         logln("Running 10,10 genetic algorithm using crossover, fixed rate mutation and roulette wheel seelction.");
         bestSolution = (TSPSolution) geneticAlgorithm.run(ResultMode.TOTAL_BEST);
+        logTermination(bestSolution, optimalFitness, timeBudget);
         logln("Best Solution:");
         logln(">> " + bestSolution.getStringRepresentation());
 
     }
 
+    private void logTermination(TSPSolution bestSolution, double optimalFitness,
+            WallClockBudget<TravelingSalesmanProblem> timeBudget) {
+        if (isCancelled()) {
+            logln("Breaking GA because the example was cancelled. Iterations: "
+                    + lastIterationCount + ".");
+        } else if (FITNESS_COPMPARATOR.checkIfFirstIsBetterOrEqual(bestSolution.getFitness(),
+                optimalFitness)) {
+            logln("Breaking GA because optimal solution was found (fitness: "
+                    + bestSolution.getFitness() + "). Iterations: " + lastIterationCount + ".");
+        } else if (timeBudget.isExhausted()) {
+            logln("Breaking GA because it ran for 2 minutes. Iterations: " + lastIterationCount
+                    + ".");
+        } else {
+            logln("Breaking GA due to iteration counter. Iterations: " + lastIterationCount
+                    + ".");
+        }
+    }
+
     private Population<TravelingSalesmanProblem> createNewInitialPopulation(int populationSize,
             InitialTSPSolutionConstructor solutionConstructor) {
         List<Solution<TravelingSalesmanProblem>> individuals = new ArrayList<>(populationSize);
@@ -115,7 +159,7 @@ public class GeneticAlgorithmExample extends AbstractExample {
         return new Population<>(individuals);
     }
 
-    private static Population<TravelingSalesmanProblem> thresdholdAcceptingSelection(
+    private Population<TravelingSalesmanProblem> thresdholdAcceptingSelection(
             Population<TravelingSalesmanProblem> parentPopulation,
             Population<TravelingSalesmanProblem> childPopulation) {
         assert parentPopulation.size() == 1;
@@ -135,65 +179,16 @@ public class GeneticAlgorithmExample extends AbstractExample {
         return new Population<>(acceptedSolution);
     }
 
-    private static Population<TravelingSalesmanProblem> crossover(
-            Population<TravelingSalesmanProblem> parentPopulation) {
-        List<TSPSolution> parentList = parentPopulation.getIndividualsAsUnmodifiableList().stream()
-                .map(solution -> (TSPSolution) solution).collect(Collectors.toList());
-        int populationSize = parentList.size();
-        assert populationSize > 1;
-        List<Solution<TravelingSalesmanProblem>> childList = new ArrayList<>(populationSize);
-        for (int i = 0; i < populationSize; i++) {
-            TSPSolution parent1 = parentList.get(RANDOM.nextInt(populationSize));
-            TSPSolution parent2 = parentList.get(RANDOM.nextInt(populationSize));
-            while (parent1 == parent2) { // if same parent was picked randomly both times
-                parent2 = parentList.get(RANDOM.nextInt(populationSize));
-            }
-            int range = parent1.getCities().length;
-            int blockSize = range / 2;
-            int splitPosition1 = RANDOM.nextInt(range);
-            int splitPosition2 = (splitPosition1 + blockSize) % range;
-            List<City> blockOfParent1 = new ArrayList<>(range);
-
-            // the route ends where it begins, we can pick a block at any position of the route
-            if (splitPosition2 > splitPosition1) {
-                for (int j = splitPosition1; j < splitPosition2; j++) {
-                    blockOfParent1.add(parent1.getCities()[j]);
-                }
-            } else {
-                for (int j = splitPosition1; j < range; j++) {
-                    blockOfParent1.add(parent1.getCities()[j]);
-                }
-                for (int j = 0; j < splitPosition2; j++) {
-                    blockOfParent1.add(parent1.getCities()[j]);
-                }
-            }
-            List<City> citiesOfParent2 = new ArrayList<>(blockSize);
-            for (City city : parent2.getCities()) {
-                if (!blockOfParent1.contains(city)) {
-                    citiesOfParent2.add(city);
-                }
-            }
-            // add cities of parent2 behind the block of parent1 in their original order
-            for (City city : citiesOfParent2) {
-                blockOfParent1.add(city);
-            }
-            City[] cities = new City[blockOfParent1.size()];
-            childList.add(new TSPSolution(TSP, blockOfParent1.toArray(cities)));
-        }
-
-        return new Population<TravelingSalesmanProblem>(childList);
-    }
-
-    private static Solution<TravelingSalesmanProblem> mutateSolution(
+    private Solution<TravelingSalesmanProblem> mutateSolution(
             Solution<TravelingSalesmanProblem> solution) {
         TSPSolution currentSolution = (TSPSolution) solution;
         City[] cities = currentSolution.getCities();
         // swap two cities at random
-        int first = RANDOM.nextInt(cities.length);
-        int second = RANDOM.nextInt(cities.length);
+        int first = random.nextInt(cities.length);
+        int second = random.nextInt(cities.length);
         while (first == second) {
-            first = RANDOM.nextInt(cities.length);
-            second = RANDOM.nextInt(cities.length);
+            first = random.nextInt(cities.length);
+            second = random.nextInt(cities.length);
         }
         City a = cities[first];
         cities[first] = cities[second];
@@ -201,7 +196,7 @@ public class GeneticAlgorithmExample extends AbstractExample {
         return new TSPSolution(TSP, cities);
     }
 
-    private static Population<TravelingSalesmanProblem> createNeighborPopulation(
+    private Population<TravelingSalesmanProblem> createNeighborPopulation(
             Population<TravelingSalesmanProblem> population) {
         assert population.size() == 1;
         TSPSolution currentSolution =
@@ -216,7 +211,9 @@ public class GeneticAlgorithmExample extends AbstractExample {
                 InitialSolutionConstructor.class, ThresholdSinkingFunction.class,
                 BreakCondition.class, CrossoverFunction.class, GeneticAlgorithm.class,
                 NoCrossoverFunction.class, Population.class, RouletteWheelSelection.class,
-                SelectionFunction.class, FixedRateMutationFunction.class, MutationFunction.class};
+                SelectionFunction.class, FixedRateMutationFunction.class, MutationFunction.class,
+                RandomStreamProvider.class, HeldKarpSolver.class, TerminationCondition.class,
+                TerminationBreakCondition.class, WallClockBudget.class};
         return relevantClasses;
     }
 
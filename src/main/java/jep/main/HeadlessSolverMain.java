@@ -0,0 +1,902 @@
+package jep.main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jep.model.optimizationProblem.FitnessCache;
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.aco.AntColonyOptimization;
+import jep.model.optimizationProblem.aco.AntColonyOptimization.Variant;
+import jep.model.optimizationProblem.checkpoint.CheckpointFile;
+import jep.model.optimizationProblem.checkpoint.CheckpointWriter;
+import jep.model.optimizationProblem.correctiveProcedure.AbstractCorrectiveProcedure;
+import jep.model.optimizationProblem.correctiveProcedure.AnnealingFunction;
+import jep.model.optimizationProblem.correctiveProcedure.BreakCondition;
+import jep.model.optimizationProblem.correctiveProcedure.CorrectiveProcedure;
+import jep.model.optimizationProblem.correctiveProcedure.NeighborFunction;
+import jep.model.optimizationProblem.correctiveProcedure.SimulatedAnnealingProcedure;
+import jep.model.optimizationProblem.correctiveProcedure.ThresholdAcceptingProcedure;
+import jep.model.optimizationProblem.correctiveProcedure.ThresholdSinkingFunction;
+import jep.model.optimizationProblem.experiment.ExperimentReport;
+import jep.model.optimizationProblem.experiment.ExperimentRun;
+import jep.model.optimizationProblem.experiment.ExperimentRunner;
+import jep.model.optimizationProblem.experiment.RunMonitor;
+import jep.model.optimizationProblem.ga.AsyncIterationListener;
+import jep.model.optimizationProblem.ga.CrossoverFunction;
+import jep.model.optimizationProblem.ga.GeneticAlgorithm;
+import jep.model.optimizationProblem.ga.ImprovementOperator;
+import jep.model.optimizationProblem.ga.NoCrossoverFunction;
+import jep.model.optimizationProblem.ga.Population;
+import jep.model.optimizationProblem.ga.SelectionFunction;
+import jep.model.optimizationProblem.ga.StochasticUniversalSampling;
+import jep.model.optimizationProblem.ga.TournamentSelection;
+import jep.model.optimizationProblem.ga.TruncationSelection;
+import jep.model.optimizationProblem.ga.crossover.EdgeAssemblyCrossover;
+import jep.model.optimizationProblem.ga.crossover.EdgeRecombinationCrossover;
+import jep.model.optimizationProblem.ga.crossover.OrderCrossover;
+import jep.model.optimizationProblem.ga.crossover.PartiallyMappedCrossover;
+import jep.model.optimizationProblem.ga.crossover.PermutationCrossover;
+import jep.model.optimizationProblem.ga.crossover.PermutationCrossoverFunction;
+import jep.model.optimizationProblem.ga.mutation.FixedRateMutationFunction;
+import jep.model.optimizationProblem.ga.mutation.MutationFunction;
+import jep.model.optimizationProblem.ga.mutation.MutationRule;
+import jep.model.optimizationProblem.ga.mutation.SelfAdaptiveMutationFunction;
+import jep.model.optimizationProblem.termination.AbstractClockBudget;
+import jep.model.optimizationProblem.termination.CancellationToken;
+import jep.model.optimizationProblem.termination.CpuTimeBudget;
+import jep.model.optimizationProblem.termination.EvaluationBudget;
+import jep.model.optimizationProblem.termination.IterationBudget;
+import jep.model.optimizationProblem.termination.StagnationBudget;
+import jep.model.optimizationProblem.termination.TerminationBreakCondition;
+import jep.model.optimizationProblem.termination.TerminationCondition;
+import jep.model.optimizationProblem.termination.WallClockBudget;
+import jep.model.optimizationProblem.tsp.CandidateLists;
+import jep.model.optimizationProblem.tsp.CandidateTwoOptFunction;
+import jep.model.optimizationProblem.tsp.CitySwapFunction;
+import jep.model.optimizationProblem.tsp.GreedyEdgeTourConstructor;
+import jep.model.optimizationProblem.tsp.HeldKarpSolver;
+import jep.model.optimizationProblem.tsp.InitialTSPSolutionConstructor;
+import jep.model.optimizationProblem.tsp.LinKernighanImprovementOperator;
+import jep.model.optimizationProblem.tsp.LinKernighanProcedure;
+import jep.model.optimizationProblem.tsp.LinKernighanSearch;
+import jep.model.optimizationProblem.tsp.LocalSearchImprovementOperator;
+import jep.model.optimizationProblem.tsp.LocalSearchProcedure;
+import jep.model.optimizationProblem.tsp.NearestNeighborTourConstructor;
+import jep.model.optimizationProblem.tsp.SpaceFillingCurveTourConstructor;
+import jep.model.optimizationProblem.tsp.TSPSearchProblem;
+import jep.model.optimizationProblem.tsp.TSPSolution;
+import jep.model.optimizationProblem.tsp.TSPSolutionCodec;
+import jep.model.optimizationProblem.tsp.TourHash;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem;
+import jep.model.optimizationProblem.tsp.TwoOptLocalSearch;
+import jep.model.random.RandomStreamProvider;
+import jep.model.search.AStarSearch;
+import jep.model.search.SearchResult;
+
+/**
+ * This class provides a command line entry point which runs a single optimization algorithm on the
+ * {@link TravelingSalesmanProblem} without starting the graphical user interface. Neither JavaFX
+ * nor the injector are loaded, the progress is written to the standard output.
+ * <p>
+ * Parameters are given as <code>--key value</code> (or <code>--key=value</code>) pairs. Using
+ * <code>--config file</code> the parameters can be read from a properties file instead, parameters
+ * given on the command line override those of the file. Run with <code>--help</code> to list all
+ * parameters.
+ *
+ */
+public class HeadlessSolverMain {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: HeadlessSolverMain [--key value]...",
+            "  --config <file>            properties file holding any of the keys below",
+            "  --algorithm <ga|ta|sa|ls|lk|as|mmas|astar|heldkarp>",
+            "                             genetic algorithm, threshold accepting, simulated",
+            "                             annealing, multi-start 2-opt/Or-opt local search,",
+            "                             iterated Lin-Kernighan, ant system, MAX-MIN ant system,",
+            "                             exact A* search or exact Held-Karp (default: ga)",
+            "  --iterations <n>           maximal number of iterations (default: 2000000)",
+            "  --time <seconds>           maximal run time in seconds (default: 120)",
+            "  --cpuTime <seconds>        maximal CPU time of the thread of a run in seconds",
+            "                             (default: none)",
+            "  --evaluations <n>          [ga, ta, sa] maximal number of fitness evaluations of a",
+            "                             run (default: none)",
+            "  --stagnation <n>           stop after this number of iterations without improvement",
+            "                             (default: none)",
+            "  --checkInterval <n>        maximal number of iterations between two readings of the",
+            "                             clocks, fewer if the iterations are slow; '--time' and",
+            "                             '--cpuTime' may be exceeded by about one iteration",
+            "                             (default: 16)",
+            "  --target <fitness|optimum> stop as soon as this fitness (or the exact optimum) is",
+            "                             reached (default: none)",
+            "  --seed <n>                 seed of the random number generator (default: random)",
+            "  --progressInterval <n>     number of iterations between two progress lines",
+            "                             (default: 100000)",
+            "  --checkpoint <file>        [ga, ta, sa] file the state of the run is written to",
+            "                             periodically (default: none)",
+            "  --checkpointSeconds <s>    minimal time between two checkpoints in seconds, 0 to",
+            "                             disable (default: 60)",
+            "  --checkpointIterations <n> number of iterations between two checkpoints, 0 to",
+            "                             disable (default: 0); with both intervals 0 a run is",
+            "                             only resumed from the checkpoint file",
+            "  --resume <true|false>      continue the run stored in the checkpoint file, if it",
+            "                             exists (default: false)",
+            "  --runs <n>                 number of independent runs, more than one prints",
+            "                             statistics (default: 1)",
+            "  --threads <n>              number of concurrently executed runs (default: number of",
+            "                             processors)",
+            "  --csv <file>               file the results of the runs are written to (default:",
+            "                             standard output)",
+            "  --init <random|nn|greedy|hilbert|mixed>",
+            "                             [ga, ta, sa, ls, lk] construction of the initial tours:",
+            "                             random, nearest neighbor, greedy edge, Hilbert curve or",
+            "                             all of them [ga only] (default: random)",
+            "  --neighborhood <swap|2opt> [ga, ta, sa] moves of the mutation or neighbor function:",
+            "                             swapping two random cities or 2-opt moves to one of the",
+            "                             nearest neighbors (default: swap)",
+            "  --neighbors <n>            [ga, ta, sa, ls, lk] number of nearest neighbors of the",
+            "                             2-opt moves (default: 8)",
+            "  --polish <true|false>      [ga] improve every mutated individual by 2-opt/Or-opt",
+            "                             local search (default: false)",
+            "  --crossover <none|ox|pmx|erx|eax>",
+            "                             [ga] crossover: none, order, partially-mapped, edge",
+            "                             recombination or edge assembly crossover (default: none)",
+            "  --memetic <none|2opt|lk>   [ga] improve every child by 2-opt/Or-opt local search or",
+            "                             Lin-Kernighan search, in parallel (default: none)",
+            "  --memeticBudget <n>        [ga] maximal number of 2-opt/Or-opt moves or",
+            "                             Lin-Kernighan kicks per child (default: 100)",
+            "  --slice <ms>               [lk, ga] time slice of the search between two checks of",
+            "                             the break condition, or maximal time of the",
+            "                             Lin-Kernighan search of a child [ga] (default: 100)",
+            "  --population <n>           [ga] population size (default: 10)",
+            "  --selection <plus|comma|tournament|sus>",
+            "                             [ga] selection: best of parents and children, best of",
+            "                             children, tournaments or stochastic universal sampling",
+            "                             of parents and children (default: plus)",
+            "  --tournamentSize <n>       [ga] number of individuals of a tournament (default: 2)",
+            "  --parallelEvaluation <true|false>",
+            "                             [ga] evaluate the fitness of all children in parallel",
+            "                             instead of lazily (default: false)",
+            "  --fitnessCache <n>         [ga, ta, sa] number of cached fitness values of",
+            "                             evaluated tours, 0 to disable (default: 0)",
+            "  --mutation <fixed|self>    [ga] mutation: fixed rate or self-adaptive rates carried",
+            "                             by the individuals (default: fixed)",
+            "  --mutationRate <r>         [ga] mutation rate, initial rate of self-adaptive",
+            "                             mutation, within (0, 1] (default: 0.5)",
+            "  --threshold <t>            [ta] initial threshold (default: 25000)",
+            "  --temperature <t>          [sa] initial temperature (default: 2000)",
+            "  --alpha <a>                [ta, sa] sinking factor within (0, 1) (default: 0.99)",
+            "  --worseIterations <n>      [ta, sa] worse iterations until sinking (default: 100)",
+            "  --ants <n>                 [as, mmas] number of ants (default: number of cities)",
+            "  --pheromoneWeight <a>      [as, mmas] influence of the pheromone (default: 1)",
+            "  --distanceWeight <b>       [as, mmas] influence of the distance (default: 3)",
+            "  --evaporation <r>          [as, mmas] evaporation rate within (0, 1) (default: 0.5",
+            "                             [as], 0.02 [mmas])",
+            "  --candidates <n>           [as, mmas] size of the candidate lists (default: 20)",
+            "  --antThreads <n>           [as, mmas] threads constructing tours (default: number",
+            "                             of processors)");
+
+    private final Properties configuration;
+    private final PrintStream out;
+    private final TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+    private final FitnessComparator<TravelingSalesmanProblem> fitnessComparator =
+            new FitnessComparator<>();
+    private final long maxIterations;
+    private final long maxTimeMillis;
+    private final Double targetFitness;
+    private final long progressInterval;
+    private final int checkInterval;
+    private final CancellationToken<TravelingSalesmanProblem> cancellation =
+            new CancellationToken<>();
+    private byte[] resumedCheckpoint = null;
+
+    /**
+     * Constructs a new {@link HeadlessSolverMain}-instance for the given
+     * <code>configuration</code>, writing its progress to the given <code>out</code> stream.
+     *
+     * @param configuration parameters of the run (keys without leading dashes)
+     * @param out stream the progress and result are written to
+     */
+    public HeadlessSolverMain(Properties configuration, PrintStream out) {
+        this.configuration = Objects.requireNonNull(configuration);
+        this.out = Objects.requireNonNull(out);
+        this.maxIterations = getLong("iterations", 2_000_000L);
+        this.maxTimeMillis = getLong("time", 120L) * 1_000L;
+        if (!configuration.containsKey("target")) {
+            this.targetFitness = null;
+        } else if (getValue("target").equals("optimum")) {
+            this.targetFitness = new HeldKarpSolver(problem).solve().getFitness();
+        } else {
+            this.targetFitness = getDouble("target", 0);
+        }
+        this.progressInterval = getLong("progressInterval", 100_000L);
+        if (progressInterval <= 0) {
+            throw new IllegalArgumentException(
+                    "The progress interval has to be true positive (> 0).");
+        }
+        this.checkInterval = getInt("checkInterval", AbstractClockBudget.DEFAULT_CHECK_INTERVAL);
+    }
+
+    public static void main(String... args) {
+        Properties configuration;
+        try {
+            configuration = parseArguments(args);
+        } catch (IllegalArgumentException | IOException exc) {
+            System.err.println(exc.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (configuration.containsKey("help")) {
+            System.out.println(USAGE);
+            return;
+        }
+        int exitCode = 0;
+        CountDownLatch finished = new CountDownLatch(1);
+        try {
+            HeadlessSolverMain solver = new HeadlessSolverMain(configuration, System.out);
+            // on Ctrl+C the runs stop at their next iteration and still print their results
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                solver.cancel();
+                try {
+                    finished.await(5L, TimeUnit.SECONDS);
+                } catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            solver.run();
+        } catch (IllegalArgumentException exc) {
+            System.err.println(exc.getMessage());
+            exitCode = 2;
+        } catch (IOException | UncheckedIOException | InterruptedException exc) {
+            System.err.println(exc.getMessage());
+            exitCode = 1;
+        } finally {
+            finished.countDown();
+        }
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    /**
+     * Parses the given command line <code>args</code>. If a config file is given, its properties
+     * are used as base which is overridden by the other arguments.
+     */
+    private static Properties parseArguments(String... args) throws IOException {
+        Properties arguments = new Properties();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--") || arg.length() == 2) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'.");
+            }
+            String key = arg.substring(2);
+            int separator = key.indexOf('=');
+            if (separator >= 0) {
+                arguments.setProperty(key.substring(0, separator), key.substring(separator + 1));
+            } else if (key.equals("help")) {
+                arguments.setProperty(key, "true");
+            } else if (i + 1 < args.length) {
+                arguments.setProperty(key, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value of argument '" + arg + "'.");
+            }
+        }
+        Properties configuration = new Properties();
+        String configFile = arguments.getProperty("config");
+        if (configFile != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(configFile))) {
+                configuration.load(in);
+            }
+        }
+        configuration.putAll(arguments);
+        return configuration;
+    }
+
+    /**
+     * Runs the configured algorithm and writes its progress and result to the output stream. If
+     * more than one run is configured, the runs are executed as experiment and the statistics of
+     * all runs are written instead.
+     *
+     * @throws IOException if the run results could not be written to the CSV file
+     * @throws InterruptedException if the thread is interrupted while waiting for the runs
+     */
+    public void run() throws IOException, InterruptedException {
+        // every component draws from its own stream, all derived from the master seed
+        RandomStreamProvider streamProvider = configuration.containsKey("seed")
+                ? new RandomStreamProvider(getLong("seed", 0)) : new RandomStreamProvider();
+        String algorithm = configuration.getProperty("algorithm", "ga");
+        int runs = getInt("runs", 1);
+        if (configuration.containsKey("evaluations")
+                && !Arrays.asList("ga", "ta", "sa").contains(algorithm)) {
+            // the other algorithms compute the tour lengths without evaluating solutions
+            throw new IllegalArgumentException(
+                    "An evaluation budget is only supported by 'ga', 'ta' and 'sa'.");
+        }
+        if (runs > 1 && configuration.containsKey("checkpoint")) {
+            throw new IllegalArgumentException("Checkpoints are only supported for single runs.");
+        }
+        if (configuration.containsKey("checkpoint") && getBoolean("resume", false)
+                && Files.exists(Paths.get(getValue("checkpoint")))) {
+            resumedCheckpoint = CheckpointFile.read(Paths.get(getValue("checkpoint")));
+            out.println("Resuming the run stored in '" + getValue("checkpoint") + "'.");
+        }
+        if (runs > 1) {
+            runExperiment(algorithm, runs, streamProvider.getMasterSeed());
+            return;
+        }
+        out.println("Running '" + algorithm + "' on the traveling salesman problem (seed "
+                + streamProvider.getMasterSeed() + ").");
+        RunMonitor<TravelingSalesmanProblem> monitor = createMonitor();
+        Solution<TravelingSalesmanProblem> bestSolution =
+                solve(algorithm, streamProvider, monitor, true);
+        monitor.finish();
+        out.println("Finished after " + monitor.getIterations() + " iterations and "
+                + monitor.getElapsedNanos() / 1_000_000L + " ms.");
+        out.println("Best solution (fitness " + bestSolution.getFitness() + "):");
+        out.println(bestSolution.getStringRepresentation());
+    }
+
+    /**
+     * Requests the termination of the running algorithms, which stop at their next check of the
+     * termination condition. This method can be called by any thread.
+     */
+    public void cancel() {
+        cancellation.cancel();
+    }
+
+    /**
+     * Executes the given number of independent <code>runs</code> on a bounded thread pool, streams
+     * the result of each run as CSV and writes the statistics of all runs.
+     */
+    private void runExperiment(String algorithm, int runs, long masterSeed)
+            throws IOException, InterruptedException {
+        int threads = getInt("threads", Runtime.getRuntime().availableProcessors());
+        ExperimentRun<TravelingSalesmanProblem> experimentRun =
+                (runIndex, streams, monitor) -> solve(algorithm, streams, monitor, false);
+        ExperimentRunner<TravelingSalesmanProblem> runner = targetFitness != null
+                ? new ExperimentRunner<>(experimentRun, runs, threads, masterSeed, targetFitness)
+                : new ExperimentRunner<>(experimentRun, runs, threads, masterSeed);
+        out.println("Running '" + algorithm + "' " + runs + " times on " + threads
+                + " threads (seed " + masterSeed + ").");
+        ExperimentReport report;
+        String csvFile = configuration.getProperty("csv");
+        if (csvFile != null) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(csvFile.trim()),
+                    StandardCharsets.UTF_8)) {
+                report = runner.run(writer);
+            }
+        } else {
+            report = runner.run(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+        out.println(report);
+    }
+
+    private RunMonitor<TravelingSalesmanProblem> createMonitor() {
+        return targetFitness != null ? new RunMonitor<>(fitnessComparator, targetFitness)
+                : new RunMonitor<>(fitnessComparator);
+    }
+
+    /**
+     * Constructs the configured algorithm using the given <code>streamProvider</code>, runs it and
+     * returns its best solution. The given <code>monitor</code> is informed about the progress.
+     */
+    private Solution<TravelingSalesmanProblem> solve(String algorithm,
+            RandomStreamProvider streamProvider, RunMonitor<TravelingSalesmanProblem> monitor,
+            boolean printProgress) {
+        switch (algorithm) {
+            case "ga":
+                return solveByGeneticAlgorithm(streamProvider, monitor, printProgress);
+            case "ta":
+            case "sa":
+                return solveByCorrectiveProcedure(algorithm.equals("ta"), streamProvider, monitor,
+                        printProgress);
+            case "ls":
+                return solveByLocalSearch(streamProvider, monitor, printProgress);
+            case "lk":
+                return solveByLinKernighanSearch(streamProvider, monitor, printProgress);
+            case "as":
+            case "mmas":
+                return solveByAntColonyOptimization(algorithm.equals("mmas"), streamProvider,
+                        monitor, printProgress);
+            case "astar":
+                return solveByAStarSearch(monitor);
+            case "heldkarp":
+                return solveByHeldKarpSolver(monitor);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm '" + algorithm + "'.");
+        }
+    }
+
+    private Solution<TravelingSalesmanProblem> solveByGeneticAlgorithm(
+            RandomStreamProvider streamProvider, RunMonitor<TravelingSalesmanProblem> monitor,
+            boolean printProgress) {
+        int populationSize = getInt("population", 10);
+        LongAdder evaluationCounter = createEvaluationCounter();
+        GeneticAlgorithm<TravelingSalesmanProblem> geneticAlgorithm = new GeneticAlgorithm<>(
+                new Population<>(createInitialSolutionConstructors(streamProvider),
+                        populationSize),
+                createCrossoverFunction(streamProvider),
+                createMutationFunction(createMutationRule(streamProvider), streamProvider),
+                createImprovementOperator(streamProvider),
+                createSelectionFunction(populationSize, streamProvider),
+                new TerminationBreakCondition<>(
+                        createTerminationCondition(monitor, false, evaluationCounter)));
+        geneticAlgorithm.setParallelEvaluation(getBoolean("parallelEvaluation", false));
+        geneticAlgorithm.setFitnessCache(createFitnessCache());
+        geneticAlgorithm.setEvaluationCounter(evaluationCounter);
+        // the progress is printed by a separate thread, so printing does not slow down the
+        // algorithm
+        AsyncIterationListener<TravelingSalesmanProblem> progressListener = null;
+        if (printProgress) {
+            progressListener = new AsyncIterationListener<>(
+                    snapshot -> printProgressIfRequired(snapshot.getIterationCount() + 1,
+                            snapshot.getBestIndividual().getFitness(), monitor),
+                    16, progressInterval, 0L, AsyncIterationListener.OverflowPolicy.DROP);
+            geneticAlgorithm.add(progressListener);
+        }
+        try (CheckpointWriter checkpointWriter = createCheckpointWriter()) {
+            TSPSolutionCodec codec = new TSPSolutionCodec(problem);
+            geneticAlgorithm.setCheckpointing(codec, checkpointWriter);
+            return resumedCheckpoint == null
+                    ? geneticAlgorithm.run(GeneticAlgorithm.ResultMode.TOTAL_BEST)
+                    : geneticAlgorithm.resume(resumedCheckpoint, codec,
+                            GeneticAlgorithm.ResultMode.TOTAL_BEST);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (progressListener != null) {
+                progressListener.close();
+            }
+        }
+    }
+
+    /**
+     * Runs threshold accepting (if <code>thresholdAccepting</code> is <code>true</code>) or
+     * simulated annealing.
+     */
+    private Solution<TravelingSalesmanProblem> solveByCorrectiveProcedure(
+            boolean thresholdAccepting, RandomStreamProvider streamProvider,
+            RunMonitor<TravelingSalesmanProblem> monitor, boolean printProgress) {
+        double alpha = getDouble("alpha", 0.99D);
+        int worseIterations = getInt("worseIterations", 100);
+        LongAdder evaluationCounter = createEvaluationCounter();
+        BreakCondition<TravelingSalesmanProblem> breakCondition = new TerminationBreakCondition<>(
+                createTerminationCondition(monitor, printProgress, evaluationCounter));
+        InitialSolutionConstructor<TravelingSalesmanProblem> initialSolutionConstructor =
+                getSingleConstructor(createInitialSolutionConstructors(streamProvider));
+        NeighborFunction<TravelingSalesmanProblem> neighborFunction =
+                createNeighborFunction(streamProvider);
+        AbstractCorrectiveProcedure<TravelingSalesmanProblem> procedure;
+        if (thresholdAccepting) {
+            procedure = new ThresholdAcceptingProcedure<>(initialSolutionConstructor,
+                    fitnessComparator, neighborFunction, breakCondition,
+                    new ThresholdSinkingFunction(getDouble("threshold", 25_000.0D), alpha,
+                            worseIterations),
+                    threshold -> false);
+        } else {
+            procedure = new SimulatedAnnealingProcedure<>(initialSolutionConstructor,
+                    fitnessComparator, neighborFunction,
+                    new AnnealingFunction<>(fitnessComparator, getDouble("temperature", 2_000.0D),
+                            alpha, worseIterations, streamProvider.getStream(2L)),
+                    breakCondition);
+        }
+        procedure.setFitnessCache(createFitnessCache());
+        procedure.setEvaluationCounter(evaluationCounter);
+        try (CheckpointWriter checkpointWriter = createCheckpointWriter()) {
+            TSPSolutionCodec codec = new TSPSolutionCodec(problem);
+            procedure.setCheckpointing(codec, checkpointWriter);
+            return resumedCheckpoint == null
+                    ? procedure.run(CorrectiveProcedure.ResultMode.TOTAL_BEST)
+                    : procedure.resume(resumedCheckpoint, codec,
+                            CorrectiveProcedure.ResultMode.TOTAL_BEST);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Solution<TravelingSalesmanProblem> solveByLocalSearch(
+            RandomStreamProvider streamProvider, RunMonitor<TravelingSalesmanProblem> monitor,
+            boolean printProgress) {
+        LocalSearchProcedure procedure = new LocalSearchProcedure(
+                getSingleConstructor(createInitialSolutionConstructors(streamProvider)),
+                new TwoOptLocalSearch(problem, new CandidateLists(problem, getInt("neighbors", 8))),
+                new TerminationBreakCondition<>(
+                        createTerminationCondition(monitor, printProgress)));
+        return procedure.run(CorrectiveProcedure.ResultMode.TOTAL_BEST);
+    }
+
+    private Solution<TravelingSalesmanProblem> solveByLinKernighanSearch(
+            RandomStreamProvider streamProvider, RunMonitor<TravelingSalesmanProblem> monitor,
+            boolean printProgress) {
+        LinKernighanSearch search = new LinKernighanSearch(problem,
+                new CandidateLists(problem, getInt("neighbors", 8)),
+                LinKernighanSearch.DEFAULT_MAX_DEPTH, streamProvider.getStream(2L));
+        LinKernighanProcedure procedure = new LinKernighanProcedure(
+                getSingleConstructor(createInitialSolutionConstructors(streamProvider)), search,
+                getLong("slice", 100L),
+                new TerminationBreakCondition<>(
+                        createTerminationCondition(monitor, printProgress)));
+        return procedure.run(CorrectiveProcedure.ResultMode.TOTAL_BEST);
+    }
+
+    /**
+     * Runs the MAX-MIN ant system (if <code>maxMin</code> is <code>true</code>) or the ant system.
+     */
+    private Solution<TravelingSalesmanProblem> solveByAntColonyOptimization(boolean maxMin,
+            RandomStreamProvider streamProvider, RunMonitor<TravelingSalesmanProblem> monitor,
+            boolean printProgress) {
+        AntColonyOptimization antColonyOptimization = new AntColonyOptimization(problem,
+                maxMin ? Variant.MAX_MIN_ANT_SYSTEM : Variant.ANT_SYSTEM,
+                getInt("ants", problem.getNumberOfCities()), getDouble("pheromoneWeight", 1.0D),
+                getDouble("distanceWeight", 3.0D), getDouble("evaporation", maxMin ? 0.02D : 0.5D),
+                getInt("candidates", AntColonyOptimization.DEFAULT_CANDIDATE_LIST_SIZE),
+                getInt("antThreads", Runtime.getRuntime().availableProcessors()),
+                streamProvider.derive(3L), createTerminationCondition(monitor, printProgress));
+        return antColonyOptimization.run();
+    }
+
+    private Solution<TravelingSalesmanProblem> solveByAStarSearch(
+            RunMonitor<TravelingSalesmanProblem> monitor) {
+        TSPSearchProblem searchProblem = new TSPSearchProblem(problem);
+        SearchResult result =
+                new AStarSearch(searchProblem, searchProblem.getHeuristic()).search();
+        TSPSolution solution = searchProblem.toSolution(result);
+        monitor.update(result.getExpandedNodes(), solution.getFitness());
+        return solution;
+    }
+
+    private Solution<TravelingSalesmanProblem> solveByHeldKarpSolver(
+            RunMonitor<TravelingSalesmanProblem> monitor) {
+        TSPSolution solution = new HeldKarpSolver(problem).solve();
+        monitor.update(1L, solution.getFitness());
+        return solution;
+    }
+
+    /**
+     * Returns the termination condition of a single run, which informs the given
+     * <code>monitor</code> on each check. A run ends as soon as one of the configured budgets is
+     * exhausted, the target fitness is reached or the run is cancelled.
+     */
+    private TerminationCondition<TravelingSalesmanProblem> createTerminationCondition(
+            RunMonitor<TravelingSalesmanProblem> monitor, boolean printProgress) {
+        return createTerminationCondition(monitor, printProgress, null);
+    }
+
+    /**
+     * Returns the termination condition of a single run like
+     * {@link #createTerminationCondition(RunMonitor, boolean)}, which also ends the run once the
+     * given <code>evaluationCounter</code> of the run reaches the evaluation budget.
+     */
+    private TerminationCondition<TravelingSalesmanProblem> createTerminationCondition(
+            RunMonitor<TravelingSalesmanProblem> monitor, boolean printProgress,
+            LongAdder evaluationCounter) {
+        TerminationCondition<TravelingSalesmanProblem> observer = (iterationCount, fitness) -> {
+            monitor.update(iterationCount, fitness);
+            if (printProgress) {
+                printProgressIfRequired(iterationCount, monitor.getBestFitness(), monitor);
+            }
+            return monitor.isTargetReached();
+        };
+        TerminationCondition<TravelingSalesmanProblem> condition = observer.or(cancellation)
+                .or(new IterationBudget<>(maxIterations))
+                .or(new WallClockBudget<>(maxTimeMillis, checkInterval));
+        if (configuration.containsKey("cpuTime")) {
+            condition = condition
+                    .or(new CpuTimeBudget<>(getLong("cpuTime", 0L) * 1_000L, checkInterval));
+        }
+        if (evaluationCounter != null) {
+            condition = condition.or(
+                    new EvaluationBudget<>(evaluationCounter::sum, getLong("evaluations", 0L)));
+        }
+        if (configuration.containsKey("stagnation")) {
+            condition = condition.or(
+                    new StagnationBudget<>(fitnessComparator, getLong("stagnation", 0L)));
+        }
+        return condition;
+    }
+
+    private static InitialSolutionConstructor<TravelingSalesmanProblem> getSingleConstructor(
+            List<InitialSolutionConstructor<TravelingSalesmanProblem>> constructors) {
+        if (constructors.size() != 1) {
+            throw new IllegalArgumentException(
+                    "The corrective procedures require a single initial solution constructor.");
+        }
+        return constructors.get(0);
+    }
+
+    /**
+     * Creates the configured constructors of initial tours. Each constructor draws from its own
+     * stream of the given <code>streamProvider</code>.
+     */
+    private List<InitialSolutionConstructor<TravelingSalesmanProblem>>
+            createInitialSolutionConstructors(RandomStreamProvider streamProvider) {
+        List<InitialSolutionConstructor<TravelingSalesmanProblem>> constructors = new ArrayList<>();
+        String init = configuration.containsKey("init") ? getValue("init") : "random";
+        switch (init) {
+            case "random":
+                constructors.add(
+                        new InitialTSPSolutionConstructor(problem, streamProvider.getStream(0L)));
+                break;
+            case "nn":
+                constructors.add(
+                        new NearestNeighborTourConstructor(problem, streamProvider.getStream(0L)));
+                break;
+            case "greedy":
+                constructors.add(new GreedyEdgeTourConstructor(problem));
+                break;
+            case "hilbert":
+                constructors.add(new SpaceFillingCurveTourConstructor(problem,
+                        streamProvider.getStream(0L)));
+                break;
+            case "mixed":
+                constructors.add(new InitialTSPSolutionConstructor(problem,
+                        streamProvider.getStream(0L, 0L)));
+                constructors.add(new NearestNeighborTourConstructor(problem,
+                        streamProvider.getStream(0L, 1L)));
+                constructors.add(new GreedyEdgeTourConstructor(problem));
+                constructors.add(new SpaceFillingCurveTourConstructor(problem,
+                        streamProvider.getStream(0L, 3L)));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown initial tour construction '" + init + "'.");
+        }
+        return constructors;
+    }
+
+    /**
+     * Returns the configured neighbor function of the corrective procedures, which draws from
+     * stream 1 of the given <code>streamProvider</code>.
+     */
+    private NeighborFunction<TravelingSalesmanProblem> createNeighborFunction(
+            RandomStreamProvider streamProvider) {
+        String neighborhood =
+                configuration.containsKey("neighborhood") ? getValue("neighborhood") : "swap";
+        switch (neighborhood) {
+            case "swap":
+                return new CitySwapFunction(problem, streamProvider.getStream(1L));
+            case "2opt":
+                return new CandidateTwoOptFunction(problem,
+                        new CandidateLists(problem, getInt("neighbors", 8)),
+                        streamProvider.getStream(1L));
+            default:
+                throw new IllegalArgumentException("Unknown neighborhood '" + neighborhood + "'.");
+        }
+    }
+
+    /**
+     * Returns the configured mutation rule of the genetic algorithm, which applies the same moves
+     * as the {@link #createNeighborFunction(RandomStreamProvider) neighbor function}. If polishing
+     * is configured, every mutated individual is improved by 2-opt/Or-opt local search.
+     */
+    private MutationRule<TravelingSalesmanProblem> createMutationRule(
+            RandomStreamProvider streamProvider) {
+        String neighborhood =
+                configuration.containsKey("neighborhood") ? getValue("neighborhood") : "swap";
+        MutationRule<TravelingSalesmanProblem> mutationRule;
+        switch (neighborhood) {
+            case "swap":
+                mutationRule = new CitySwapFunction(problem, streamProvider.getStream(1L));
+                break;
+            case "2opt":
+                mutationRule = new CandidateTwoOptFunction(problem,
+                        new CandidateLists(problem, getInt("neighbors", 8)),
+                        streamProvider.getStream(1L));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown neighborhood '" + neighborhood + "'.");
+        }
+        if (!getBoolean("polish", false)) {
+            return mutationRule;
+        }
+        TwoOptLocalSearch localSearch =
+                new TwoOptLocalSearch(problem, new CandidateLists(problem, getInt("neighbors", 8)));
+        return individual -> localSearch.mutate(mutationRule.mutate(individual));
+    }
+
+    private CrossoverFunction<TravelingSalesmanProblem> createCrossoverFunction(
+            RandomStreamProvider streamProvider) {
+        String crossover = configuration.containsKey("crossover") ? getValue("crossover") : "none";
+        int n = problem.getNumberOfCities();
+        Supplier<PermutationCrossover> crossoverFactory;
+        switch (crossover) {
+            case "none":
+                return new NoCrossoverFunction<>();
+            case "ox":
+                crossoverFactory = () -> new OrderCrossover(n);
+                break;
+            case "pmx":
+                crossoverFactory = () -> new PartiallyMappedCrossover(n);
+                break;
+            case "erx":
+                crossoverFactory = () -> new EdgeRecombinationCrossover(n);
+                break;
+            case "eax": {
+                int[] candidates = new CandidateLists(problem, getInt("neighbors", 8)).toArray();
+                crossoverFactory =
+                        () -> new EdgeAssemblyCrossover(n, problem::getDistance, candidates);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown crossover '" + crossover + "'.");
+        }
+        return new PermutationCrossoverFunction<>(crossoverFactory,
+                individual -> ((TSPSolution) individual).getTour(),
+                tour -> new TSPSolution(problem, tour), streamProvider.getStream(5L));
+    }
+
+    /**
+     * Returns the configured writer of checkpoints, <code>null</code> if no checkpoints are to be
+     * written (no checkpoint file is given or both intervals are 0, which resumes a run from the
+     * checkpoint file without writing it again).
+     */
+    private CheckpointWriter createCheckpointWriter() {
+        if (!configuration.containsKey("checkpoint")) {
+            return null;
+        }
+        long iterationInterval = getLong("checkpointIterations", 0L);
+        long intervalMillis = getLong("checkpointSeconds", 60L) * 1_000L;
+        if (iterationInterval == 0 && intervalMillis == 0) {
+            return null;
+        }
+        return new CheckpointWriter(Paths.get(getValue("checkpoint")), iterationInterval,
+                intervalMillis);
+    }
+
+    /**
+     * Returns a new counter of the fitness evaluations of a single run if an evaluation budget is
+     * configured, otherwise <code>null</code> (so the algorithms keep evaluating lazily).
+     */
+    private LongAdder createEvaluationCounter() {
+        return configuration.containsKey("evaluations") ? new LongAdder() : null;
+    }
+
+    /**
+     * Returns the configured fitness cache keyed by the {@link TourHash} of the tours,
+     * <code>null</code> if no cache is to be used.
+     */
+    private FitnessCache<TravelingSalesmanProblem> createFitnessCache() {
+        int capacity = getInt("fitnessCache", 0);
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "The fitness cache size has to be positive (>= 0).");
+        }
+        return capacity == 0 ? null
+                : new FitnessCache<>(new TourHash(problem.getNumberOfCities()), capacity);
+    }
+
+    /**
+     * Returns the improvement operator of a memetic genetic algorithm, <code>null</code> if the
+     * children are not to be improved.
+     */
+    private ImprovementOperator<TravelingSalesmanProblem> createImprovementOperator(
+            RandomStreamProvider streamProvider) {
+        String memetic = configuration.containsKey("memetic") ? getValue("memetic") : "none";
+        long budget = getLong("memeticBudget", 100L);
+        switch (memetic) {
+            case "none":
+                return null;
+            case "2opt":
+                return new LocalSearchImprovementOperator(new TwoOptLocalSearch(problem,
+                        new CandidateLists(problem, getInt("neighbors", 8))), budget);
+            case "lk":
+                return new LinKernighanImprovementOperator(problem,
+                        new CandidateLists(problem, getInt("neighbors", 8)), budget,
+                        getLong("slice", 100L) * 1_000_000L,
+                        streamProvider.getStream(4L).nextLong());
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown memetic improvement '" + memetic + "'.");
+        }
+    }
+
+    private MutationFunction<TravelingSalesmanProblem> createMutationFunction(
+            MutationRule<TravelingSalesmanProblem> mutationRule,
+            RandomStreamProvider streamProvider) {
+        String mutation = configuration.containsKey("mutation") ? getValue("mutation") : "fixed";
+        double rate = getDouble("mutationRate", 0.5D);
+        switch (mutation) {
+            case "fixed":
+                return new FixedRateMutationFunction<>(rate, mutationRule,
+                        streamProvider.getStream(2L));
+            case "self":
+                return new SelfAdaptiveMutationFunction<>(rate,
+                        SelfAdaptiveMutationFunction.DEFAULT_LEARNING_RATE,
+                        SelfAdaptiveMutationFunction.DEFAULT_MINIMAL_RATE, mutationRule,
+                        streamProvider.getStream(2L));
+            default:
+                throw new IllegalArgumentException("Unknown mutation '" + mutation + "'.");
+        }
+    }
+
+    private SelectionFunction<TravelingSalesmanProblem> createSelectionFunction(
+            int populationSize, RandomStreamProvider streamProvider) {
+        String selection = configuration.containsKey("selection") ? getValue("selection") : "plus";
+        switch (selection) {
+            case "plus":
+                return new TruncationSelection<>(true, populationSize);
+            case "comma":
+                return new TruncationSelection<>(false, populationSize);
+            case "tournament":
+                return new TournamentSelection<>(true, populationSize,
+                        getInt("tournamentSize", 2), streamProvider.getStream(6L));
+            case "sus":
+                return new StochasticUniversalSampling<>(true, populationSize,
+                        streamProvider.getStream(6L));
+            default:
+                throw new IllegalArgumentException("Unknown selection '" + selection + "'.");
+        }
+    }
+
+    private void printProgressIfRequired(long iterationCount, double bestFitness,
+            RunMonitor<TravelingSalesmanProblem> monitor) {
+        if (iterationCount % progressInterval == 0) {
+            out.println("iteration " + iterationCount + ", best fitness " + bestFitness + ", "
+                    + monitor.getElapsedNanos() / 1_000_000L + " ms");
+        }
+    }
+
+    private String getValue(String key) {
+        return configuration.getProperty(key).trim();
+    }
+
+    private boolean getBoolean(String key, boolean defaultValue) {
+        if (!configuration.containsKey(key)) {
+            return defaultValue;
+        }
+        String value = getValue(key);
+        if (!value.equals("true") && !value.equals("false")) {
+            throw new IllegalArgumentException("Invalid value of '" + key + "': " + value);
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    private long getLong(String key, long defaultValue) {
+        if (!configuration.containsKey(key)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(getValue(key));
+        } catch (NumberFormatException exc) {
+            throw new IllegalArgumentException("Invalid value of '" + key + "': " + getValue(key));
+        }
+    }
+
+    private int getInt(String key, int defaultValue) {
+        long value = getLong(key, defaultValue);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid value of '" + key + "': " + getValue(key));
+        }
+        return (int) value;
+    }
+
+    private double getDouble(String key, double defaultValue) {
+        if (!configuration.containsKey(key)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(getValue(key));
+        } catch (NumberFormatException exc) {
+            throw new IllegalArgumentException("Invalid value of '" + key + "': " + getValue(key));
+        }
+    }
+
+}
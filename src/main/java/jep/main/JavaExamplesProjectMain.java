@@ -2,8 +2,10 @@ package jep.main;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
@@ -14,6 +16,7 @@ import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 import jep.JepModule;
+import jep.example.Example;
 import jep.example.ExampleRegistry;
 import jep.example.ExampleType;
 import jep.example.correctiveProcedures.CorrectiveProceduresExample;
@@ -57,6 +60,21 @@ public class JavaExamplesProjectMain extends Application {
         this.bundle = injector.getInstance(ResourceBundle.class);
         this.exampleRegistry = injector.getInstance(ExampleRegistry.class);
         registerExamples();
+        preloadSourceCode();
+    }
+
+    /**
+     * Starts reading the source files of all relevant classes of the registered examples in the
+     * background, so that switching between examples does not have to wait for the file system.
+     */
+    private void preloadSourceCode() {
+        Set<Class<?>> relevantClasses = new LinkedHashSet<>();
+        for (Example example : exampleRegistry.getAllRegisteredExamples()) {
+            for (Class<?> cls : example.getRelevantClasses()) {
+                relevantClasses.add(cls);
+            }
+        }
+        injector.getInstance(SourceCodeCache.class).preloadInBackground(relevantClasses);
     }
 
     private void registerExamples() {
@@ -0,0 +1,175 @@
+package jep.main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements a simple lexer which splits java source code into styled spans in a single
+ * pass over the source. It recognizes comments, string and character literals and java keywords,
+ * everything else is put into spans of the type {@link SpanType#DEFAULT}.
+ *
+ */
+public class JavaSourceLexer {
+
+    /**
+     * Enum which defines the types of spans recognized by a {@link JavaSourceLexer}.
+     *
+     */
+    public enum SpanType {
+        DEFAULT, COMMENT, STRING, KEYWORD;
+    }
+
+    /**
+     * This class holds a single span, defined by its start index (inclusive), its end index
+     * (exclusive) within the tokenized source and its type.
+     *
+     */
+    public static final class Span {
+
+        private final int start;
+        private final int end;
+        private final SpanType type;
+
+        private Span(int start, int end, SpanType type) {
+            this.start = start;
+            this.end = end;
+            this.type = type;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public SpanType getType() {
+            return type;
+        }
+    }
+
+    private static final String[] KEY_WORDS = {"abstract", "assert", "boolean", "break", "byte",
+            "case", "catch", "char", "class", "const", "continue", "default", "do", "double",
+            "else", "enum", "extends", "false", "final", "finally", "float", "for", "goto", "if",
+            "implements", "import", "instanceof", "int", "interface", "long", "native", "new",
+            "null", "package", "private", "protected", "public", "return", "short", "static",
+            "strictfp", "super", "switch", "synchronized", "this", "throw", "throws", "transient",
+            "true", "try", "void", "volatile", "while"};
+
+    /**
+     * Keywords grouped by their first letter, which allows to check an identifier without copying
+     * it out of the source.
+     */
+    private static final String[][] KEY_WORDS_BY_FIRST_LETTER = new String[26][];
+
+    static {
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            List<String> keyWords = new ArrayList<>();
+            for (String keyWord : KEY_WORDS) {
+                if (keyWord.charAt(0) == letter) {
+                    keyWords.add(keyWord);
+                }
+            }
+            KEY_WORDS_BY_FIRST_LETTER[letter - 'a'] = keyWords.toArray(new String[keyWords.size()]);
+        }
+    }
+
+    /**
+     * Constructs a new {@link JavaSourceLexer}-instance.
+     */
+    public JavaSourceLexer() {}
+
+    /**
+     * Splits the given <code>source</code> into consecutive spans covering the whole source.
+     *
+     * @param source java source code which is tokenized
+     * @return
+     */
+    public List<Span> tokenize(String source) {
+        Objects.requireNonNull(source);
+        List<Span> spans = new ArrayList<>();
+        int length = source.length();
+        int defaultStart = 0;
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            int end;
+            SpanType type;
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '/') {
+                end = source.indexOf('\n', i);
+                end = end < 0 ? length : end;
+                type = SpanType.COMMENT;
+            } else if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                end = source.indexOf("*/", i + 2);
+                end = end < 0 ? length : end + 2;
+                type = SpanType.COMMENT;
+            } else if (c == '"' || c == '\'') {
+                end = findEndOfLiteral(source, i, c);
+                type = SpanType.STRING;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                end = i + 1;
+                while (end < length && Character.isJavaIdentifierPart(source.charAt(end))) {
+                    end++;
+                }
+                if (!isJavaKeyword(source, i, end)) {
+                    i = end;
+                    continue;
+                }
+                type = SpanType.KEYWORD;
+            } else {
+                i++;
+                continue;
+            }
+            if (defaultStart < i) {
+                spans.add(new Span(defaultStart, i, SpanType.DEFAULT));
+            }
+            spans.add(new Span(i, end, type));
+            i = end;
+            defaultStart = end;
+        }
+        if (defaultStart < length) {
+            spans.add(new Span(defaultStart, length, SpanType.DEFAULT));
+        }
+        return Collections.unmodifiableList(spans);
+    }
+
+    /**
+     * Returns the index after the closing <code>quote</code> of the literal starting at the given
+     * <code>start</code> index. Literals are closed at the latest at the end of their line.
+     */
+    private int findEndOfLiteral(String source, int start, char quote) {
+        int length = source.length();
+        int i = start + 1;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else if (c == '\n') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isJavaKeyword(String source, int start, int end) {
+        char first = source.charAt(start);
+        if (first < 'a' || first > 'z') {
+            return false;
+        }
+        int length = end - start;
+        for (String keyWord : KEY_WORDS_BY_FIRST_LETTER[first - 'a']) {
+            if (keyWord.length() == length && source.regionMatches(start, keyWord, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,100 @@
+package jep.main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import jep.example.LogBuffer;
+
+/**
+ * This class streams the lines of a {@link LogBuffer} into an {@link ObservableList} (like the items
+ * of a list view) while the log is still written.
+ * <p>
+ * The buffer is checked for new lines every few milliseconds. If new lines are available a single
+ * flush is posted to the JavaFX application thread via {@link Platform#runLater(Runnable)}, which
+ * appends all lines written until then as one batch. No further flush is posted while one is still
+ * pending, therefore the application thread receives at most one flush per interval regardless of
+ * how fast the lines are written. The list is trimmed to the capacity of the buffer by removing the
+ * oldest lines.
+ *
+ */
+public class LogFlusher {
+
+    /**
+     * Default interval between two flushes in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50L;
+
+    private final LogBuffer logBuffer;
+    private final ObservableList<String> target;
+    private final AtomicBoolean flushPending = new AtomicBoolean(false);
+    private volatile long nextSequence;
+    private ScheduledFuture<?> scheduledCheck;
+
+    /**
+     * Constructs a new {@link LogFlusher}-instance which appends the lines of the given
+     * <code>logBuffer</code> written after construction to the given <code>target</code>.
+     *
+     * @param logBuffer {@link LogBuffer}-instance which is read
+     * @param target list the read lines are appended to (is only modified on the JavaFX
+     *        application thread)
+     */
+    public LogFlusher(LogBuffer logBuffer, ObservableList<String> target) {
+        this.logBuffer = Objects.requireNonNull(logBuffer);
+        this.target = Objects.requireNonNull(target);
+        this.nextSequence = logBuffer.getNextSequence();
+    }
+
+    /**
+     * Starts checking the buffer for new lines using the given <code>scheduler</code>.
+     *
+     * @param scheduler executor used to check the buffer for new lines
+     * @param intervalMillis interval in milliseconds between two checks (has to be true positive
+     *        [> 0])
+     */
+    public void start(ScheduledExecutorService scheduler, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Interval has to be true positive (> 0).");
+        }
+        scheduledCheck = scheduler.scheduleWithFixedDelay(this::postFlushIfRequired,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking the buffer and appends all remaining lines. This method has to be called on
+     * the JavaFX application thread.
+     */
+    public void stop() {
+        if (scheduledCheck != null) {
+            scheduledCheck.cancel(false);
+        }
+        flush();
+    }
+
+    private void postFlushIfRequired() {
+        if (logBuffer.getNextSequence() > nextSequence && flushPending.compareAndSet(false, true)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushPending.set(false);
+        List<String> batch = new ArrayList<>();
+        nextSequence = logBuffer.drainTo(nextSequence, batch::add);
+        if (batch.isEmpty()) {
+            return;
+        }
+        target.addAll(batch);
+        int excess = target.size() - logBuffer.getCapacity();
+        if (excess > 0) {
+            target.remove(0, excess);
+        }
+    }
+
+}
@@ -6,14 +6,20 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 import com.google.inject.Inject;
 
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import javafx.scene.control.TextArea;
@@ -41,6 +47,9 @@ public class MainFrameController {
     @Inject
     private ExampleRegistry exampleRegistry;
 
+    @Inject
+    private SourceCodeCache sourceCodeCache;
+
     @FXML
     private TabPane tabPane;
 
@@ -59,6 +68,12 @@ public class MainFrameController {
     @FXML
     private Button buttonRun;
 
+    @FXML
+    private Button buttonCancel;
+
+    @FXML
+    private ProgressBar progressBarRun;
+
     @FXML
     private TextArea textAreaArguments;
 
@@ -78,13 +93,36 @@ public class MainFrameController {
     private TextArea textAreaDescription;
 
     @FXML
-    private TextFlow textFlowOutput;
+    private ListView<String> listViewOutput;
 
     @FXML
     private TextFlow textFlowSourceCode;
 
     private SourceCodeProvider sourceCodeProvider;
 
+    /**
+     * Executor on which the examples are run, to keep the JavaFX application thread responsive.
+     */
+    private final ExecutorService exampleExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "example-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Executor used to stream the log of a running example to the output tab.
+     */
+    private final ScheduledExecutorService logScheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "log-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private Example runningExample;
+
+    private LogFlusher logFlusher;
+
     @FXML
     private void initialize() {
         initializeTreeViewExamples();
@@ -166,7 +204,7 @@ public class MainFrameController {
                             tabSourceCode.setDisable(true);
                         } else {
                             if (Example.class.isAssignableFrom(newValue.getValue().getClass())) {
-                                buttonRun.setDisable(false);
+                                buttonRun.setDisable(runningExample != null);
                                 tabDescription.setDisable(false);
                                 tabSourceCode.setDisable(false);
                                 updateTabDescription();
@@ -187,7 +225,7 @@ public class MainFrameController {
                 (Example) treeViewExamples.getSelectionModel().getSelectedItem().getValue();
         try {
             sourceCodeProvider = new SourceCodeProvider(selectedExample.getRelevantClasses(),
-                    bundle.getString("sourceCode.defaultErrorMsg"));
+                    bundle.getString("sourceCode.defaultErrorMsg"), sourceCodeCache);
         } catch (IOException exc) {
             Text text = new Text(bundle.getString("sourceCode.IOErrorMsg"));
             text.setFill(Color.FIREBRICK);
@@ -248,26 +286,76 @@ public class MainFrameController {
     }
 
     /**
-     * Called up on hitting the 'Run'-button. Tries to execute the selected {@link Example}
-     * -instances run method.
+     * Called up on hitting the 'Run'-button. Runs the selected {@link Example}-instances run method
+     * on a background thread, showing its progress and streaming its log to the output tab until it
+     * is done.
      */
     @FXML
     private void runSelectedExample() {
         Example selectedExample =
                 (Example) treeViewExamples.getSelectionModel().getSelectedItem().getValue();
-        selectedExample.run(packArguments());
-        String log = selectedExample.getLoggedText();
-        printLog(log);
+        String[] arguments = packArguments();
+        Task<Void> task = new Task<Void>() {
+            @Override
+            protected Void call() {
+                selectedExample.resetCancellation();
+                selectedExample.setProgressListener(progress -> updateProgress(progress, 1));
+                try {
+                    selectedExample.run(arguments);
+                } finally {
+                    selectedExample.setProgressListener(null);
+                }
+                return null;
+            }
+        };
+        task.setOnSucceeded(event -> finishRun(null));
+        task.setOnFailed(event -> finishRun(task.getException()));
+
+        runningExample = selectedExample;
+        buttonRun.setDisable(true);
+        buttonCancel.setDisable(false);
+        progressBarRun.progressProperty().bind(task.progressProperty());
+        progressBarRun.setVisible(true);
+
+        selectedExample.clearLog();
+        listViewOutput.getItems().clear();
+        logFlusher = new LogFlusher(selectedExample.getLogBuffer(), listViewOutput.getItems());
+        logFlusher.start(logScheduler, LogFlusher.DEFAULT_FLUSH_INTERVAL_MILLIS);
         tabOutput.setDisable(false);
         tabPane.getSelectionModel().select(tabOutput);
+
+        exampleExecutor.execute(task);
+    }
+
+    /**
+     * Called up on hitting the 'Cancel'-button. Requests the cancellation of the running
+     * {@link Example}-instance.
+     */
+    @FXML
+    private void cancelRunningExample() {
+        if (runningExample != null) {
+            runningExample.cancel();
+            buttonCancel.setDisable(true);
+        }
     }
 
-    private void printLog(String log) {
-        textFlowOutput.getChildren().clear();
-        Text logText = new Text(log);
-        logText.setFill(Color.rgb(0xe3, 0xe3, 0xe3));
-        textFlowOutput.getChildren().add(new Text("\n"));
-        textFlowOutput.getChildren().add(logText);
+    private void finishRun(Throwable exception) {
+        // a last line logged without a line break is not in the buffer yet
+        runningExample.completeLog();
+        logFlusher.stop();
+        logFlusher = null;
+        if (exception != null) {
+            listViewOutput.getItems().add(bundle.getString("output.exceptionMsg"));
+            listViewOutput.getItems().add(exception.toString());
+        }
+        runningExample = null;
+        progressBarRun.progressProperty().unbind();
+        progressBarRun.setVisible(false);
+        buttonCancel.setDisable(true);
+        TreeItem<ExampleContent> selectedItem =
+                treeViewExamples.getSelectionModel().getSelectedItem();
+        buttonRun.setDisable(selectedItem == null
+                || !Example.class.isAssignableFrom(selectedItem.getValue().getClass()));
     }
 
     private String[] packArguments() {
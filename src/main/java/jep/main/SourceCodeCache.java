@@ -0,0 +1,174 @@
+package jep.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This class implements a cache of tokenized source files which is shared by all
+ * {@link SourceCodeProvider}-instances.
+ * <p>
+ * Entries are stored per class together with the modification time of the source file they were
+ * read from. An entry is only used as long as the source file was not modified since, otherwise the
+ * file is read and tokenized again. If more than the maximal number of entries are stored, the
+ * least recently used entry is evicted.
+ *
+ */
+public class SourceCodeCache {
+
+    /**
+     * Default maximal number of cached source files.
+     */
+    public static final int DEFAULT_MAXIMAL_SIZE = 256;
+
+    /**
+     * This variable holds the information about the src-folder (if it exists)
+     */
+    private static final File SOURCE_DIRECTORY;
+
+    static {
+        /**
+         * This file object defines the root directory in which the project is placed. This means
+         * either the directory in which the bin-folder is placed (in case the project is not build
+         * and in its raw form) or the directory in which the projects jar is placed.
+         */
+        File rootDirectory = new File(SourceCodeCache.class.getResource("").getPath())
+                .getParentFile().getParentFile().getParentFile();
+
+        SOURCE_DIRECTORY = new File(rootDirectory.getAbsolutePath() + File.separator + "source");
+    }
+
+    private final JavaSourceLexer lexer = new JavaSourceLexer();
+    private final Map<Class<?>, SourceCode> cache;
+
+    /**
+     * Constructs a new {@link SourceCodeCache}-instance holding at most
+     * {@link #DEFAULT_MAXIMAL_SIZE} source files.
+     */
+    public SourceCodeCache() {
+        this(DEFAULT_MAXIMAL_SIZE);
+    }
+
+    /**
+     * Constructs a new {@link SourceCodeCache}-instance holding at most the given number of source
+     * files.
+     *
+     * @param maximalSize maximal number of cached source files (has to be true positive [> 0])
+     */
+    public SourceCodeCache(int maximalSize) {
+        if (maximalSize <= 0) {
+            throw new IllegalArgumentException("Maximal size has to be true positive (> 0).");
+        }
+        this.cache = new LinkedHashMap<Class<?>, SourceCode>(16, 0.75F, true) {
+
+            private static final long serialVersionUID = -4137658912704816513L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Class<?>, SourceCode> eldest) {
+                return size() > maximalSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the tokenized source code of the given class, or an empty optional if there is no
+     * source file for the class.
+     *
+     * @param cls class whose source code is returned
+     * @return
+     * @throws IOException if the source file exists but could not be read
+     */
+    public Optional<SourceCode> getSourceCode(Class<?> cls) throws IOException {
+        Objects.requireNonNull(cls);
+        File sourceFile = getSourceFile(cls);
+        if (!sourceFile.isFile()) {
+            return Optional.empty();
+        }
+        long lastModified = sourceFile.lastModified();
+        SourceCode sourceCode;
+        synchronized (cache) {
+            sourceCode = cache.get(cls);
+        }
+        if (sourceCode == null || sourceCode.lastModified != lastModified) {
+            // reading happens outside of the lock, concurrent reads of the same file are harmless
+            String text = new String(Files.readAllBytes(sourceFile.toPath()), StandardCharsets.UTF_8);
+            sourceCode = new SourceCode(text, lexer.tokenize(text), lastModified);
+            synchronized (cache) {
+                cache.put(cls, sourceCode);
+            }
+        }
+        return Optional.of(sourceCode);
+    }
+
+    /**
+     * Reads and tokenizes the source files of all given classes on a background thread, so that
+     * later requests for those classes are served from this cache.
+     *
+     * @param classes classes whose source files are loaded
+     */
+    public void preloadInBackground(Collection<Class<?>> classes) {
+        List<Class<?>> classesToLoad = new ArrayList<>(classes);
+        Thread thread = new Thread(() -> {
+            for (Class<?> cls : classesToLoad) {
+                try {
+                    getSourceCode(cls);
+                } catch (IOException exc) {
+                    // the error is reported once the class is actually requested
+                }
+            }
+        }, "source-code-preloader");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Returns <code>true</code> if the source directory exists and is actually an directory,
+     * returns <code>false</code> otherwise.
+     *
+     * @return
+     * @see File#isDirectory()
+     */
+    public boolean sourceDirectoryIsValid() {
+        return SOURCE_DIRECTORY.isDirectory();
+    }
+
+    private File getSourceFile(Class<?> cls) {
+        return new File(SOURCE_DIRECTORY.getAbsolutePath() + File.separator
+                + cls.getCanonicalName().replace('.', File.separatorChar) + ".java");
+    }
+
+    /**
+     * This class holds the text of a source file together with its spans.
+     *
+     */
+    public static final class SourceCode {
+
+        private final String text;
+        private final List<JavaSourceLexer.Span> spans;
+        private final long lastModified;
+
+        private SourceCode(String text, List<JavaSourceLexer.Span> spans, long lastModified) {
+            this.text = text;
+            this.spans = spans;
+            this.lastModified = lastModified;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public List<JavaSourceLexer.Span> getSpans() {
+            return spans;
+        }
+    }
+
+}
@@ -1,186 +1,91 @@
 package jep.main;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.text.Text;
+import jep.main.JavaSourceLexer.Span;
+import jep.main.SourceCodeCache.SourceCode;
 
 public class SourceCodeProvider {
 
-    /**
-     * This variable holds the information about the src-folder (if it exists)
-     */
-    private static final File SOURCE_DIRECTORY;
-
-    private static final String[] KEY_WORDS = {"abstract", "assert", "boolean", "break", "byte",
-            "case", "catch", "char", "class", "const", "continue", "default", "do", "double",
-            "else", "extends", "false", "final", "finally", "float", "for", "goto", "if",
-            "implements", "import", "instanceof", "int", "interface", "long", "native", "new",
-            "null", "package", "private", "protected", "public", "return", "short", "static",
-            "strictfp", "super", "switch", "synchronized", "this", "throw", "throws", "transient",
-            "true", "try", "void", "volatile", "while"};
-
-    private static final int MINIMAL_KEYWORD_SIZE;
-
-    static {
-        int size = KEY_WORDS[0].length();
-        for (int i = 1; i < KEY_WORDS.length; i++) {
-            int wordSize = KEY_WORDS[i].length();
-            if (wordSize < size) {
-                size = wordSize;
-            }
-        }
-        MINIMAL_KEYWORD_SIZE = size;
-    }
+    private static final Paint DEFAULT_FILL = Paint.valueOf("#e3e3e3");
+    private static final Paint COMMENT_FILL = Paint.valueOf("#9b9b9b");
+    private static final Paint STRING_FILL = Paint.valueOf("#00d20f");
+    private static final Paint KEYWORD_FILL = Paint.valueOf("#b121d0");
 
-    private final Map<Class<?>, List<Text>> classTextMap = new HashMap<>();
+    private final Map<Class<?>, Optional<SourceCode>> classSourceMap = new HashMap<>();
 
+    private final SourceCodeCache sourceCodeCache;
 
-    static {
-        /**
-         * This file object defines the root directory in which the project is placed. This means
-         * either the directory in which the bin-folder is placed (in case the project is not build
-         * and in its raw form) or the directory in which the projects jar is placed.
-         */
-        File rootDirectory = new File(SourceCodeProvider.class.getResource("").getPath())
-                .getParentFile().getParentFile().getParentFile();
-
-        SOURCE_DIRECTORY = new File(rootDirectory.getAbsolutePath() + File.separator + "source");
-    }
+    private final String unavailableMessage;
 
     /**
-     * Constructs a new instance of {@link SourceCodeProvider}.
-     * 
+     * Constructs a new instance of {@link SourceCodeProvider}. The source files of the given
+     * <code>classes</code> are fetched from the given <code>sourceCodeCache</code>, which only reads
+     * files which were not read or were modified since.
+     *
      * @throws IOException
      */
-    public SourceCodeProvider(Class<?>[] classes, String unavailableMessage) throws IOException {
+    public SourceCodeProvider(Class<?>[] classes, String unavailableMessage,
+            SourceCodeCache sourceCodeCache) throws IOException {
         Objects.requireNonNull(classes);
-        Objects.requireNonNull(unavailableMessage);
+        this.unavailableMessage = Objects.requireNonNull(unavailableMessage);
+        this.sourceCodeCache = Objects.requireNonNull(sourceCodeCache);
         for (Class<?> cls : classes) {
             if (sourceDirectoryIsValid()) {
-                String sourcePath = SOURCE_DIRECTORY.getAbsolutePath() + File.separator
-                        + cls.getCanonicalName().replace('.', File.separatorChar) + ".java";
-                File classSourceFile = new File(sourcePath);
-                if (classSourceFile.isFile()) {
-                    classTextMap.put(cls, getTextsFrom(classSourceFile));
-                } else {
-                    classTextMap.put(cls, getDefaultTextList(unavailableMessage));
-                }
+                classSourceMap.put(cls, sourceCodeCache.getSourceCode(cls));
             } else {
-                classTextMap.put(cls, getDefaultTextList(unavailableMessage));
+                classSourceMap.put(cls, Optional.empty());
             }
         }
     }
 
-    private List<Text> getTextsFrom(File classSourceFile) throws IOException {
-        List<String> lines = Files.readAllLines(classSourceFile.toPath(), StandardCharsets.UTF_8);
-        List<Text> texts = new ArrayList<>();
-        boolean isMultilineComment = false;
-        for (String line : lines) {
-            boolean isSingleComment = false;
-            String trimmedLine = line.trim();
-            if (trimmedLine.length() >= 2) {
-                String firstSymbols = trimmedLine.substring(0, 2);
-                if (firstSymbols.equals("//")) {
-                    isSingleComment = true;
-                }
-                if (firstSymbols.equals("/*")) {
-                    isMultilineComment = true;
-                }
-            }
-
-            if (isMultilineComment || isSingleComment) {
-                Text text = new Text(line + "\n");
-                text.setFill(Paint.valueOf("#9b9b9b"));
-                if (isMultilineComment && trimmedLine.length() >= 2) {
-                    String endSymbols =
-                            trimmedLine.substring(trimmedLine.length() - 2, trimmedLine.length());
-                    if (endSymbols.equals("*/")) {
-                        isMultilineComment = false;
-                    }
-                }
-                texts.add(text);
-            } else {
-                addNoCommentText(line, texts);
-            }
+    /**
+     * Returns the source code of the given class as list of styled {@link Text}-instances. If there
+     * is no source file for the class, a list holding only the unavailable message is returned.
+     *
+     * @param cls class whose source code is returned
+     * @return
+     */
+    public List<Text> getTextListFor(Class<?> cls) {
+        Optional<SourceCode> sourceCode = classSourceMap.get(cls);
+        if (sourceCode == null || !sourceCode.isPresent()) {
+            return getDefaultTextList(unavailableMessage);
         }
-        return texts;
-    }
-
-
-    private void addNoCommentText(String line, List<Text> texts) {
-        String[] parts = line.split("\"");
-        if (parts.length == 1) {
-            addTextByCheckingForKEyWords(line, texts, true);
-        } else {
-            for (int i = 0; i < parts.length; i++) {
-                if (i % 2 == 0) {
-                    addTextByCheckingForKEyWords(parts[i], texts, i == parts.length - 1);
-                } else {
-                    Text text;
-                    if (i != parts.length - 1) {
-                        text = new Text("\"" + parts[i] + "\"");
-                    } else {
-                        text = new Text("\"" + parts[i] + "\"\n");
-                    }
-                    text.setFill(Paint.valueOf("#00d20f"));
-                    texts.add(text);
-                }
-            }
+        String source = sourceCode.get().getText();
+        List<Span> spans = sourceCode.get().getSpans();
+        List<Text> texts = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            Text text = new Text(source.substring(span.getStart(), span.getEnd()));
+            text.setFill(getFillOf(span));
+            texts.add(text);
         }
+        return texts;
     }
 
-    private void addTextByCheckingForKEyWords(String linePart, List<Text> texts,
-            boolean containsLineEnd) {
-        String[] parts = linePart.split("\\s");
-        int positionInText = 0;
-        int i = 0;
-        int endOfLastKeyWord = 0;
-        for (String part : parts) {
-            int endOfPartIndex = positionInText + part.length();
-            if (part.length() >= MINIMAL_KEYWORD_SIZE && isJavaKeyword(part)) {
-                String previousText = linePart.substring(endOfLastKeyWord, positionInText);
-                String keyWord = part;
-                Text text = new Text(previousText);
-                text.setFill(Paint.valueOf("#e3e3e3"));
-                texts.add(text);
-                if (i == parts.length - 1 && containsLineEnd) {
-                    text = new Text(keyWord + "\n");
-                } else {
-                    text = new Text(keyWord);
-                }
-                text.setFill(Paint.valueOf("#b121d0"));
-                texts.add(text);
-                endOfLastKeyWord = endOfPartIndex;
-            } else if (i == parts.length - 1) {
-                Text text;
-                if (containsLineEnd) {
-                    text = new Text(linePart.substring(endOfLastKeyWord, linePart.length()) + "\n");
-                } else {
-                    text = new Text(linePart.substring(endOfLastKeyWord, linePart.length()));
-                }
-                text.setFill(Paint.valueOf("#e3e3e3"));
-                texts.add(text);
-            }
-            positionInText = endOfPartIndex + 1;
-            i++;
+    private Paint getFillOf(Span span) {
+        switch (span.getType()) {
+            case COMMENT:
+                return COMMENT_FILL;
+            case STRING:
+                return STRING_FILL;
+            case KEYWORD:
+                return KEYWORD_FILL;
+            case DEFAULT:
+                return DEFAULT_FILL;
+            default:
+                throw new AssertionError();
         }
     }
 
-    public List<Text> getTextListFor(Class<?> cls) {
-        return classTextMap.get(cls);
-    }
-
     private List<Text> getDefaultTextList(String unavailableMessage) {
         List<Text> defaultTextList = new ArrayList<>();
         Text defaultText = new Text(unavailableMessage);
@@ -189,18 +94,14 @@ public class SourceCodeProvider {
         return defaultTextList;
     }
 
-    private static boolean isJavaKeyword(String word) {
-        return (Arrays.binarySearch(KEY_WORDS, word) >= 0);
-    }
-
     /**
      * Returns <code>true</code> if the source directory exists and is actually an directory,
      * returns <code>false</code> otherwise.
-     * 
+     *
      * @return
-     * @see File#isDirectory()
+     * @see SourceCodeCache#sourceDirectoryIsValid()
      */
     public boolean sourceDirectoryIsValid() {
-        return SOURCE_DIRECTORY.isDirectory();
+        return sourceCodeCache.sourceDirectoryIsValid();
     }
 }
@@ -4,12 +4,21 @@ import java.util.Objects;
 
 /**
  * Abstract class which implements a general constructor for the {@link Solution}-interface.
+ * <p>
+ * The fitness is evaluated lazily: it is computed by {@link #evaluateFitness()} on the first call of
+ * {@link #getFitness()} and cached afterwards, so solutions which are discarded without ever being
+ * compared are never evaluated. The evaluation has to be a pure function of the solution. If
+ * multiple threads request the fitness of a solution which was not yet evaluated, it may be
+ * evaluated more than once, but all threads get the same value.
  *
  * @param <T> problem for which this solution is defined
  */
 public abstract class AbstractSolution<T extends OptimizationProblem> implements Solution<T> {
 
     private final T problem;
+    private double fitness;
+    // written after the fitness, so a thread which reads true also reads the fitness
+    private volatile boolean evaluated = false;
 
     /**
      * Constructs a new solution for the given <code>problem</code>.
@@ -28,4 +37,42 @@ public abstract class AbstractSolution<T extends OptimizationProblem> implements
     public T getProblem() {
         return problem;
     }
+
+    /**
+     * Returns the fitness of this solution, evaluating it on the first call.
+     * 
+     * @return
+     */
+    @Override
+    public final double getFitness() {
+        if (!evaluated) {
+            fitness = evaluateFitness();
+            evaluated = true;
+        }
+        return fitness;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * Sets the fitness of this solution to the given value, which was evaluated for an identical
+     * solution before (used by the {@link FitnessCache}).
+     * 
+     * @param fitness fitness of this solution
+     */
+    void setEvaluatedFitness(double fitness) {
+        this.fitness = fitness;
+        evaluated = true;
+    }
+
+    /**
+     * Computes and returns the fitness of this solution. This method is called at most once per
+     * thread by {@link #getFitness()}.
+     * 
+     * @return
+     */
+    protected abstract double evaluateFitness();
 }
@@ -0,0 +1,280 @@
+package jep.model.optimizationProblem;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class implements a bounded cache of fitness values keyed by a 64-bit hash of the genome of
+ * a solution. It avoids evaluating the fitness of duplicate individuals (solutions with the same
+ * genome but different identity), which pays off for expensive fitness functions.
+ * <p>
+ * The cache only holds the hash and the fitness, not the genome, so two genomes with the same hash
+ * share a fitness value. With a well mixed 64-bit hash this is very unlikely, but the hash function
+ * has to be chosen accordingly (for example a Zobrist hash). Only lazily evaluated solutions (see
+ * {@link AbstractSolution}) can take a cached fitness, other solutions are evaluated as usual.
+ * <p>
+ * The table is split into stripes which are locked independently, the highest bits of a hash pick
+ * its stripe. Each stripe is an open-addressing table with linear probing of a fixed capacity. Once
+ * a stripe is full an entry is evicted by the clock algorithm: every hit sets the reference bit of
+ * an entry, the clock hand moves over the table clearing set bits until it reaches an entry whose
+ * bit is cleared, which is removed (moving the following entries of its probe sequence back). The
+ * fitness of a missing solution is evaluated without holding a lock, so multiple threads may
+ * evaluate the same genome concurrently.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this cache is to be used for
+ */
+public class FitnessCache<T extends OptimizationProblem> {
+
+    /**
+     * Default number of stripes of the table.
+     */
+    public static final int DEFAULT_NUMBER_OF_STRIPES = 16;
+
+    private static final byte EMPTY = 0;
+    private static final byte OCCUPIED = 1;
+    private static final byte REFERENCED = 2;
+
+    private final ToLongFunction<? super Solution<T>> genomeHash;
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new {@link FitnessCache}-instance using {@link #DEFAULT_NUMBER_OF_STRIPES}
+     * stripes.
+     *
+     * @param genomeHash function returning the 64-bit hash of the genome of a solution
+     * @param capacity maximal number of cached fitness values (has to be true positive)
+     */
+    public FitnessCache(ToLongFunction<? super Solution<T>> genomeHash, int capacity) {
+        this(genomeHash, capacity, DEFAULT_NUMBER_OF_STRIPES);
+    }
+
+    /**
+     * Constructs a new {@link FitnessCache}-instance.
+     *
+     * @param genomeHash function returning the 64-bit hash of the genome of a solution
+     * @param capacity maximal number of cached fitness values, which is rounded up to a multiple of
+     *        the number of stripes (has to be true positive)
+     * @param numberOfStripes number of independently locked stripes of the table (has to be a
+     *        power of two)
+     */
+    public FitnessCache(ToLongFunction<? super Solution<T>> genomeHash, int capacity,
+            int numberOfStripes) {
+        this.genomeHash = Objects.requireNonNull(genomeHash);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity has to be true positive (> 0).");
+        }
+        if (numberOfStripes <= 0 || Integer.bitCount(numberOfStripes) != 1) {
+            throw new IllegalArgumentException("The number of stripes has to be a power of two.");
+        }
+        this.stripes = new Stripe[numberOfStripes];
+        int stripeCapacity = (capacity + numberOfStripes - 1) / numberOfStripes;
+        for (int i = 0; i < numberOfStripes; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(numberOfStripes);
+    }
+
+    /**
+     * Returns the fitness of the given <code>solution</code>. If the solution is not evaluated yet
+     * its fitness is taken from the cache, or evaluated and added to the cache if its genome is not
+     * cached.
+     *
+     * @param solution solution whose fitness is returned
+     * @return
+     */
+    public double evaluate(Solution<T> solution) {
+        return evaluate(solution, null);
+    }
+
+    /**
+     * Returns the fitness of the given <code>solution</code> like {@link #evaluate(Solution)} and
+     * increments the given <code>evaluations</code> counter if the fitness had to be evaluated.
+     *
+     * @param solution solution whose fitness is returned
+     * @param evaluations counter of the evaluations of a run or <code>null</code>
+     * @return
+     */
+    public double evaluate(Solution<T> solution, LongAdder evaluations) {
+        if (solution.isEvaluated() || !(solution instanceof AbstractSolution)) {
+            return solution.getFitness();
+        }
+        long hash = genomeHash.applyAsLong(solution);
+        Stripe stripe = stripes[stripeShift == 64 ? 0 : (int) (hash >>> stripeShift)];
+        int slot;
+        double fitness = 0;
+        synchronized (stripe) {
+            slot = stripe.find(hash);
+            if (slot >= 0) {
+                fitness = stripe.values[slot];
+                stripe.states[slot] = REFERENCED;
+            }
+        }
+        if (slot >= 0) {
+            hits.increment();
+            ((AbstractSolution<T>) solution).setEvaluatedFitness(fitness);
+            return fitness;
+        }
+        misses.increment();
+        if (evaluations != null) {
+            evaluations.increment();
+        }
+        fitness = solution.getFitness();
+        synchronized (stripe) {
+            stripe.put(hash, fitness);
+        }
+        return fitness;
+    }
+
+    /**
+     * Returns the number of evaluations which were answered by the cache.
+     *
+     * @return
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of evaluations which were not answered by the cache.
+     *
+     * @return
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached fitness values.
+     *
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached fitness values (the counts of hits and misses are kept).
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * This class implements a stripe of the cache, an open-addressing table with linear probing.
+     * All methods have to be called while holding the lock of the stripe.
+     *
+     */
+    private static final class Stripe {
+
+        private final long[] keys;
+        private final double[] values;
+        private final byte[] states;
+        private final int mask;
+        private final int capacity;
+        private int size = 0;
+        private int hand = 0;
+
+        private Stripe(int capacity) {
+            // keep the load factor at most 3/4 and at least one slot empty, which ends each probe
+            int minimalLength = capacity + capacity / 3 + 1;
+            int length = Integer.highestOneBit(minimalLength - 1) << 1;
+            this.keys = new long[length];
+            this.values = new double[length];
+            this.states = new byte[length];
+            this.mask = length - 1;
+            this.capacity = capacity;
+        }
+
+        private int home(long key) {
+            return (int) key & mask;
+        }
+
+        private int find(long key) {
+            for (int i = home(key); states[i] != EMPTY; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void put(long key, double value) {
+            int slot = find(key);
+            if (slot >= 0) {
+                // added by another thread in the meantime
+                values[slot] = value;
+                return;
+            }
+            if (size >= capacity) {
+                evict();
+            }
+            int i = home(key);
+            while (states[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            states[i] = OCCUPIED;
+            size++;
+        }
+
+        /**
+         * Moves the clock hand to the next entry whose reference bit is cleared (clearing the bits
+         * on the way) and removes it.
+         */
+        private void evict() {
+            while (true) {
+                if (states[hand] == REFERENCED) {
+                    states[hand] = OCCUPIED;
+                } else if (states[hand] == OCCUPIED) {
+                    remove(hand);
+                    return;
+                }
+                hand = (hand + 1) & mask;
+            }
+        }
+
+        /**
+         * Removes the entry of the given slot, moving later entries of the probe sequence back so
+         * that no lookup is interrupted by the emptied slot.
+         */
+        private void remove(int slot) {
+            int gap = slot;
+            for (int i = (gap + 1) & mask; states[i] != EMPTY; i = (i + 1) & mask) {
+                int home = home(keys[i]);
+                // the entry can not be moved to the gap if its home lies cyclically in (gap, i]
+                boolean reachable = gap <= i ? gap < home && home <= i : gap < home || home <= i;
+                if (!reachable) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    states[gap] = states[i];
+                    gap = i;
+                }
+            }
+            states[gap] = EMPTY;
+            size--;
+        }
+
+        private void clear() {
+            Arrays.fill(states, EMPTY);
+            size = 0;
+            hand = 0;
+        }
+    }
+
+}
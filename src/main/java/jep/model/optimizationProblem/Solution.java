@@ -22,4 +22,16 @@ public interface Solution<T extends OptimizationProblem>{
      */
     double getFitness();
 
+    /**
+     * Returns <code>true</code> if the fitness of this solution is known, and <code>false</code> if
+     * it is evaluated lazily and was not requested yet (in which case the next call of
+     * {@link #getFitness()} evaluates it). Solutions which compute their fitness on construction
+     * always return <code>true</code>.
+     * 
+     * @return
+     */
+    default boolean isEvaluated() {
+        return true;
+    }
+
 }
@@ -0,0 +1,72 @@
+package jep.model.optimizationProblem;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * This interface defines a binary encoding of the genome of solutions, which is used to store
+ * solutions in checkpoints. Implementations only encode the genome, the fitness is stored by
+ * {@link #write(Solution, DataOutput)} if it is known, so restored solutions are not evaluated
+ * again.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance the encoded solutions are defined for
+ */
+public interface SolutionCodec<T extends OptimizationProblem> {
+
+    /**
+     * Writes the genome of the given <code>solution</code> to the given <code>output</code>.
+     *
+     * @param solution solution whose genome is written
+     * @param output output the genome is written to
+     * @throws IOException if the genome can not be written
+     */
+    void writeGenome(Solution<T> solution, DataOutput output) throws IOException;
+
+    /**
+     * Reads a genome written by {@link #writeGenome(Solution, DataOutput)} from the given
+     * <code>input</code> and returns the solution with this genome.
+     *
+     * @param input input the genome is read from
+     * @return
+     * @throws IOException if the genome can not be read or is invalid
+     */
+    Solution<T> readGenome(DataInput input) throws IOException;
+
+    /**
+     * Writes the genome of the given <code>solution</code> followed by its fitness, if the fitness
+     * is evaluated already.
+     *
+     * @param solution solution which is written
+     * @param output output the solution is written to
+     * @throws IOException if the solution can not be written
+     */
+    default void write(Solution<T> solution, DataOutput output) throws IOException {
+        writeGenome(solution, output);
+        boolean evaluated = solution.isEvaluated();
+        output.writeBoolean(evaluated);
+        if (evaluated) {
+            output.writeDouble(solution.getFitness());
+        }
+    }
+
+    /**
+     * Reads a solution written by {@link #write(Solution, DataOutput)}. If its fitness was stored
+     * it is restored instead of being evaluated again (for an {@link AbstractSolution}).
+     *
+     * @param input input the solution is read from
+     * @return
+     * @throws IOException if the solution can not be read or is invalid
+     */
+    default Solution<T> read(DataInput input) throws IOException {
+        Solution<T> solution = readGenome(input);
+        if (input.readBoolean()) {
+            double fitness = input.readDouble();
+            if (solution instanceof AbstractSolution && !solution.isEvaluated()) {
+                ((AbstractSolution<T>) solution).setEvaluatedFitness(fitness);
+            }
+        }
+        return solution;
+    }
+
+}
@@ -0,0 +1,426 @@
+package jep.model.optimizationProblem.aco;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.termination.TerminationCondition;
+import jep.model.optimizationProblem.tsp.CandidateLists;
+import jep.model.optimizationProblem.tsp.TSPSolution;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem;
+import jep.model.random.RandomStreamProvider;
+
+/**
+ * This class implements an ant colony optimization for the {@link TravelingSalesmanProblem}, either
+ * as Ant System or as MAX-MIN Ant System (see {@link Variant}).
+ * <p>
+ * Each iteration every ant constructs a tour: starting at a random city it repeatedly moves to an
+ * unvisited city, picked with a probability proportional to
+ * <code>pheromone^alpha * (1 / distance)^beta</code>. Those products are precomputed once per
+ * iteration in a choice info table. The ants only consider the nearest cities of their current
+ * city (see {@link CandidateLists}), if all of them are visited the unvisited city with the
+ * greatest choice info is picked. Afterwards the pheromone evaporates and the ants deposit
+ * pheromone on the edges of their tours.
+ * <p>
+ * The ants construct their tours in parallel on a fixed number of worker threads, each ant using
+ * its own random number stream. The pheromone and choice info tables are flat <code>float</code>
+ * matrices, which are only written between the construction phases (evaporation and choice info
+ * rows in parallel, the deposits as single reduction over the constructed tours). Therefore no
+ * locks are needed and the result only depends on the seed of the stream provider, not on the
+ * number of threads.
+ *
+ */
+public class AntColonyOptimization {
+
+    /**
+     * Enum which defines the ant colony optimization variants.
+     * <ul>
+     * <li>{@link #ANT_SYSTEM}: every ant deposits pheromone on its tour.</li>
+     * <li>{@link #MAX_MIN_ANT_SYSTEM}: only the best ant deposits pheromone and the pheromone is
+     * bounded by a minimal and maximal value.</li>
+     * </ul>
+     *
+     */
+    public enum Variant {
+        ANT_SYSTEM,
+
+        MAX_MIN_ANT_SYSTEM;
+    }
+
+    /**
+     * Default number of cities in the candidate list of each city.
+     */
+    public static final int DEFAULT_CANDIDATE_LIST_SIZE = 20;
+
+    /**
+     * Probability of the MAX-MIN ant system to construct the best tour once converged, used to
+     * derive the minimal pheromone value.
+     */
+    private static final double MAX_MIN_BEST_PROBABILITY = 0.05D;
+
+    /**
+     * Number of iterations after which the MAX-MIN ant system lets the best found tour deposit
+     * instead of the best tour of the iteration.
+     */
+    private static final int MAX_MIN_GLOBAL_BEST_FREQUENCY = 10;
+
+    private final TravelingSalesmanProblem problem;
+    private final Variant variant;
+    private final int numberOfAnts;
+    private final double alpha;
+    private final double beta;
+    private final double evaporationRate;
+    private final int numberOfThreads;
+    private final RandomStreamProvider streams;
+    private final TerminationCondition<TravelingSalesmanProblem> terminationCondition;
+
+    private final int n;
+    private final int candidateListSize;
+    private final int[] distances;
+    private final int[] candidates;
+    private final float[] heuristic;
+    private final float[] pheromone;
+    private final float[] choiceInfo;
+    private float minimalPheromone;
+    private float maximalPheromone;
+    private long numberOfIterations = 0;
+
+    /**
+     * Constructs a new {@link AntColonyOptimization}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance which is optimized
+     * @param variant {@link Variant} which defines how the pheromone is updated
+     * @param numberOfAnts number of ants constructing a tour per iteration (has to be true positive
+     *        [> 0])
+     * @param alpha influence of the pheromone (has to be >= 0)
+     * @param beta influence of the distance (has to be >= 0)
+     * @param evaporationRate fraction of the pheromone which evaporates per iteration, within (0,
+     *        1)
+     * @param candidateListSize number of nearest cities considered by the ants (has to be true
+     *        positive [> 0], is cut to the number of cities - 1)
+     * @param numberOfThreads number of threads constructing tours in parallel (has to be true
+     *        positive [> 0])
+     * @param streams provider of the random streams of the ants
+     * @param terminationCondition {@link TerminationCondition}-instance which defines when to
+     *        stop, checked with the fitness of the best tour found so far
+     */
+    public AntColonyOptimization(TravelingSalesmanProblem problem, Variant variant,
+            int numberOfAnts, double alpha, double beta, double evaporationRate,
+            int candidateListSize, int numberOfThreads, RandomStreamProvider streams,
+            TerminationCondition<TravelingSalesmanProblem> terminationCondition) {
+        this.problem = Objects.requireNonNull(problem);
+        this.variant = Objects.requireNonNull(variant);
+        this.streams = Objects.requireNonNull(streams);
+        this.terminationCondition = Objects.requireNonNull(terminationCondition);
+        if (numberOfAnts <= 0) {
+            throw new IllegalArgumentException("The number of ants has to be true positive (> 0).");
+        }
+        if (alpha < 0 || beta < 0) {
+            throw new IllegalArgumentException("Alpha and beta have to be positive (>= 0).");
+        }
+        if (evaporationRate <= 0 || evaporationRate >= 1) {
+            throw new IllegalArgumentException(
+                    "The evaporation rate has to be within 0 < evaporationRate < 1.");
+        }
+        if (candidateListSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The candidate list size has to be true positive (> 0).");
+        }
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of threads has to be true positive (> 0).");
+        }
+        this.numberOfAnts = numberOfAnts;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.evaporationRate = evaporationRate;
+        this.numberOfThreads = numberOfThreads;
+
+        this.n = problem.getNumberOfCities();
+        if (n < 3) {
+            throw new IllegalArgumentException("The problem has to contain at least 3 cities.");
+        }
+        CandidateLists candidateLists = new CandidateLists(problem, candidateListSize);
+        this.candidateListSize = candidateLists.getNumberOfCandidates();
+        this.candidates = candidateLists.toArray();
+        this.distances = new int[n * n];
+        this.heuristic = new float[n * n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            for (int j = 0; j < n; j++) {
+                int distance = problem.getDistance(i, j);
+                distances[i * n + j] = distance;
+                // identical locations get a large but finite heuristic value
+                heuristic[i * n + j] = (float) Math.pow(1.0D / Math.max(distance, 0.1D), beta);
+            }
+        });
+        this.pheromone = new float[n * n];
+        this.choiceInfo = new float[n * n];
+    }
+
+    /**
+     * Runs the ant colony optimization and returns the best tour found.
+     *
+     * @return
+     */
+    public Solution<TravelingSalesmanProblem> run() {
+        numberOfIterations = 0;
+        initializePheromone();
+        Ant[] ants = new Ant[numberOfAnts];
+        for (int k = 0; k < numberOfAnts; k++) {
+            ants[k] = new Ant(streams.getStream(k));
+        }
+        int[] bestTour = null;
+        long bestLength = Long.MAX_VALUE;
+        Solution<TravelingSalesmanProblem> bestSolution = null;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ant-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            do {
+                computeChoiceInfo();
+                constructTours(ants, executor);
+
+                Ant iterationBest = ants[0];
+                for (Ant ant : ants) {
+                    if (ant.length < iterationBest.length) {
+                        iterationBest = ant;
+                    }
+                }
+                if (iterationBest.length < bestLength) {
+                    bestLength = iterationBest.length;
+                    bestTour = iterationBest.tour.clone();
+                    bestSolution = new TSPSolution(problem, bestTour);
+                }
+                updatePheromone(ants, iterationBest, bestTour, bestLength);
+                numberOfIterations++;
+            } while (!terminationCondition.isFulfilled(numberOfIterations,
+                    bestSolution.getFitness()));
+        } finally {
+            executor.shutdownNow();
+        }
+        return bestSolution;
+    }
+
+    /**
+     * Returns the number of iterations of the last run.
+     *
+     * @return
+     */
+    public long getNumberOfIterations() {
+        return numberOfIterations;
+    }
+
+    private void initializePheromone() {
+        long nearestNeighborLength = nearestNeighborTourLength();
+        float initialPheromone;
+        if (variant == Variant.MAX_MIN_ANT_SYSTEM) {
+            updatePheromoneBounds(nearestNeighborLength);
+            initialPheromone = maximalPheromone;
+        } else {
+            initialPheromone = (float) (numberOfAnts / (double) nearestNeighborLength);
+        }
+        Arrays.fill(pheromone, initialPheromone);
+    }
+
+    /**
+     * Returns the length of the tour which starts at the first city and always moves to the nearest
+     * unvisited city. It is used to scale the initial pheromone.
+     */
+    private long nearestNeighborTourLength() {
+        boolean[] visited = new boolean[n];
+        int current = 0;
+        visited[current] = true;
+        long length = 0;
+        for (int step = 1; step < n; step++) {
+            int next = -1;
+            for (int k = 0; k < candidateListSize; k++) {
+                int candidate = candidates[current * candidateListSize + k];
+                if (!visited[candidate]) {
+                    next = candidate;
+                    break;
+                }
+            }
+            if (next < 0) {
+                for (int j = 0; j < n; j++) {
+                    if (!visited[j] && (next < 0
+                            || distances[current * n + j] < distances[current * n + next])) {
+                        next = j;
+                    }
+                }
+            }
+            length += distances[current * n + next];
+            visited[next] = true;
+            current = next;
+        }
+        return Math.max(1L, length + distances[current * n]);
+    }
+
+    private void updatePheromoneBounds(long bestLength) {
+        maximalPheromone = (float) (1.0D / (evaporationRate * bestLength));
+        double root = Math.pow(MAX_MIN_BEST_PROBABILITY, 1.0D / n);
+        double average = Math.max(1.0D, n / 2.0D - 1.0D);
+        minimalPheromone = (float) (maximalPheromone * (1.0D - root) / (average * root));
+    }
+
+    private void computeChoiceInfo() {
+        IntStream.range(0, n).parallel().forEach(i -> {
+            for (int j = i * n, end = j + n; j < end; j++) {
+                double value = alpha == 1.0D ? pheromone[j] : Math.pow(pheromone[j], alpha);
+                choiceInfo[j] = (float) (value * heuristic[j]);
+            }
+        });
+    }
+
+    private void constructTours(Ant[] ants, ExecutorService executor) {
+        int threads = Math.min(numberOfThreads, ants.length);
+        if (threads == 1) {
+            for (Ant ant : ants) {
+                ant.constructTour();
+            }
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int from = t * ants.length / threads;
+            int to = (t + 1) * ants.length / threads;
+            futures.add(executor.submit(() -> {
+                for (int k = from; k < to; k++) {
+                    ants[k].constructTour();
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The tour construction was interrupted.", exc);
+        } catch (ExecutionException exc) {
+            throw new IllegalStateException("The tour construction failed.", exc.getCause());
+        }
+    }
+
+    private void updatePheromone(Ant[] ants, Ant iterationBest, int[] bestTour, long bestLength) {
+        float persistence = (float) (1.0D - evaporationRate);
+        IntStream.range(0, n).parallel().forEach(i -> {
+            for (int j = i * n, end = j + n; j < end; j++) {
+                pheromone[j] *= persistence;
+            }
+        });
+        if (variant == Variant.ANT_SYSTEM) {
+            for (Ant ant : ants) {
+                deposit(ant.tour, (float) (1.0D / ant.length));
+            }
+        } else {
+            updatePheromoneBounds(bestLength);
+            if (numberOfIterations % MAX_MIN_GLOBAL_BEST_FREQUENCY == 0) {
+                deposit(bestTour, (float) (1.0D / bestLength));
+            } else {
+                deposit(iterationBest.tour, (float) (1.0D / iterationBest.length));
+            }
+            float min = minimalPheromone;
+            float max = maximalPheromone;
+            IntStream.range(0, n).parallel().forEach(i -> {
+                for (int j = i * n, end = j + n; j < end; j++) {
+                    pheromone[j] = Math.max(min, Math.min(max, pheromone[j]));
+                }
+            });
+        }
+    }
+
+    private void deposit(int[] tour, float amount) {
+        for (int i = 0; i < n; i++) {
+            int a = tour[i];
+            int b = tour[i + 1 < n ? i + 1 : 0];
+            pheromone[a * n + b] += amount;
+            pheromone[b * n + a] += amount;
+        }
+    }
+
+    /**
+     * This class holds the state of a single ant: its random stream, its tour and the cities it
+     * already visited. Each ant is only used by a single thread at a time.
+     *
+     */
+    private final class Ant {
+
+        private final Random random;
+        private final int[] tour = new int[n];
+        private final boolean[] visited = new boolean[n];
+        private final double[] probabilities = new double[candidateListSize];
+        private long length;
+
+        private Ant(Random random) {
+            this.random = random;
+        }
+
+        private void constructTour() {
+            Arrays.fill(visited, false);
+            int current = random.nextInt(n);
+            tour[0] = current;
+            visited[current] = true;
+            long tourLength = 0;
+            for (int step = 1; step < n; step++) {
+                int next = pickNextCity(current);
+                tour[step] = next;
+                visited[next] = true;
+                tourLength += distances[current * n + next];
+                current = next;
+            }
+            length = tourLength + distances[current * n + tour[0]];
+        }
+
+        private int pickNextCity(int current) {
+            int offset = current * candidateListSize;
+            double sum = 0.0D;
+            for (int k = 0; k < candidateListSize; k++) {
+                int candidate = candidates[offset + k];
+                double probability =
+                        visited[candidate] ? 0.0D : choiceInfo[current * n + candidate];
+                probabilities[k] = probability;
+                sum += probability;
+            }
+            if (sum > 0.0D) {
+                double threshold = random.nextDouble() * sum;
+                double cumulated = 0.0D;
+                int lastUnvisited = -1;
+                for (int k = 0; k < candidateListSize; k++) {
+                    if (probabilities[k] > 0.0D) {
+                        cumulated += probabilities[k];
+                        lastUnvisited = candidates[offset + k];
+                        if (cumulated >= threshold) {
+                            return lastUnvisited;
+                        }
+                    }
+                }
+                // rounding errors
+                return lastUnvisited;
+            }
+            // all candidates are visited, move to the most attractive remaining city
+            int best = -1;
+            float bestChoiceInfo = -1.0F;
+            for (int j = 0, row = current * n; j < n; j++) {
+                if (!visited[j] && choiceInfo[row + j] > bestChoiceInfo) {
+                    best = j;
+                    bestChoiceInfo = choiceInfo[row + j];
+                }
+            }
+            return best;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package jep.model.optimizationProblem.checkpoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * This class provides methods to write and read checkpoint files. A checkpoint file holds a header
+ * (magic number, format version and length of the checkpoint), the checkpoint and a CRC-32 checksum
+ * of the checkpoint.
+ * <p>
+ * A checkpoint is written to a temporary file in the directory of the checkpoint file, which is
+ * flushed to the storage and then renamed to the checkpoint file (atomically, if the file system
+ * supports it). This way a crash while writing leaves the previous checkpoint intact.
+ *
+ */
+public final class CheckpointFile {
+
+    private static final int MAGIC_NUMBER = 0x4A455043;
+    private static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 12;
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private CheckpointFile() {
+        // utility class
+    }
+
+    /**
+     * Writes the given <code>checkpoint</code> to the given <code>file</code>, replacing a previous
+     * checkpoint.
+     *
+     * @param file checkpoint file
+     * @param checkpoint checkpoint which is written
+     * @throws IOException if the checkpoint can not be written
+     */
+    public static void write(Path file, byte[] checkpoint) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        ByteBuffer buffer =
+                ByteBuffer.allocate(HEADER_LENGTH + checkpoint.length + CHECKSUM_LENGTH);
+        buffer.putInt(MAGIC_NUMBER).putInt(VERSION).putInt(checkpoint.length).put(checkpoint)
+                .putLong(checksum(checkpoint));
+        buffer.flip();
+        Path temporaryFile = Files.createTempFile(absoluteFile.getParent(),
+                absoluteFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel =
+                    FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Reads and returns the checkpoint stored in the given <code>file</code>.
+     *
+     * @param file checkpoint file
+     * @return
+     * @throws IOException if the file can not be read or is not a valid checkpoint file
+     */
+    public static byte[] read(Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(content))) {
+            if (content.length < HEADER_LENGTH + CHECKSUM_LENGTH
+                    || input.readInt() != MAGIC_NUMBER) {
+                throw new IOException("'" + file + "' is not a checkpoint file.");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version + ".");
+            }
+            int length = input.readInt();
+            if (length != content.length - HEADER_LENGTH - CHECKSUM_LENGTH) {
+                throw new IOException("The checkpoint file '" + file + "' is truncated.");
+            }
+            byte[] checkpoint = new byte[length];
+            input.readFully(checkpoint);
+            if (input.readLong() != checksum(checkpoint)) {
+                throw new IOException("The checkpoint file '" + file + "' is corrupted.");
+            }
+            return checkpoint;
+        }
+    }
+
+    private static long checksum(byte[] checkpoint) {
+        CRC32 crc = new CRC32();
+        crc.update(checkpoint, 0, checkpoint.length);
+        return crc.getValue();
+    }
+
+}
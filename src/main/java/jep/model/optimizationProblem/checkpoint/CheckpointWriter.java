@@ -0,0 +1,156 @@
+package jep.model.optimizationProblem.checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class writes the checkpoints of a run periodically to a {@link CheckpointFile}. An algorithm
+ * asks the writer via {@link #isDue(long)} after each iteration whether a checkpoint is due, which
+ * is the case if the given number of iterations or the given time passed since the last
+ * checkpoint. If so the algorithm serializes its state into a byte array and passes it to
+ * {@link #write(byte[])}.
+ * <p>
+ * The file is written by a separate daemon thread, so the algorithm only pays for the
+ * serialization. If a checkpoint is passed while the previous one is still written, only the newer
+ * one is written afterwards. A failed write is reported by the next call of {@link #write(byte[])}
+ * or by {@link #close()}, which waits until the last checkpoint is written.
+ *
+ */
+public class CheckpointWriter implements AutoCloseable {
+
+    private final Path file;
+    private final long iterationInterval;
+    private final long intervalNanos;
+    private final ExecutorService executor;
+    private final AtomicReference<byte[]> pendingCheckpoint = new AtomicReference<>();
+    private final AtomicLong writtenCheckpoints = new AtomicLong();
+    private volatile IOException failure = null;
+    private boolean started = false;
+    private long lastIteration;
+    private long lastNanos;
+
+    /**
+     * Constructs a new {@link CheckpointWriter}-instance.
+     *
+     * @param file checkpoint file
+     * @param iterationInterval number of iterations between two checkpoints, 0 to write them by
+     *        time only (has to be positive)
+     * @param intervalMillis minimal time in milliseconds between two checkpoints, 0 to write them
+     *        by iterations only (has to be positive)
+     */
+    public CheckpointWriter(Path file, long iterationInterval, long intervalMillis) {
+        this.file = Objects.requireNonNull(file);
+        if (iterationInterval < 0) {
+            throw new IllegalArgumentException(
+                    "The iteration interval has to be positive (>= 0).");
+        }
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("The time interval has to be positive (>= 0).");
+        }
+        if (iterationInterval == 0 && intervalMillis == 0) {
+            throw new IllegalArgumentException(
+                    "Either the iteration or the time interval has to be true positive (> 0).");
+        }
+        this.iterationInterval = iterationInterval;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns <code>true</code> if a checkpoint is due after the iteration with the given
+     * <code>iterationCount</code>, in which case the iteration is recorded as the one of the last
+     * checkpoint. The first call only starts the intervals. This method is to be called by the
+     * thread of the algorithm only.
+     *
+     * @param iterationCount count of the finished iteration
+     * @return
+     */
+    public boolean isDue(long iterationCount) {
+        long now = intervalNanos > 0 ? System.nanoTime() : 0L;
+        boolean due = false;
+        if (started) {
+            boolean byIterations =
+                    iterationInterval > 0 && iterationCount - lastIteration >= iterationInterval;
+            boolean byTime = intervalNanos > 0 && now - lastNanos >= intervalNanos;
+            if (!byIterations && !byTime) {
+                return false;
+            }
+            due = true;
+        }
+        started = true;
+        lastIteration = iterationCount;
+        lastNanos = now;
+        return due;
+    }
+
+    /**
+     * Writes the given <code>checkpoint</code> asynchronously to the checkpoint file.
+     *
+     * @param checkpoint serialized state of the algorithm
+     * @throws UncheckedIOException if a previous checkpoint could not be written
+     */
+    public void write(byte[] checkpoint) {
+        throwIfFailed();
+        if (pendingCheckpoint.getAndSet(Objects.requireNonNull(checkpoint)) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        byte[] checkpoint = pendingCheckpoint.getAndSet(null);
+        if (checkpoint == null || failure != null) {
+            return;
+        }
+        try {
+            CheckpointFile.write(file, checkpoint);
+            writtenCheckpoints.incrementAndGet();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void throwIfFailed() {
+        IOException exception = failure;
+        if (exception != null) {
+            throw new UncheckedIOException("The checkpoint could not be written to '" + file
+                    + "'.", exception);
+        }
+    }
+
+    /**
+     * Returns the number of checkpoints written to the file so far.
+     *
+     * @return
+     */
+    public long getNumberOfWrittenCheckpoints() {
+        return writtenCheckpoints.get();
+    }
+
+    /**
+     * Waits until the last passed checkpoint is written and stops the thread of this writer.
+     *
+     * @throws UncheckedIOException if a checkpoint could not be written
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throwIfFailed();
+    }
+
+}
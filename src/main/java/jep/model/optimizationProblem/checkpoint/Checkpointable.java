@@ -0,0 +1,79 @@
+package jep.model.optimizationProblem.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This interface defines a component of an algorithm with a mutable state (for example a random
+ * number generator, an adaptive mutation rate or the temperature of a simulated annealing), which
+ * can be stored in a checkpoint and restored to continue a run exactly where it stopped.
+ * <p>
+ * The state is restored into a component which was constructed with the same parameters as the
+ * stored one, so only the state which changes during a run is written. Components which are not
+ * {@link Checkpointable} are skipped by {@link #writeStateOf(Object, DataOutput)} and
+ * {@link #readStateOf(Object, DataInput)}, which makes a resumed run differ from the uninterrupted
+ * one if such a component has a state.
+ *
+ */
+public interface Checkpointable {
+
+    /**
+     * Writes the mutable state of this component to the given <code>output</code>.
+     *
+     * @param output output the state is written to
+     * @throws IOException if the state can not be written
+     */
+    void writeState(DataOutput output) throws IOException;
+
+    /**
+     * Reads the state written by {@link #writeState(DataOutput)} from the given <code>input</code>
+     * and sets it as state of this component.
+     *
+     * @param input input the state is read from
+     * @throws IOException if the state can not be read or is invalid
+     */
+    void readState(DataInput input) throws IOException;
+
+    /**
+     * Writes the state of the given <code>component</code> if it is {@link Checkpointable} or a
+     * {@link SplitMixRandom} (whose state is its seed and gamma), otherwise nothing is written.
+     *
+     * @param component component whose state is written
+     * @param output output the state is written to
+     * @throws IOException if the state can not be written
+     */
+    static void writeStateOf(Object component, DataOutput output) throws IOException {
+        if (component instanceof Checkpointable) {
+            ((Checkpointable) component).writeState(output);
+        } else if (component instanceof SplitMixRandom) {
+            SplitMixRandom random = (SplitMixRandom) component;
+            output.writeLong(random.getState());
+            output.writeLong(random.getGamma());
+        }
+    }
+
+    /**
+     * Reads the state written by {@link #writeStateOf(Object, DataOutput)} for a component of the
+     * same type as the given <code>component</code> and sets it as its state.
+     *
+     * @param component component whose state is read
+     * @param input input the state is read from
+     * @throws IOException if the state can not be read or is invalid
+     */
+    static void readStateOf(Object component, DataInput input) throws IOException {
+        if (component instanceof Checkpointable) {
+            ((Checkpointable) component).readState(input);
+        } else if (component instanceof SplitMixRandom) {
+            long state = input.readLong();
+            long gamma = input.readLong();
+            if ((gamma & 1L) == 0) {
+                throw new IOException("Invalid random number generator state.");
+            }
+            ((SplitMixRandom) component).setState(state, gamma);
+        }
+    }
+
+}
@@ -1,11 +1,25 @@
 package jep.model.optimizationProblem.correctiveProcedure;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
+import jep.model.optimizationProblem.FitnessCache;
 import jep.model.optimizationProblem.FitnessComparator;
 import jep.model.optimizationProblem.InitialSolutionConstructor;
 import jep.model.optimizationProblem.OptimizationProblem;
 import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.SolutionCodec;
+import jep.model.optimizationProblem.checkpoint.CheckpointWriter;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
 
 /**
  * This abstract class implements the general constructor and {@link #run(ResultMode)}-method
@@ -23,6 +37,10 @@ public abstract class AbstractCorrectiveProcedure<T extends OptimizationProblem>
     private final BreakCondition<T> breakCondition;
     private final Solution<T> initialSolution;
     private Solution<T> bestSolution;
+    private FitnessCache<T> fitnessCache = null;
+    private LongAdder evaluationCounter = null;
+    private SolutionCodec<T> checkpointCodec = null;
+    private CheckpointWriter checkpointWriter = null;
     long totalIterationsCount = 0;
 
     /**
@@ -55,11 +73,55 @@ public abstract class AbstractCorrectiveProcedure<T extends OptimizationProblem>
     @Override
     public Solution<T> run(ResultMode resultMode) {
         totalIterationsCount = 0;
-        long iterationWithAcceptanceCount = 0;
-        Solution<T> currentSolution = initialSolution;
+        return iterate(resultMode, initialSolution, 0L);
+    }
+
+    /**
+     * Resumes the run stored in the given <code>checkpoint</code> (see
+     * {@link #setCheckpointing(SolutionCodec, CheckpointWriter)}) and returns its result like
+     * {@link #run(ResultMode)}. The current and the best solution, the iteration counts and the
+     * state of all {@link Checkpointable} functions of this procedure are restored, so if this
+     * procedure is constructed like the one which wrote the checkpoint the run continues exactly
+     * where it stopped.
+     * 
+     * @param checkpoint checkpoint written by a procedure of the same class
+     * @param codec {@link SolutionCodec} which was used to write the solutions
+     * @param resultMode determines if the last or the best solution is returned
+     * @return
+     * @throws IOException if the checkpoint is invalid
+     */
+    public Solution<T> resume(byte[] checkpoint, SolutionCodec<T> codec, ResultMode resultMode)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        try (DataInputStream input =
+                new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            if (!input.readUTF().equals(getClass().getName())) {
+                throw new IOException(
+                        "The checkpoint was not written by a " + getClass().getSimpleName() + ".");
+            }
+            long iterationCount = input.readLong();
+            long iterationWithAcceptanceCount = input.readLong();
+            if (iterationCount < 0 || iterationWithAcceptanceCount < 0) {
+                throw new IOException("Invalid checkpoint.");
+            }
+            Solution<T> currentSolution = codec.read(input);
+            Solution<T> restoredBestSolution = codec.read(input);
+            readCheckpointState(input);
+            totalIterationsCount = iterationCount;
+            bestSolution = restoredBestSolution;
+            return iterate(resultMode, currentSolution, iterationWithAcceptanceCount);
+        } catch (EOFException e) {
+            throw new IOException("The checkpoint is truncated.", e);
+        }
+    }
+
+    private Solution<T> iterate(ResultMode resultMode, Solution<T> currentSolution,
+            long iterationWithAcceptanceCount) {
+        evaluate(currentSolution);
         while (!breakCondition.isFulfilled(currentSolution, totalIterationsCount,
                 iterationWithAcceptanceCount)) {
             Solution<T> neighbor = neighborFunction.constructNeighbor(currentSolution);
+            evaluate(neighbor);
             if (acceptanceFunction.accept(currentSolution, neighbor, fitnessComparator)) {
                 currentSolution = neighbor;
                 iterationWithAcceptanceCount++;
@@ -69,6 +131,10 @@ public abstract class AbstractCorrectiveProcedure<T extends OptimizationProblem>
                 bestSolution = neighbor;
             }
             totalIterationsCount++;
+            if (checkpointWriter != null && checkpointWriter.isDue(totalIterationsCount)) {
+                checkpointWriter
+                        .write(createCheckpoint(currentSolution, iterationWithAcceptanceCount));
+            }
         }
         reset();
         switch (resultMode) {
@@ -81,6 +147,103 @@ public abstract class AbstractCorrectiveProcedure<T extends OptimizationProblem>
         }
     }
 
+    private byte[] createCheckpoint(Solution<T> currentSolution,
+            long iterationWithAcceptanceCount) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(getClass().getName());
+            output.writeLong(totalIterationsCount);
+            output.writeLong(iterationWithAcceptanceCount);
+            checkpointCodec.write(currentSolution, output);
+            checkpointCodec.write(bestSolution, output);
+            writeCheckpointState(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the state of the functions of this procedure to a checkpoint. By default the states of
+     * the neighbor function, the acceptance function and the break condition are written (if they
+     * are {@link Checkpointable}), procedures with further stateful functions are to extend this
+     * method and {@link #readCheckpointState(DataInput)}.
+     * 
+     * @param output output the state is written to
+     * @throws IOException if the state can not be written
+     */
+    protected void writeCheckpointState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(neighborFunction, output);
+        Checkpointable.writeStateOf(acceptanceFunction, output);
+        Checkpointable.writeStateOf(breakCondition, output);
+    }
+
+    /**
+     * Reads the state written by {@link #writeCheckpointState(DataOutput)} and sets it as state of
+     * the functions of this procedure.
+     * 
+     * @param input input the state is read from
+     * @throws IOException if the state can not be read or is invalid
+     */
+    protected void readCheckpointState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(neighborFunction, input);
+        Checkpointable.readStateOf(acceptanceFunction, input);
+        Checkpointable.readStateOf(breakCondition, input);
+    }
+
+    /**
+     * Enables the periodic checkpointing of the runs of this procedure: after each iteration the
+     * given <code>writer</code> is asked whether a checkpoint is due, in which case the current
+     * and the best solution, the iteration counts and the state of the functions of this procedure
+     * are serialized and passed to the writer, which writes them to its file asynchronously. A run
+     * can be continued from the checkpoint via {@link #resume(byte[], SolutionCodec, ResultMode)}.
+     * Checkpointing is disabled by default.
+     * 
+     * @param codec {@link SolutionCodec} used to write the solutions
+     * @param writer writer of the checkpoints, <code>null</code> to disable checkpointing
+     */
+    public void setCheckpointing(SolutionCodec<T> codec, CheckpointWriter writer) {
+        this.checkpointCodec = writer == null ? null : Objects.requireNonNull(codec);
+        this.checkpointWriter = writer;
+    }
+
+    /**
+     * Sets the {@link FitnessCache} which is consulted for the fitness of each neighbor before it
+     * is compared, so neighbors which were constructed before (for example by undoing the last
+     * move) are not evaluated again. By default no cache is used.
+     * 
+     * @param fitnessCache cache of fitness values or <code>null</code> to use no cache
+     */
+    public void setFitnessCache(FitnessCache<T> fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Sets the counter which is incremented for each fitness evaluation of this procedure, so a
+     * run can be limited by its number of evaluations (see
+     * {@link jep.model.optimizationProblem.termination.EvaluationBudget}). Fitness values taken
+     * from the fitness cache are not counted. Each run should use its own counter. By default no
+     * evaluations are counted.
+     * 
+     * @param evaluationCounter counter of the evaluations or <code>null</code> to count none
+     */
+    public void setEvaluationCounter(LongAdder evaluationCounter) {
+        this.evaluationCounter = evaluationCounter;
+    }
+
+    /**
+     * Evaluates the given <code>solution</code> via the fitness cache or counts its evaluation, if
+     * a cache or a counter is set. Otherwise the solution is evaluated lazily once it is compared.
+     */
+    private void evaluate(Solution<T> solution) {
+        if (fitnessCache != null) {
+            fitnessCache.evaluate(solution, evaluationCounter);
+        } else if (evaluationCounter != null && !solution.isEvaluated()) {
+            solution.getFitness();
+            evaluationCounter.increment();
+        }
+    }
+
     @Override
     public long getNumberOfIterations() {
         return totalIterationsCount;
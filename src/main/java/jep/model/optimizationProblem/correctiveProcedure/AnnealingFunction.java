@@ -1,30 +1,42 @@
 package jep.model.optimizationProblem.correctiveProcedure;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Random;
 
 import jep.model.optimizationProblem.FitnessComparator;
 import jep.model.optimizationProblem.OptimizationProblem;
 import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.random.SplitMixRandom;
 
-public class AnnealingFunction<T extends OptimizationProblem> {
+public class AnnealingFunction<T extends OptimizationProblem> implements Checkpointable {
 
     private final FitnessComparator<T> fitnessComparator;
     private final int worseIterationThreshold;
     private final double initialTemperature;
     private final double alpha;
-    private final Random rng = new Random();
+    private final Random rng;
     private int countOfWorseIterations = 0;
     private double temperature;
 
     public AnnealingFunction(FitnessComparator<T> fitnessComparator,
             double initialTemperature, double alpha, int worseIterationThreshold) {
+        this(fitnessComparator, initialTemperature, alpha, worseIterationThreshold,
+                new SplitMixRandom());
+    }
+
+    public AnnealingFunction(FitnessComparator<T> fitnessComparator, double initialTemperature,
+            double alpha, int worseIterationThreshold, Random random) {
         validate(initialTemperature, worseIterationThreshold, alpha);
         this.fitnessComparator = Objects.requireNonNull(fitnessComparator);
         this.worseIterationThreshold = worseIterationThreshold;
         this.alpha = alpha;
         this.temperature = initialTemperature;
         this.initialTemperature = initialTemperature;
+        this.rng = Objects.requireNonNull(random);
     }
 
     private void validate(double temperature, double worseIterationThreshold, double alpha) {
@@ -83,4 +95,18 @@ public class AnnealingFunction<T extends OptimizationProblem> {
         countOfWorseIterations = 0;
     }
 
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        output.writeDouble(temperature);
+        output.writeInt(countOfWorseIterations);
+        Checkpointable.writeStateOf(rng, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        temperature = input.readDouble();
+        countOfWorseIterations = input.readInt();
+        Checkpointable.readStateOf(rng, input);
+    }
+
 }
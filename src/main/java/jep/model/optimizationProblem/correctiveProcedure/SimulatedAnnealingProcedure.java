@@ -1,5 +1,9 @@
 package jep.model.optimizationProblem.correctiveProcedure;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 import jep.model.optimizationProblem.FitnessComparator;
 import jep.model.optimizationProblem.InitialSolutionConstructor;
 import jep.model.optimizationProblem.OptimizationProblem;
@@ -26,6 +30,18 @@ public class SimulatedAnnealingProcedure<T extends OptimizationProblem>
         this.annealingFunction = annealingFunction;
     }
 
+    @Override
+    protected void writeCheckpointState(DataOutput output) throws IOException {
+        super.writeCheckpointState(output);
+        annealingFunction.writeState(output);
+    }
+
+    @Override
+    protected void readCheckpointState(DataInput input) throws IOException {
+        super.readCheckpointState(input);
+        annealingFunction.readState(input);
+    }
+
     @Override
     public void reset() {
         annealingFunction.reset();
@@ -1,5 +1,8 @@
 package jep.model.optimizationProblem.correctiveProcedure;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Objects;
 
 import jep.model.optimizationProblem.FitnessComparator;
@@ -58,6 +61,18 @@ public class ThresholdAcceptingProcedure<T extends OptimizationProblem>
         this.thresholdSinkingFunction = Objects.requireNonNull(thresholdSinkingFunction);
     }
 
+    @Override
+    protected void writeCheckpointState(DataOutput output) throws IOException {
+        super.writeCheckpointState(output);
+        thresholdSinkingFunction.writeState(output);
+    }
+
+    @Override
+    protected void readCheckpointState(DataInput input) throws IOException {
+        super.readCheckpointState(input);
+        thresholdSinkingFunction.readState(input);
+    }
+
     @Override
     public void reset() {
         thresholdSinkingFunction.reset();
@@ -1,10 +1,16 @@
 package jep.model.optimizationProblem.correctiveProcedure;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+
 /**
  * This class handles the threshold for a threshold accepting procedure.
  *
  */
-public class ThresholdSinkingFunction {
+public class ThresholdSinkingFunction implements Checkpointable {
 
     private final double alpha;
     private final int worseItrThreshold;
@@ -78,4 +84,16 @@ public class ThresholdSinkingFunction {
         this.iteration = 0;
     }
 
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        output.writeDouble(threshold);
+        output.writeInt(iteration);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        threshold = input.readDouble();
+        iteration = input.readInt();
+    }
+
 }
@@ -0,0 +1,108 @@
+package jep.model.optimizationProblem.experiment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * This class holds the results of all runs of an experiment together with the statistics of the
+ * best fitness, the iterations per second and the time to target.
+ * <p>
+ * The time to target statistics only cover the runs which reached the target, the fraction of
+ * those runs is given by {@link #getSuccessRate()}.
+ *
+ */
+public final class ExperimentReport {
+
+    private final List<RunResult> runResults;
+    private final SummaryStatistics bestFitness;
+    private final SummaryStatistics iterationsPerSecond;
+    private final SummaryStatistics timeToTargetMillis;
+
+    /**
+     * Constructs a new {@link ExperimentReport}-instance for the given <code>runResults</code>.
+     *
+     * @param runResults results of the runs of the experiment
+     * @param random random number generator used for the bootstrap resampling
+     */
+    public ExperimentReport(List<RunResult> runResults, Random random) {
+        List<RunResult> results = new ArrayList<>(Objects.requireNonNull(runResults));
+        results.sort(Comparator.comparingInt(RunResult::getRunIndex));
+        this.runResults = Collections.unmodifiableList(results);
+        this.bestFitness = new SummaryStatistics(
+                results.stream().mapToDouble(RunResult::getBestFitness).toArray(), random);
+        this.iterationsPerSecond = new SummaryStatistics(
+                results.stream().mapToDouble(RunResult::getIterationsPerSecond).toArray(), random);
+        this.timeToTargetMillis = new SummaryStatistics(results.stream()
+                .filter(RunResult::isTargetReached)
+                .mapToDouble(result -> result.getTimeToTargetNanos() / 1e6D).toArray(), random);
+    }
+
+    /**
+     * Returns the results of all runs, ordered by their run index.
+     *
+     * @return
+     */
+    public List<RunResult> getRunResults() {
+        return runResults;
+    }
+
+    public SummaryStatistics getBestFitness() {
+        return bestFitness;
+    }
+
+    public SummaryStatistics getIterationsPerSecond() {
+        return iterationsPerSecond;
+    }
+
+    /**
+     * Returns the statistics of the time to target in milliseconds of the runs which reached the
+     * target.
+     *
+     * @return
+     */
+    public SummaryStatistics getTimeToTargetMillis() {
+        return timeToTargetMillis;
+    }
+
+    /**
+     * Returns the fraction of runs which reached the target.
+     *
+     * @return
+     */
+    public double getSuccessRate() {
+        return runResults.isEmpty() ? 0.0D
+                : (double) timeToTargetMillis.getCount() / runResults.size();
+    }
+
+    /**
+     * Writes the statistics of all metrics as CSV (including the header) to the given
+     * <code>writer</code>.
+     *
+     * @param writer writer the CSV is written to (is not closed)
+     * @throws IOException if writing fails
+     */
+    public void writeSummaryCsv(Writer writer) throws IOException {
+        String lineSeparator = System.lineSeparator();
+        writer.write(SummaryStatistics.CSV_HEADER + lineSeparator);
+        writer.write(bestFitness.toCsvLine("bestFitness") + lineSeparator);
+        writer.write(iterationsPerSecond.toCsvLine("iterationsPerSecond") + lineSeparator);
+        writer.write(timeToTargetMillis.toCsvLine("timeToTargetMillis") + lineSeparator);
+        writer.flush();
+    }
+
+    @Override
+    public String toString() {
+        String lineSeparator = System.lineSeparator();
+        return "runs: " + runResults.size() + ", success rate: " + getSuccessRate()
+                + lineSeparator + "best fitness: " + bestFitness + lineSeparator
+                + "iterations per second: " + iterationsPerSecond + lineSeparator
+                + "time to target (ms): " + timeToTargetMillis;
+    }
+
+}
@@ -0,0 +1,37 @@
+package jep.model.optimizationProblem.experiment;
+
+import java.util.Random;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.random.RandomStreamProvider;
+
+/**
+ * This functional interface defines a single run of an experiment. An implementation constructs a
+ * fresh algorithm (for example a {@link jep.model.optimizationProblem.ga.GeneticAlgorithm} or a
+ * {@link jep.model.optimizationProblem.correctiveProcedure.CorrectiveProcedure}), runs it and
+ * returns its result.
+ * <p>
+ * Runs are executed concurrently by an {@link ExperimentRunner}, therefore an implementation must
+ * not share mutable components between runs. All randomness of a run is to be drawn from the given
+ * <code>streams</code>, which makes each run reproducible.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance the experiment is done for
+ */
+@FunctionalInterface
+public interface ExperimentRun<T extends OptimizationProblem> {
+
+    /**
+     * Executes the run with the given index.
+     *
+     * @param runIndex index of the run within the experiment
+     * @param streams provider of the random streams of this run, use
+     *        {@link RandomStreamProvider#getStream(long...)} to get a separate {@link Random} per
+     *        component
+     * @param monitor {@link RunMonitor} which is to be informed about the progress, for example from
+     *        the termination condition of the algorithm
+     * @return best solution found by the run
+     */
+    Solution<T> execute(int runIndex, RandomStreamProvider streams, RunMonitor<T> monitor);
+
+}
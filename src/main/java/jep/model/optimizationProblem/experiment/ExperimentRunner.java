@@ -0,0 +1,168 @@
+package jep.model.optimizationProblem.experiment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.random.RandomStreamProvider;
+
+/**
+ * This class executes a number of independent runs of an {@link ExperimentRun} on a bounded pool
+ * of threads and aggregates their measurements into an {@link ExperimentReport}.
+ * <p>
+ * Each run gets its own {@link RandomStreamProvider}, derived from the master seed of the
+ * experiment by the run index. Therefore the results of a run only depend on the master seed and
+ * its index, not on the number of threads or the order in which the runs are scheduled. The result
+ * of each run can be streamed as CSV line as soon as the run is finished.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance the experiment is done for
+ */
+public class ExperimentRunner<T extends OptimizationProblem> {
+
+    private final ExperimentRun<T> experimentRun;
+    private final int numberOfRuns;
+    private final int numberOfThreads;
+    private final RandomStreamProvider streams;
+    private final FitnessComparator<T> fitnessComparator = new FitnessComparator<>();
+    private final boolean hasTarget;
+    private final double targetFitness;
+
+    /**
+     * Constructs a new {@link ExperimentRunner}-instance without target fitness.
+     *
+     * @param experimentRun {@link ExperimentRun} which is executed
+     * @param numberOfRuns number of independent runs (has to be true positive [> 0])
+     * @param numberOfThreads maximal number of concurrently executed runs (has to be true positive
+     *        [> 0])
+     * @param masterSeed seed from which the random streams of all runs are derived
+     */
+    public ExperimentRunner(ExperimentRun<T> experimentRun, int numberOfRuns, int numberOfThreads,
+            long masterSeed) {
+        this(experimentRun, numberOfRuns, numberOfThreads, masterSeed, false, Double.NaN);
+    }
+
+    /**
+     * Constructs a new {@link ExperimentRunner}-instance which measures the time until the given
+     * <code>targetFitness</code> is reached.
+     *
+     * @param experimentRun {@link ExperimentRun} which is executed
+     * @param numberOfRuns number of independent runs (has to be true positive [> 0])
+     * @param numberOfThreads maximal number of concurrently executed runs (has to be true positive
+     *        [> 0])
+     * @param masterSeed seed from which the random streams of all runs are derived
+     * @param targetFitness fitness whose time to target is measured
+     */
+    public ExperimentRunner(ExperimentRun<T> experimentRun, int numberOfRuns, int numberOfThreads,
+            long masterSeed, double targetFitness) {
+        this(experimentRun, numberOfRuns, numberOfThreads, masterSeed, true, targetFitness);
+    }
+
+    private ExperimentRunner(ExperimentRun<T> experimentRun, int numberOfRuns,
+            int numberOfThreads, long masterSeed, boolean hasTarget, double targetFitness) {
+        this.experimentRun = Objects.requireNonNull(experimentRun);
+        if (numberOfRuns <= 0) {
+            throw new IllegalArgumentException("The number of runs has to be true positive (> 0).");
+        }
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of threads has to be true positive (> 0).");
+        }
+        this.numberOfRuns = numberOfRuns;
+        this.numberOfThreads = numberOfThreads;
+        this.streams = new RandomStreamProvider(masterSeed);
+        this.hasTarget = hasTarget;
+        this.targetFitness = targetFitness;
+    }
+
+    /**
+     * Executes all runs and returns the report of the experiment.
+     *
+     * @return
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the runs,
+     *         all runs which are not finished yet are cancelled
+     */
+    public ExperimentReport run() throws InterruptedException {
+        try {
+            return run(null);
+        } catch (IOException exc) {
+            throw new AssertionError(exc);
+        }
+    }
+
+    /**
+     * Executes all runs and returns the report of the experiment. The result of each run is
+     * written as CSV line to the given <code>csvWriter</code> as soon as the run is finished (in
+     * order of completion).
+     *
+     * @param csvWriter writer the run results are written to (is flushed after each line but not
+     *        closed), can be <code>null</code>
+     * @return
+     * @throws IOException if writing a result fails, all runs which are not finished yet are
+     *         cancelled
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the runs,
+     *         all runs which are not finished yet are cancelled
+     */
+    public ExperimentReport run(Writer csvWriter) throws IOException, InterruptedException {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "experiment-run-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletionService<RunResult> completionService =
+                    new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < numberOfRuns; i++) {
+                int runIndex = i;
+                completionService.submit(() -> executeRun(runIndex));
+            }
+            if (csvWriter != null) {
+                csvWriter.write(RunResult.CSV_HEADER + System.lineSeparator());
+                csvWriter.flush();
+            }
+            List<RunResult> results = new ArrayList<>(numberOfRuns);
+            for (int i = 0; i < numberOfRuns; i++) {
+                RunResult result;
+                try {
+                    result = completionService.take().get();
+                } catch (ExecutionException exc) {
+                    throw new IllegalStateException("A run of the experiment failed.",
+                            exc.getCause());
+                }
+                results.add(result);
+                if (csvWriter != null) {
+                    csvWriter.write(result.toCsvLine() + System.lineSeparator());
+                    csvWriter.flush();
+                }
+            }
+            return new ExperimentReport(results, streams.getStream(0L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RunResult executeRun(int runIndex) {
+        RandomStreamProvider runStreams = streams.derive(runIndex);
+        RunMonitor<T> monitor = hasTarget ? new RunMonitor<>(fitnessComparator, targetFitness)
+                : new RunMonitor<>(fitnessComparator);
+        Solution<T> solution = experimentRun.execute(runIndex, runStreams, monitor);
+        monitor.finish();
+        // the returned solution is authoritative, the monitor may only have seen current solutions
+        monitor.update(monitor.getIterations(), solution.getFitness());
+        return new RunResult(runIndex, runStreams.getMasterSeed(), monitor.getBestFitness(),
+                monitor.getIterations(), monitor.getElapsedNanos(),
+                monitor.getTimeToTargetNanos());
+    }
+
+}
@@ -0,0 +1,131 @@
+package jep.model.optimizationProblem.experiment;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.termination.TerminationCondition;
+
+/**
+ * This class records the progress of a single run of an experiment: the number of iterations, the
+ * best fitness found so far and the time it took to reach the target fitness (if one is defined).
+ * <p>
+ * The monitor is informed by calling {@link #update(long, double)} from the
+ * {@link TerminationCondition} of the run, which is checked once per iteration by every algorithm
+ * (see {@link TerminationCondition#or(TerminationCondition)} to combine it with the actual budgets).
+ * A monitor is used by a single run and is not thread safe.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance the observed algorithm is used for
+ */
+public class RunMonitor<T extends OptimizationProblem> {
+
+    private final FitnessComparator<T> fitnessComparator;
+    private final boolean hasTarget;
+    private final double targetFitness;
+    private final long startNanos;
+    private long iterations = 0;
+    private double bestFitness = Double.NaN;
+    private long timeToTargetNanos = -1L;
+    private long endNanos = -1L;
+
+    /**
+     * Constructs a new {@link RunMonitor}-instance without target fitness. The time measurement
+     * starts with the construction.
+     *
+     * @param fitnessComparator comparator used to decide which fitness is better
+     */
+    public RunMonitor(FitnessComparator<T> fitnessComparator) {
+        this(fitnessComparator, false, Double.NaN);
+    }
+
+    /**
+     * Constructs a new {@link RunMonitor}-instance which records when the given
+     * <code>targetFitness</code> is reached. The time measurement starts with the construction.
+     *
+     * @param fitnessComparator comparator used to decide which fitness is better
+     * @param targetFitness fitness which is to be reached
+     */
+    public RunMonitor(FitnessComparator<T> fitnessComparator, double targetFitness) {
+        this(fitnessComparator, true, targetFitness);
+    }
+
+    private RunMonitor(FitnessComparator<T> fitnessComparator, boolean hasTarget,
+            double targetFitness) {
+        this.fitnessComparator = Objects.requireNonNull(fitnessComparator);
+        this.hasTarget = hasTarget;
+        this.targetFitness = targetFitness;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Informs this monitor about the current iteration and the fitness of a current solution. The
+     * best fitness is only replaced if the given <code>fitness</code> is better.
+     *
+     * @param iterationCount number of iterations done so far
+     * @param fitness fitness of the current (or best) solution
+     */
+    public void update(long iterationCount, double fitness) {
+        iterations = Math.max(iterations, iterationCount);
+        if (Double.isNaN(bestFitness)
+                || fitnessComparator.checkIfFirstSolutionIsBetter(fitness, bestFitness)) {
+            bestFitness = fitness;
+        }
+        if (hasTarget && timeToTargetNanos < 0
+                && fitnessComparator.checkIfFirstIsBetterOrEqual(bestFitness, targetFitness)) {
+            timeToTargetNanos = (endNanos < 0 ? System.nanoTime() : endNanos) - startNanos;
+        }
+    }
+
+    /**
+     * Marks the run as finished, which stops the time measurement.
+     */
+    public void finish() {
+        if (endNanos < 0) {
+            endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a target fitness is defined and was reached, returns
+     * <code>false</code> otherwise.
+     *
+     * @return
+     */
+    public boolean isTargetReached() {
+        return timeToTargetNanos >= 0;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the best fitness reported so far or {@link Double#NaN} if no fitness was reported.
+     *
+     * @return
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the time in nanoseconds after which the target fitness was reached, or -1 if it was
+     * not reached (or no target is defined).
+     *
+     * @return
+     */
+    public long getTimeToTargetNanos() {
+        return timeToTargetNanos;
+    }
+
+    /**
+     * Returns the time in nanoseconds since the construction of this monitor, or until
+     * {@link #finish()} was called.
+     *
+     * @return
+     */
+    public long getElapsedNanos() {
+        return (endNanos < 0 ? System.nanoTime() : endNanos) - startNanos;
+    }
+
+}
@@ -0,0 +1,96 @@
+package jep.model.optimizationProblem.experiment;
+
+/**
+ * This class holds the measurements of a single run of an experiment.
+ *
+ */
+public final class RunResult {
+
+    /**
+     * Header of the CSV representation, see {@link #toCsvLine()}.
+     */
+    public static final String CSV_HEADER =
+            "run,seed,bestFitness,iterations,elapsedMillis,iterationsPerSecond,targetReached,timeToTargetMillis";
+
+    private final int runIndex;
+    private final long seed;
+    private final double bestFitness;
+    private final long iterations;
+    private final long elapsedNanos;
+    private final long timeToTargetNanos;
+
+    /**
+     * Constructs a new {@link RunResult}-instance.
+     *
+     * @param runIndex index of the run within its experiment
+     * @param seed master seed of the random streams of the run
+     * @param bestFitness fitness of the best solution found
+     * @param iterations number of iterations of the run
+     * @param elapsedNanos run time in nanoseconds
+     * @param timeToTargetNanos time in nanoseconds until the target was reached, -1 if it was not
+     *        reached
+     */
+    public RunResult(int runIndex, long seed, double bestFitness, long iterations,
+            long elapsedNanos, long timeToTargetNanos) {
+        this.runIndex = runIndex;
+        this.seed = seed;
+        this.bestFitness = bestFitness;
+        this.iterations = iterations;
+        this.elapsedNanos = elapsedNanos;
+        this.timeToTargetNanos = timeToTargetNanos;
+    }
+
+    public int getRunIndex() {
+        return runIndex;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of iterations per second of the run.
+     *
+     * @return
+     */
+    public double getIterationsPerSecond() {
+        return elapsedNanos > 0 ? iterations * 1e9D / elapsedNanos : 0.0D;
+    }
+
+    public boolean isTargetReached() {
+        return timeToTargetNanos >= 0;
+    }
+
+    /**
+     * Returns the time in nanoseconds until the target was reached or -1 if it was not reached.
+     *
+     * @return
+     */
+    public long getTimeToTargetNanos() {
+        return timeToTargetNanos;
+    }
+
+    /**
+     * Returns this result as CSV line (without line separator) matching the {@link #CSV_HEADER}.
+     *
+     * @return
+     */
+    public String toCsvLine() {
+        return runIndex + "," + seed + "," + bestFitness + "," + iterations + ","
+                + elapsedNanos / 1e6D + "," + getIterationsPerSecond() + "," + isTargetReached()
+                + "," + (isTargetReached() ? String.valueOf(timeToTargetNanos / 1e6D) : "");
+    }
+
+}
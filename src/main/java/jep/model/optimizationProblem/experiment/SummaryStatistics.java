@@ -0,0 +1,196 @@
+package jep.model.optimizationProblem.experiment;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * This class holds descriptive statistics of a sample: mean, standard deviation, minimum, maximum,
+ * quartiles and a bootstrap confidence interval of the mean.
+ * <p>
+ * Quantiles are linearly interpolated between the order statistics. The confidence interval is
+ * computed with the percentile bootstrap: the sample is resampled with replacement, the mean of
+ * each resample is computed and the interval is given by the quantiles of these means.
+ *
+ */
+public final class SummaryStatistics {
+
+    /**
+     * Default number of bootstrap resamples.
+     */
+    public static final int DEFAULT_BOOTSTRAP_RESAMPLES = 2_000;
+
+    /**
+     * Default confidence level of the bootstrap confidence interval.
+     */
+    public static final double DEFAULT_CONFIDENCE_LEVEL = 0.95D;
+
+    /**
+     * Header of the CSV representation, see {@link #toCsvLine(String)}.
+     */
+    public static final String CSV_HEADER =
+            "metric,count,mean,standardDeviation,min,lowerQuartile,median,upperQuartile,max,confidenceLower,confidenceUpper";
+
+    private final int count;
+    private final double mean;
+    private final double standardDeviation;
+    private final double[] sortedValues;
+    private final double confidenceLower;
+    private final double confidenceUpper;
+
+    /**
+     * Computes the statistics of the given <code>values</code> using
+     * {@link #DEFAULT_BOOTSTRAP_RESAMPLES} resamples and the
+     * {@link #DEFAULT_CONFIDENCE_LEVEL}.
+     *
+     * @param values sample whose statistics are computed (is not modified)
+     * @param random random number generator used for the resampling
+     */
+    public SummaryStatistics(double[] values, Random random) {
+        this(values, random, DEFAULT_BOOTSTRAP_RESAMPLES, DEFAULT_CONFIDENCE_LEVEL);
+    }
+
+    /**
+     * Computes the statistics of the given <code>values</code>.
+     *
+     * @param values sample whose statistics are computed (is not modified)
+     * @param random random number generator used for the resampling
+     * @param bootstrapResamples number of bootstrap resamples (has to be true positive [> 0])
+     * @param confidenceLevel confidence level of the interval, within (0, 1)
+     */
+    public SummaryStatistics(double[] values, Random random, int bootstrapResamples,
+            double confidenceLevel) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(random);
+        if (bootstrapResamples <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of bootstrap resamples has to be true positive (> 0).");
+        }
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException(
+                    "The confidence level has to be within 0 < confidenceLevel < 1.");
+        }
+        this.count = values.length;
+        this.sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        this.mean = mean(values);
+        double sumOfSquares = 0.0D;
+        for (double value : values) {
+            sumOfSquares += (value - mean) * (value - mean);
+        }
+        this.standardDeviation = count > 1 ? Math.sqrt(sumOfSquares / (count - 1)) : 0.0D;
+
+        if (count == 0) {
+            confidenceLower = Double.NaN;
+            confidenceUpper = Double.NaN;
+        } else {
+            double[] means = new double[bootstrapResamples];
+            for (int i = 0; i < bootstrapResamples; i++) {
+                double sum = 0.0D;
+                for (int j = 0; j < count; j++) {
+                    sum += values[random.nextInt(count)];
+                }
+                means[i] = sum / count;
+            }
+            Arrays.sort(means);
+            double alpha = (1.0D - confidenceLevel) / 2.0D;
+            confidenceLower = quantileOfSorted(means, alpha);
+            confidenceUpper = quantileOfSorted(means, 1.0D - alpha);
+        }
+    }
+
+    private static double mean(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double sum = 0.0D;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double quantileOfSorted(double[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        double position = p * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        double fraction = position - lower;
+        return sorted[lower] + fraction * (sorted[upper] - sorted[lower]);
+    }
+
+    /**
+     * Returns the <code>p</code>-quantile of the sample, linearly interpolated between the order
+     * statistics. Returns {@link Double#NaN} for an empty sample.
+     *
+     * @param p probability within [0, 1]
+     * @return
+     */
+    public double getQuantile(double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("The probability has to be within [0, 1].");
+        }
+        return quantileOfSorted(sortedValues, p);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the (bessel corrected) sample standard deviation.
+     *
+     * @return
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public double getMin() {
+        return count > 0 ? sortedValues[0] : Double.NaN;
+    }
+
+    public double getMax() {
+        return count > 0 ? sortedValues[count - 1] : Double.NaN;
+    }
+
+    public double getMedian() {
+        return getQuantile(0.5D);
+    }
+
+    public double getConfidenceLower() {
+        return confidenceLower;
+    }
+
+    public double getConfidenceUpper() {
+        return confidenceUpper;
+    }
+
+    /**
+     * Returns these statistics as CSV line (without line separator) matching the
+     * {@link #CSV_HEADER}.
+     *
+     * @param metric name of the measured metric, written to the first column
+     * @return
+     */
+    public String toCsvLine(String metric) {
+        return metric + "," + count + "," + mean + "," + standardDeviation + "," + getMin() + ","
+                + getQuantile(0.25D) + "," + getMedian() + "," + getQuantile(0.75D) + ","
+                + getMax() + "," + confidenceLower + "," + confidenceUpper;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mean %.3f [%.3f, %.3f], sd %.3f, min %.3f, q1 %.3f, median %.3f, "
+                + "q3 %.3f, max %.3f (n = %d)", mean, confidenceLower, confidenceUpper,
+                standardDeviation, getMin(), getQuantile(0.25D), getMedian(),
+                getQuantile(0.75D), getMax(), count);
+    }
+
+}
@@ -0,0 +1,248 @@
+package jep.model.optimizationProblem.ga;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+
+/**
+ * This class implements a {@link GeneticAlgorithmIterationListener} which informs a
+ * {@link GenerationSnapshotListener} asynchronously, so a slow listener (for example logging,
+ * charting or persisting the progress) does not stall the algorithm.
+ * <p>
+ * Only sampled generations are passed on: a generation is sampled if its number (the iteration
+ * count plus one, the initial population being generation 0) is a multiple of the given number of
+ * generations or if the given time passed since the last sampled generation. The first generation
+ * reported to the listener (the initial or, for a resumed run, the restored population) is always
+ * sampled. As the generations are sampled by their number, a resumed run samples the same
+ * generations as an uninterrupted one. For a sampled generation a {@link GenerationSnapshot} is
+ * taken on the thread of the algorithm and put into a bounded queue, from which a separate daemon
+ * thread passes it to the listener. If the queue is full the snapshot is dropped or the algorithm
+ * waits for the listener, depending on the {@link OverflowPolicy}. For the other generations the
+ * algorithm only pays for a comparison (and a call of {@link System#nanoTime()} if a time interval
+ * is set).
+ * <p>
+ * The queue is a lock-free ring buffer for a single producer, so an instance must only be added
+ * to a single algorithm at a time. It has to be closed after the run, which passes the remaining
+ * snapshots to the listener and stops its thread.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this listener is to be used for
+ */
+public class AsyncIterationListener<T extends OptimizationProblem>
+        implements GeneticAlgorithmIterationListener<T>, AutoCloseable {
+
+    /**
+     * Enum which defines how an {@link AsyncIterationListener} handles a snapshot if its queue is
+     * full.
+     * <ul>
+     * <li>{@link #DROP}: the snapshot is dropped (and counted, see
+     * {@link AsyncIterationListener#getNumberOfDroppedSnapshots()}), the algorithm continues.</li>
+     * <li>{@link #BLOCK}: the algorithm waits until the listener took a snapshot from the
+     * queue.</li>
+     * </ul>
+     *
+     */
+    public enum OverflowPolicy {
+        DROP,
+
+        BLOCK;
+    }
+
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+
+    private final GenerationSnapshotListener<T> listener;
+    private final OverflowPolicy overflowPolicy;
+    private final long generationInterval;
+    private final long intervalNanos;
+    private final SnapshotQueue<T> queue;
+    private final Thread consumer;
+    private final LongAdder droppedSnapshots = new LongAdder();
+    private volatile boolean consumerWaiting = false;
+    private volatile boolean consumerAlive = true;
+    private volatile boolean closed = false;
+    // only accessed by the thread of the algorithm
+    private boolean sampledBefore = false;
+    private long lastSampledNanos;
+
+    /**
+     * Constructs a new {@link AsyncIterationListener}-instance and starts its thread.
+     *
+     * @param listener listener which is informed about the snapshots
+     * @param queueCapacity maximal number of snapshots waiting for the listener (has to be true
+     *        positive)
+     * @param generationInterval number of generations between two sampled generations (whose
+     *        numbers are multiples of it), 0 to sample by time only (has to be positive)
+     * @param intervalMillis minimal time in milliseconds between two sampled generations, 0 to
+     *        sample by generations only (has to be positive)
+     * @param overflowPolicy defines how a snapshot is handled if the queue is full
+     */
+    public AsyncIterationListener(GenerationSnapshotListener<T> listener, int queueCapacity,
+            long generationInterval, long intervalMillis, OverflowPolicy overflowPolicy) {
+        this.listener = Objects.requireNonNull(listener);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "The queue capacity has to be true positive (> 0).");
+        }
+        if (generationInterval < 0) {
+            throw new IllegalArgumentException(
+                    "The generation interval has to be positive (>= 0).");
+        }
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("The time interval has to be positive (>= 0).");
+        }
+        this.generationInterval = generationInterval;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.queue = new SnapshotQueue<>(queueCapacity);
+        this.consumer = new Thread(this::consume, "genetic-algorithm-listener");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void update(Population<T> currentPopulation, Solution<T> currentBestIndividual,
+            long iterationCount) {
+        if (!isSampled(iterationCount)) {
+            return;
+        }
+        if (closed) {
+            droppedSnapshots.increment();
+            return;
+        }
+        GenerationSnapshot<T> snapshot =
+                new GenerationSnapshot<>(currentPopulation, currentBestIndividual, iterationCount);
+        while (!queue.offer(snapshot)) {
+            if (overflowPolicy == OverflowPolicy.DROP || !consumerAlive || closed) {
+                droppedSnapshots.increment();
+                return;
+            }
+            // the listener may have parked before the queue ran full
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+        }
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the given generation is to be sampled, in which case it is
+     * recorded as last sampled generation.
+     */
+    private boolean isSampled(long iterationCount) {
+        long now = intervalNanos > 0 ? System.nanoTime() : 0L;
+        if (sampledBefore) {
+            boolean byGenerations =
+                    generationInterval > 0 && (iterationCount + 1) % generationInterval == 0;
+            boolean byTime = intervalNanos > 0 && now - lastSampledNanos >= intervalNanos;
+            boolean everyGeneration = generationInterval == 0 && intervalNanos == 0;
+            if (!byGenerations && !byTime && !everyGeneration) {
+                return false;
+            }
+        }
+        sampledBefore = true;
+        lastSampledNanos = now;
+        return true;
+    }
+
+    private void consume() {
+        try {
+            while (true) {
+                GenerationSnapshot<T> snapshot = queue.poll();
+                if (snapshot != null) {
+                    listener.update(snapshot);
+                } else if (closed) {
+                    return;
+                } else {
+                    consumerWaiting = true;
+                    // checked again after announcing the wait, so no offered snapshot is missed
+                    if (queue.isEmpty() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    consumerWaiting = false;
+                }
+            }
+        } finally {
+            consumerAlive = false;
+        }
+    }
+
+    /**
+     * Returns the number of snapshots which were dropped because the queue was full (or the
+     * listener was closed or failed).
+     *
+     * @return
+     */
+    public long getNumberOfDroppedSnapshots() {
+        return droppedSnapshots.sum();
+    }
+
+    /**
+     * Passes the remaining snapshots to the listener and stops the thread of this listener. Later
+     * snapshots are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * This class implements a bounded lock-free ring buffer of snapshots for a single producer and
+     * a single consumer. Each index is only written by one of them, the writes of the elements are
+     * published by the writes of the indices. The tail is written with a full fence, so the
+     * producer reads the wait flag of the consumer only after the snapshot is visible to it.
+     *
+     */
+    private static final class SnapshotQueue<T extends OptimizationProblem> {
+
+        private final GenerationSnapshot<?>[] buffer;
+        private final int capacity;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+
+        private SnapshotQueue(int capacity) {
+            int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+            this.buffer = new GenerationSnapshot<?>[length];
+            this.capacity = capacity;
+            this.mask = length - 1;
+        }
+
+        private boolean offer(GenerationSnapshot<T> snapshot) {
+            long index = tail.get();
+            if (index - head.get() >= capacity) {
+                return false;
+            }
+            buffer[(int) index & mask] = snapshot;
+            tail.set(index + 1);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private GenerationSnapshot<T> poll() {
+            long index = head.get();
+            if (index >= tail.get()) {
+                return null;
+            }
+            GenerationSnapshot<T> snapshot = (GenerationSnapshot<T>) buffer[(int) index & mask];
+            buffer[(int) index & mask] = null;
+            head.lazySet(index + 1);
+            return snapshot;
+        }
+
+        private boolean isEmpty() {
+            return head.get() >= tail.get();
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package jep.model.optimizationProblem.ga;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.correctiveProcedure.CorrectiveProcedure;
+
+/**
+ * This class implements an {@link ImprovementOperator} which runs a {@link CorrectiveProcedure}
+ * starting at the individual and returns the total best solution of the procedure.
+ * <p>
+ * A new procedure is created for every individual by the given factory, which gets an
+ * {@link InitialSolutionConstructor} returning the individual. The budget per individual is defined
+ * by the {@link jep.model.optimizationProblem.correctiveProcedure.BreakCondition BreakCondition} the
+ * factory passes to the procedure, for example a maximal number of iterations. Since individuals
+ * are improved in parallel the factory must not share mutable state (like a random number
+ * generator which is not thread-safe) between the created procedures.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this operator is to be used for
+ */
+public class CorrectiveProcedureImprovementOperator<T extends OptimizationProblem>
+        implements ImprovementOperator<T> {
+
+    private final Function<InitialSolutionConstructor<T>, CorrectiveProcedure<T>> procedureFactory;
+
+    /**
+     * Constructs a new {@link CorrectiveProcedureImprovementOperator}-instance.
+     *
+     * @param procedureFactory function which creates the procedure for the given constructor of
+     *        the initial solution
+     */
+    public CorrectiveProcedureImprovementOperator(
+            Function<InitialSolutionConstructor<T>, CorrectiveProcedure<T>> procedureFactory) {
+        this.procedureFactory = Objects.requireNonNull(procedureFactory);
+    }
+
+    @Override
+    public Solution<T> improve(Solution<T> individual) {
+        Objects.requireNonNull(individual);
+        CorrectiveProcedure<T> procedure = procedureFactory.apply(() -> individual);
+        return procedure.run(CorrectiveProcedure.ResultMode.TOTAL_BEST);
+    }
+
+}
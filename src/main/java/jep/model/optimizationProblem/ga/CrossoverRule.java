@@ -0,0 +1,26 @@
+package jep.model.optimizationProblem.ga;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+
+/**
+ * This functional interface defines a crossover rule for a {@link GeneticAlgorithm}
+ * -implementation. This rule shall be used to combine two given individuals (parents) to a new
+ * individual (child). Such rule would be used in a {@link CrossoverFunction}-implementation where
+ * the function picks the parents of a population in some way and uses the rule to combine those.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this rule is to be used for
+ */
+@FunctionalInterface
+public interface CrossoverRule<T extends OptimizationProblem> {
+
+    /**
+     * Combines the given parents and returns the generated child. The parents are not modified.
+     * 
+     * @param firstParent first individual which is combined
+     * @param secondParent second individual which is combined
+     * @return
+     */
+    Solution<T> combine(Solution<T> firstParent, Solution<T> secondParent);
+
+}
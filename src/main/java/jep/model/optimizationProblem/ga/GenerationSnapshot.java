@@ -0,0 +1,119 @@
+package jep.model.optimizationProblem.ga;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+
+/**
+ * This class holds an immutable snapshot of a generation of a {@link GeneticAlgorithm}: the best
+ * individual found so far and the statistics of the fitness of the population. Unlike the live
+ * {@link Population} passed to a {@link GeneticAlgorithmIterationListener} it can be handed to
+ * other threads while the algorithm continues.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance of the algorithm
+ */
+public final class GenerationSnapshot<T extends OptimizationProblem> {
+
+    private final long iterationCount;
+    private final long timestampNanos;
+    private final Solution<T> bestIndividual;
+    private final int populationSize;
+    private final double bestFitness;
+    private final double meanFitness;
+    private final double worstFitness;
+
+    /**
+     * Constructs a new {@link GenerationSnapshot}-instance of the given generation. The fitness of
+     * all individuals of the population is read (and evaluated, if it is not evaluated yet).
+     *
+     * @param population population of the generation
+     * @param bestIndividual best individual of the current and all previous generations
+     * @param iterationCount count of the generation/iteration
+     */
+    public GenerationSnapshot(Population<T> population, Solution<T> bestIndividual,
+            long iterationCount) {
+        this.iterationCount = iterationCount;
+        this.timestampNanos = System.nanoTime();
+        this.bestIndividual = Objects.requireNonNull(bestIndividual);
+        double best = Double.NEGATIVE_INFINITY;
+        double worst = Double.POSITIVE_INFINITY;
+        double sum = 0;
+        int size = 0;
+        for (Solution<T> individual : population.getIndividualsAsUnmodifiableList()) {
+            double fitness = individual.getFitness();
+            best = Math.max(best, fitness);
+            worst = Math.min(worst, fitness);
+            sum += fitness;
+            size++;
+        }
+        this.populationSize = size;
+        this.bestFitness = best;
+        this.meanFitness = size == 0 ? Double.NaN : sum / size;
+        this.worstFitness = worst;
+    }
+
+    /**
+     * Returns the count of the generation/iteration (-1 for the initial population).
+     *
+     * @return
+     */
+    public long getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * Returns the value of {@link System#nanoTime()} when this snapshot was taken.
+     *
+     * @return
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Returns the best individual of the generation and all previous generations.
+     *
+     * @return
+     */
+    public Solution<T> getBestIndividual() {
+        return bestIndividual;
+    }
+
+    /**
+     * Returns the number of individuals of the population.
+     *
+     * @return
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Returns the greatest fitness of the population.
+     *
+     * @return
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the mean fitness of the population.
+     *
+     * @return
+     */
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    /**
+     * Returns the smallest fitness of the population.
+     *
+     * @return
+     */
+    public double getWorstFitness() {
+        return worstFitness;
+    }
+
+}
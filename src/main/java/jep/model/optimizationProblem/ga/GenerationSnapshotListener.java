@@ -0,0 +1,23 @@
+package jep.model.optimizationProblem.ga;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This functional interface defines a listener which is informed about {@link GenerationSnapshot}s
+ * of a {@link GeneticAlgorithm} by an {@link AsyncIterationListener}, on the thread of the
+ * {@link AsyncIterationListener} instead of the thread of the algorithm.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this listener is to be used for
+ */
+@FunctionalInterface
+public interface GenerationSnapshotListener<T extends OptimizationProblem> {
+
+    /**
+     * This method is called for each snapshot taken of the generations of the algorithm, in the
+     * order of the generations.
+     *
+     * @param snapshot snapshot of a generation
+     */
+    void update(GenerationSnapshot<T> snapshot);
+
+}
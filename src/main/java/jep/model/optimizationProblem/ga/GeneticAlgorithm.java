@@ -1,14 +1,29 @@
 package jep.model.optimizationProblem.ga;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import jep.model.optimizationProblem.FitnessCache;
 import jep.model.optimizationProblem.FitnessComparator;
 import jep.model.optimizationProblem.OptimizationProblem;
 import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.SolutionCodec;
+import jep.model.optimizationProblem.checkpoint.CheckpointWriter;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
 import jep.model.optimizationProblem.ga.mutation.MutationFunction;
 import jep.model.optimizationProblem.ga.mutation.NoMutationFunction;
 
@@ -21,6 +36,12 @@ import jep.model.optimizationProblem.ga.mutation.NoMutationFunction;
  * generate a new child population</li>
  * <li>mutation - {@link MutationFunction}: mutates individuals of a population (child population
  * generated via crossover)</li>
+ * <li>improvement (optional) - {@link ImprovementOperator}: improves every individual of the
+ * mutated child population, for example by a local search (which makes the algorithm a memetic
+ * algorithm). The individuals are improved in parallel.</li>
+ * <li>evaluation (optional) - the fitness of the children which is not known yet is evaluated in
+ * parallel (see {@link #setParallelEvaluation(boolean)}), duplicates of cached individuals take
+ * their fitness from a {@link FitnessCache} (see {@link #setFitnessCache(FitnessCache)})</li>
  * <li>selection - {@link SelectionFunction}: selects individuals from the mutated child population
  * to as new generation</li>
  * <li>breakCondition - {@link BreakCondition}: used to determine if the algorithm shall continue or
@@ -31,6 +52,7 @@ import jep.model.optimizationProblem.ga.mutation.NoMutationFunction;
  * @see OptimizationProblem
  * @see CrossoverFunction
  * @see MutationFunction
+ * @see ImprovementOperator
  * @see SelectionFunction
  * @see BreakCondition
  */
@@ -56,9 +78,15 @@ public class GeneticAlgorithm<T extends OptimizationProblem> {
     private final Population<T> initialPopulation;
     private final CrossoverFunction<T> crossoverFunction;
     private final MutationFunction<T> mutationFunction;
+    private final ImprovementOperator<T> improvementOperator;
     private final SelectionFunction<T> selectionFunction;
     private final BreakCondition<T> breakCondition;
     private final FitnessComparator<T> fitnessComparator;
+    private boolean parallelEvaluation = false;
+    private FitnessCache<T> fitnessCache = null;
+    private LongAdder evaluationCounter = null;
+    private SolutionCodec<T> checkpointCodec = null;
+    private CheckpointWriter checkpointWriter = null;
 
     /**
      * Constructs a new {@link GeneticAlgorithm}-instance.
@@ -79,6 +107,32 @@ public class GeneticAlgorithm<T extends OptimizationProblem> {
     public GeneticAlgorithm(Population<T> initialPopulation, CrossoverFunction<T> crossoverFunction,
             MutationFunction<T> mutationFunction, SelectionFunction<T> selectionFunction,
             BreakCondition<T> breakCondition) {
+        this(initialPopulation, crossoverFunction, mutationFunction, null, selectionFunction,
+                breakCondition);
+    }
+
+    /**
+     * Constructs a new memetic {@link GeneticAlgorithm}-instance, which improves every individual
+     * of the child population after crossover and mutation.
+     * 
+     * @param initialPopulation initial population which is used as first parent population (must be
+     *        of size >= 1)
+     * @param crossoverFunction {@link CrossoverFunction}-instance which defines how the crossover
+     *        is to be done (if no crossover is used you can use a {@link NoCrossoverFunction}
+     *        -instance)
+     * @param mutationFunction {@link MutationFunction}-instance which defines how the mutation is
+     *        to be done (if no mutation is used you can use a {@link NoMutationFunction} -instance)
+     * @param improvementOperator {@link ImprovementOperator}-instance which is applied to every
+     *        mutated child (in parallel), <code>null</code> if the children are not to be improved
+     * @param selectionFunction {@link SelectionFunction}-instance which defines how the selection
+     *        is to be done
+     * @param breakCondition {@link BreakCondition}-instance which defines when to continue and when
+     *        to stop the algorithm. Note that if this condition does not return <code>true</code>
+     *        at some point the algorithm will never stop/return a result.
+     */
+    public GeneticAlgorithm(Population<T> initialPopulation, CrossoverFunction<T> crossoverFunction,
+            MutationFunction<T> mutationFunction, ImprovementOperator<T> improvementOperator,
+            SelectionFunction<T> selectionFunction, BreakCondition<T> breakCondition) {
         this.initialPopulation = Objects.requireNonNull(initialPopulation);
         if (initialPopulation.size() <= 0) {
             throw new IllegalArgumentException(
@@ -86,6 +140,7 @@ public class GeneticAlgorithm<T extends OptimizationProblem> {
         }
         this.crossoverFunction = Objects.requireNonNull(crossoverFunction);
         this.mutationFunction = Objects.requireNonNull(mutationFunction);
+        this.improvementOperator = improvementOperator;
         this.selectionFunction = Objects.requireNonNull(selectionFunction);
         this.breakCondition = Objects.requireNonNull(breakCondition);
         this.fitnessComparator = new FitnessComparator<>();
@@ -102,46 +157,281 @@ public class GeneticAlgorithm<T extends OptimizationProblem> {
      */
     public Solution<T> run(ResultMode resultMode) {
         Objects.requireNonNull(resultMode);
-        Population<T> population = initialPopulation;
-        Solution<T> totalBestIndividual = searchBestIndividualOf(population);
-        updateListeners(population, totalBestIndividual, -1);
-        for (long itrCount = 0; !breakCondition.isFulfilled(population, itrCount,
-                totalBestIndividual); itrCount++) {
-            Population<T> childPopulation = crossoverFunction.crossover(population);
+        RunState<T> state = start();
+        iterate(state);
+        return getResult(state, resultMode);
+    }
+
+    /**
+     * Runs the genetic algorithm and returns the population of the last generation.
+     * 
+     * @return
+     */
+    public Population<T> run() {
+        RunState<T> state = start();
+        iterate(state);
+        return state.population;
+    }
+
+    /**
+     * Resumes the run stored in the given <code>checkpoint</code> (see
+     * {@link #setCheckpointing(SolutionCodec, CheckpointWriter)}) and returns a single individual
+     * as result, like {@link #run(ResultMode)}. The population (with its strategy parameters), the
+     * best individual, the iteration count and the state of all {@link Checkpointable} functions of
+     * this algorithm are restored, so if this algorithm is constructed like the one which wrote the
+     * checkpoint the run continues exactly where it stopped. The listeners are informed about the
+     * restored population as result of the iteration the checkpoint was taken after.
+     * 
+     * @param checkpoint checkpoint written by a {@link GeneticAlgorithm}-instance
+     * @param codec {@link SolutionCodec} which was used to write the individuals
+     * @param resultMode determines if the total best individual or the best individual of the last
+     *        generation is to be returned
+     * @return
+     * @throws IOException if the checkpoint is invalid
+     */
+    public Solution<T> resume(byte[] checkpoint, SolutionCodec<T> codec, ResultMode resultMode)
+            throws IOException {
+        Objects.requireNonNull(resultMode);
+        RunState<T> state = restore(checkpoint, codec);
+        iterate(state);
+        return getResult(state, resultMode);
+    }
+
+    /**
+     * Resumes the run stored in the given <code>checkpoint</code> like
+     * {@link #resume(byte[], SolutionCodec, ResultMode)} and returns the population of the last
+     * generation.
+     * 
+     * @param checkpoint checkpoint written by a {@link GeneticAlgorithm}-instance
+     * @param codec {@link SolutionCodec} which was used to write the individuals
+     * @return
+     * @throws IOException if the checkpoint is invalid
+     */
+    public Population<T> resume(byte[] checkpoint, SolutionCodec<T> codec) throws IOException {
+        RunState<T> state = restore(checkpoint, codec);
+        iterate(state);
+        return state.population;
+    }
+
+    private RunState<T> start() {
+        evaluatePending(initialPopulation);
+        RunState<T> state = new RunState<>(initialPopulation,
+                searchBestIndividualOf(initialPopulation), 0L);
+        updateListeners(state.population, state.totalBestIndividual, -1);
+        return state;
+    }
+
+    private void iterate(RunState<T> state) {
+        for (; !breakCondition.isFulfilled(state.population, state.iterationCount,
+                state.totalBestIndividual); state.iterationCount++) {
+            Population<T> childPopulation = crossoverFunction.crossover(state.population);
             childPopulation = mutationFunction.mutate(childPopulation);
-            population = selectionFunction.select(population, childPopulation);
-            totalBestIndividual = searchTotalBestIndividual(population, totalBestIndividual);
-            updateListeners(population, totalBestIndividual, itrCount);
+            childPopulation = improve(childPopulation);
+            evaluatePending(childPopulation);
+            state.population = selectionFunction.select(state.population, childPopulation);
+            state.totalBestIndividual =
+                    searchTotalBestIndividual(state.population, state.totalBestIndividual);
+            updateListeners(state.population, state.totalBestIndividual, state.iterationCount);
+            if (checkpointWriter != null && checkpointWriter.isDue(state.iterationCount)) {
+                checkpointWriter.write(createCheckpoint(state));
+            }
         }
+    }
 
+    private Solution<T> getResult(RunState<T> state, ResultMode resultMode) {
         switch (resultMode) {
             case BEST_OF_LAST_POPULATION:
-                return searchBestIndividualOf(population);
+                return searchBestIndividualOf(state.population);
             case TOTAL_BEST:
-                return totalBestIndividual;
+                return state.totalBestIndividual;
             default:
                 throw new AssertionError();
         }
     }
 
     /**
-     * Runs the genetic algorithm and returns the population of the last generation.
+     * Serializes the state of the given run after its current iteration, including the state of
+     * the functions of this algorithm.
+     */
+    private byte[] createCheckpoint(RunState<T> state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(GeneticAlgorithm.class.getName());
+            // the checkpoint is taken after the iteration, so the run continues with the next one
+            output.writeLong(state.iterationCount + 1);
+            List<Solution<T>> individuals = state.population.getIndividualsAsUnmodifiableList();
+            output.writeInt(individuals.size());
+            for (Solution<T> individual : individuals) {
+                checkpointCodec.write(individual, output);
+            }
+            output.writeBoolean(state.population.hasStrategyParameters());
+            if (state.population.hasStrategyParameters()) {
+                for (double strategyParameter : getStrategyParameters(state.population)) {
+                    output.writeDouble(strategyParameter);
+                }
+            }
+            checkpointCodec.write(state.totalBestIndividual, output);
+            Checkpointable.writeStateOf(crossoverFunction, output);
+            Checkpointable.writeStateOf(mutationFunction, output);
+            Checkpointable.writeStateOf(improvementOperator, output);
+            Checkpointable.writeStateOf(selectionFunction, output);
+            Checkpointable.writeStateOf(breakCondition, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private RunState<T> restore(byte[] checkpoint, SolutionCodec<T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        try (DataInputStream input =
+                new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            if (!input.readUTF().equals(GeneticAlgorithm.class.getName())) {
+                throw new IOException("The checkpoint was not written by a genetic algorithm.");
+            }
+            long iterationCount = input.readLong();
+            int size = input.readInt();
+            if (iterationCount < 0 || size <= 0) {
+                throw new IOException("Invalid checkpoint.");
+            }
+            List<Solution<T>> individuals = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                individuals.add(codec.read(input));
+            }
+            double[] strategyParameters = null;
+            if (input.readBoolean()) {
+                strategyParameters = new double[size];
+                for (int i = 0; i < size; i++) {
+                    strategyParameters[i] = input.readDouble();
+                }
+            }
+            Solution<T> totalBestIndividual = codec.read(input);
+            Checkpointable.readStateOf(crossoverFunction, input);
+            Checkpointable.readStateOf(mutationFunction, input);
+            Checkpointable.readStateOf(improvementOperator, input);
+            Checkpointable.readStateOf(selectionFunction, input);
+            Checkpointable.readStateOf(breakCondition, input);
+            Population<T> population = strategyParameters == null ? new Population<>(individuals)
+                    : new Population<>(individuals, strategyParameters);
+            RunState<T> state = new RunState<>(population, totalBestIndividual, iterationCount);
+            updateListeners(state.population, state.totalBestIndividual, iterationCount - 1);
+            return state;
+        } catch (EOFException e) {
+            throw new IOException("The checkpoint is truncated.", e);
+        }
+    }
+
+    /**
+     * Applies the improvement operator (if any) to every individual of the given
+     * <code>population</code> in parallel. The order of the individuals and their strategy
+     * parameters are kept.
      * 
+     * @param population population whose individuals are improved
      * @return
      */
-    public Population<T> run() {
-        Population<T> population = initialPopulation;
-        Solution<T> totalBestIndividual = searchBestIndividualOf(population);
-        updateListeners(population, totalBestIndividual, -1);
-        for (long itrCount = 0; !breakCondition.isFulfilled(population, itrCount,
-                totalBestIndividual); itrCount++) {
-            Population<T> childPopulation = crossoverFunction.crossover(population);
-            childPopulation = mutationFunction.mutate(childPopulation);
-            population = selectionFunction.select(population, childPopulation);
-            totalBestIndividual = searchTotalBestIndividual(population, totalBestIndividual);
-            updateListeners(population, totalBestIndividual, itrCount);
+    private Population<T> improve(Population<T> population) {
+        if (improvementOperator == null) {
+            return population;
+        }
+        List<Solution<T>> improvedIndividuals = population.getIndividualsAsUnmodifiableList()
+                .parallelStream().map(improvementOperator::improve).collect(Collectors.toList());
+        if (!population.hasStrategyParameters()) {
+            return new Population<>(improvedIndividuals);
         }
-        return population;
+        return new Population<>(improvedIndividuals, getStrategyParameters(population));
+    }
+
+    private static double[] getStrategyParameters(Population<?> population) {
+        double[] strategyParameters = new double[population.size()];
+        for (int i = 0; i < strategyParameters.length; i++) {
+            strategyParameters[i] = population.getStrategyParameter(i);
+        }
+        return strategyParameters;
+    }
+
+    /**
+     * Evaluates the fitness of all individuals of the given <code>population</code> which are not
+     * evaluated yet, if parallel evaluation is enabled, a fitness cache or an evaluation counter is
+     * set.
+     * 
+     * @param population population whose individuals are evaluated
+     */
+    private void evaluatePending(Population<T> population) {
+        if (!parallelEvaluation && fitnessCache == null && evaluationCounter == null) {
+            return;
+        }
+        Stream<Solution<T>> pending = parallelEvaluation
+                ? population.getIndividualsAsUnmodifiableList().parallelStream()
+                : population.getIndividualsAsUnmodifiableList().stream();
+        pending = pending.filter(individual -> !individual.isEvaluated());
+        if (fitnessCache != null) {
+            pending.forEach(individual -> fitnessCache.evaluate(individual, evaluationCounter));
+        } else if (evaluationCounter != null) {
+            pending.forEach(individual -> {
+                individual.getFitness();
+                evaluationCounter.increment();
+            });
+        } else {
+            pending.forEach(Solution::getFitness);
+        }
+    }
+
+    /**
+     * Enables or disables the parallel evaluation of the child population. If enabled the fitness
+     * of all children which is not evaluated yet (see {@link Solution#isEvaluated()}) is evaluated
+     * in parallel before the selection. Otherwise the fitness of a child is evaluated lazily once
+     * it is requested, so children discarded without being compared are never evaluated. Parallel
+     * evaluation is worthwhile for expensive fitness functions and selections which compare all
+     * children. It is disabled by default.
+     * 
+     * @param parallelEvaluation <code>true</code> if the children are to be evaluated in parallel
+     */
+    public void setParallelEvaluation(boolean parallelEvaluation) {
+        this.parallelEvaluation = parallelEvaluation;
+    }
+
+    /**
+     * Sets the {@link FitnessCache} which is consulted before the evaluation of the child
+     * population, so children whose genome was evaluated before (for example unchanged copies of
+     * their parents or children which were discarded in an earlier generation) take the cached
+     * fitness instead of being evaluated again. If a cache is set all children are evaluated before
+     * the selection (in parallel if parallel evaluation is enabled). By default no cache is used.
+     * 
+     * @param fitnessCache cache of fitness values or <code>null</code> to use no cache
+     */
+    public void setFitnessCache(FitnessCache<T> fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Sets the counter which is incremented for each fitness evaluation of this algorithm, so a
+     * run can be limited by its number of evaluations (see
+     * {@link jep.model.optimizationProblem.termination.EvaluationBudget}). If a counter is set the
+     * initial population and all children are evaluated before the selection (in parallel if
+     * parallel evaluation is enabled), fitness values taken from the fitness cache are not counted.
+     * Each run should use its own counter. By default no evaluations are counted.
+     * 
+     * @param evaluationCounter counter of the evaluations or <code>null</code> to count none
+     */
+    public void setEvaluationCounter(LongAdder evaluationCounter) {
+        this.evaluationCounter = evaluationCounter;
+    }
+
+    /**
+     * Enables the periodic checkpointing of the runs of this algorithm: after each iteration the
+     * given <code>writer</code> is asked whether a checkpoint is due, in which case the population,
+     * the best individual, the iteration count and the state of all {@link Checkpointable}
+     * functions (crossover, mutation, improvement, selection and break condition) are serialized
+     * and passed to the writer, which writes them to its file asynchronously. A run can be
+     * continued from the checkpoint via {@link #resume(byte[], SolutionCodec, ResultMode)}.
+     * Checkpointing is disabled by default.
+     * 
+     * @param codec {@link SolutionCodec} used to write the individuals
+     * @param writer writer of the checkpoints, <code>null</code> to disable checkpointing
+     */
+    public void setCheckpointing(SolutionCodec<T> codec, CheckpointWriter writer) {
+        this.checkpointCodec = writer == null ? null : Objects.requireNonNull(codec);
+        this.checkpointWriter = writer;
     }
 
     private void updateListeners(Population<T> population, Solution<T> currentBestIndividual,
@@ -213,4 +503,22 @@ public class GeneticAlgorithm<T extends OptimizationProblem> {
         return iterationListener.remove(listener);
     }
 
+    /**
+     * This class holds the state of a run which changes with each iteration.
+     *
+     */
+    private static final class RunState<T extends OptimizationProblem> {
+
+        private Population<T> population;
+        private Solution<T> totalBestIndividual;
+        private long iterationCount;
+
+        private RunState(Population<T> population, Solution<T> totalBestIndividual,
+                long iterationCount) {
+            this.population = population;
+            this.totalBestIndividual = totalBestIndividual;
+            this.iterationCount = iterationCount;
+        }
+    }
+
 }
@@ -0,0 +1,28 @@
+package jep.model.optimizationProblem.ga;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+
+/**
+ * This functional interface defines an improvement operator of a memetic
+ * {@link GeneticAlgorithm}. Such operator is applied to every individual of the child population
+ * after crossover and mutation, usually by running a local search for a limited budget.
+ * <p>
+ * The individuals of a child population are improved in parallel, so an implementation has to be
+ * safe to be used by multiple threads at the same time.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this operator is to be used for
+ */
+@FunctionalInterface
+public interface ImprovementOperator<T extends OptimizationProblem> {
+
+    /**
+     * Returns an improved version of the given <code>individual</code> (or the individual itself if
+     * no improvement was found). The given individual must not be modified.
+     *
+     * @param individual individual which is improved
+     * @return
+     */
+    Solution<T> improve(Solution<T> individual);
+
+}
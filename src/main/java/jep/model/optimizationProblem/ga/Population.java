@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import jep.model.optimizationProblem.InitialSolutionConstructor;
 import jep.model.optimizationProblem.OptimizationProblem;
@@ -14,6 +15,16 @@ import jep.model.optimizationProblem.Solution;
  * population is a group of individuals. In this particular case each individual is a
  * {@link Solution}-instance. This population implementation does store the individuals in a list
  * (rather than a set) which allows access via index.
+ * <p>
+ * Additionally a population may carry a strategy parameter per individual (for example the mutation
+ * rate of a
+ * {@link jep.model.optimizationProblem.ga.mutation.SelfAdaptiveMutationFunction
+ * SelfAdaptiveMutationFunction}), stored in a primitive array aligned with the individuals. Since
+ * the parameter belongs to the position of an individual, the same individual may occur with
+ * different parameters. The selection functions, the {@link NoCrossoverFunction}, the
+ * {@link jep.model.optimizationProblem.ga.crossover.PermutationCrossoverFunction
+ * PermutationCrossoverFunction} and the improvement step of the {@link GeneticAlgorithm} keep the
+ * parameters of the individuals, other functions drop them.
  *
  * @param <T> specific {@link OptimizationProblem}-instance this population is designed for
  */
@@ -21,6 +32,8 @@ public class Population<T extends OptimizationProblem> {
 
     private final List<Solution<T>> individuals;
     private final int size;
+    // strategy parameters aligned with the individuals, null if the population carries none
+    private final double[] strategyParameters;
 
     /**
      * Constructs a new {@link Population}-instance storing the given list of individuals as
@@ -35,6 +48,29 @@ public class Population<T extends OptimizationProblem> {
         if (size < 1) {
             throw new IllegalArgumentException("Population size must be at least 1.");
         }
+        this.strategyParameters = null;
+    }
+
+    /**
+     * Constructs a new {@link Population}-instance storing the given list of individuals together
+     * with their strategy parameters.
+     * 
+     * @param individuals list of individuals which are to be stored in this population. Note that
+     *        only a non-null, non-empty list of individuals is allowed.
+     * @param strategyParameters strategy parameter of each individual ({@link Double#NaN} if an
+     *        individual has none), the array has to be of the size of the list and is copied
+     */
+    public Population(List<Solution<T>> individuals, double[] strategyParameters) {
+        this.individuals = Objects.requireNonNull(individuals);
+        this.size = individuals.size();
+        if (size < 1) {
+            throw new IllegalArgumentException("Population size must be at least 1.");
+        }
+        if (strategyParameters.length != size) {
+            throw new IllegalArgumentException(
+                    "The number of strategy parameters has to equal the population size.");
+        }
+        this.strategyParameters = strategyParameters.clone();
     }
 
     /**
@@ -57,6 +93,44 @@ public class Population<T extends OptimizationProblem> {
         }
         this.individuals = solutions;
         this.size = populationSize;
+        this.strategyParameters = null;
+    }
+
+    /**
+     * Constructs a new population of individuals generated via the given list of
+     * {@link InitialSolutionConstructor}-instances, which allows to seed a population with diverse
+     * individuals of different heuristics. Individual <code>i</code> is generated by constructor
+     * <code>i % constructors.size()</code>.
+     * <p>
+     * The constructors are used in parallel, but each constructor is only used by a single thread
+     * (in the order of its individuals), so constructors do not have to be thread-safe and the
+     * population does not depend on the number of threads.
+     * 
+     * @param constructors non-empty list of utility items used to generate new individuals
+     * @param populationSize number of individuals which are to be generated and stored in this
+     *        population. Note that only sizes >= 1 are allowed.
+     */
+    public Population(List<? extends InitialSolutionConstructor<T>> constructors,
+            int populationSize) {
+        Objects.requireNonNull(constructors);
+        if (constructors.isEmpty()) {
+            throw new IllegalArgumentException("At least one constructor is required.");
+        }
+        if (populationSize < 1) {
+            throw new IllegalArgumentException("Population size must be 1 at least.");
+        }
+        int k = constructors.size();
+        List<Solution<T>> solutions =
+                new ArrayList<>(Collections.<Solution<T>>nCopies(populationSize, null));
+        IntStream.range(0, Math.min(k, populationSize)).parallel().forEach(c -> {
+            InitialSolutionConstructor<T> constructor = constructors.get(c);
+            for (int i = c; i < populationSize; i += k) {
+                solutions.set(i, constructor.getInitialSolution());
+            }
+        });
+        this.individuals = solutions;
+        this.size = populationSize;
+        this.strategyParameters = null;
     }
 
     /**
@@ -70,6 +144,7 @@ public class Population<T extends OptimizationProblem> {
         this.individuals = new ArrayList<>(1);
         individuals.add(solution);
         this.size = 1;
+        this.strategyParameters = null;
     }
 
     /**
@@ -90,11 +165,62 @@ public class Population<T extends OptimizationProblem> {
         return Collections.unmodifiableList(individuals);
     }
 
+    /**
+     * Returns <code>true</code> if this population carries strategy parameters and
+     * <code>false</code> otherwise.
+     * 
+     * @return
+     */
+    public boolean hasStrategyParameters() {
+        return strategyParameters != null;
+    }
+
+    /**
+     * Returns the strategy parameter of the individual with the given <code>index</code>, or
+     * {@link Double#NaN} if the individual has none.
+     * 
+     * @param index index of the individual
+     * @return
+     */
+    public double getStrategyParameter(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return strategyParameters != null ? strategyParameters[index] : Double.NaN;
+    }
+
+    /**
+     * Returns a new population which holds the individuals with the first <code>count</code> of
+     * the given <code>indices</code> (in this order, an index may occur more than once) together
+     * with their strategy parameters.
+     * 
+     * @param indices indices of the individuals of this population
+     * @param count number of used indices
+     * @return
+     */
+    public Population<T> select(int[] indices, int count) {
+        List<Solution<T>> selectedIndividuals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            selectedIndividuals.add(individuals.get(indices[i]));
+        }
+        if (strategyParameters == null) {
+            return new Population<>(selectedIndividuals);
+        }
+        double[] selectedParameters = new double[count];
+        for (int i = 0; i < count; i++) {
+            selectedParameters[i] = strategyParameters[indices[i]];
+        }
+        return new Population<>(selectedIndividuals, selectedParameters);
+    }
+
     /**
      * Returns a new population which holds the individuals of both given populations
      * <code>population1</code> and <code>population2</code>.
      * <p>
      * resultPopSize = pop1Size + pop2Size
+     * <p>
+     * If one of the populations carries strategy parameters, the merged population carries them as
+     * well ({@link Double#NaN} for the individuals of the other population).
      * 
      * @param population1 first population which is merged with the second population to generate a
      *        new population
@@ -107,7 +233,16 @@ public class Population<T extends OptimizationProblem> {
         List<Solution<R>> individuals = new ArrayList<>(population1.size() + population2.size());
         individuals.addAll(population1.individuals);
         individuals.addAll(population2.individuals);
-        return new Population<>(individuals);
+        if (population1.strategyParameters == null && population2.strategyParameters == null) {
+            return new Population<>(individuals);
+        }
+        double[] strategyParameters = new double[individuals.size()];
+        for (int i = 0; i < strategyParameters.length; i++) {
+            strategyParameters[i] = i < population1.size
+                    ? population1.getStrategyParameter(i)
+                    : population2.getStrategyParameter(i - population1.size);
+        }
+        return new Population<>(individuals, strategyParameters);
     }
 
 }
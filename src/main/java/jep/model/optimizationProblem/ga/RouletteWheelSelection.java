@@ -1,12 +1,16 @@
 package jep.model.optimizationProblem.ga;
 
-import java.util.ArrayList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 
 import jep.model.optimizationProblem.OptimizationProblem;
 import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.random.SplitMixRandom;
 
 /**
  * This class provides a specific implementation of the {@link SelectionFunction}-interface called
@@ -19,9 +23,10 @@ import jep.model.optimizationProblem.Solution;
  *
  * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
  */
-public class RouletteWheelSelection<T extends OptimizationProblem> implements SelectionFunction<T> {
+public class RouletteWheelSelection<T extends OptimizationProblem>
+        implements SelectionFunction<T>, Checkpointable {
 
-    private final Random random = new Random();
+    private final Random random;
     private final boolean allowParentSelection;
     private final int targetPopulationSize;
 
@@ -35,12 +40,29 @@ public class RouletteWheelSelection<T extends OptimizationProblem> implements Se
      *        individuals/candidates to be selected. Note the size has to be >= 1.
      */
     public RouletteWheelSelection(boolean allowParentSelection, int targetPopulationSize) {
+        this(allowParentSelection, targetPopulationSize, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link RouletteWheelSelection}-instance using the given <code>random</code>
+     * to pick the individuals.
+     * 
+     * @param allowParentSelection if <code>true</code> the parent and child population are "merged"
+     *        and the selection picks from this set of candidates, if <code>false</code> only
+     *        candidates of the child population are selected
+     * @param targetPopulationSize size of the generated population, number of
+     *        individuals/candidates to be selected. Note the size has to be >= 1.
+     * @param random random number generator used by this function
+     */
+    public RouletteWheelSelection(boolean allowParentSelection, int targetPopulationSize,
+            Random random) {
         if (targetPopulationSize < 1) {
             throw new IllegalArgumentException(
                     "Target population size has to be greaterthan or equal to 1.");
         }
         this.allowParentSelection = allowParentSelection;
         this.targetPopulationSize = targetPopulationSize;
+        this.random = Objects.requireNonNull(random);
     }
 
     @Override
@@ -71,19 +93,29 @@ public class RouletteWheelSelection<T extends OptimizationProblem> implements Se
             fitnessValues[i] = fitnessValues[i] / fitnessSum + fitnessValues[i - 1];
         }
 
-        List<Solution<T>> selectedIndividuals = new ArrayList<>(targetPopulationSize);
+        int[] selected = new int[targetPopulationSize];
+        int count = 0;
         for (int i = 0; i < targetPopulationSize; i++) {
             double rnd = random.nextDouble();
             for (int j = 0; j < range; j++) {
                 if (rnd <= fitnessValues[j]) {
-                    selectedIndividuals
-                            .add(selectableIndividuals.getIndividualsAsUnmodifiableList().get(j));
+                    selected[count++] = j;
                     break;
                 }
             }
         }
-        
-        return new Population<>(selectedIndividuals);
+
+        return selectableIndividuals.select(selected, count);
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
     }
 
 }
@@ -0,0 +1,122 @@
+package jep.model.optimizationProblem.ga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+
+/**
+ * This class holds the candidates of a {@link SelectionFunction}: the individuals of the child
+ * population, preceded by the individuals of the parent population if parents may be selected. The
+ * populations are not copied into a merged population, candidate <code>i</code> is looked up in the
+ * parent or the child population depending on its index. The fitness values of all candidates
+ * are only read (and cached in an array) if a selection requests them, so a selection which only
+ * compares some candidates does not evaluate the others.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance the candidates are solutions of
+ */
+final class SelectionCandidates<T extends OptimizationProblem> {
+
+    private final Population<T> parentPopulation;
+    private final Population<T> childPopulation;
+    private final List<Solution<T>> parents;
+    private final List<Solution<T>> children;
+    private final int numberOfParents;
+    private double[] fitness;
+
+    /**
+     * Constructs a new {@link SelectionCandidates}-instance.
+     *
+     * @param parentPopulation population of the last generation
+     * @param childPopulation child population of the current generation
+     * @param includeParents if <code>true</code> the parents are candidates too
+     */
+    SelectionCandidates(Population<T> parentPopulation, Population<T> childPopulation,
+            boolean includeParents) {
+        this.parentPopulation = parentPopulation;
+        this.childPopulation = childPopulation;
+        this.parents = includeParents ? parentPopulation.getIndividualsAsUnmodifiableList()
+                : Collections.<Solution<T>>emptyList();
+        this.children = childPopulation.getIndividualsAsUnmodifiableList();
+        this.numberOfParents = parents.size();
+    }
+
+    /**
+     * Returns the number of candidates.
+     *
+     * @return
+     */
+    int size() {
+        return numberOfParents + children.size();
+    }
+
+    /**
+     * Returns the candidate with the given index.
+     *
+     * @param index index of the candidate
+     * @return
+     */
+    Solution<T> get(int index) {
+        return index < numberOfParents ? parents.get(index)
+                : children.get(index - numberOfParents);
+    }
+
+    /**
+     * Returns a new population which holds the candidates with the first <code>count</code> of the
+     * given <code>indices</code> (in this order) together with their strategy parameters, if the
+     * parent or the child population carries strategy parameters.
+     *
+     * @param indices indices of the selected candidates
+     * @param count number of selected candidates
+     * @return
+     */
+    Population<T> createPopulation(int[] indices, int count) {
+        List<Solution<T>> selectedIndividuals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            selectedIndividuals.add(get(indices[i]));
+        }
+        boolean parentsWithParameters =
+                numberOfParents > 0 && parentPopulation.hasStrategyParameters();
+        if (!parentsWithParameters && !childPopulation.hasStrategyParameters()) {
+            return new Population<>(selectedIndividuals);
+        }
+        double[] strategyParameters = new double[count];
+        for (int i = 0; i < count; i++) {
+            int index = indices[i];
+            strategyParameters[i] = index < numberOfParents
+                    ? parentPopulation.getStrategyParameter(index)
+                    : childPopulation.getStrategyParameter(index - numberOfParents);
+        }
+        return new Population<>(selectedIndividuals, strategyParameters);
+    }
+
+    /**
+     * Returns the fitness of the candidate with the given index.
+     *
+     * @param index index of the candidate
+     * @return
+     */
+    double getFitness(int index) {
+        return fitness != null ? fitness[index] : get(index).getFitness();
+    }
+
+    /**
+     * Returns the array of the fitness values of all candidates, indexed like the candidates. The
+     * array is cached and must not be modified.
+     *
+     * @return
+     */
+    double[] getFitnessValues() {
+        if (fitness == null) {
+            double[] values = new double[size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = get(i).getFitness();
+            }
+            fitness = values;
+        }
+        return fitness;
+    }
+
+}
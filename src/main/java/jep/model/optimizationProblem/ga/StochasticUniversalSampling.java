@@ -0,0 +1,124 @@
+package jep.model.optimizationProblem.ga;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements the stochastic universal sampling (SUS) selection. Like the
+ * {@link RouletteWheelSelection} each candidate is picked with a probability proportional to its
+ * fitness, but all individuals are picked at once: a single random offset within
+ * <code>[0, total / k)</code> defines <code>k</code> evenly spaced pointers on the wheel, and each
+ * candidate is picked once for every pointer within its part of the wheel. This way the number of
+ * copies of a candidate deviates by less than one from its expected number, so the selection has
+ * far less variance than <code>k</code> independent spins.
+ * <p>
+ * The fitness values are shifted so that the worst candidate has the weight 0 (which allows
+ * negative fitness values, like the ones of the traveling salesman problem). If all candidates have
+ * the same fitness each one has the same weight. The pointers are increasing, so all picks are made
+ * in a single pass over the candidates, which takes <code>O(n + k)</code> time and a single random
+ * number per generation. The selected individuals are ordered like the candidates.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
+ */
+public class StochasticUniversalSampling<T extends OptimizationProblem>
+        implements SelectionFunction<T>, Checkpointable {
+
+    private final boolean allowParentSelection;
+    private final int targetPopulationSize;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link StochasticUniversalSampling}-instance.
+     *
+     * @param allowParentSelection if <code>true</code> the candidates are the individuals of the
+     *        parent and the child population, if <code>false</code> only the individuals of the
+     *        child population
+     * @param targetPopulationSize size of the generated population (has to be true positive)
+     */
+    public StochasticUniversalSampling(boolean allowParentSelection, int targetPopulationSize) {
+        this(allowParentSelection, targetPopulationSize, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link StochasticUniversalSampling}-instance using the given
+     * <code>random</code> to pick the offset of the pointers.
+     *
+     * @param allowParentSelection if <code>true</code> the candidates are the individuals of the
+     *        parent and the child population, if <code>false</code> only the individuals of the
+     *        child population
+     * @param targetPopulationSize size of the generated population (has to be true positive)
+     * @param random random number generator used by this function
+     */
+    public StochasticUniversalSampling(boolean allowParentSelection, int targetPopulationSize,
+            Random random) {
+        if (targetPopulationSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The target population size has to be true positive (> 0).");
+        }
+        this.allowParentSelection = allowParentSelection;
+        this.targetPopulationSize = targetPopulationSize;
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Population<T> select(Population<T> parentPopulation, Population<T> childPopulation) {
+        SelectionCandidates<T> candidates =
+                new SelectionCandidates<>(parentPopulation, childPopulation, allowParentSelection);
+        int range = candidates.size();
+        double[] fitness = candidates.getFitnessValues();
+        double minimalFitness = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < range; i++) {
+            minimalFitness = Math.min(minimalFitness, fitness[i]);
+        }
+        double total = 0;
+        for (int i = 0; i < range; i++) {
+            total += fitness[i] - minimalFitness;
+        }
+        boolean uniform = !(total > 0);
+        if (uniform) {
+            total = range;
+        }
+
+        double step = total / targetPopulationSize;
+        double pointer = random.nextDouble() * step;
+        int[] selected = new int[targetPopulationSize];
+        int count = 0;
+        double cumulativeWeight = 0;
+        int lastWithWeight = 0;
+        for (int i = 0; i < range && count < targetPopulationSize; i++) {
+            double weight = uniform ? 1.0D : fitness[i] - minimalFitness;
+            if (weight <= 0) {
+                continue;
+            }
+            lastWithWeight = i;
+            cumulativeWeight += weight;
+            while (pointer < cumulativeWeight && count < targetPopulationSize) {
+                selected[count++] = i;
+                pointer += step;
+            }
+        }
+        // rounding errors may leave the last pointers behind the summed weights
+        while (count < targetPopulationSize) {
+            selected[count++] = lastWithWeight;
+        }
+        return candidates.createPopulation(selected, targetPopulationSize);
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+    }
+
+}
@@ -0,0 +1,104 @@
+package jep.model.optimizationProblem.ga;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a tournament selection. Each individual of the next generation is the
+ * winner (the candidate with the greatest fitness) of a tournament between a fixed number of
+ * candidates, which are picked uniformly at random (with replacement). The larger the tournaments
+ * the higher the selection pressure, with tournaments of a single candidate the selection is
+ * uniform.
+ * <p>
+ * Unlike a {@link RouletteWheelSelection} it only depends on the order of the fitness values, so it
+ * works for negative fitness values too. Selecting <code>k</code> individuals with tournaments of
+ * size <code>s</code> takes <code>O(n + k * s)</code> time.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
+ */
+public class TournamentSelection<T extends OptimizationProblem>
+        implements SelectionFunction<T>, Checkpointable {
+
+    private final boolean allowParentSelection;
+    private final int targetPopulationSize;
+    private final int tournamentSize;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link TournamentSelection}-instance.
+     *
+     * @param allowParentSelection if <code>true</code> the candidates are the individuals of the
+     *        parent and the child population, if <code>false</code> only the individuals of the
+     *        child population
+     * @param targetPopulationSize size of the generated population (has to be true positive)
+     * @param tournamentSize number of candidates of a tournament (has to be true positive)
+     */
+    public TournamentSelection(boolean allowParentSelection, int targetPopulationSize,
+            int tournamentSize) {
+        this(allowParentSelection, targetPopulationSize, tournamentSize, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link TournamentSelection}-instance using the given <code>random</code> to
+     * pick the candidates of the tournaments.
+     *
+     * @param allowParentSelection if <code>true</code> the candidates are the individuals of the
+     *        parent and the child population, if <code>false</code> only the individuals of the
+     *        child population
+     * @param targetPopulationSize size of the generated population (has to be true positive)
+     * @param tournamentSize number of candidates of a tournament (has to be true positive)
+     * @param random random number generator used by this function
+     */
+    public TournamentSelection(boolean allowParentSelection, int targetPopulationSize,
+            int tournamentSize, Random random) {
+        if (targetPopulationSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The target population size has to be true positive (> 0).");
+        }
+        if (tournamentSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The tournament size has to be true positive (> 0).");
+        }
+        this.allowParentSelection = allowParentSelection;
+        this.targetPopulationSize = targetPopulationSize;
+        this.tournamentSize = tournamentSize;
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Population<T> select(Population<T> parentPopulation, Population<T> childPopulation) {
+        SelectionCandidates<T> candidates =
+                new SelectionCandidates<>(parentPopulation, childPopulation, allowParentSelection);
+        int range = candidates.size();
+        int[] selected = new int[targetPopulationSize];
+        for (int i = 0; i < targetPopulationSize; i++) {
+            int winner = random.nextInt(range);
+            for (int j = 1; j < tournamentSize; j++) {
+                int challenger = random.nextInt(range);
+                if (candidates.getFitness(challenger) > candidates.getFitness(winner)) {
+                    winner = challenger;
+                }
+            }
+            selected[i] = winner;
+        }
+        return candidates.createPopulation(selected, targetPopulationSize);
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+    }
+
+}
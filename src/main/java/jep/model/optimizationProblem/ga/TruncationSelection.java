@@ -0,0 +1,142 @@
+package jep.model.optimizationProblem.ga;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a truncation selection, which deterministically selects the candidates
+ * with the greatest fitness. With parent selection it is the elitist <code>(mu + lambda)</code>
+ * selection (the best individuals of parents and children survive), without it is the
+ * <code>(mu, lambda)</code> selection (the best children replace all parents). If there are fewer
+ * candidates than the target population size, all candidates are selected.
+ * <p>
+ * The best candidates are not found by sorting, but by an introselect on the cached fitness values:
+ * a quickselect with median-of-three pivots and a three-way partition (so equal fitness values, as
+ * of identical individuals, do not degrade it), which falls back to heapsort on the remaining range
+ * if it does not converge fast enough. This takes <code>O(n)</code> expected and
+ * <code>O(n log(n))</code> worst case time. The order of the selected individuals is unspecified.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
+ */
+public class TruncationSelection<T extends OptimizationProblem> implements SelectionFunction<T> {
+
+    private final boolean allowParentSelection;
+    private final int targetPopulationSize;
+
+    /**
+     * Constructs a new {@link TruncationSelection}-instance.
+     *
+     * @param allowParentSelection if <code>true</code> the candidates are the individuals of the
+     *        parent and the child population (elitist <code>(mu + lambda)</code> selection), if
+     *        <code>false</code> only the individuals of the child population
+     *        (<code>(mu, lambda)</code> selection)
+     * @param targetPopulationSize size of the generated population (has to be true positive)
+     */
+    public TruncationSelection(boolean allowParentSelection, int targetPopulationSize) {
+        if (targetPopulationSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The target population size has to be true positive (> 0).");
+        }
+        this.allowParentSelection = allowParentSelection;
+        this.targetPopulationSize = targetPopulationSize;
+    }
+
+    @Override
+    public Population<T> select(Population<T> parentPopulation, Population<T> childPopulation) {
+        SelectionCandidates<T> candidates =
+                new SelectionCandidates<>(parentPopulation, childPopulation, allowParentSelection);
+        int range = candidates.size();
+        int selected = Math.min(targetPopulationSize, range);
+        int[] indices = new int[range];
+        for (int i = 0; i < range; i++) {
+            indices[i] = i;
+        }
+        if (selected < range) {
+            selectBest(indices, candidates.getFitnessValues(), selected);
+        }
+        return candidates.createPopulation(indices, selected);
+    }
+
+    /**
+     * Reorders the given <code>indices</code> so that the first <code>k</code> of them are the
+     * indices of the <code>k</code> greatest fitness values.
+     */
+    private static void selectBest(int[] indices, double[] fitness, int k) {
+        int left = 0;
+        int right = indices.length - 1;
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(indices.length));
+        while (right > left) {
+            if (depthLimit-- == 0) {
+                heapSortDescending(indices, fitness, left, right);
+                return;
+            }
+            double pivot = medianOfThree(fitness[indices[left]],
+                    fitness[indices[(left + right) >>> 1]], fitness[indices[right]]);
+            // three-way partition: greater values | equal values | smaller values
+            int greater = left;
+            int smaller = right;
+            int i = left;
+            while (i <= smaller) {
+                double value = fitness[indices[i]];
+                if (value > pivot) {
+                    swap(indices, i++, greater++);
+                } else if (value < pivot) {
+                    swap(indices, i, smaller--);
+                } else {
+                    i++;
+                }
+            }
+            if (k <= greater) {
+                right = greater - 1;
+            } else if (k > smaller + 1) {
+                left = smaller + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Sorts <code>indices[from..to]</code> by descending fitness using a min-heap, whose root (the
+     * smallest value) is repeatedly moved to the end of the range.
+     */
+    private static void heapSortDescending(int[] indices, double[] fitness, int from, int to) {
+        int size = to - from + 1;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(indices, fitness, from, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(indices, from, from + end);
+            siftDown(indices, fitness, from, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] indices, double[] fitness, int offset, int index,
+            int size) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size
+                    && fitness[indices[offset + child + 1]] < fitness[indices[offset + child]]) {
+                child++;
+            }
+            if (fitness[indices[offset + index]] <= fitness[indices[offset + child]]) {
+                return;
+            }
+            swap(indices, offset + index, offset + child);
+            index = child;
+        }
+    }
+
+    private static void swap(int[] indices, int i, int j) {
+        int tmp = indices[i];
+        indices[i] = indices[j];
+        indices[j] = tmp;
+    }
+
+}
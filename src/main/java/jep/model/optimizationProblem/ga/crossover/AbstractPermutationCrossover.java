@@ -0,0 +1,60 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * This abstract class implements the validation of the arguments of a {@link PermutationCrossover}.
+ * Actual permutation crossover implementations are to extend this class.
+ *
+ */
+public abstract class AbstractPermutationCrossover implements PermutationCrossover {
+
+    private final int numberOfElements;
+
+    /**
+     * Constructs a new {@link AbstractPermutationCrossover}-instance.
+     *
+     * @param numberOfElements number of elements of the combined permutations (has to be true
+     *        positive)
+     */
+    public AbstractPermutationCrossover(int numberOfElements) {
+        if (numberOfElements <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of elements has to be true positive (> 0).");
+        }
+        this.numberOfElements = numberOfElements;
+    }
+
+    @Override
+    public int getNumberOfElements() {
+        return numberOfElements;
+    }
+
+    @Override
+    public void combine(int[] firstParent, int[] secondParent, int[] child, Random random) {
+        Objects.requireNonNull(firstParent);
+        Objects.requireNonNull(secondParent);
+        Objects.requireNonNull(child);
+        Objects.requireNonNull(random);
+        if (firstParent.length != numberOfElements || secondParent.length != numberOfElements
+                || child.length != numberOfElements) {
+            throw new IllegalArgumentException(
+                    "Parents and child have to hold " + numberOfElements + " elements.");
+        }
+        combinePermutations(firstParent, secondParent, child, random);
+    }
+
+    /**
+     * Combines the given parents (whose lengths are validated) and writes the generated permutation
+     * to <code>child</code>.
+     *
+     * @param firstParent first permutation which is combined
+     * @param secondParent second permutation which is combined
+     * @param child array the generated permutation is written to
+     * @param random random number generator used for the random decisions of this call
+     */
+    protected abstract void combinePermutations(int[] firstParent, int[] secondParent, int[] child,
+            Random random);
+
+}
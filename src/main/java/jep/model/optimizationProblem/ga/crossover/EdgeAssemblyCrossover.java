@@ -0,0 +1,363 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * This class implements the edge assembly crossover (EAX, single strategy) for permutations which
+ * are cyclic tours. It requires the distances of the elements, since the child is repaired by
+ * merging subtours with the cheapest exchange of edges.
+ * <ol>
+ * <li>The parents <code>A</code> (first) and <code>B</code> (second) are combined to a graph of the
+ * edges which are only part of one of them. Starting at a random element a walk alternately follows
+ * unused edges of <code>A</code> and <code>B</code> until it closes an alternating cycle (AB-cycle).
+ * </li>
+ * <li>The edges of <code>A</code> on the cycle are removed from <code>A</code> and the edges of
+ * <code>B</code> on the cycle are added, which leaves every element with two neighbors but may
+ * split the tour into subtours.</li>
+ * <li>As long as there are multiple subtours the smallest one is merged with another one by
+ * removing one edge of each and adding two edges connecting them, choosing the cheapest exchange
+ * which connects an element to one of its candidates (or to any element if none of the candidates
+ * is outside of the subtour).</li>
+ * </ol>
+ * If both parents are the same tour the child is the first parent. The adjacency of the elements is
+ * kept in arrays, so a call takes <code>O(n)</code> time plus the time of the merges, which only
+ * search the candidates of the elements of the smaller subtour.
+ *
+ */
+public class EdgeAssemblyCrossover extends AbstractPermutationCrossover {
+
+    private final IntBinaryOperator distance;
+    private final int[] candidates;
+    private final int numberOfCandidates;
+
+    private final int[] previousA;
+    private final int[] nextA;
+    private final int[] previousB;
+    private final int[] nextB;
+    // used[2 * e] is the edge to the predecessor of e, used[2 * e + 1] the edge to its successor
+    private final boolean[] usedA;
+    private final boolean[] usedB;
+    // index of the walk at which an element was reached by an edge of A or B, -1 if not yet reached
+    private final int[] reachedByA;
+    private final int[] reachedByB;
+    private final int[] walk;
+    // the two neighbors of every element in the child
+    private final int[] first;
+    private final int[] second;
+    private final int[] subtour;
+    private final int[] subtourSize;
+    private final int[] subtourStart;
+    private final int[] members;
+    private int numberOfLabels;
+
+    /**
+     * Constructs a new {@link EdgeAssemblyCrossover}-instance which considers all elements when
+     * merging subtours.
+     *
+     * @param numberOfElements number of elements of the combined permutations (has to be true
+     *        positive)
+     * @param distance function returning the distance of two elements
+     */
+    public EdgeAssemblyCrossover(int numberOfElements, IntBinaryOperator distance) {
+        this(numberOfElements, distance, new int[0]);
+    }
+
+    /**
+     * Constructs a new {@link EdgeAssemblyCrossover}-instance.
+     *
+     * @param numberOfElements number of elements of the combined permutations (has to be true
+     *        positive)
+     * @param distance function returning the distance of two elements
+     * @param candidates candidates of the elements which are tried when merging subtours,
+     *        <code>candidates[k * e + i]</code> being the i-th of the <code>k</code> candidates of
+     *        element <code>e</code> (its length has to be a multiple of the number of elements)
+     */
+    public EdgeAssemblyCrossover(int numberOfElements, IntBinaryOperator distance,
+            int[] candidates) {
+        super(numberOfElements);
+        this.distance = Objects.requireNonNull(distance);
+        this.candidates = Objects.requireNonNull(candidates).clone();
+        if (candidates.length % numberOfElements != 0) {
+            throw new IllegalArgumentException(
+                    "The number of candidates has to be a multiple of the number of elements.");
+        }
+        this.numberOfCandidates = candidates.length / numberOfElements;
+        int n = numberOfElements;
+        this.previousA = new int[n];
+        this.nextA = new int[n];
+        this.previousB = new int[n];
+        this.nextB = new int[n];
+        this.usedA = new boolean[2 * n];
+        this.usedB = new boolean[2 * n];
+        this.reachedByA = new int[n];
+        this.reachedByB = new int[n];
+        this.walk = new int[2 * n + 1];
+        this.first = new int[n];
+        this.second = new int[n];
+        this.subtour = new int[n];
+        this.subtourSize = new int[n];
+        this.subtourStart = new int[n];
+        this.members = new int[n];
+    }
+
+    @Override
+    protected void combinePermutations(int[] firstParent, int[] secondParent, int[] child,
+            Random random) {
+        int n = firstParent.length;
+        // tours of up to three elements are all the same cycle
+        if (n <= 3 || !buildAndApplyCycle(firstParent, secondParent, random)) {
+            System.arraycopy(firstParent, 0, child, 0, n);
+            return;
+        }
+        for (int subtours = labelSubtours(n); subtours > 1; subtours--) {
+            mergeSmallestSubtour(n);
+        }
+        int previous = -1;
+        int current = firstParent[0];
+        for (int i = 0; i < n; i++) {
+            child[i] = current;
+            int next = nextOf(current, previous);
+            previous = current;
+            current = next;
+        }
+    }
+
+    /**
+     * Builds a random AB-cycle and applies it to the first parent, the result is stored in the
+     * neighbor arrays. Returns <code>false</code> if the parents are the same tour.
+     */
+    private boolean buildAndApplyCycle(int[] firstParent, int[] secondParent, Random random) {
+        int n = firstParent.length;
+        for (int i = 0; i < n; i++) {
+            int j = i + 1 == n ? 0 : i + 1;
+            nextA[firstParent[i]] = firstParent[j];
+            previousA[firstParent[j]] = firstParent[i];
+            nextB[secondParent[i]] = secondParent[j];
+            previousB[secondParent[j]] = secondParent[i];
+        }
+        Arrays.fill(usedA, false);
+        Arrays.fill(usedB, false);
+        Arrays.fill(reachedByA, -1);
+        Arrays.fill(reachedByB, -1);
+        // edges of both parents are not part of any AB-cycle
+        for (int e = 0; e < n; e++) {
+            int f = nextA[e];
+            if (nextB[e] == f) {
+                usedA[2 * e + 1] = usedA[2 * f] = true;
+                usedB[2 * e + 1] = usedB[2 * f] = true;
+            } else if (previousB[e] == f) {
+                usedA[2 * e + 1] = usedA[2 * f] = true;
+                usedB[2 * e] = usedB[2 * f + 1] = true;
+            }
+        }
+        int offset = random.nextInt(n);
+        int start = -1;
+        for (int i = 0; i < n && start < 0; i++) {
+            int e = (offset + i) % n;
+            if (!usedA[2 * e] || !usedA[2 * e + 1]) {
+                start = e;
+            }
+        }
+        if (start < 0) {
+            return false;
+        }
+        // walk alternately along edges of A and B until an element is reached a second time by an
+        // edge of the same parent, the walk between both visits is an AB-cycle
+        int length = 0;
+        int cycleStart;
+        walk[0] = start;
+        reachedByB[start] = 0;
+        int current = start;
+        boolean edgeOfA = true;
+        while (true) {
+            int next = takeEdge(current, edgeOfA, random);
+            walk[++length] = next;
+            int[] reached = edgeOfA ? reachedByA : reachedByB;
+            if (reached[next] >= 0) {
+                cycleStart = reached[next];
+                break;
+            }
+            reached[next] = length;
+            current = next;
+            edgeOfA = !edgeOfA;
+        }
+        // the edge from walk[i] to walk[i + 1] is an edge of A if i is even
+        for (int e = 0; e < n; e++) {
+            first[e] = previousA[e];
+            second[e] = nextA[e];
+        }
+        for (int i = cycleStart; i < length; i++) {
+            if ((i & 1) == 0) {
+                replaceNeighbor(walk[i], walk[i + 1], -1);
+                replaceNeighbor(walk[i + 1], walk[i], -1);
+            }
+        }
+        for (int i = cycleStart; i < length; i++) {
+            if ((i & 1) == 1) {
+                replaceNeighbor(walk[i], -1, walk[i + 1]);
+                replaceNeighbor(walk[i + 1], -1, walk[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks a random unused edge of the given parent at the given element as used and returns the
+     * element at its other end.
+     */
+    private int takeEdge(int element, boolean edgeOfA, Random random) {
+        boolean[] used = edgeOfA ? usedA : usedB;
+        boolean toPrevious;
+        if (!used[2 * element] && !used[2 * element + 1]) {
+            toPrevious = random.nextBoolean();
+        } else {
+            toPrevious = !used[2 * element];
+        }
+        if (toPrevious) {
+            int other = edgeOfA ? previousA[element] : previousB[element];
+            used[2 * element] = true;
+            used[2 * other + 1] = true;
+            return other;
+        }
+        int other = edgeOfA ? nextA[element] : nextB[element];
+        used[2 * element + 1] = true;
+        used[2 * other] = true;
+        return other;
+    }
+
+    private void replaceNeighbor(int element, int oldNeighbor, int newNeighbor) {
+        if (first[element] == oldNeighbor) {
+            first[element] = newNeighbor;
+        } else {
+            second[element] = newNeighbor;
+        }
+    }
+
+    private int nextOf(int element, int previous) {
+        return first[element] == previous ? second[element] : first[element];
+    }
+
+    private int labelSubtours(int n) {
+        Arrays.fill(subtour, -1);
+        int subtours = 0;
+        for (int e = 0; e < n; e++) {
+            if (subtour[e] >= 0) {
+                continue;
+            }
+            int size = collectMembers(e, subtours);
+            subtourSize[subtours] = size;
+            subtourStart[subtours] = e;
+            subtours++;
+        }
+        numberOfLabels = subtours;
+        return subtours;
+    }
+
+    /**
+     * Walks the subtour containing the given element, labeling its elements and storing them in
+     * <code>members</code>, and returns its size.
+     */
+    private int collectMembers(int start, int label) {
+        int size = 0;
+        int previous = second[start];
+        int current = start;
+        do {
+            subtour[current] = label;
+            members[size++] = current;
+            int next = nextOf(current, previous);
+            previous = current;
+            current = next;
+        } while (current != start);
+        return size;
+    }
+
+    private void mergeSmallestSubtour(int n) {
+        int smallest = -1;
+        for (int s = 0; s < numberOfLabels; s++) {
+            if (subtourSize[s] > 0 && (smallest < 0 || subtourSize[s] < subtourSize[smallest])) {
+                smallest = s;
+            }
+        }
+        int size = collectMembers(subtourStart[smallest], smallest);
+        long bestDelta = Long.MAX_VALUE;
+        int bestU = -1;
+        int bestU1 = -1;
+        int bestV = -1;
+        int bestV1 = -1;
+        boolean bestCrossed = false;
+        for (int m = 0; m < size; m++) {
+            int u = members[m];
+            for (int r = 0; r < numberOfCandidates; r++) {
+                int v = candidates[numberOfCandidates * u + r];
+                if (subtour[v] == smallest) {
+                    continue;
+                }
+                for (int side = 0; side < 4; side++) {
+                    int u1 = (side & 1) == 0 ? first[u] : second[u];
+                    int v1 = (side & 2) == 0 ? first[v] : second[v];
+                    long removed = (long) distance(u, u1) + distance(v, v1);
+                    long straight = (long) distance(u, v) + distance(u1, v1) - removed;
+                    long crossed = (long) distance(u, v1) + distance(u1, v) - removed;
+                    if (straight < bestDelta || crossed < bestDelta) {
+                        bestCrossed = crossed < straight;
+                        bestDelta = Math.min(straight, crossed);
+                        bestU = u;
+                        bestU1 = u1;
+                        bestV = v;
+                        bestV1 = v1;
+                    }
+                }
+            }
+        }
+        if (bestU < 0) {
+            // no candidate outside of the subtour, connect its first element to any other element
+            int u = members[0];
+            for (int v = 0; v < n; v++) {
+                if (subtour[v] == smallest) {
+                    continue;
+                }
+                for (int side = 0; side < 4; side++) {
+                    int u1 = (side & 1) == 0 ? first[u] : second[u];
+                    int v1 = (side & 2) == 0 ? first[v] : second[v];
+                    long removed = (long) distance(u, u1) + distance(v, v1);
+                    long straight = (long) distance(u, v) + distance(u1, v1) - removed;
+                    long crossed = (long) distance(u, v1) + distance(u1, v) - removed;
+                    if (straight < bestDelta || crossed < bestDelta) {
+                        bestCrossed = crossed < straight;
+                        bestDelta = Math.min(straight, crossed);
+                        bestU = u;
+                        bestU1 = u1;
+                        bestV = v;
+                        bestV1 = v1;
+                    }
+                }
+            }
+        }
+        // replace (u, u1) and (v, v1) by (u, v) and (u1, v1), or (u, v1) and (u1, v) if crossed
+        int target = subtour[bestV];
+        if (bestCrossed) {
+            replaceNeighbor(bestU, bestU1, bestV1);
+            replaceNeighbor(bestU1, bestU, bestV);
+            replaceNeighbor(bestV, bestV1, bestU1);
+            replaceNeighbor(bestV1, bestV, bestU);
+        } else {
+            replaceNeighbor(bestU, bestU1, bestV);
+            replaceNeighbor(bestU1, bestU, bestV1);
+            replaceNeighbor(bestV, bestV1, bestU);
+            replaceNeighbor(bestV1, bestV, bestU1);
+        }
+        for (int m = 0; m < size; m++) {
+            subtour[members[m]] = target;
+        }
+        subtourSize[target] += size;
+        subtourSize[smallest] = 0;
+    }
+
+    private int distance(int a, int b) {
+        return distance.applyAsInt(a, b);
+    }
+
+}
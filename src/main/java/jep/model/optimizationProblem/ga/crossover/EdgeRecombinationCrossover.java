@@ -0,0 +1,140 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.Random;
+
+/**
+ * This class implements the edge recombination crossover (ERX), which treats the permutations as
+ * cyclic tours and builds the child almost only of edges of its parents.
+ * <p>
+ * The edge table holds the (at most four) neighbors of every element in the parents, edges of both
+ * parents are marked as shared. Starting at the first element of the first parent the child is
+ * extended by a neighbor of its last element: a shared one if possible, otherwise the one with the
+ * fewest remaining neighbors (ties are broken randomly). Added elements are removed from the table.
+ * Only if the last element has no neighbor left a random remaining element is added. The table has
+ * a fixed number of entries per element and the remaining elements are kept in an array with an
+ * index, so a call takes <code>O(n)</code> time.
+ *
+ */
+public class EdgeRecombinationCrossover extends AbstractPermutationCrossover {
+
+    private static final int MAX_NEIGHBORS = 4;
+
+    // neighbors[MAX_NEIGHBORS * e + i] is the i-th neighbor of element e
+    private final int[] neighbors;
+    private final boolean[] shared;
+    private final int[] neighborCount;
+    private final int[] remaining;
+    private final int[] indexInRemaining;
+
+    /**
+     * Constructs a new {@link EdgeRecombinationCrossover}-instance.
+     *
+     * @param numberOfElements number of elements of the combined permutations (has to be true
+     *        positive)
+     */
+    public EdgeRecombinationCrossover(int numberOfElements) {
+        super(numberOfElements);
+        this.neighbors = new int[MAX_NEIGHBORS * numberOfElements];
+        this.shared = new boolean[MAX_NEIGHBORS * numberOfElements];
+        this.neighborCount = new int[numberOfElements];
+        this.remaining = new int[numberOfElements];
+        this.indexInRemaining = new int[numberOfElements];
+    }
+
+    @Override
+    protected void combinePermutations(int[] firstParent, int[] secondParent, int[] child,
+            Random random) {
+        int n = firstParent.length;
+        for (int e = 0; e < n; e++) {
+            neighborCount[e] = 0;
+            remaining[e] = e;
+            indexInRemaining[e] = e;
+        }
+        addEdges(firstParent);
+        addEdges(secondParent);
+        int remainingCount = n;
+        int current = firstParent[0];
+        for (int position = 0; position < n; position++) {
+            child[position] = current;
+            // remove the element from the remaining elements and from the lists of its neighbors
+            int index = indexInRemaining[current];
+            int last = remaining[--remainingCount];
+            remaining[index] = last;
+            indexInRemaining[last] = index;
+            for (int i = 0; i < neighborCount[current]; i++) {
+                removeNeighbor(neighbors[MAX_NEIGHBORS * current + i], current);
+            }
+            if (remainingCount == 0) {
+                break;
+            }
+            int next = selectNeighbor(current, random);
+            current = next >= 0 ? next : remaining[random.nextInt(remainingCount)];
+        }
+    }
+
+    private void addEdges(int[] parent) {
+        int n = parent.length;
+        for (int i = 0; i < n; i++) {
+            int element = parent[i];
+            addNeighbor(element, parent[i == 0 ? n - 1 : i - 1]);
+            addNeighbor(element, parent[i + 1 == n ? 0 : i + 1]);
+        }
+    }
+
+    private void addNeighbor(int element, int neighbor) {
+        if (element == neighbor) {
+            return;
+        }
+        int base = MAX_NEIGHBORS * element;
+        for (int i = 0; i < neighborCount[element]; i++) {
+            if (neighbors[base + i] == neighbor) {
+                // an edge of both parents (or both edges of a permutation of two elements)
+                shared[base + i] = true;
+                return;
+            }
+        }
+        neighbors[base + neighborCount[element]] = neighbor;
+        shared[base + neighborCount[element]] = false;
+        neighborCount[element]++;
+    }
+
+    private void removeNeighbor(int element, int neighbor) {
+        int base = MAX_NEIGHBORS * element;
+        for (int i = 0; i < neighborCount[element]; i++) {
+            if (neighbors[base + i] == neighbor) {
+                int last = base + --neighborCount[element];
+                neighbors[base + i] = neighbors[last];
+                shared[base + i] = shared[last];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the neighbor the child is extended with, -1 if the element has no neighbor left.
+     */
+    private int selectNeighbor(int element, Random random) {
+        int base = MAX_NEIGHBORS * element;
+        int best = -1;
+        boolean bestShared = false;
+        int bestCount = Integer.MAX_VALUE;
+        int ties = 0;
+        for (int i = 0; i < neighborCount[element]; i++) {
+            int neighbor = neighbors[base + i];
+            boolean isShared = shared[base + i];
+            int count = neighborCount[neighbor];
+            if (best < 0 || (isShared && !bestShared)
+                    || (isShared == bestShared && count < bestCount)) {
+                best = neighbor;
+                bestShared = isShared;
+                bestCount = count;
+                ties = 1;
+            } else if (isShared == bestShared && count == bestCount
+                    && random.nextInt(++ties) == 0) {
+                best = neighbor;
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,56 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * This class implements the order crossover (OX). A random segment of the first parent is copied to
+ * the same positions of the child, the remaining positions are filled with the missing elements in
+ * the order of the second parent, both starting behind the segment (wrapping around the end). It
+ * keeps the relative order of the elements, which for a tour means it keeps most of its edges.
+ * <p>
+ * Elements of the segment are marked in a bit set, so a call takes <code>O(n)</code> time.
+ *
+ */
+public class OrderCrossover extends AbstractPermutationCrossover {
+
+    private final BitSet inSegment;
+
+    /**
+     * Constructs a new {@link OrderCrossover}-instance.
+     *
+     * @param numberOfElements number of elements of the combined permutations (has to be true
+     *        positive)
+     */
+    public OrderCrossover(int numberOfElements) {
+        super(numberOfElements);
+        this.inSegment = new BitSet(numberOfElements);
+    }
+
+    @Override
+    protected void combinePermutations(int[] firstParent, int[] secondParent, int[] child,
+            Random random) {
+        int n = firstParent.length;
+        int from = random.nextInt(n);
+        int to = random.nextInt(n);
+        if (from > to) {
+            int tmp = from;
+            from = to;
+            to = tmp;
+        }
+        inSegment.clear();
+        for (int i = from; i <= to; i++) {
+            child[i] = firstParent[i];
+            inSegment.set(firstParent[i]);
+        }
+        int position = to + 1 == n ? 0 : to + 1;
+        for (int i = 0, j = position; i < n; i++, j = j + 1 == n ? 0 : j + 1) {
+            int element = secondParent[j];
+            if (!inSegment.get(element)) {
+                child[position] = element;
+                position = position + 1 == n ? 0 : position + 1;
+            }
+        }
+    }
+
+}
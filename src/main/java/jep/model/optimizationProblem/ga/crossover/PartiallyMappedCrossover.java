@@ -0,0 +1,65 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * This class implements the partially-mapped crossover (PMX). A random segment of the first parent
+ * is copied to the same positions of the child, all other positions take the element of the second
+ * parent. An element of the second parent which is already part of the segment is replaced by
+ * following the mapping defined by the segment (element of the first parent to element of the
+ * second parent at the same position) until an element outside of the segment is found. It keeps
+ * the absolute positions of most elements.
+ * <p>
+ * The mapping chains are disjoint, so a call takes <code>O(n)</code> time.
+ *
+ */
+public class PartiallyMappedCrossover extends AbstractPermutationCrossover {
+
+    private final BitSet inSegment;
+    private final int[] positionInFirstParent;
+
+    /**
+     * Constructs a new {@link PartiallyMappedCrossover}-instance.
+     *
+     * @param numberOfElements number of elements of the combined permutations (has to be true
+     *        positive)
+     */
+    public PartiallyMappedCrossover(int numberOfElements) {
+        super(numberOfElements);
+        this.inSegment = new BitSet(numberOfElements);
+        this.positionInFirstParent = new int[numberOfElements];
+    }
+
+    @Override
+    protected void combinePermutations(int[] firstParent, int[] secondParent, int[] child,
+            Random random) {
+        int n = firstParent.length;
+        int from = random.nextInt(n);
+        int to = random.nextInt(n);
+        if (from > to) {
+            int tmp = from;
+            from = to;
+            to = tmp;
+        }
+        inSegment.clear();
+        for (int i = 0; i < n; i++) {
+            positionInFirstParent[firstParent[i]] = i;
+        }
+        for (int i = from; i <= to; i++) {
+            child[i] = firstParent[i];
+            inSegment.set(firstParent[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            if (i >= from && i <= to) {
+                continue;
+            }
+            int element = secondParent[i];
+            while (inSegment.get(element)) {
+                element = secondParent[positionInFirstParent[element]];
+            }
+            child[i] = element;
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.Random;
+
+import jep.model.optimizationProblem.ga.GeneticAlgorithm;
+
+/**
+ * This interface defines a crossover operator for individuals encoded as permutations, given as
+ * <code>int</code> arrays holding each of the elements <code>0</code> to <code>n - 1</code> once
+ * (like the tours of a traveling salesman problem). It is the building block of a
+ * {@link PermutationCrossoverFunction} of a {@link GeneticAlgorithm}.
+ * <p>
+ * Implementations are created for a fixed number of elements and keep scratch buffers which are
+ * reused by every call, so an instance must not be used by multiple threads at the same time. Use
+ * one instance per thread to combine individuals in parallel.
+ *
+ */
+public interface PermutationCrossover {
+
+    /**
+     * Returns the number of elements of the permutations this operator combines.
+     *
+     * @return
+     */
+    int getNumberOfElements();
+
+    /**
+     * Combines the given parents and writes the generated permutation to <code>child</code>. The
+     * parents are not modified.
+     *
+     * @param firstParent first permutation which is combined
+     * @param secondParent second permutation which is combined
+     * @param child array the generated permutation is written to
+     * @param random random number generator used for the random decisions of this call
+     */
+    void combine(int[] firstParent, int[] secondParent, int[] child, Random random);
+
+}
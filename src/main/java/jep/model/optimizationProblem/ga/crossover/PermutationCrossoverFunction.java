@@ -0,0 +1,118 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.ga.CrossoverFunction;
+import jep.model.optimizationProblem.ga.Population;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a {@link CrossoverFunction} for individuals encoded as permutations. It
+ * generates a child population of the size of the parent population, each child being generated by
+ * combining two randomly picked (different, if the population holds more than one individual)
+ * parents using a {@link PermutationCrossover}.
+ * <p>
+ * The parents and the seeds of the children are picked sequentially by the random number generator
+ * of this function, the children are generated in parallel. Each thread uses its own
+ * {@link PermutationCrossover}-instance (created by the given factory) and every child its own
+ * random number generator, so the child population does not depend on the number of threads.
+ * <p>
+ * If the parent population carries strategy parameters (see {@link Population}), each child
+ * inherits the geometric mean of the parameters of its parents.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
+ */
+public class PermutationCrossoverFunction<T extends OptimizationProblem>
+        implements CrossoverFunction<T>, Checkpointable {
+
+    private final ThreadLocal<PermutationCrossover> crossover;
+    private final Function<Solution<T>, int[]> encoder;
+    private final Function<int[], Solution<T>> decoder;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link PermutationCrossoverFunction}-instance.
+     *
+     * @param crossoverFactory factory of the {@link PermutationCrossover}-instances, which is called
+     *        once per thread
+     * @param encoder function returning the permutation of an individual (the returned array is
+     *        not modified)
+     * @param decoder function returning the individual of a permutation
+     * @param random random number generator used to pick the parents
+     */
+    public PermutationCrossoverFunction(Supplier<? extends PermutationCrossover> crossoverFactory,
+            Function<Solution<T>, int[]> encoder, Function<int[], Solution<T>> decoder,
+            Random random) {
+        Objects.requireNonNull(crossoverFactory);
+        this.crossover = ThreadLocal.withInitial(crossoverFactory);
+        this.encoder = Objects.requireNonNull(encoder);
+        this.decoder = Objects.requireNonNull(decoder);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Population<T> crossover(Population<T> parentPopulation) {
+        List<Solution<T>> parents = parentPopulation.getIndividualsAsUnmodifiableList();
+        int size = parents.size();
+        int[] firstParents = new int[size];
+        int[] secondParents = new int[size];
+        long[] seeds = new long[size];
+        for (int i = 0; i < size; i++) {
+            int first = random.nextInt(size);
+            int second = first;
+            if (size > 1) {
+                second = random.nextInt(size - 1);
+                if (second >= first) {
+                    second++;
+                }
+            }
+            firstParents[i] = first;
+            secondParents[i] = second;
+            seeds[i] = random.nextLong();
+        }
+        int[][] permutations = new int[size][];
+        IntStream.range(0, size).parallel()
+                .forEach(i -> permutations[i] = encoder.apply(parents.get(i)));
+        // the collected list keeps the order of the indices
+        List<Solution<T>> children = IntStream.range(0, size).parallel().mapToObj(i -> {
+            int[] firstParent = permutations[firstParents[i]];
+            int[] child = new int[firstParent.length];
+            crossover.get().combine(firstParent, permutations[secondParents[i]], child,
+                    new SplitMixRandom(seeds[i]));
+            return decoder.apply(child);
+        }).collect(Collectors.toList());
+        if (!parentPopulation.hasStrategyParameters()) {
+            return new Population<>(children);
+        }
+        double[] strategyParameters = new double[size];
+        for (int i = 0; i < size; i++) {
+            strategyParameters[i] =
+                    Math.sqrt(parentPopulation.getStrategyParameter(firstParents[i])
+                            * parentPopulation.getStrategyParameter(secondParents[i]));
+        }
+        return new Population<>(children, strategyParameters);
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+    }
+
+}
@@ -0,0 +1,55 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.ga.CrossoverRule;
+import jep.model.optimizationProblem.ga.mutation.SelfAdaptiveMutationFunction;
+
+/**
+ * This class implements a {@link CrossoverRule} for individuals encoded as permutations using a
+ * {@link PermutationCrossover}, which allows to use the permutation crossovers in crossover
+ * functions combining two parents at a time (like the one of a
+ * {@link SelfAdaptiveMutationFunction}).
+ * <p>
+ * Like the underlying {@link PermutationCrossover} an instance must not be used by multiple threads
+ * at the same time.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this rule is to be used for
+ */
+public class PermutationCrossoverRule<T extends OptimizationProblem> implements CrossoverRule<T> {
+
+    private final PermutationCrossover crossover;
+    private final Function<Solution<T>, int[]> encoder;
+    private final Function<int[], Solution<T>> decoder;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link PermutationCrossoverRule}-instance.
+     *
+     * @param crossover {@link PermutationCrossover} used to combine the permutations of the parents
+     * @param encoder function returning the permutation of an individual (the returned array is
+     *        not modified)
+     * @param decoder function returning the individual of a permutation
+     * @param random random number generator used by the crossover
+     */
+    public PermutationCrossoverRule(PermutationCrossover crossover,
+            Function<Solution<T>, int[]> encoder, Function<int[], Solution<T>> decoder,
+            Random random) {
+        this.crossover = Objects.requireNonNull(crossover);
+        this.encoder = Objects.requireNonNull(encoder);
+        this.decoder = Objects.requireNonNull(decoder);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Solution<T> combine(Solution<T> firstParent, Solution<T> secondParent) {
+        int[] child = new int[crossover.getNumberOfElements()];
+        crossover.combine(encoder.apply(firstParent), encoder.apply(secondParent), child, random);
+        return decoder.apply(child);
+    }
+
+}
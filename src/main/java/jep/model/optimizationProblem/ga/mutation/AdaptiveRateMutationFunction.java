@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 
 import jep.model.optimizationProblem.OptimizationProblem;
 import jep.model.optimizationProblem.ga.Population;
+import jep.model.random.SplitMixRandom;
 
 /**
  * This class implements a {@link MutationFunction} which is using a adaptive mutation rate. The
@@ -25,7 +26,7 @@ import jep.model.optimizationProblem.ga.Population;
 public class AdaptiveRateMutationFunction<T extends OptimizationProblem>
         implements MutationFunction<T> {
 
-    private final Random random = new Random();
+    private final Random random;
     private final MutationRule<T> mutationRule;
     private final SuccessFunction<T> successFunction;
     private final SuccessRateFunction<T> successRateFunction;
@@ -60,6 +61,37 @@ public class AdaptiveRateMutationFunction<T extends OptimizationProblem>
             int iterationsUntilChange, SuccessFunction<T> successFunction,
             SuccessRateFunction<T> successRateFunction, SuccessValidator successValidator,
             MutationRule<T> mutationRule, Population<T> initialPopulation) {
+        this(initialRate, rateChangeRule, iterationsUntilChange, successFunction,
+                successRateFunction, successValidator, mutationRule, initialPopulation,
+                new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link AdaptiveRateMutationFunction}-instance using the given
+     * <code>random</code> to pick the individuals which are mutated.
+     * 
+     * @param initialRate initial value of the mutation rate
+     * @param rateChangeRule {@link AdaptiveRateChangeRule} which defines how to alter the mutation
+     *        rate
+     * @param iterationsUntilChange number of iterations until a mutation rate check is done,
+     *        depending of the result the mutation rate is altered
+     * @param successFunction {@link SuccessFunction} which defines if a child generation was a
+     *        successful improvement to its parent generation
+     * @param successRateFunction {@link SuccessRateFunction} used to determine the success rate of
+     *        the last few iterations
+     * @param successValidator {@link SuccessValidator} which states depending of the success rate
+     *        if the last few iterations were successful improvements or failures
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param initialPopulation initial population of the {@link GeneticAlgorithm}-instance this
+     *        function is used for. This population is needed to be able to make a comparison of the
+     *        first iteration.
+     * @param random random number generator used by this function
+     */
+    public AdaptiveRateMutationFunction(double initialRate, AdaptiveRateChangeRule rateChangeRule,
+            int iterationsUntilChange, SuccessFunction<T> successFunction,
+            SuccessRateFunction<T> successRateFunction, SuccessValidator successValidator,
+            MutationRule<T> mutationRule, Population<T> initialPopulation, Random random) {
         if (initialRate <= 0 || initialRate > 1) {
             throw new IllegalArgumentException(
                     "The fixed mutation rate has to be in the range (0, 1].");
@@ -77,6 +109,7 @@ public class AdaptiveRateMutationFunction<T extends OptimizationProblem>
         this.successValidator = Objects.requireNonNull(successValidator);
         this.generations = new ArrayList<>(iterationsUntilChange);
         this.generations.add(Objects.requireNonNull(initialPopulation));
+        this.random = Objects.requireNonNull(random);
     }
 
     @Override
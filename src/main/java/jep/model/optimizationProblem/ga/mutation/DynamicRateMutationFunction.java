@@ -1,11 +1,16 @@
 package jep.model.optimizationProblem.ga.mutation;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Random;
 import java.util.stream.Collectors;
 
 import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
 import jep.model.optimizationProblem.ga.Population;
+import jep.model.random.SplitMixRandom;
 
 /**
  * This class implements a {@link MutationFunction} which is using a dynamic mutation rate. The
@@ -15,9 +20,9 @@ import jep.model.optimizationProblem.ga.Population;
  * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
  */
 public class DynamicRateMutationFunction<T extends OptimizationProblem>
-        implements MutationFunction<T> {
+        implements MutationFunction<T>, Checkpointable {
 
-    private final Random random = new Random();
+    private final Random random;
     private final MutationRule<T> mutationRule;
     private final RateChangeRule rateChangeRule;
     private final int iterationsUntilChange;
@@ -41,6 +46,25 @@ public class DynamicRateMutationFunction<T extends OptimizationProblem>
      */
     public DynamicRateMutationFunction(double initialRate, RateChangeRule rateChangeRule,
             int iterationsUntilChange, MutationRule<T> mutationRule) {
+        this(initialRate, rateChangeRule, iterationsUntilChange, mutationRule,
+                new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link DynamicRateMutationFunction}-instance using the given
+     * <code>random</code> to pick the individuals which are mutated.
+     * 
+     * @param initialRate initial value of the mutation rate
+     * @param rateChangeRule {@link RateChangeRule}-instance which defines how the mutation rate is
+     *        changed
+     * @param iterationsUntilChange number of iterations until the <code>rateChangeRule</code> is
+     *        applied to the mutation rate
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param random random number generator used by this function
+     */
+    public DynamicRateMutationFunction(double initialRate, RateChangeRule rateChangeRule,
+            int iterationsUntilChange, MutationRule<T> mutationRule, Random random) {
         if (initialRate <= 0 || initialRate > 1) {
             throw new IllegalArgumentException(
                     "The fixed mutation rate has to be in the range (0, 1].");
@@ -53,6 +77,7 @@ public class DynamicRateMutationFunction<T extends OptimizationProblem>
         this.iterationsUntilChange = iterationsUntilChange;
         this.mutationRule = Objects.requireNonNull(mutationRule);
         this.rateChangeRule = Objects.requireNonNull(rateChangeRule);
+        this.random = Objects.requireNonNull(random);
     }
 
     @Override
@@ -76,4 +101,20 @@ public class DynamicRateMutationFunction<T extends OptimizationProblem>
                 }).collect(Collectors.toList()));
     }
 
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        output.writeDouble(rate);
+        output.writeInt(itr);
+        Checkpointable.writeStateOf(random, output);
+        Checkpointable.writeStateOf(mutationRule, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        rate = input.readDouble();
+        itr = input.readInt();
+        Checkpointable.readStateOf(random, input);
+        Checkpointable.readStateOf(mutationRule, input);
+    }
+
 }
@@ -1,11 +1,16 @@
 package jep.model.optimizationProblem.ga.mutation;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Random;
 import java.util.stream.Collectors;
 
 import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
 import jep.model.optimizationProblem.ga.Population;
+import jep.model.random.SplitMixRandom;
 
 /**
  * This class implements a {@link MutationFunction} which is using a fixed mutation rate. The
@@ -14,11 +19,11 @@ import jep.model.optimizationProblem.ga.Population;
  * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
  */
 public class FixedRateMutationFunction<T extends OptimizationProblem>
-        implements MutationFunction<T> {
+        implements MutationFunction<T>, Checkpointable {
 
     private final double rate;
     private final MutationRule<T> mutationRule;
-    private final Random random = new Random();
+    private final Random random;
 
     /**
      * Constructs a new {@link FixedRateMutationFunction}-instance using the given <code>rate</code>
@@ -31,12 +36,27 @@ public class FixedRateMutationFunction<T extends OptimizationProblem>
      *        to be mutated
      */
     public FixedRateMutationFunction(double rate, MutationRule<T> mutationRule) {
+        this(rate, mutationRule, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link FixedRateMutationFunction}-instance using the given <code>random</code>
+     * to pick the individuals which are mutated.
+     * 
+     * @param rate probability of a individual of a population to be picked for mutation. Has to be
+     *        picked within (0,1].
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param random random number generator used by this function
+     */
+    public FixedRateMutationFunction(double rate, MutationRule<T> mutationRule, Random random) {
         if (rate <= 0 || rate > 1) {
             throw new IllegalArgumentException(
                     "The fixed mutation rate has to be in the range (0, 1].");
         }
         this.rate = rate;
         this.mutationRule = Objects.requireNonNull(mutationRule);
+        this.random = Objects.requireNonNull(random);
     }
 
     @Override
@@ -51,4 +71,16 @@ public class FixedRateMutationFunction<T extends OptimizationProblem>
                 }).collect(Collectors.toList()));
     }
 
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+        Checkpointable.writeStateOf(mutationRule, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+        Checkpointable.readStateOf(mutationRule, input);
+    }
+
 }
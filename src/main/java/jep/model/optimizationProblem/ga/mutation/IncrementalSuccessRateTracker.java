@@ -0,0 +1,111 @@
+package jep.model.optimizationProblem.ga.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.ga.Population;
+
+/**
+ * This class tracks the success rate of consecutive generations incrementally. In contrast to the
+ * {@link SuccessRateFunction}, which compares a stored list of generations, only the
+ * {@link PopulationStatistic}-value of the previous generation and the number of successes are
+ * kept. Each generation is summarized exactly once, the memory used does not depend on the number
+ * of tracked generations.
+ * <p>
+ * A generation is a success if its statistic is better than or equal to the statistic of the
+ * previous generation (which equals the behavior of a {@link PopulationMeanSuccessFunction} if a
+ * {@link PopulationMeanStatistic} is used).
+ * 
+ * @param <T> specific {@link OptimizationProblem}-instance this tracker is to be used for
+ */
+public class IncrementalSuccessRateTracker<T extends OptimizationProblem>
+        implements Checkpointable {
+
+    private final FitnessComparator<T> fitnessComparator = new FitnessComparator<>();
+    private final PopulationStatistic<T> statistic;
+    private double previousValue = Double.NaN;
+    private int successCount = 0;
+    private int comparisonCount = 0;
+
+    /**
+     * Constructs a new {@link IncrementalSuccessRateTracker}-instance.
+     * 
+     * @param statistic {@link PopulationStatistic} used to summarize each generation
+     */
+    public IncrementalSuccessRateTracker(PopulationStatistic<T> statistic) {
+        this.statistic = Objects.requireNonNull(statistic);
+    }
+
+    /**
+     * Resets the counters and uses the given <code>population</code> as the generation the next
+     * added generation is compared to.
+     * 
+     * @param population first generation of the next tracking window
+     */
+    public void restart(Population<T> population) {
+        previousValue = statistic.calculate(population);
+        successCount = 0;
+        comparisonCount = 0;
+    }
+
+    /**
+     * Compares the given <code>population</code> to the previous generation and uses it as previous
+     * generation afterwards. If no previous generation is known, the population only becomes the
+     * previous generation.
+     * 
+     * @param population next generation
+     */
+    public void add(Population<T> population) {
+        double value = statistic.calculate(population);
+        if (!Double.isNaN(previousValue)) {
+            if (fitnessComparator.checkIfFirstIsBetterOrEqual(value, previousValue)) {
+                successCount++;
+            }
+            comparisonCount++;
+        }
+        previousValue = value;
+    }
+
+    /**
+     * Returns the rate of successful generations since the last restart.
+     * 
+     * @return
+     * @throws IllegalStateException if no comparison was done since the last restart
+     */
+    public double getSuccessRate() {
+        if (comparisonCount == 0) {
+            throw new IllegalStateException(
+                    "At least 2 generations have to be tracked to calculate a success rate.");
+        }
+        return ((double) successCount) / comparisonCount;
+    }
+
+    /**
+     * Returns the number of comparisons done since the last restart.
+     * 
+     * @return
+     */
+    public int getComparisonCount() {
+        return comparisonCount;
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        output.writeDouble(previousValue);
+        output.writeInt(successCount);
+        output.writeInt(comparisonCount);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        previousValue = input.readDouble();
+        successCount = input.readInt();
+        comparisonCount = input.readInt();
+    }
+
+}
@@ -0,0 +1,30 @@
+package jep.model.optimizationProblem.ga.mutation;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.ga.Population;
+
+/**
+ * This class implements a {@link PopulationStatistic} which calculates the mean over the fitness of
+ * the individuals of a population.
+ * 
+ * @param <T> specific {@link OptimizationProblem}-instance this statistic is to be used for
+ */
+public class PopulationMeanStatistic<T extends OptimizationProblem>
+        implements PopulationStatistic<T> {
+
+    /**
+     * Constructs a new {@link PopulationMeanStatistic}-instance.
+     */
+    public PopulationMeanStatistic() {}
+
+    @Override
+    public double calculate(Population<T> population) {
+        double fitnessMean = 0;
+        for (Solution<T> solution : population.getIndividualsAsUnmodifiableList()) {
+            fitnessMean += solution.getFitness();
+        }
+        return fitnessMean / population.size();
+    }
+
+}
@@ -2,7 +2,6 @@ package jep.model.optimizationProblem.ga.mutation;
 
 import jep.model.optimizationProblem.FitnessComparator;
 import jep.model.optimizationProblem.OptimizationProblem;
-import jep.model.optimizationProblem.Solution;
 import jep.model.optimizationProblem.ga.Population;
 
 /**
@@ -16,6 +15,7 @@ public class PopulationMeanSuccessFunction<T extends OptimizationProblem>
         implements SuccessFunction<T> {
 
     private final FitnessComparator<T> fitnessComparator = new FitnessComparator<>();
+    private final PopulationMeanStatistic<T> meanStatistic = new PopulationMeanStatistic<>();
 
     /**
      * Constructs a new {@link PopulationMeanSuccessFunction}-instance.
@@ -32,16 +32,8 @@ public class PopulationMeanSuccessFunction<T extends OptimizationProblem>
     @Override
     public boolean wasSuccessfulImprovement(Population<T> parentPopulation,
             Population<T> childPopulation) {
-        double parentPopFitnessMean = 0;
-        for (Solution<T> solution : parentPopulation.getIndividualsAsUnmodifiableList()) {
-            parentPopFitnessMean += solution.getFitness();
-        }
-        parentPopFitnessMean /= parentPopulation.size();
-        double childPopFitnessMean = 0;
-        for (Solution<T> solution : childPopulation.getIndividualsAsUnmodifiableList()) {
-            childPopFitnessMean += solution.getFitness();
-        }
-        childPopFitnessMean /= childPopulation.size();
+        double parentPopFitnessMean = meanStatistic.calculate(parentPopulation);
+        double childPopFitnessMean = meanStatistic.calculate(childPopulation);
         return fitnessComparator.checkIfFirstIsBetterOrEqual(childPopFitnessMean,
                 parentPopFitnessMean);
     }
@@ -0,0 +1,24 @@
+package jep.model.optimizationProblem.ga.mutation;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.ga.Population;
+
+/**
+ * This functional interface defines a statistic which summarizes the fitness of the individuals of
+ * a population in a single value, like the mean fitness or the fitness of the worst individual.
+ * The greater the value, the "better" the population.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this statistic is to be used for
+ */
+@FunctionalInterface
+public interface PopulationStatistic<T extends OptimizationProblem> {
+
+    /**
+     * Returns the value of this statistic for the given <code>population</code>.
+     * 
+     * @param population population whose individuals are summarized
+     * @return
+     */
+    double calculate(Population<T> population);
+
+}
@@ -0,0 +1,184 @@
+package jep.model.optimizationProblem.ga.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.ga.CrossoverFunction;
+import jep.model.optimizationProblem.ga.CrossoverRule;
+import jep.model.optimizationProblem.ga.Population;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a {@link MutationFunction} using self-adaptive mutation rates. In contrast
+ * to the {@link DynamicRateMutationFunction} and the {@link AdaptiveRateMutationFunction}, which
+ * use a single global rate, each individual carries its own mutation rate. Before an individual is
+ * mutated its rate is mutated log-normally (<code>rate * exp(learningRate * N(0, 1))</code>), the
+ * new rate then defines the probability of the individual to be mutated and is passed on to the
+ * resulting individual. Rates leading to good individuals therefore survive the selection together
+ * with their individuals.
+ * <p>
+ * The rates are the strategy parameters of the {@link Population}, a primitive array aligned with
+ * the individuals, so they are kept by the selection functions, by the improvement step of the
+ * {@link jep.model.optimizationProblem.ga.GeneticAlgorithm GeneticAlgorithm} and by the
+ * checkpoints, independent of the identity of the individuals. Children generated by a
+ * {@link jep.model.optimizationProblem.ga.crossover.PermutationCrossoverFunction
+ * PermutationCrossoverFunction} or by a crossover function created by
+ * {@link #createCrossoverFunction(CrossoverRule)} inherit the geometric mean of the rates of their
+ * parents. Individuals without a rate (for example those of the initial population or
+ * children of other crossover functions) start with the initial rate.
+ * <p>
+ * Since every rate only depends on the individual it belongs to, there is no global rate which has
+ * to be synchronized.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
+ */
+public class SelfAdaptiveMutationFunction<T extends OptimizationProblem>
+        implements MutationFunction<T>, Checkpointable {
+
+    /**
+     * Default learning rate (standard deviation of the log-normal rate mutation).
+     */
+    public static final double DEFAULT_LEARNING_RATE = 0.22D;
+
+    /**
+     * Default minimal mutation rate, which prevents rates from vanishing.
+     */
+    public static final double DEFAULT_MINIMAL_RATE = 0.001D;
+
+    private final double initialRate;
+    private final double learningRate;
+    private final double minimalRate;
+    private final MutationRule<T> mutationRule;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link SelfAdaptiveMutationFunction}-instance using the
+     * {@link #DEFAULT_LEARNING_RATE} and the {@link #DEFAULT_MINIMAL_RATE}.
+     *
+     * @param initialRate rate of individuals without a rate (has to be within [minimalRate, 1])
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     */
+    public SelfAdaptiveMutationFunction(double initialRate, MutationRule<T> mutationRule) {
+        this(initialRate, DEFAULT_LEARNING_RATE, DEFAULT_MINIMAL_RATE, mutationRule,
+                new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link SelfAdaptiveMutationFunction}-instance.
+     *
+     * @param initialRate rate of individuals without a rate (has to be within [minimalRate, 1])
+     * @param learningRate standard deviation of the normal distributed exponent of the log-normal
+     *        rate mutation (has to be true positive [> 0])
+     * @param minimalRate lower bound of the rates (has to be within (0, 1])
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param random random number generator used by this function
+     */
+    public SelfAdaptiveMutationFunction(double initialRate, double learningRate,
+            double minimalRate, MutationRule<T> mutationRule, Random random) {
+        if (minimalRate <= 0 || minimalRate > 1) {
+            throw new IllegalArgumentException("The minimal rate has to be in the range (0, 1].");
+        }
+        if (initialRate < minimalRate || initialRate > 1) {
+            throw new IllegalArgumentException(
+                    "The initial rate has to be in the range [minimalRate, 1].");
+        }
+        if (learningRate <= 0) {
+            throw new IllegalArgumentException("The learning rate has to be true positive (> 0).");
+        }
+        this.initialRate = initialRate;
+        this.learningRate = learningRate;
+        this.minimalRate = minimalRate;
+        this.mutationRule = Objects.requireNonNull(mutationRule);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Population<T> mutate(Population<T> population) {
+        List<Solution<T>> individuals = population.getIndividualsAsUnmodifiableList();
+        int size = individuals.size();
+        List<Solution<T>> mutatedIndividuals = new ArrayList<>(size);
+        double[] rates = new double[size];
+        for (int i = 0; i < size; i++) {
+            Solution<T> individual = individuals.get(i);
+            rates[i] = mutateRate(getRateOf(population, i));
+            mutatedIndividuals.add(random.nextDouble() < rates[i]
+                    ? mutationRule.mutate(individual) : individual);
+        }
+        return new Population<>(mutatedIndividuals, rates);
+    }
+
+    /**
+     * Returns a {@link CrossoverFunction} which generates a child population of the size of the
+     * parent population. Each child is generated by combining two randomly picked (different, if
+     * the population holds more than one individual) parents using the given
+     * <code>crossoverRule</code>. The child inherits the geometric mean of the rates of its
+     * parents.
+     *
+     * @param crossoverRule {@link CrossoverRule} used to combine two parents
+     * @return
+     */
+    public CrossoverFunction<T> createCrossoverFunction(CrossoverRule<T> crossoverRule) {
+        Objects.requireNonNull(crossoverRule);
+        return parentPopulation -> {
+            List<Solution<T>> parents = parentPopulation.getIndividualsAsUnmodifiableList();
+            int size = parents.size();
+            List<Solution<T>> children = new ArrayList<>(size);
+            double[] rates = new double[size];
+            for (int i = 0; i < size; i++) {
+                int first = random.nextInt(size);
+                int second = first;
+                if (size > 1) {
+                    second = random.nextInt(size - 1);
+                    if (second >= first) {
+                        second++;
+                    }
+                }
+                children.add(crossoverRule.combine(parents.get(first), parents.get(second)));
+                rates[i] = Math.sqrt(getRateOf(parentPopulation, first)
+                        * getRateOf(parentPopulation, second));
+            }
+            return new Population<>(children, rates);
+        };
+    }
+
+    /**
+     * Returns the rate of the individual with the given <code>index</code> of the given
+     * <code>population</code>, which is its strategy parameter or the initial rate if it has none.
+     *
+     * @param population population holding the individual
+     * @param index index of the individual
+     * @return
+     */
+    public double getRateOf(Population<T> population, int index) {
+        double rate = population.getStrategyParameter(index);
+        return Double.isNaN(rate) ? initialRate : rate;
+    }
+
+    private double mutateRate(double rate) {
+        double mutatedRate = rate * Math.exp(learningRate * random.nextGaussian());
+        return Math.max(minimalRate, Math.min(1.0D, mutatedRate));
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+        Checkpointable.writeStateOf(mutationRule, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+        Checkpointable.readStateOf(mutationRule, input);
+    }
+
+}
@@ -1,5 +1,7 @@
 package jep.model.optimizationProblem.ga.mutation;
 
+import java.util.Random;
+
 import jep.model.optimizationProblem.OptimizationProblem;
 import jep.model.optimizationProblem.ga.Population;
 
@@ -34,4 +36,26 @@ public class SimpleAdaptiveRateMutationFunction<T extends OptimizationProblem>
                 new RosenbergSuccessValidator(), mutationRule, initialPopulation);
     }
 
+    /**
+     * Constructs a new {@link SimpleAdaptiveRateMutationFunction}-instance using the given
+     * <code>random</code> to pick the individuals which are mutated.
+     * 
+     * @param initialRate initial mutation rate which is altered by this function during the
+     *        progress of the genetic algorithm this function is used for (has to be within (0, 1])
+     * @param iterationsUntilChange number of iterations until an mutation rate alteration is to be
+     *        applied
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param initialPopulation initial population of the {@link GeneticAlgorithm}-instance this
+     *        function is used for. This population is needed to be able to make a comparison of the
+     *        first iteration.
+     * @param random random number generator used by this function
+     */
+    public SimpleAdaptiveRateMutationFunction(double initialRate, int iterationsUntilChange,
+            MutationRule<T> mutationRule, Population<T> initialPopulation, Random random) {
+        super(initialRate, new RosenbergAdaptiveRateChangeRule(), iterationsUntilChange,
+                new PopulationMeanSuccessFunction<>(), new SuccessRateFunction<>(),
+                new RosenbergSuccessValidator(), mutationRule, initialPopulation, random);
+    }
+
 }
@@ -0,0 +1,160 @@
+package jep.model.optimizationProblem.ga.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.ga.Population;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a {@link MutationFunction} using an adaptive mutation rate, the same way as
+ * {@link AdaptiveRateMutationFunction} does. Instead of storing the generations of the current
+ * window and comparing them when the rate is checked, the success rate is tracked incrementally by
+ * an {@link IncrementalSuccessRateTracker}. This way only the statistic of the previous generation
+ * and a success counter are stored, and each generation is summarized only once.
+ * <p>
+ * Using a {@link PopulationMeanStatistic} this function adapts the rate exactly like an
+ * {@link AdaptiveRateMutationFunction} using a {@link PopulationMeanSuccessFunction} and a
+ * {@link SuccessRateFunction}.
+ * 
+ * @param <T> specific {@link OptimizationProblem}-instance this function is to be used for
+ */
+public class StreamingAdaptiveRateMutationFunction<T extends OptimizationProblem>
+        implements MutationFunction<T>, Checkpointable {
+
+    private final Random random;
+    private final MutationRule<T> mutationRule;
+    private final AdaptiveRateChangeRule rateChangeRule;
+    private final SuccessValidator successValidator;
+    private final IncrementalSuccessRateTracker<T> successRateTracker;
+    private final int iterationsUntilChange;
+    private double rate;
+    private int itr = 0;
+
+    /**
+     * Constructs a new {@link StreamingAdaptiveRateMutationFunction}-instance.
+     * 
+     * @param initialRate initial value of the mutation rate
+     * @param rateChangeRule {@link AdaptiveRateChangeRule} which defines how to alter the mutation
+     *        rate
+     * @param iterationsUntilChange number of iterations until a mutation rate check is done,
+     *        depending of the result the mutation rate is altered
+     * @param statistic {@link PopulationStatistic} which summarizes a generation, a generation is a
+     *        success if its statistic is better than or equal to the one of the previous generation
+     * @param successValidator {@link SuccessValidator} which states depending of the success rate
+     *        if the last few iterations were successful improvements or failures
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param initialPopulation initial population of the {@link GeneticAlgorithm}-instance this
+     *        function is used for. Only its statistic is kept to be able to make a comparison of the
+     *        first iteration.
+     */
+    public StreamingAdaptiveRateMutationFunction(double initialRate,
+            AdaptiveRateChangeRule rateChangeRule, int iterationsUntilChange,
+            PopulationStatistic<T> statistic, SuccessValidator successValidator,
+            MutationRule<T> mutationRule, Population<T> initialPopulation) {
+        this(initialRate, rateChangeRule, iterationsUntilChange, statistic, successValidator,
+                mutationRule, initialPopulation, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link StreamingAdaptiveRateMutationFunction}-instance using the given
+     * <code>random</code> to pick the individuals which are mutated.
+     * 
+     * @param initialRate initial value of the mutation rate
+     * @param rateChangeRule {@link AdaptiveRateChangeRule} which defines how to alter the mutation
+     *        rate
+     * @param iterationsUntilChange number of iterations until a mutation rate check is done,
+     *        depending of the result the mutation rate is altered
+     * @param statistic {@link PopulationStatistic} which summarizes a generation, a generation is a
+     *        success if its statistic is better than or equal to the one of the previous generation
+     * @param successValidator {@link SuccessValidator} which states depending of the success rate
+     *        if the last few iterations were successful improvements or failures
+     * @param mutationRule {@link MutationRule} which is applied to a individual which was selected
+     *        to be mutated
+     * @param initialPopulation initial population of the {@link GeneticAlgorithm}-instance this
+     *        function is used for. Only its statistic is kept to be able to make a comparison of the
+     *        first iteration.
+     * @param random random number generator used by this function
+     */
+    public StreamingAdaptiveRateMutationFunction(double initialRate,
+            AdaptiveRateChangeRule rateChangeRule, int iterationsUntilChange,
+            PopulationStatistic<T> statistic, SuccessValidator successValidator,
+            MutationRule<T> mutationRule, Population<T> initialPopulation, Random random) {
+        if (initialRate <= 0 || initialRate > 1) {
+            throw new IllegalArgumentException(
+                    "The fixed mutation rate has to be in the range (0, 1].");
+        }
+        if (iterationsUntilChange <= 0) {
+            throw new IllegalArgumentException(
+                    "The iterations until change parameter has to be set as a true positive value (> 0).");
+        }
+        this.rate = initialRate;
+        this.iterationsUntilChange = iterationsUntilChange;
+        this.mutationRule = Objects.requireNonNull(mutationRule);
+        this.rateChangeRule = Objects.requireNonNull(rateChangeRule);
+        this.successValidator = Objects.requireNonNull(successValidator);
+        this.successRateTracker = new IncrementalSuccessRateTracker<>(statistic);
+        this.successRateTracker.restart(Objects.requireNonNull(initialPopulation));
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Population<T> mutate(Population<T> population) {
+        // mutation gets called each GA iteration therefore we can count this methods calls to get
+        // the number of iterations
+        if (itr >= iterationsUntilChange) {
+            itr = 0;
+            rate = rateChangeRule.changeRate(rate,
+                    successValidator.validate(successRateTracker.getSuccessRate()));
+            successRateTracker.restart(population);
+            assert rate > 0 || rate <= 1;
+        } else {
+            successRateTracker.add(population);
+            itr++;
+        }
+        List<Solution<T>> individuals = population.getIndividualsAsUnmodifiableList();
+        List<Solution<T>> mutatedIndividuals = new ArrayList<>(individuals.size());
+        for (Solution<T> solution : individuals) {
+            mutatedIndividuals.add(
+                    random.nextDouble() < rate ? mutationRule.mutate(solution) : solution);
+        }
+        return new Population<>(mutatedIndividuals);
+    }
+
+    /**
+     * Returns the current mutation rate.
+     * 
+     * @return
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        output.writeDouble(rate);
+        output.writeInt(itr);
+        successRateTracker.writeState(output);
+        Checkpointable.writeStateOf(random, output);
+        Checkpointable.writeStateOf(mutationRule, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        rate = input.readDouble();
+        itr = input.readInt();
+        successRateTracker.readState(input);
+        Checkpointable.readStateOf(random, input);
+        Checkpointable.readStateOf(mutationRule, input);
+    }
+
+}
@@ -0,0 +1,126 @@
+package jep.model.optimizationProblem.termination;
+
+import java.util.concurrent.TimeUnit;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * Abstract class which implements a {@link TerminationCondition} which is fulfilled as soon as a
+ * given amount of time passed on a clock. The time starts with the first check of the condition.
+ * <p>
+ * Reading a clock costs far more than an iteration of a fast algorithm, so the clock is read at
+ * most every <code>checkInterval</code> checks. The interval adapts to the speed of the iterations:
+ * from the time the checks since the last reading took, the number of checks is estimated which
+ * takes a sixteenth of the remaining budget, and the clock is read again after these checks (but
+ * at least after <code>checkInterval</code> checks). This way algorithms with slow iterations read
+ * the clock on each check, and towards the end of the budget the interval shrinks, so a budget is
+ * usually exceeded by at most about one iteration. Once the budget is exhausted the condition stays
+ * fulfilled without reading the clock again. The time is not stored in checkpoints, a resumed run
+ * gets the full budget again.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public abstract class AbstractClockBudget<T extends OptimizationProblem>
+        implements TerminationCondition<T> {
+
+    /**
+     * Default maximal number of checks between two readings of the clock.
+     */
+    public static final int DEFAULT_CHECK_INTERVAL = 16;
+
+    // the clock is read once the checks since the last reading are expected to take this part
+    // (the reciprocal) of the remaining budget
+    private static final long REMAINING_BUDGET_FRACTION = 16L;
+
+    private final long limitNanos;
+    private final int checkInterval;
+    private int remainingChecks = 1;
+    private boolean started = false;
+    private boolean exhausted = false;
+    private long startNanos;
+    private long lastReadingNanos;
+    private long checksSinceReading = 0L;
+    private long elapsedNanos = 0L;
+
+    /**
+     * Constructs a new {@link AbstractClockBudget}-instance.
+     *
+     * @param limitMillis time in milliseconds after which the condition is fulfilled (has to be
+     *        positive)
+     * @param checkInterval maximal number of checks between two readings of the clock (has to be
+     *        true positive)
+     */
+    public AbstractClockBudget(long limitMillis, int checkInterval) {
+        if (limitMillis < 0) {
+            throw new IllegalArgumentException("The time limit has to be positive (>= 0).");
+        }
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("The check interval has to be true positive (> 0).");
+        }
+        this.limitNanos = TimeUnit.MILLISECONDS.toNanos(limitMillis);
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        if (exhausted) {
+            return true;
+        }
+        checksSinceReading++;
+        if (--remainingChecks > 0) {
+            return false;
+        }
+        long now = readClockNanos();
+        if (!started) {
+            // the second check reads the clock again to measure the time of a check
+            started = true;
+            startNanos = now;
+            remainingChecks = 1;
+        }
+        elapsedNanos = now - startNanos;
+        exhausted = elapsedNanos >= limitNanos;
+        if (!exhausted && remainingChecks == 0) {
+            long nanosPerCheck = Math.max(1L, (now - lastReadingNanos) / checksSinceReading);
+            long checks = (limitNanos - elapsedNanos) / REMAINING_BUDGET_FRACTION / nanosPerCheck;
+            remainingChecks = (int) Math.max(1L, Math.min(checkInterval, checks));
+        }
+        lastReadingNanos = now;
+        checksSinceReading = 0L;
+        return exhausted;
+    }
+
+    /**
+     * Returns the current time of the clock in nanoseconds (relative to an arbitrary origin).
+     *
+     * @return
+     */
+    protected abstract long readClockNanos();
+
+    /**
+     * Returns <code>true</code> if the budget is exhausted and <code>false</code> otherwise.
+     *
+     * @return
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Returns the time in nanoseconds which passed until the last reading of the clock.
+     *
+     * @return
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the used part of the budget within [0, 1] at the last reading of the clock.
+     *
+     * @return
+     */
+    public double getProgress() {
+        return limitNanos == 0 ? 1.0D : Math.min(1.0D, (double) elapsedNanos / limitNanos);
+    }
+
+}
@@ -0,0 +1,39 @@
+package jep.model.optimizationProblem.termination;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as it is
+ * cancelled. Any thread can cancel a running algorithm by calling {@link #cancel()}, the algorithm
+ * stops cooperatively at its next check of the condition and returns its result as usual. A check
+ * is a single read of a volatile field, so it can be done on each iteration.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class CancellationToken<T extends OptimizationProblem> implements TerminationCondition<T> {
+
+    private volatile boolean cancelled = false;
+
+    /**
+     * Requests the termination of the algorithms using this token. This method can be called by
+     * any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns <code>true</code> if this token was cancelled and <code>false</code> otherwise.
+     *
+     * @return
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        return cancelled;
+    }
+
+}
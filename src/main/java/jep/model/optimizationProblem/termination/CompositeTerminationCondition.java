@@ -0,0 +1,59 @@
+package jep.model.optimizationProblem.termination;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+
+/**
+ * This class implements the conjunction or disjunction of two {@link TerminationCondition}s, which
+ * stores the states of both conditions in checkpoints.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+class CompositeTerminationCondition<T extends OptimizationProblem>
+        implements TerminationCondition<T>, Checkpointable {
+
+    private final TerminationCondition<T> first;
+    private final TerminationCondition<T> second;
+    private final boolean conjunction;
+
+    /**
+     * Constructs a new {@link CompositeTerminationCondition}-instance.
+     *
+     * @param first first condition
+     * @param second second condition
+     * @param conjunction <code>true</code> if both conditions have to be fulfilled,
+     *        <code>false</code> if one of them has to be fulfilled
+     */
+    CompositeTerminationCondition(TerminationCondition<T> first, TerminationCondition<T> second,
+            boolean conjunction) {
+        this.first = Objects.requireNonNull(first);
+        this.second = Objects.requireNonNull(second);
+        this.conjunction = conjunction;
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        // no short-circuit evaluation, both conditions have to observe each iteration
+        boolean firstFulfilled = first.isFulfilled(iterationCount, fitness);
+        boolean secondFulfilled = second.isFulfilled(iterationCount, fitness);
+        return conjunction ? firstFulfilled && secondFulfilled : firstFulfilled || secondFulfilled;
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(first, output);
+        Checkpointable.writeStateOf(second, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(first, input);
+        Checkpointable.readStateOf(second, input);
+    }
+
+}
@@ -0,0 +1,59 @@
+package jep.model.optimizationProblem.termination;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as the thread
+ * checking it used a given CPU time since its first check. Unlike a {@link WallClockBudget} it is
+ * not affected by other processes competing for the processors. The CPU time of other threads
+ * (for example of a parallel evaluation) is not counted.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class CpuTimeBudget<T extends OptimizationProblem> extends AbstractClockBudget<T> {
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Constructs a new {@link CpuTimeBudget}-instance which reads the clock at least every
+     * {@value AbstractClockBudget#DEFAULT_CHECK_INTERVAL} checks.
+     *
+     * @param limitMillis CPU time in milliseconds after which the condition is fulfilled (has to
+     *        be positive)
+     * @throws UnsupportedOperationException if the JVM does not support measuring the CPU time of
+     *         threads
+     */
+    public CpuTimeBudget(long limitMillis) {
+        this(limitMillis, DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * Constructs a new {@link CpuTimeBudget}-instance.
+     *
+     * @param limitMillis CPU time in milliseconds after which the condition is fulfilled (has to
+     *        be positive)
+     * @param checkInterval maximal number of checks between two readings of the clock (has to be
+     *        true positive)
+     * @throws UnsupportedOperationException if the JVM does not support measuring the CPU time of
+     *         threads
+     */
+    public CpuTimeBudget(long limitMillis, int checkInterval) {
+        super(limitMillis, checkInterval);
+        if (!threadBean.isCurrentThreadCpuTimeSupported()) {
+            throw new UnsupportedOperationException(
+                    "The CPU time of threads can not be measured by this JVM.");
+        }
+        if (!threadBean.isThreadCpuTimeEnabled()) {
+            threadBean.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    @Override
+    protected long readClockNanos() {
+        return threadBean.getCurrentThreadCpuTime();
+    }
+
+}
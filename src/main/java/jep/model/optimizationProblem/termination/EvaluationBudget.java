@@ -0,0 +1,48 @@
+package jep.model.optimizationProblem.termination;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import jep.model.optimizationProblem.FitnessCache;
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as a given
+ * number of fitness evaluations was done since its construction. The evaluations are counted by
+ * the run, usually by a counter which is passed to the algorithm (for example via
+ * {@link jep.model.optimizationProblem.ga.GeneticAlgorithm#setEvaluationCounter}), or by the misses
+ * of a {@link FitnessCache} of the run. The count is passed as {@link LongSupplier},
+ * which is called on each check and therefore has to be cheap.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class EvaluationBudget<T extends OptimizationProblem> implements TerminationCondition<T> {
+
+    private final LongSupplier numberOfEvaluations;
+    private final long maxEvaluations;
+    private final long initialEvaluations;
+
+    /**
+     * Constructs a new {@link EvaluationBudget}-instance.
+     *
+     * @param numberOfEvaluations supplier of the number of evaluations done so far, the
+     *        evaluations are counted from its value at construction
+     * @param maxEvaluations number of evaluations after which the condition is fulfilled (has to
+     *        be positive)
+     */
+    public EvaluationBudget(LongSupplier numberOfEvaluations, long maxEvaluations) {
+        this.numberOfEvaluations = Objects.requireNonNull(numberOfEvaluations);
+        if (maxEvaluations < 0) {
+            throw new IllegalArgumentException(
+                    "The number of evaluations has to be positive (>= 0).");
+        }
+        this.maxEvaluations = maxEvaluations;
+        this.initialEvaluations = numberOfEvaluations.getAsLong();
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        return numberOfEvaluations.getAsLong() - initialEvaluations >= maxEvaluations;
+    }
+
+}
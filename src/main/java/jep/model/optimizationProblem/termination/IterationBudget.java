@@ -0,0 +1,34 @@
+package jep.model.optimizationProblem.termination;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as the algorithm
+ * did a given number of iterations.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class IterationBudget<T extends OptimizationProblem> implements TerminationCondition<T> {
+
+    private final long maxIterations;
+
+    /**
+     * Constructs a new {@link IterationBudget}-instance.
+     *
+     * @param maxIterations number of iterations after which the condition is fulfilled (has to be
+     *        positive)
+     */
+    public IterationBudget(long maxIterations) {
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException(
+                    "The number of iterations has to be positive (>= 0).");
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        return iterationCount >= maxIterations;
+    }
+
+}
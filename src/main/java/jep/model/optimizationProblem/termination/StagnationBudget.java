@@ -0,0 +1,67 @@
+package jep.model.optimizationProblem.termination;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as the best
+ * fitness observed did not improve for a given number of iterations. The best fitness and the
+ * iteration of its last improvement are stored in checkpoints.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class StagnationBudget<T extends OptimizationProblem>
+        implements TerminationCondition<T>, Checkpointable {
+
+    private final FitnessComparator<T> fitnessComparator;
+    private final long maxIterationsWithoutImprovement;
+    private double bestFitness = Double.NaN;
+    private long lastImprovementIteration = 0L;
+
+    /**
+     * Constructs a new {@link StagnationBudget}-instance.
+     *
+     * @param fitnessComparator comparator used to decide which fitness is better
+     * @param maxIterationsWithoutImprovement number of iterations without improvement after which
+     *        the condition is fulfilled (has to be true positive)
+     */
+    public StagnationBudget(FitnessComparator<T> fitnessComparator,
+            long maxIterationsWithoutImprovement) {
+        this.fitnessComparator = Objects.requireNonNull(fitnessComparator);
+        if (maxIterationsWithoutImprovement <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of iterations without improvement has to be true positive (> 0).");
+        }
+        this.maxIterationsWithoutImprovement = maxIterationsWithoutImprovement;
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        if (Double.isNaN(bestFitness)
+                || fitnessComparator.checkIfFirstSolutionIsBetter(fitness, bestFitness)) {
+            bestFitness = fitness;
+            lastImprovementIteration = iterationCount;
+            return false;
+        }
+        return iterationCount - lastImprovementIteration >= maxIterationsWithoutImprovement;
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        output.writeDouble(bestFitness);
+        output.writeLong(lastImprovementIteration);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        bestFitness = input.readDouble();
+        lastImprovementIteration = input.readLong();
+    }
+
+}
@@ -0,0 +1,36 @@
+package jep.model.optimizationProblem.termination;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as a fitness
+ * which is better than or equal to a given target fitness is reached.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class TargetFitnessCondition<T extends OptimizationProblem>
+        implements TerminationCondition<T> {
+
+    private final FitnessComparator<T> fitnessComparator;
+    private final double targetFitness;
+
+    /**
+     * Constructs a new {@link TargetFitnessCondition}-instance.
+     *
+     * @param fitnessComparator comparator used to decide which fitness is better
+     * @param targetFitness fitness which is to be reached
+     */
+    public TargetFitnessCondition(FitnessComparator<T> fitnessComparator, double targetFitness) {
+        this.fitnessComparator = Objects.requireNonNull(fitnessComparator);
+        this.targetFitness = targetFitness;
+    }
+
+    @Override
+    public boolean isFulfilled(long iterationCount, double fitness) {
+        return fitnessComparator.checkIfFirstIsBetterOrEqual(fitness, targetFitness);
+    }
+
+}
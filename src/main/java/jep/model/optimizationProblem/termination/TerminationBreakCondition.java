@@ -0,0 +1,60 @@
+package jep.model.optimizationProblem.termination;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.ga.GeneticAlgorithm;
+import jep.model.optimizationProblem.ga.Population;
+
+/**
+ * This class adapts a {@link TerminationCondition} to the break conditions of the
+ * {@link GeneticAlgorithm} and of the corrective procedures, so both algorithms accept the same
+ * condition. The genetic algorithm passes the fitness of the best individual found so far, a
+ * corrective procedure the fitness of its current solution. The state of the condition is stored
+ * in the checkpoints of the algorithm.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class TerminationBreakCondition<T extends OptimizationProblem> implements
+        jep.model.optimizationProblem.ga.BreakCondition<T>,
+        jep.model.optimizationProblem.correctiveProcedure.BreakCondition<T>, Checkpointable {
+
+    private final TerminationCondition<T> condition;
+
+    /**
+     * Constructs a new {@link TerminationBreakCondition}-instance.
+     *
+     * @param condition condition which decides if the algorithm is to be terminated
+     */
+    public TerminationBreakCondition(TerminationCondition<T> condition) {
+        this.condition = Objects.requireNonNull(condition);
+    }
+
+    @Override
+    public boolean isFulfilled(Population<T> currentPopulation, long iterationCount,
+            Solution<T> bestFoundSolution) {
+        return condition.isFulfilled(iterationCount, bestFoundSolution.getFitness());
+    }
+
+    @Override
+    public boolean isFulfilled(Solution<T> currentSolution, long iterationCount,
+            long iterationWithAcceptanceCount) {
+        return condition.isFulfilled(iterationCount, currentSolution.getFitness());
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(condition, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(condition, input);
+    }
+
+}
@@ -0,0 +1,56 @@
+package jep.model.optimizationProblem.termination;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This functional interface defines a condition which states if an algorithm is to be terminated.
+ * In contrast to the break conditions of the single algorithms it only depends on the iteration
+ * count and a fitness, so the same condition can be used by a genetic algorithm or a corrective
+ * procedure (see {@link TerminationBreakCondition}) and directly by an ant colony optimization.
+ * <p>
+ * Conditions are combined using {@link #and(TerminationCondition)} and
+ * {@link #or(TerminationCondition)}. A condition is checked once per iteration by the thread of the
+ * algorithm, so it has to be cheap: conditions which read a clock do so every few iterations only
+ * (see {@link AbstractClockBudget}). Only a {@link CancellationToken} is to be used by other
+ * threads.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+@FunctionalInterface
+public interface TerminationCondition<T extends OptimizationProblem> {
+
+    /**
+     * Returns <code>true</code> if the condition is fulfilled and <code>false</code> otherwise.
+     *
+     * @param iterationCount count of iterations of the algorithm
+     * @param fitness fitness of the best solution found so far (genetic algorithm, ant colony
+     *        optimization) or of the current solution (corrective procedure)
+     * @return
+     */
+    boolean isFulfilled(long iterationCount, double fitness);
+
+    /**
+     * Returns a condition which is fulfilled if this and the given <code>other</code> condition
+     * are fulfilled. Both conditions are checked on each call, so conditions with a state (for
+     * example a {@link StagnationBudget}) observe every iteration.
+     *
+     * @param other condition which has to be fulfilled as well
+     * @return
+     */
+    default TerminationCondition<T> and(TerminationCondition<T> other) {
+        return new CompositeTerminationCondition<>(this, other, true);
+    }
+
+    /**
+     * Returns a condition which is fulfilled if this or the given <code>other</code> condition is
+     * fulfilled. Both conditions are checked on each call, so conditions with a state (for example
+     * a {@link StagnationBudget}) observe every iteration.
+     *
+     * @param other condition which is fulfilled alternatively
+     * @return
+     */
+    default TerminationCondition<T> or(TerminationCondition<T> other) {
+        return new CompositeTerminationCondition<>(this, other, false);
+    }
+
+}
@@ -0,0 +1,41 @@
+package jep.model.optimizationProblem.termination;
+
+import jep.model.optimizationProblem.OptimizationProblem;
+
+/**
+ * This class implements a {@link TerminationCondition} which is fulfilled as soon as a given
+ * wall-clock time (measured by {@link System#nanoTime()}) passed since its first check.
+ *
+ * @param <T> specific {@link OptimizationProblem}-instance this condition is to be used for
+ */
+public class WallClockBudget<T extends OptimizationProblem> extends AbstractClockBudget<T> {
+
+    /**
+     * Constructs a new {@link WallClockBudget}-instance which reads the clock at least every
+     * {@value AbstractClockBudget#DEFAULT_CHECK_INTERVAL} checks.
+     *
+     * @param limitMillis time in milliseconds after which the condition is fulfilled (has to be
+     *        positive)
+     */
+    public WallClockBudget(long limitMillis) {
+        this(limitMillis, DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * Constructs a new {@link WallClockBudget}-instance.
+     *
+     * @param limitMillis time in milliseconds after which the condition is fulfilled (has to be
+     *        positive)
+     * @param checkInterval maximal number of checks between two readings of the clock (has to be
+     *        true positive)
+     */
+    public WallClockBudget(long limitMillis, int checkInterval) {
+        super(limitMillis, checkInterval);
+    }
+
+    @Override
+    protected long readClockNanos() {
+        return System.nanoTime();
+    }
+
+}
@@ -0,0 +1,120 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * This class holds the <code>k</code> nearest neighbors (the candidates) of each city of a
+ * {@link TravelingSalesmanProblem}. Good tours almost only connect cities which are near each
+ * other, so neighborhoods and construction heuristics restricted to the candidates skip nearly all
+ * useless moves.
+ * <p>
+ * The lists are computed in parallel by querying a {@link KdTree} and stored in a single flat
+ * array, the candidates of city <code>i</code> are stored at <code>i * k</code> to
+ * <code>i * k + k - 1</code> ordered by their distance according to the problem (the tree only
+ * knows the geographic distance, which can differ).
+ *
+ */
+public class CandidateLists {
+
+    private final int numberOfCities;
+    private final int k;
+    private final int[] candidates;
+
+    /**
+     * Constructs the candidate lists of all cities of the given <code>problem</code>.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance whose cities are used
+     * @param k number of candidates per city (limited to the number of cities minus 1)
+     */
+    public CandidateLists(TravelingSalesmanProblem problem, int k) {
+        this(problem, KdTree.forCities(Objects.requireNonNull(problem)), k);
+    }
+
+    /**
+     * Constructs the candidate lists of all cities of the given <code>problem</code> using the
+     * given <code>tree</code>, which must not have removed points.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance whose cities are used
+     * @param tree {@link KdTree}-instance over the cities of the problem
+     * @param k number of candidates per city (limited to the number of cities minus 1)
+     */
+    public CandidateLists(TravelingSalesmanProblem problem, KdTree tree, int k) {
+        Objects.requireNonNull(problem);
+        Objects.requireNonNull(tree);
+        if (tree.size() != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException("The tree has to hold the cities of the problem.");
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of candidates has to be true positive (> 0).");
+        }
+        this.numberOfCities = tree.size();
+        this.k = Math.max(1, Math.min(k, numberOfCities - 1));
+        this.candidates = new int[numberOfCities * this.k];
+        Arrays.fill(candidates, -1);
+        IntStream.range(0, numberOfCities).parallel().forEach(city -> {
+            int[] neighbors = tree.nearestNeighbors(city, this.k);
+            sortByDistance(problem, city, neighbors);
+            System.arraycopy(neighbors, 0, candidates, city * this.k, neighbors.length);
+        });
+    }
+
+    /**
+     * Insertion sort, the neighbors are already almost ordered.
+     */
+    private static void sortByDistance(TravelingSalesmanProblem problem, int city,
+            int[] neighbors) {
+        for (int i = 1; i < neighbors.length; i++) {
+            int neighbor = neighbors[i];
+            int distance = problem.getDistance(city, neighbor);
+            int j = i - 1;
+            while (j >= 0 && problem.getDistance(city, neighbors[j]) > distance) {
+                neighbors[j + 1] = neighbors[j];
+                j--;
+            }
+            neighbors[j + 1] = neighbor;
+        }
+    }
+
+    /**
+     * Returns the number of cities.
+     *
+     * @return
+     */
+    public int getNumberOfCities() {
+        return numberOfCities;
+    }
+
+    /**
+     * Returns the number of candidates per city.
+     *
+     * @return
+     */
+    public int getNumberOfCandidates() {
+        return k;
+    }
+
+    /**
+     * Returns the candidate of the given <code>city</code> with the given <code>rank</code> (0 being
+     * the nearest city).
+     *
+     * @param city index of the city
+     * @param rank rank of the candidate within <code>[0, k)</code>
+     * @return
+     */
+    public int getCandidate(int city, int rank) {
+        return candidates[city * k + rank];
+    }
+
+    /**
+     * Returns a copy of the flat array of all candidate lists.
+     *
+     * @return
+     */
+    public int[] toArray() {
+        return candidates.clone();
+    }
+
+}
@@ -0,0 +1,118 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.correctiveProcedure.NeighborFunction;
+import jep.model.optimizationProblem.ga.mutation.MutationRule;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a function which constructs a new {@link TSPSolution} by a 2-opt move
+ * restricted to the {@link CandidateLists}: a random city <code>a</code> and a random candidate
+ * <code>b</code> of <code>a</code> are picked and the path between them is reversed, so
+ * <code>b</code> becomes the successor of <code>a</code>. Unlike swapping two random cities, which
+ * almost always connects cities far apart from each other, every move connects a city to one of its
+ * nearest neighbors. It can be used as {@link NeighborFunction} of a corrective procedure as well
+ * as {@link MutationRule} of a genetic algorithm. The given solution is not modified.
+ *
+ */
+public class CandidateTwoOptFunction implements NeighborFunction<TravelingSalesmanProblem>,
+        MutationRule<TravelingSalesmanProblem>, Checkpointable {
+
+    private final TravelingSalesmanProblem problem;
+    private final CandidateLists candidateLists;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link CandidateTwoOptFunction}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance the constructed solutions are
+     *        constructed for
+     * @param candidateLists candidate lists of the cities of the problem
+     */
+    public CandidateTwoOptFunction(TravelingSalesmanProblem problem,
+            CandidateLists candidateLists) {
+        this(problem, candidateLists, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link CandidateTwoOptFunction}-instance using the given <code>random</code>
+     * to pick the moves.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance the constructed solutions are
+     *        constructed for
+     * @param candidateLists candidate lists of the cities of the problem
+     * @param random random number generator used to pick the moves
+     */
+    public CandidateTwoOptFunction(TravelingSalesmanProblem problem, CandidateLists candidateLists,
+            Random random) {
+        this.problem = Objects.requireNonNull(problem);
+        this.candidateLists = Objects.requireNonNull(candidateLists);
+        this.random = Objects.requireNonNull(random);
+        if (candidateLists.getNumberOfCities() != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException(
+                    "The candidate lists have to cover the cities of the problem.");
+        }
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> constructNeighbor(
+            Solution<TravelingSalesmanProblem> currentSolution) {
+        return applyRandomMove((TSPSolution) currentSolution);
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> mutate(
+            Solution<TravelingSalesmanProblem> individual) {
+        return applyRandomMove((TSPSolution) individual);
+    }
+
+    private TSPSolution applyRandomMove(TSPSolution solution) {
+        City[] cities = solution.getCities();
+        int n = cities.length;
+        int[] tour = new int[n];
+        int[] position = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = cities[i].ordinal();
+            position[tour[i]] = i;
+        }
+        int a = random.nextInt(n);
+        int b = candidateLists.getCandidate(a,
+                random.nextInt(candidateLists.getNumberOfCandidates()));
+        int i = position[a];
+        int j = position[b];
+        // replace the edges (a, succ(a)) and (b, succ(b)) by (a, b) and (succ(a), succ(b))
+        if (i < j) {
+            reverse(tour, i + 1, j);
+        } else {
+            reverse(tour, j + 1, i);
+        }
+        return new TSPSolution(problem, tour);
+    }
+
+    private static void reverse(int[] tour, int from, int to) {
+        while (from < to) {
+            int city = tour[from];
+            tour[from++] = tour[to];
+            tour[to--] = city;
+        }
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+    }
+
+}
@@ -0,0 +1,88 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.checkpoint.Checkpointable;
+import jep.model.optimizationProblem.correctiveProcedure.NeighborFunction;
+import jep.model.optimizationProblem.ga.mutation.MutationRule;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a function which constructs a new {@link TSPSolution} by swapping two
+ * randomly picked cities of a given solution. It can be used as {@link NeighborFunction} of a
+ * corrective procedure as well as {@link MutationRule} of a genetic algorithm. The given solution
+ * is not modified.
+ *
+ */
+public class CitySwapFunction implements NeighborFunction<TravelingSalesmanProblem>,
+        MutationRule<TravelingSalesmanProblem>, Checkpointable {
+
+    private final TravelingSalesmanProblem problem;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link CitySwapFunction}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance the constructed solutions are
+     *        constructed for
+     */
+    public CitySwapFunction(TravelingSalesmanProblem problem) {
+        this(problem, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link CitySwapFunction}-instance using the given <code>random</code> to
+     * pick the cities which are swapped.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance the constructed solutions are
+     *        constructed for
+     * @param random random number generator used to pick the swapped cities
+     */
+    public CitySwapFunction(TravelingSalesmanProblem problem, Random random) {
+        this.problem = Objects.requireNonNull(problem);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> constructNeighbor(
+            Solution<TravelingSalesmanProblem> currentSolution) {
+        return swapRandomCities((TSPSolution) currentSolution);
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> mutate(
+            Solution<TravelingSalesmanProblem> individual) {
+        return swapRandomCities((TSPSolution) individual);
+    }
+
+    private TSPSolution swapRandomCities(TSPSolution solution) {
+        City[] cities = solution.getCities().clone();
+        int first = random.nextInt(cities.length);
+        int second = random.nextInt(cities.length - 1);
+        if (second >= first) {
+            // skip the first index, this way the second index differs without drawing again
+            second++;
+        }
+        City city = cities[first];
+        cities[first] = cities[second];
+        cities[second] = city;
+        return new TSPSolution(problem, cities);
+    }
+
+    @Override
+    public void writeState(DataOutput output) throws IOException {
+        Checkpointable.writeStateOf(random, output);
+    }
+
+    @Override
+    public void readState(DataInput input) throws IOException {
+        Checkpointable.readStateOf(random, input);
+    }
+
+}
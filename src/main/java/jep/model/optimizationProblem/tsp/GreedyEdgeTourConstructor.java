@@ -0,0 +1,155 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+
+/**
+ * This class implements an {@link InitialSolutionConstructor} which constructs a tour using the
+ * greedy edge heuristic: edges are added in order of increasing length, skipping every edge which
+ * would give a city a third neighbor or close a cycle early.
+ * <p>
+ * Only the edges to the {@link #NUMBER_OF_CANDIDATES} nearest neighbors of each city (the
+ * {@link CandidateLists}) are considered, which reduces the work to <code>O(n log n)</code>. Cycles are
+ * detected with a union-find structure. Since the candidate edges do not always suffice to connect
+ * all cities, the remaining fragments are joined afterwards by repeatedly connecting the end of the
+ * current fragment to the nearest end of another fragment.
+ * <p>
+ * The heuristic is deterministic, so the tour is constructed once and every call returns the same
+ * tour.
+ *
+ */
+public class GreedyEdgeTourConstructor
+        implements InitialSolutionConstructor<TravelingSalesmanProblem> {
+
+    /**
+     * Number of nearest neighbors per city whose edges are considered.
+     */
+    public static final int NUMBER_OF_CANDIDATES = 10;
+
+    private final TravelingSalesmanProblem problem;
+    private volatile TSPSolution solution;
+
+    /**
+     * Constructs a new {@link GreedyEdgeTourConstructor}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance for which the tour is constructed
+     */
+    public GreedyEdgeTourConstructor(TravelingSalesmanProblem problem) {
+        this.problem = Objects.requireNonNull(problem);
+    }
+
+    @Override
+    public TSPSolution getInitialSolution() {
+        TSPSolution result = solution;
+        if (result == null) {
+            synchronized (this) {
+                result = solution;
+                if (result == null) {
+                    result = new TSPSolution(problem, constructTour());
+                    solution = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private int[] constructTour() {
+        int n = problem.getNumberOfCities();
+        KdTree tree = KdTree.forCities(problem);
+        CandidateLists candidateLists = new CandidateLists(problem, tree, NUMBER_OF_CANDIDATES);
+        int k = candidateLists.getNumberOfCandidates();
+
+        // candidate edges packed as (distance << 32 | city * k + rank), sorted by distance
+        long[] edges = new long[n * k];
+        for (int city = 0; city < n; city++) {
+            for (int rank = 0; rank < k; rank++) {
+                long distance = problem.getDistance(city, candidateLists.getCandidate(city, rank));
+                edges[city * k + rank] = (distance << 32) | (city * k + rank);
+            }
+        }
+        Arrays.sort(edges);
+
+        int[] first = new int[n];
+        int[] second = new int[n];
+        Arrays.fill(first, -1);
+        Arrays.fill(second, -1);
+        int[] parent = new int[n];
+        for (int city = 0; city < n; city++) {
+            parent[city] = city;
+        }
+        for (long edge : edges) {
+            int packed = (int) edge;
+            int a = packed / k;
+            int b = candidateLists.getCandidate(a, packed % k);
+            if (b < 0 || second[a] >= 0 || second[b] >= 0) {
+                continue;
+            }
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) {
+                continue;
+            }
+            parent[rootA] = rootB;
+            link(first, second, a, b);
+            link(first, second, b, a);
+        }
+        return joinFragments(tree, first, second);
+    }
+
+    private static int find(int[] parent, int city) {
+        while (parent[city] != city) {
+            // path halving
+            parent[city] = parent[parent[city]];
+            city = parent[city];
+        }
+        return city;
+    }
+
+    private static void link(int[] first, int[] second, int city, int neighbor) {
+        if (first[city] < 0) {
+            first[city] = neighbor;
+        } else {
+            second[city] = neighbor;
+        }
+    }
+
+    /**
+     * Concatenates the path fragments to a tour. The tree only holds the ends of the fragments not
+     * added to the tour yet, so the nearest end is found by a single query.
+     */
+    private static int[] joinFragments(KdTree tree, int[] first, int[] second) {
+        int n = first.length;
+        int[] tour = new int[n];
+        tree.reset();
+        int start = -1;
+        for (int city = 0; city < n; city++) {
+            if (second[city] >= 0) {
+                tree.remove(city);
+            } else if (start < 0) {
+                start = city;
+            }
+        }
+        int position = 0;
+        int current = start;
+        while (current >= 0) {
+            tree.remove(current);
+            // walk along the fragment to its other end
+            int previous = -1;
+            while (true) {
+                tour[position++] = current;
+                int next = first[current] != previous ? first[current] : second[current];
+                if (next < 0) {
+                    break;
+                }
+                previous = current;
+                current = next;
+            }
+            tree.remove(current);
+            current = tree.nearest(current);
+        }
+        return tour;
+    }
+
+}
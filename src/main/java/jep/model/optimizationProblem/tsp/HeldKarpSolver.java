@@ -0,0 +1,174 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements the Held-Karp algorithm, a dynamic program which solves a
+ * {@link TravelingSalesmanProblem} exactly in <code>O(n^2 * 2^n)</code> time. It is meant for small
+ * and medium instances (up to {@link #MAX_NUMBER_OF_CITIES} cities), for example as ground truth
+ * for the results of heuristic algorithms.
+ * <p>
+ * For every subset <code>S</code> of the cities except the first city and every city
+ * <code>j</code> in <code>S</code> the table holds the length of the shortest path starting at the
+ * first city, visiting all cities of <code>S</code> and ending at <code>j</code>. The table is a
+ * single <code>int</code> array indexed by <code>S * (n - 1) + j</code>. Subsets are processed in
+ * layers of the same size, since a subset only depends on subsets with one city less all subsets of
+ * a layer are computed in parallel. The subsets of a layer are enumerated directly in increasing
+ * order (Gosper's hack) instead of filtering all subsets. The optimal tour is reconstructed from
+ * the table, so no predecessors are stored.
+ *
+ */
+public class HeldKarpSolver {
+
+    /**
+     * Maximal number of cities of a problem solved by this class. The table of 25 cities holds
+     * about 400 million entries (1.6 GB).
+     */
+    public static final int MAX_NUMBER_OF_CITIES = 25;
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final TravelingSalesmanProblem problem;
+    private final boolean parallel;
+
+    /**
+     * Constructs a new {@link HeldKarpSolver}-instance which computes the layers in parallel.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance which is solved
+     */
+    public HeldKarpSolver(TravelingSalesmanProblem problem) {
+        this(problem, true);
+    }
+
+    /**
+     * Constructs a new {@link HeldKarpSolver}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance which is solved
+     * @param parallel if <code>true</code> the subsets of a layer are computed in parallel
+     */
+    public HeldKarpSolver(TravelingSalesmanProblem problem, boolean parallel) {
+        this.problem = Objects.requireNonNull(problem);
+        this.parallel = parallel;
+        int n = problem.getNumberOfCities();
+        if (n < 2 || n > MAX_NUMBER_OF_CITIES) {
+            throw new IllegalArgumentException(
+                    "The problem has to contain 2 to " + MAX_NUMBER_OF_CITIES + " cities.");
+        }
+    }
+
+    /**
+     * Computes and returns an optimal tour.
+     *
+     * @return
+     */
+    public TSPSolution solve() {
+        int n = problem.getNumberOfCities();
+        int[] distances = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = problem.getDistance(i, j);
+            }
+        }
+        // city i + 1 is represented by bit i, the first city is the fixed start of all paths
+        int m = n - 1;
+        int subsets = 1 << m;
+        int[] table = new int[subsets * m];
+        for (int j = 0; j < m; j++) {
+            table[(1 << j) * m + j] = distances[j + 1];
+        }
+        // the middle layer is the largest one
+        int[] layer = new int[(int) binomial(m, m / 2)];
+        for (int size = 2; size <= m; size++) {
+            int layerSize = 0;
+            for (int mask = (1 << size) - 1; mask < subsets; mask = nextSubset(mask)) {
+                layer[layerSize++] = mask;
+            }
+            IntStream indices = IntStream.range(0, layerSize);
+            if (parallel) {
+                indices = indices.parallel();
+            }
+            indices.forEach(index -> computeSubset(layer[index], m, n, distances, table));
+        }
+
+        int full = subsets - 1;
+        int last = -1;
+        long bestLength = Long.MAX_VALUE;
+        for (int j = 0; j < m; j++) {
+            long length = (long) table[full * m + j] + distances[(j + 1) * n];
+            if (length < bestLength) {
+                bestLength = length;
+                last = j;
+            }
+        }
+        return new TSPSolution(problem, reconstructTour(last, m, n, distances, table));
+    }
+
+    /**
+     * Returns the next greater subset with the same number of cities as the given
+     * <code>mask</code> (Gosper's hack).
+     */
+    private static int nextSubset(int mask) {
+        int lowest = mask & -mask;
+        int ripple = mask + lowest;
+        return (((ripple ^ mask) >>> 2) / lowest) | ripple;
+    }
+
+    private static long binomial(int n, int k) {
+        long result = 1L;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    private static void computeSubset(int mask, int m, int n, int[] distances, int[] table) {
+        for (int j = 0; j < m; j++) {
+            if ((mask & (1 << j)) == 0) {
+                continue;
+            }
+            int previous = mask ^ (1 << j);
+            int column = (j + 1);
+            long best = UNREACHABLE;
+            for (int i = 0; i < m; i++) {
+                if ((previous & (1 << i)) != 0) {
+                    long length = (long) table[previous * m + i] + distances[(i + 1) * n + column];
+                    if (length < best) {
+                        best = length;
+                    }
+                }
+            }
+            table[mask * m + j] = (int) Math.min(best, UNREACHABLE);
+        }
+    }
+
+    /**
+     * Walks back from the full subset ending at city <code>last</code>, each step searching the
+     * predecessor whose path length plus the connecting distance equals the stored length.
+     */
+    private static int[] reconstructTour(int last, int m, int n, int[] distances, int[] table) {
+        int[] tour = new int[n];
+        int mask = (1 << m) - 1;
+        int current = last;
+        for (int position = n - 1; position > 0; position--) {
+            tour[position] = current + 1;
+            int previous = mask ^ (1 << current);
+            if (previous == 0) {
+                break;
+            }
+            int length = table[mask * m + current];
+            int predecessor = -1;
+            for (int i = 0; i < m && predecessor < 0; i++) {
+                if ((previous & (1 << i)) != 0 && (long) table[previous * m + i]
+                        + distances[(i + 1) * n + current + 1] == length) {
+                    predecessor = i;
+                }
+            }
+            mask = previous;
+            current = predecessor;
+        }
+        tour[0] = 0;
+        return tour;
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.Random;
 
 import jep.model.optimizationProblem.InitialSolutionConstructor;
 import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+import jep.model.random.SplitMixRandom;
 
 public class InitialTSPSolutionConstructor
         implements InitialSolutionConstructor<TravelingSalesmanProblem> {
@@ -16,12 +17,12 @@ public class InitialTSPSolutionConstructor
 
     public InitialTSPSolutionConstructor(TravelingSalesmanProblem problem) {
         this.problem = problem;
-        this.random = new Random();
+        this.random = new SplitMixRandom();
     }
 
     public InitialTSPSolutionConstructor(TravelingSalesmanProblem problem, long seed) {
         this.problem = problem;
-        this.random = new Random(seed);
+        this.random = new SplitMixRandom(seed);
     }
 
     public InitialTSPSolutionConstructor(TravelingSalesmanProblem problem, Random random) {
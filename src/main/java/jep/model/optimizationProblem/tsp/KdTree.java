@@ -0,0 +1,378 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class implements a static three-dimensional k-d tree over points identified by their index.
+ * It supports nearest neighbor and k-nearest neighbor queries as well as removing points, which
+ * allows to search the nearest point which was not visited yet.
+ * <p>
+ * The tree is stored implicitly: the points are ordered such that the median of each range is the
+ * splitting point of the range, its left half holds the smaller and its right half the greater
+ * coordinates. The number of points not removed is kept per subtree, so empty subtrees are skipped.
+ * <p>
+ * For the cities of a {@link TravelingSalesmanProblem} use
+ * {@link #forCities(TravelingSalesmanProblem)}, which places the cities as unit vectors on a
+ * sphere. The straight line distance of two unit vectors grows with their great circle distance, so
+ * the nearest points are the nearest cities.
+ * <p>
+ * Queries do not modify the tree, so they may be run concurrently as long as no points are removed
+ * at the same time.
+ *
+ */
+public class KdTree {
+
+    private final double[][] coordinates;
+    private final int size;
+    // order[position] is the point stored at the tree position
+    private final int[] order;
+    // axis[position] is the splitting axis of the range whose median is the position
+    private final byte[] axis;
+    private final int[] positionOf;
+    private final boolean[] removed;
+    // number of points not removed in the range whose median is the position
+    private final int[] remaining;
+    private final int[] rangeStart;
+    private final int[] rangeEnd;
+
+    /**
+     * Constructs a new {@link KdTree}-instance over the points <code>(x[i], y[i], z[i])</code>.
+     *
+     * @param x first coordinates of the points
+     * @param y second coordinates of the points
+     * @param z third coordinates of the points (all arrays have to have the same length)
+     */
+    public KdTree(double[] x, double[] y, double[] z) {
+        Objects.requireNonNull(x);
+        Objects.requireNonNull(y);
+        Objects.requireNonNull(z);
+        if (x.length != y.length || x.length != z.length) {
+            throw new IllegalArgumentException(
+                    "All coordinate arrays have to have the same length.");
+        }
+        this.coordinates = new double[][] {x.clone(), y.clone(), z.clone()};
+        this.size = x.length;
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        this.axis = new byte[size];
+        this.positionOf = new int[size];
+        this.removed = new boolean[size];
+        this.remaining = new int[size];
+        this.rangeStart = new int[size];
+        this.rangeEnd = new int[size];
+        build(0, size);
+        for (int position = 0; position < size; position++) {
+            positionOf[order[position]] = position;
+        }
+        reset();
+    }
+
+    /**
+     * Returns a new {@link KdTree}-instance over the cities of the given <code>problem</code>,
+     * placed as unit vectors according to their latitude and longitude.
+     *
+     * @param problem problem whose cities are indexed
+     * @return
+     */
+    public static KdTree forCities(TravelingSalesmanProblem problem) {
+        int n = problem.getNumberOfCities();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double[] z = new double[n];
+        for (int i = 0; i < n; i++) {
+            double latitude = Math.toRadians(problem.getLatitude(i));
+            double longitude = Math.toRadians(problem.getLongitude(i));
+            x[i] = Math.cos(latitude) * Math.cos(longitude);
+            y[i] = Math.cos(latitude) * Math.sin(longitude);
+            z[i] = Math.sin(latitude);
+        }
+        return new KdTree(x, y, z);
+    }
+
+    /**
+     * Orders the given range so that its median splits the range along the axis of the greatest
+     * spread, and continues with both halves.
+     */
+    private void build(int from, int to) {
+        while (to - from > 0) {
+            int mid = (from + to) >>> 1;
+            byte splitAxis = axisOfGreatestSpread(from, to);
+            select(from, to - 1, mid, coordinates[splitAxis]);
+            axis[mid] = splitAxis;
+            rangeStart[mid] = from;
+            rangeEnd[mid] = to;
+            // recurse into the smaller half, loop over the greater one to bound the stack depth
+            if (mid - from < to - mid - 1) {
+                build(from, mid);
+                from = mid + 1;
+            } else {
+                build(mid + 1, to);
+                to = mid;
+            }
+        }
+    }
+
+    private byte axisOfGreatestSpread(int from, int to) {
+        byte bestAxis = 0;
+        double bestSpread = -1.0D;
+        for (byte a = 0; a < 3; a++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double value = coordinates[a][order[i]];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > bestSpread) {
+                bestSpread = max - min;
+                bestAxis = a;
+            }
+        }
+        return bestAxis;
+    }
+
+    /**
+     * Quickselect: reorders <code>order[left..right]</code> so that position <code>k</code> holds
+     * the point it would hold if the range was sorted by the given coordinate. Each step partitions
+     * the range into the points less than, equal to and greater than the pivot (Dutch national flag
+     * partition), so many points with the same coordinate do not degrade the selection.
+     */
+    private void select(int left, int right, int k, double[] values) {
+        while (right > left) {
+            double pivot = values[order[(left + right) >>> 1]];
+            // points before less are smaller, from less to i - 1 equal, after greater greater
+            int less = left;
+            int greater = right;
+            int i = left;
+            while (i <= greater) {
+                double value = values[order[i]];
+                if (value < pivot) {
+                    swap(i++, less++);
+                } else if (value > pivot) {
+                    swap(i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < less) {
+                right = less - 1;
+            } else if (k > greater) {
+                left = greater + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = order[i];
+        order[i] = order[j];
+        order[j] = tmp;
+    }
+
+    /**
+     * Returns the number of points of this tree (including removed points).
+     *
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Restores all removed points.
+     */
+    public void reset() {
+        Arrays.fill(removed, false);
+        for (int position = 0; position < size; position++) {
+            remaining[position] = rangeEnd[position] - rangeStart[position];
+        }
+    }
+
+    /**
+     * Removes the point with the given index from the results of later queries.
+     *
+     * @param point index of the point
+     */
+    public void remove(int point) {
+        if (removed[point]) {
+            return;
+        }
+        removed[point] = true;
+        int target = positionOf[point];
+        // walk down from the root to the position, updating the counts of all ranges on the way
+        int from = 0;
+        int to = size;
+        while (true) {
+            int mid = (from + to) >>> 1;
+            remaining[mid]--;
+            if (mid == target) {
+                return;
+            } else if (target < mid) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of points which are not removed.
+     *
+     * @return
+     */
+    public int getRemainingPoints() {
+        return size == 0 ? 0 : remaining[size >>> 1];
+    }
+
+    /**
+     * Returns the index of the point nearest to <code>(x, y, z)</code> which is not removed, or -1
+     * if all points are removed.
+     *
+     * @param x first coordinate of the query
+     * @param y second coordinate of the query
+     * @param z third coordinate of the query
+     * @return
+     */
+    public int nearest(double x, double y, double z) {
+        Neighbors neighbors = new Neighbors(1);
+        search(0, size, x, y, z, -1, neighbors);
+        return neighbors.count > 0 ? neighbors.points[0] : -1;
+    }
+
+    /**
+     * Returns the index of the point nearest to the given point which is not removed (excluding the
+     * point itself), or -1 if there is none.
+     *
+     * @param point index of the query point
+     * @return
+     */
+    public int nearest(int point) {
+        Neighbors neighbors = new Neighbors(1);
+        search(0, size, coordinates[0][point], coordinates[1][point], coordinates[2][point], point,
+                neighbors);
+        return neighbors.count > 0 ? neighbors.points[0] : -1;
+    }
+
+    /**
+     * Returns the indices of the (at most) <code>k</code> points nearest to the given point which
+     * are not removed (excluding the point itself), ordered by their distance.
+     *
+     * @param point index of the query point
+     * @param k maximal number of returned neighbors
+     * @return
+     */
+    public int[] nearestNeighbors(int point, int k) {
+        Neighbors neighbors = new Neighbors(k);
+        search(0, size, coordinates[0][point], coordinates[1][point], coordinates[2][point], point,
+                neighbors);
+        return neighbors.toSortedArray();
+    }
+
+    private void search(int from, int to, double x, double y, double z, int excluded,
+            Neighbors neighbors) {
+        if (to <= from) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (remaining[mid] == 0) {
+            return;
+        }
+        int point = order[mid];
+        if (!removed[point] && point != excluded) {
+            double dx = coordinates[0][point] - x;
+            double dy = coordinates[1][point] - y;
+            double dz = coordinates[2][point] - z;
+            neighbors.offer(point, dx * dx + dy * dy + dz * dz);
+        }
+        double query = axis[mid] == 0 ? x : axis[mid] == 1 ? y : z;
+        double difference = query - coordinates[axis[mid]][point];
+        // search the half containing the query first, the other one only if it can contain closer
+        // points than the ones found so far
+        if (difference < 0) {
+            search(from, mid, x, y, z, excluded, neighbors);
+            if (difference * difference < neighbors.worstDistance()) {
+                search(mid + 1, to, x, y, z, excluded, neighbors);
+            }
+        } else {
+            search(mid + 1, to, x, y, z, excluded, neighbors);
+            if (difference * difference < neighbors.worstDistance()) {
+                search(from, mid, x, y, z, excluded, neighbors);
+            }
+        }
+    }
+
+    /**
+     * This class holds the best points found by a query in a bounded max-heap ordered by their
+     * squared distance.
+     *
+     */
+    private static final class Neighbors {
+
+        private final int[] points;
+        private final double[] distances;
+        private int count = 0;
+
+        private Neighbors(int capacity) {
+            this.points = new int[Math.max(1, capacity)];
+            this.distances = new double[points.length];
+        }
+
+        private double worstDistance() {
+            return count < points.length ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        private void offer(int point, double distance) {
+            if (count < points.length) {
+                int index = count++;
+                while (index > 0) {
+                    int parent = (index - 1) / 2;
+                    if (distances[parent] >= distance) {
+                        break;
+                    }
+                    points[index] = points[parent];
+                    distances[index] = distances[parent];
+                    index = parent;
+                }
+                points[index] = point;
+                distances[index] = distance;
+            } else if (distance < distances[0]) {
+                siftDown(0, point, distance, count);
+            }
+        }
+
+        private void siftDown(int index, int point, double distance, int heapSize) {
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                points[index] = points[child];
+                distances[index] = distances[child];
+                index = child;
+            }
+            points[index] = point;
+            distances[index] = distance;
+        }
+
+        private int[] toSortedArray() {
+            int[] sorted = new int[count];
+            // repeatedly move the farthest point to the end
+            for (int heapSize = count; heapSize > 0; heapSize--) {
+                sorted[heapSize - 1] = points[0];
+                siftDown(0, points[heapSize - 1], distances[heapSize - 1], heapSize - 1);
+            }
+            return sorted;
+        }
+    }
+
+}
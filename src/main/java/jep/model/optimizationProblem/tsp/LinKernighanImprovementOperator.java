@@ -0,0 +1,75 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.ga.GeneticAlgorithm;
+import jep.model.optimizationProblem.ga.ImprovementOperator;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements an {@link ImprovementOperator} which improves a tour by a
+ * {@link LinKernighanSearch} with a budget of kicks and time per tour. It allows to use the search
+ * as improvement of the offspring of a memetic {@link GeneticAlgorithm}.
+ * <p>
+ * A {@link LinKernighanSearch} must not be shared by multiple threads, so a new search is created
+ * for every tour. Its random number generator is seeded by the given seed and the tour, which makes
+ * the result independent of the order in which tours are improved (as long as the time budget is
+ * not used up).
+ *
+ */
+public class LinKernighanImprovementOperator
+        implements ImprovementOperator<TravelingSalesmanProblem> {
+
+    private final TravelingSalesmanProblem problem;
+    private final CandidateLists candidateLists;
+    private final long maxKicks;
+    private final long timeBudgetNanos;
+    private final long seed;
+
+    /**
+     * Constructs a new {@link LinKernighanImprovementOperator}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance whose tours are improved
+     * @param candidateLists candidate lists of the cities of the problem
+     * @param maxKicks maximal number of kicks per tour (has to be positive [>= 0]), with 0 kicks
+     *        the tours are only optimized to a local optimum
+     * @param timeBudgetNanos maximal time (in nanoseconds) spent on a single tour (has to be true
+     *        positive)
+     * @param seed seed of the random number generators of the searches
+     */
+    public LinKernighanImprovementOperator(TravelingSalesmanProblem problem,
+            CandidateLists candidateLists, long maxKicks, long timeBudgetNanos, long seed) {
+        this.problem = Objects.requireNonNull(problem);
+        this.candidateLists = Objects.requireNonNull(candidateLists);
+        if (candidateLists.getNumberOfCities() != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException(
+                    "The candidate lists have to cover the cities of the problem.");
+        }
+        if (maxKicks < 0) {
+            throw new IllegalArgumentException("The number of kicks has to be positive (>= 0).");
+        }
+        if (timeBudgetNanos <= 0) {
+            throw new IllegalArgumentException("The time budget has to be true positive (> 0).");
+        }
+        this.maxKicks = maxKicks;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.seed = seed;
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> improve(
+            Solution<TravelingSalesmanProblem> individual) {
+        TSPSolution solution = (TSPSolution) individual;
+        int[] tour = solution.getTour();
+        LinKernighanSearch search = new LinKernighanSearch(problem, candidateLists,
+                LinKernighanSearch.DEFAULT_MAX_DEPTH,
+                new SplitMixRandom(seed ^ Arrays.hashCode(tour)));
+        if (search.optimize(tour, timeBudgetNanos, maxKicks) <= 0) {
+            return solution;
+        }
+        return new TSPSolution(problem, tour);
+    }
+
+}
@@ -0,0 +1,87 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.correctiveProcedure.BreakCondition;
+import jep.model.optimizationProblem.correctiveProcedure.CorrectiveProcedure;
+
+/**
+ * This class implements a {@link CorrectiveProcedure} which improves a single initial tour with a
+ * {@link LinKernighanSearch}. Each iteration runs the search for a fixed time slice, afterwards the
+ * {@link BreakCondition} is checked, which allows to combine the search with the break conditions
+ * of the other corrective procedures. An iteration counts as iteration with acceptance if the tour
+ * got shorter. Since the search never accepts longer tours the last solution is the best one.
+ * <p>
+ * The procedure is stateless: the tour of a run is local to {@link #run(ResultMode)} and the
+ * {@link LinKernighanSearch} only keeps the number of kicks of its last call. The iteration count
+ * is set back at the start of the next run, so {@link #getNumberOfIterations()} still reports the
+ * finished run. Therefore {@link #reset()} has nothing to reset; the random generator of the
+ * search is deliberately not reset, so a second run picks different kicks.
+ *
+ */
+public class LinKernighanProcedure implements CorrectiveProcedure<TravelingSalesmanProblem> {
+
+    private final InitialSolutionConstructor<TravelingSalesmanProblem> initialSolutionConstructor;
+    private final LinKernighanSearch search;
+    private final long iterationNanos;
+    private final BreakCondition<TravelingSalesmanProblem> breakCondition;
+    private long totalIterationsCount = 0;
+
+    /**
+     * Constructs a new {@link LinKernighanProcedure}-instance.
+     *
+     * @param initialSolutionConstructor {@link InitialSolutionConstructor}-instance which is used
+     *        to construct the initial tour
+     * @param search {@link LinKernighanSearch}-instance which improves the tour
+     * @param iterationMillis time slice (in milliseconds) of the search per iteration (has to be
+     *        true positive)
+     * @param breakCondition {@link BreakCondition}-instance which is used to check if the procedure
+     *        is to be terminated (checked after each iteration)
+     */
+    public LinKernighanProcedure(
+            InitialSolutionConstructor<TravelingSalesmanProblem> initialSolutionConstructor,
+            LinKernighanSearch search, long iterationMillis,
+            BreakCondition<TravelingSalesmanProblem> breakCondition) {
+        this.initialSolutionConstructor = Objects.requireNonNull(initialSolutionConstructor);
+        this.search = Objects.requireNonNull(search);
+        this.breakCondition = Objects.requireNonNull(breakCondition);
+        if (iterationMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "The time slice of an iteration has to be true positive (> 0).");
+        }
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> run(ResultMode resultMode) {
+        totalIterationsCount = 0;
+        long iterationWithAcceptanceCount = 0;
+        TSPSolution currentSolution =
+                (TSPSolution) initialSolutionConstructor.getInitialSolution();
+        int[] tour = currentSolution.getTour();
+        do {
+            if (search.optimize(tour, iterationNanos) > 0) {
+                currentSolution = new TSPSolution(currentSolution.getProblem(), tour);
+                iterationWithAcceptanceCount++;
+            }
+            totalIterationsCount++;
+        } while (!breakCondition.isFulfilled(currentSolution, totalIterationsCount,
+                iterationWithAcceptanceCount));
+        reset();
+        // the search only accepts shorter tours, so the last solution is the best one as well
+        return currentSolution;
+    }
+
+    @Override
+    public void reset() {
+        // stateless, see the class comment
+    }
+
+    @Override
+    public long getNumberOfIterations() {
+        return totalIterationsCount;
+    }
+
+}
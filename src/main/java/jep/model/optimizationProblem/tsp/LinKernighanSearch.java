@@ -0,0 +1,400 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements an iterated Lin-Kernighan style variable-depth search for large tours.
+ * <p>
+ * A step starts by removing the edge from a base city <code>t1</code> to its neighbor
+ * <code>t2</code>, which leaves a path. The path is extended by adding an edge from its end
+ * <code>t2</code> to a candidate <code>t3</code> and removing the edge from <code>t3</code> to
+ * <code>t4</code> so a path ending at <code>t4</code> remains, which is a single reversal of the
+ * tour. This is repeated (choosing the candidate maximizing the gain of both edges) as long as the
+ * cumulated gain is positive, added edges are never removed again and at most the maximal depth of
+ * moves is made. Afterwards all moves behind the best closed tour are undone. Base cities are
+ * processed with don't-look bits like in {@link TwoOptLocalSearch}.
+ * <p>
+ * Once the tour is a local optimum the remaining time is used for kicks: a random local double
+ * bridge (a segment swap which can not be undone by a single reversal) is applied and the tour is
+ * optimized again starting at the cities of the kick. If the tour did not get shorter all reversals
+ * since the kick are undone.
+ * <p>
+ * The tour is held as {@link TwoLevelDoublyLinkedList}, so a reversal costs <code>O(sqrt(n))</code>
+ * rather than <code>O(n)</code> time. Since the random number generator is shared an instance must
+ * not be used by multiple threads at the same time.
+ *
+ */
+public class LinKernighanSearch {
+
+    /**
+     * Default maximal number of moves of a single step.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 50;
+
+    /**
+     * Maximal number of cities between the cities of a kick.
+     */
+    private static final int MAX_KICK_SEGMENT_LENGTH = 50;
+
+    private final TravelingSalesmanProblem problem;
+    private final CandidateLists candidateLists;
+    private final int maxDepth;
+    private final Random random;
+    private long numberOfKicks = 0;
+
+    /**
+     * Constructs a new {@link LinKernighanSearch}-instance using the {@link #DEFAULT_MAX_DEPTH}.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance whose tours are improved
+     * @param candidateLists candidate lists of the cities of the problem
+     */
+    public LinKernighanSearch(TravelingSalesmanProblem problem, CandidateLists candidateLists) {
+        this(problem, candidateLists, DEFAULT_MAX_DEPTH, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link LinKernighanSearch}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance whose tours are improved
+     * @param candidateLists candidate lists of the cities of the problem
+     * @param maxDepth maximal number of moves of a single step (has to be true positive)
+     * @param random random number generator used to pick the kicks
+     */
+    public LinKernighanSearch(TravelingSalesmanProblem problem, CandidateLists candidateLists,
+            int maxDepth, Random random) {
+        this.problem = Objects.requireNonNull(problem);
+        this.candidateLists = Objects.requireNonNull(candidateLists);
+        this.random = Objects.requireNonNull(random);
+        if (candidateLists.getNumberOfCities() != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException(
+                    "The candidate lists have to cover the cities of the problem.");
+        }
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("The maximal depth has to be true positive (> 0).");
+        }
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Improves the given <code>tour</code> in place until the given time budget is used up and
+     * returns by how much the tour got shorter. The search may stop earlier if the tour has too few
+     * cities for kicks.
+     *
+     * @param tour array of city indices (each city contained once) which is improved
+     * @param timeBudgetNanos time (in nanoseconds) the search may take
+     * @return
+     */
+    public long optimize(int[] tour, long timeBudgetNanos) {
+        return optimize(tour, timeBudgetNanos, Long.MAX_VALUE);
+    }
+
+    /**
+     * Improves the given <code>tour</code> in place until the given time budget is used up or the
+     * given number of kicks was made and returns by how much the tour got shorter. With a budget of
+     * 0 kicks the tour is only optimized to a local optimum.
+     *
+     * @param tour array of city indices (each city contained once) which is improved
+     * @param timeBudgetNanos time (in nanoseconds) the search may take
+     * @param maxKicks maximal number of kicks (has to be positive [>= 0])
+     * @return
+     */
+    public long optimize(int[] tour, long timeBudgetNanos, long maxKicks) {
+        Objects.requireNonNull(tour);
+        if (tour.length != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException("The tour has to contain all cities of the problem.");
+        }
+        if (maxKicks < 0) {
+            throw new IllegalArgumentException("The number of kicks has to be positive (>= 0).");
+        }
+        numberOfKicks = 0;
+        if (tour.length < 5) {
+            return 0L;
+        }
+        Search search = new Search(tour, timeBudgetNanos);
+        long improvement = search.run(maxKicks);
+        search.list.toArray(tour[0], tour);
+        return improvement;
+    }
+
+    /**
+     * Returns a copy of the given <code>solution</code> improved until the given time budget is used
+     * up.
+     *
+     * @param solution solution which is improved (it is not modified)
+     * @param timeBudgetNanos time (in nanoseconds) the search may take
+     * @return
+     */
+    public TSPSolution optimize(TSPSolution solution, long timeBudgetNanos) {
+        int[] tour = solution.getTour();
+        optimize(tour, timeBudgetNanos);
+        return new TSPSolution(problem, tour);
+    }
+
+    /**
+     * Returns the number of kicks of the last search.
+     *
+     * @return
+     */
+    public long getNumberOfKicks() {
+        return numberOfKicks;
+    }
+
+    /**
+     * This class holds the state of a single search.
+     *
+     */
+    private final class Search {
+
+        private final int n;
+        private final long start;
+        private final long timeBudgetNanos;
+        private final TwoLevelDoublyLinkedList list;
+        private final int[] queue;
+        private final boolean[] queued;
+        private int head = 0;
+        private int queueSize = 0;
+        // reversals since the last kick, as triples of the first and last city of the path and the
+        // orientation of the tour at that time
+        private int[] log = new int[96];
+        private int logSize = 0;
+        private boolean logging = false;
+        private boolean orientationToggled = false;
+        // cities and added edges of the current step
+        private final int[] stepCities;
+        private final int[] addedEdges;
+
+        private Search(int[] tour, long timeBudgetNanos) {
+            this.n = tour.length;
+            this.start = System.nanoTime();
+            this.timeBudgetNanos = timeBudgetNanos;
+            this.list = new TwoLevelDoublyLinkedList(tour);
+            this.queue = new int[n];
+            this.queued = new boolean[n];
+            this.stepCities = new int[3 * maxDepth];
+            this.addedEdges = new int[2 * maxDepth];
+            for (int city : tour) {
+                push(city);
+            }
+        }
+
+        private long run(long maxKicks) {
+            long improvement = optimizeQueued();
+            // a local double bridge requires 8 distinct cities
+            while (n >= 8 && numberOfKicks < maxKicks && !isTimeUp()) {
+                logging = true;
+                logSize = 0;
+                long gain = kick() + optimizeQueued();
+                logging = false;
+                numberOfKicks++;
+                if (gain > 0) {
+                    improvement += gain;
+                } else {
+                    undoLog();
+                    clearQueue();
+                }
+            }
+            return improvement;
+        }
+
+        private long optimizeQueued() {
+            long improvement = 0;
+            int processed = 0;
+            while (queueSize > 0) {
+                if ((++processed & 15) == 0 && isTimeUp()) {
+                    break;
+                }
+                int city = queue[head];
+                head = (head + 1) % n;
+                queueSize--;
+                queued[city] = false;
+                long gain = improveFrom(city);
+                if (gain > 0) {
+                    improvement += gain;
+                    push(city);
+                }
+            }
+            return improvement;
+        }
+
+        private boolean isTimeUp() {
+            // comparing the elapsed time does not overflow for large budgets
+            return System.nanoTime() - start >= timeBudgetNanos;
+        }
+
+        private void push(int city) {
+            if (!queued[city]) {
+                queued[city] = true;
+                queue[(head + queueSize) % n] = city;
+                queueSize++;
+            }
+        }
+
+        private void clearQueue() {
+            while (queueSize > 0) {
+                queued[queue[head]] = false;
+                head = (head + 1) % n;
+                queueSize--;
+            }
+        }
+
+        private void reverse(int a, int b) {
+            list.reverse(a, b);
+            if (logging) {
+                if (logSize + 3 > log.length) {
+                    log = Arrays.copyOf(log, 2 * log.length);
+                }
+                log[logSize++] = a;
+                log[logSize++] = b;
+                log[logSize++] = orientationToggled ? 1 : 0;
+            }
+        }
+
+        private void toggleOrientation() {
+            list.toggleOrientation();
+            orientationToggled = !orientationToggled;
+        }
+
+        /**
+         * Undoes all logged reversals. The reversed path runs from its former last to its former
+         * first city, or the other way round if the orientation was toggled since.
+         */
+        private void undoLog() {
+            for (int i = logSize - 3; i >= 0; i -= 3) {
+                if ((log[i + 2] == 1) == orientationToggled) {
+                    list.reverse(log[i + 1], log[i]);
+                } else {
+                    list.reverse(log[i], log[i + 1]);
+                }
+            }
+            logSize = 0;
+        }
+
+        private int distance(int a, int b) {
+            return problem.getDistance(a, b);
+        }
+
+        /**
+         * Tries a step starting at the given base city in both directions and returns its gain (0
+         * if no improving step was found, in which case the tour is unchanged).
+         */
+        private long improveFrom(int t1) {
+            for (int direction = 0; direction < 2; direction++) {
+                long gain = step(t1);
+                if (gain > 0) {
+                    return gain;
+                }
+                // the second direction starts with the edge to the predecessor
+                toggleOrientation();
+            }
+            return 0L;
+        }
+
+        private long step(int t1) {
+            int t2 = list.next(t1);
+            long gain = distance(t1, t2);
+            long bestGain = 0;
+            int bestDepth = 0;
+            int depth = 0;
+            while (depth < maxDepth) {
+                int t3 = -1;
+                int t4 = -1;
+                long bestValue = Long.MIN_VALUE;
+                for (int rank = 0; rank < candidateLists.getNumberOfCandidates(); rank++) {
+                    int candidate = candidateLists.getCandidate(t2, rank);
+                    long partialGain = gain - distance(t2, candidate);
+                    if (partialGain <= 0) {
+                        // the candidates are ordered, no later candidate can yield a gain
+                        break;
+                    }
+                    int predecessor = list.previous(candidate);
+                    if (candidate == t1 || predecessor == t2
+                            || isAddedEdge(predecessor, candidate, depth)) {
+                        continue;
+                    }
+                    long value = partialGain + distance(predecessor, candidate);
+                    if (value > bestValue) {
+                        bestValue = value;
+                        t3 = candidate;
+                        t4 = predecessor;
+                    }
+                }
+                if (t3 < 0) {
+                    break;
+                }
+                // replace (t1, t2) and (t4, t3) by (t2, t3) and (t1, t4)
+                reverse(t2, t4);
+                gain += distance(t4, t3) - distance(t2, t3);
+                addedEdges[2 * depth] = t2;
+                addedEdges[2 * depth + 1] = t3;
+                stepCities[3 * depth] = t2;
+                stepCities[3 * depth + 1] = t3;
+                stepCities[3 * depth + 2] = t4;
+                depth++;
+                t2 = t4;
+                long closedGain = gain - distance(t1, t2);
+                if (closedGain > bestGain) {
+                    bestGain = closedGain;
+                    bestDepth = depth;
+                }
+            }
+            // undo the moves behind the best closed tour
+            for (int i = depth - 1; i >= bestDepth; i--) {
+                reverse(stepCities[3 * i + 2], stepCities[3 * i]);
+            }
+            for (int i = 0; i < 3 * bestDepth; i++) {
+                push(stepCities[i]);
+            }
+            return bestGain;
+        }
+
+        private boolean isAddedEdge(int a, int b, int depth) {
+            for (int i = 0; i < depth; i++) {
+                int u = addedEdges[2 * i];
+                int v = addedEdges[2 * i + 1];
+                if ((u == a && v == b) || (u == b && v == a)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Applies a random local double bridge and returns its gain (usually negative). The tour
+         * <code>A B C D</code> becomes <code>A C B D</code>, with <code>B</code> and <code>C</code>
+         * being short segments behind a random city.
+         */
+        private long kick() {
+            int maxLength = Math.min(MAX_KICK_SEGMENT_LENGTH, (n - 2) / 3);
+            int c1 = random.nextInt(n);
+            int b1 = list.next(c1);
+            int b2 = walk(b1, random.nextInt(maxLength));
+            int cc1 = list.next(b2);
+            int cc2 = walk(cc1, random.nextInt(maxLength));
+            int d1 = list.next(cc2);
+            long gain = (long) distance(c1, b1) + distance(b2, cc1) + distance(cc2, d1)
+                    - distance(c1, cc1) - distance(cc2, b1) - distance(b2, d1);
+            reverse(b1, cc2);
+            reverse(cc2, cc1);
+            reverse(b2, b1);
+            push(c1);
+            push(b1);
+            push(b2);
+            push(cc1);
+            push(cc2);
+            push(d1);
+            return gain;
+        }
+
+        private int walk(int city, int steps) {
+            for (int i = 0; i < steps; i++) {
+                city = list.next(city);
+            }
+            return city;
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.ga.GeneticAlgorithm;
+import jep.model.optimizationProblem.ga.ImprovementOperator;
+
+/**
+ * This class implements an {@link ImprovementOperator} which improves a tour by a
+ * {@link TwoOptLocalSearch}, applying at most a given number of moves per tour. It allows to use
+ * the local search as improvement of the offspring of a memetic {@link GeneticAlgorithm}.
+ * <p>
+ * The local search is deterministic and keeps its state per call, so this operator can be used by
+ * multiple threads at the same time.
+ *
+ */
+public class LocalSearchImprovementOperator
+        implements ImprovementOperator<TravelingSalesmanProblem> {
+
+    private final TwoOptLocalSearch localSearch;
+    private final long maxMoves;
+
+    /**
+     * Constructs a new {@link LocalSearchImprovementOperator}-instance which improves each tour
+     * until it is a local optimum.
+     *
+     * @param localSearch local search which improves the tours
+     */
+    public LocalSearchImprovementOperator(TwoOptLocalSearch localSearch) {
+        this(localSearch, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new {@link LocalSearchImprovementOperator}-instance.
+     *
+     * @param localSearch local search which improves the tours
+     * @param maxMoves maximal number of moves applied to a single tour (has to be true positive)
+     */
+    public LocalSearchImprovementOperator(TwoOptLocalSearch localSearch, long maxMoves) {
+        this.localSearch = Objects.requireNonNull(localSearch);
+        if (maxMoves <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of moves has to be true positive (> 0).");
+        }
+        this.maxMoves = maxMoves;
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> improve(
+            Solution<TravelingSalesmanProblem> individual) {
+        TSPSolution solution = (TSPSolution) individual;
+        int[] tour = solution.getTour();
+        if (localSearch.improve(tour, maxMoves) == 0) {
+            return solution;
+        }
+        return new TSPSolution(solution.getProblem(), tour);
+    }
+
+}
@@ -0,0 +1,89 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.FitnessComparator;
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.correctiveProcedure.BreakCondition;
+import jep.model.optimizationProblem.correctiveProcedure.CorrectiveProcedure;
+
+/**
+ * This class implements a multi-start local search as {@link CorrectiveProcedure}: every
+ * iteration constructs a new initial tour and improves it with a {@link TwoOptLocalSearch} until it
+ * is a local optimum. An iteration counts as iteration with acceptance if its local optimum is
+ * better than all local optima found before. With a {@link BreakCondition} which is fulfilled
+ * after the first iteration it is a plain local search of a single tour.
+ * <p>
+ * The procedure is stateless: the tours of a run are local to {@link #run(ResultMode)} and the
+ * {@link TwoOptLocalSearch} keeps no state between two calls. The only field, the iteration count,
+ * is set back at the start of the next run, so {@link #getNumberOfIterations()} still reports the
+ * finished run. Therefore {@link #reset()} has nothing to reset.
+ *
+ */
+public class LocalSearchProcedure implements CorrectiveProcedure<TravelingSalesmanProblem> {
+
+    private final InitialSolutionConstructor<TravelingSalesmanProblem> initialSolutionConstructor;
+    private final TwoOptLocalSearch localSearch;
+    private final BreakCondition<TravelingSalesmanProblem> breakCondition;
+    private final FitnessComparator<TravelingSalesmanProblem> fitnessComparator =
+            new FitnessComparator<>();
+    private long totalIterationsCount = 0;
+
+    /**
+     * Constructs a new {@link LocalSearchProcedure}-instance.
+     *
+     * @param initialSolutionConstructor {@link InitialSolutionConstructor}-instance which is used
+     *        to construct the initial tour of each iteration
+     * @param localSearch {@link TwoOptLocalSearch}-instance which improves the initial tours
+     * @param breakCondition {@link BreakCondition}-instance which is used to check if the procedure
+     *        is to be terminated (checked after each iteration)
+     */
+    public LocalSearchProcedure(
+            InitialSolutionConstructor<TravelingSalesmanProblem> initialSolutionConstructor,
+            TwoOptLocalSearch localSearch,
+            BreakCondition<TravelingSalesmanProblem> breakCondition) {
+        this.initialSolutionConstructor = Objects.requireNonNull(initialSolutionConstructor);
+        this.localSearch = Objects.requireNonNull(localSearch);
+        this.breakCondition = Objects.requireNonNull(breakCondition);
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> run(ResultMode resultMode) {
+        totalIterationsCount = 0;
+        long iterationWithAcceptanceCount = 0;
+        Solution<TravelingSalesmanProblem> currentSolution = null;
+        Solution<TravelingSalesmanProblem> bestSolution = null;
+        do {
+            currentSolution = localSearch
+                    .improve((TSPSolution) initialSolutionConstructor.getInitialSolution());
+            if (bestSolution == null
+                    || fitnessComparator.compareSolutions(currentSolution, bestSolution) == 1) {
+                bestSolution = currentSolution;
+                iterationWithAcceptanceCount++;
+            }
+            totalIterationsCount++;
+        } while (!breakCondition.isFulfilled(currentSolution, totalIterationsCount,
+                iterationWithAcceptanceCount));
+        reset();
+        switch (resultMode) {
+            case LAST:
+                return currentSolution;
+            case TOTAL_BEST:
+                return bestSolution;
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    @Override
+    public void reset() {
+        // stateless, see the class comment
+    }
+
+    @Override
+    public long getNumberOfIterations() {
+        return totalIterationsCount;
+    }
+
+}
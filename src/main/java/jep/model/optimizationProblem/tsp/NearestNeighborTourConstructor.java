@@ -0,0 +1,64 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements an {@link InitialSolutionConstructor} which constructs tours using the
+ * nearest neighbor heuristic: starting at a random city the tour always continues with the nearest
+ * city not visited yet.
+ * <p>
+ * The nearest city is searched in a {@link KdTree} over the coordinates of the cities from which
+ * visited cities are removed, so a tour is constructed in about <code>O(n log n)</code> time rather
+ * than <code>O(n^2)</code>. Note that the tree is reused by consecutive calls, so an instance must
+ * not be used by multiple threads at the same time.
+ *
+ */
+public class NearestNeighborTourConstructor
+        implements InitialSolutionConstructor<TravelingSalesmanProblem> {
+
+    private final TravelingSalesmanProblem problem;
+    private final Random random;
+    private final KdTree tree;
+
+    /**
+     * Constructs a new {@link NearestNeighborTourConstructor}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance for which tours are constructed
+     */
+    public NearestNeighborTourConstructor(TravelingSalesmanProblem problem) {
+        this(problem, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link NearestNeighborTourConstructor}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance for which tours are constructed
+     * @param random random number generator used to pick the first city of each tour
+     */
+    public NearestNeighborTourConstructor(TravelingSalesmanProblem problem, Random random) {
+        this.problem = Objects.requireNonNull(problem);
+        this.random = Objects.requireNonNull(random);
+        this.tree = KdTree.forCities(problem);
+    }
+
+    @Override
+    public TSPSolution getInitialSolution() {
+        int n = problem.getNumberOfCities();
+        int[] tour = new int[n];
+        tree.reset();
+        int current = random.nextInt(n);
+        tree.remove(current);
+        tour[0] = current;
+        for (int position = 1; position < n; position++) {
+            current = tree.nearest(current);
+            tree.remove(current);
+            tour[position] = current;
+        }
+        return new TSPSolution(problem, tour);
+    }
+
+}
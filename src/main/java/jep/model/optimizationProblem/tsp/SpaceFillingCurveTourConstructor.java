@@ -0,0 +1,99 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import jep.model.optimizationProblem.InitialSolutionConstructor;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements an {@link InitialSolutionConstructor} which constructs tours by visiting
+ * the cities in the order of a Hilbert curve. The longitude and latitude of each city are mapped
+ * onto a grid of <code>2^15 x 2^15</code> cells, each city is assigned the position of its cell on
+ * the Hilbert curve and the cities are sorted by this position, which takes
+ * <code>O(n log n)</code> time.
+ * <p>
+ * Since cities close to each other on the curve are close to each other on the map, the tours are
+ * typically about 25% longer than optimal tours. To obtain different tours the longitudes are
+ * shifted by a random offset for every tour, which moves the point at which the curve wraps around
+ * the globe.
+ *
+ */
+public class SpaceFillingCurveTourConstructor
+        implements InitialSolutionConstructor<TravelingSalesmanProblem> {
+
+    private static final int ORDER = 15;
+    private static final int GRID_SIZE = 1 << ORDER;
+
+    private final TravelingSalesmanProblem problem;
+    private final Random random;
+
+    /**
+     * Constructs a new {@link SpaceFillingCurveTourConstructor}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance for which tours are constructed
+     */
+    public SpaceFillingCurveTourConstructor(TravelingSalesmanProblem problem) {
+        this(problem, new SplitMixRandom());
+    }
+
+    /**
+     * Constructs a new {@link SpaceFillingCurveTourConstructor}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance for which tours are constructed
+     * @param random random number generator used to pick the longitude offset of each tour
+     */
+    public SpaceFillingCurveTourConstructor(TravelingSalesmanProblem problem, Random random) {
+        this.problem = Objects.requireNonNull(problem);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public TSPSolution getInitialSolution() {
+        int n = problem.getNumberOfCities();
+        double offset = random.nextDouble() * 360.0D;
+        // keys packed as (curve position << 32 | city), sorted by curve position
+        long[] keys = new long[n];
+        for (int city = 0; city < n; city++) {
+            double longitude = (problem.getLongitude(city) + 180.0D + offset) % 360.0D;
+            int x = toCell(longitude / 360.0D);
+            int y = toCell((problem.getLatitude(city) + 90.0D) / 180.0D);
+            keys[city] = ((long) hilbertIndex(x, y) << 32) | city;
+        }
+        Arrays.sort(keys);
+        int[] tour = new int[n];
+        for (int position = 0; position < n; position++) {
+            tour[position] = (int) keys[position];
+        }
+        return new TSPSolution(problem, tour);
+    }
+
+    private static int toCell(double fraction) {
+        return Math.min(GRID_SIZE - 1, Math.max(0, (int) (fraction * GRID_SIZE)));
+    }
+
+    /**
+     * Returns the position of the cell <code>(x, y)</code> on the Hilbert curve through the grid.
+     */
+    static int hilbertIndex(int x, int y) {
+        int index = 0;
+        for (int s = GRID_SIZE >>> 1; s > 0; s >>>= 1) {
+            int rx = (x & s) != 0 ? 1 : 0;
+            int ry = (y & s) != 0 ? 1 : 0;
+            index += s * s * ((3 * rx) ^ ry);
+            // rotate the quadrant so the curve continues in the next one
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = GRID_SIZE - 1 - x;
+                    y = GRID_SIZE - 1 - y;
+                }
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,187 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import jep.model.search.AStarSearch;
+import jep.model.search.Heuristic;
+import jep.model.search.SearchProblem;
+import jep.model.search.SearchResult;
+
+/**
+ * This class implements the {@link TravelingSalesmanProblem} as {@link SearchProblem}, which allows
+ * to solve small instances exactly using an {@link AStarSearch}.
+ * <p>
+ * A node is a partial tour starting at the first city, identified by the set of visited cities (a
+ * bit mask) and the current city. The goal is the node whose tour visited all cities and returned to
+ * the first city. Node ids pack the bit mask and the index of the current city into an
+ * <code>int</code>, which limits this representation to instances of at most 26 cities.
+ *
+ */
+public class TSPSearchProblem implements SearchProblem {
+
+    /**
+     * Maximal number of cities for which the spanning tree costs are cached (the cache holds an
+     * entry per subset of cities).
+     */
+    private static final int MAX_CACHED_CITIES = 20;
+
+    private final TravelingSalesmanProblem problem;
+    private final int n;
+    private final int cityBits;
+    private final int cityMask;
+    private final int allVisited;
+    private final int[] distances;
+    // cost of the minimal spanning tree over the unvisited cities and the first city, per mask
+    // (null for instances too large to cache)
+    private final double[] spanningTreeCosts;
+
+    /**
+     * Constructs a new {@link TSPSearchProblem}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance which is to be solved
+     */
+    public TSPSearchProblem(TravelingSalesmanProblem problem) {
+        this.problem = Objects.requireNonNull(problem);
+        this.n = problem.getNumberOfCities();
+        this.cityBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(n - 1));
+        if (n + cityBits > 31) {
+            throw new IllegalArgumentException(
+                    "The problem has too many cities to be represented as search problem.");
+        }
+        this.cityMask = (1 << cityBits) - 1;
+        this.allVisited = (1 << n) - 1;
+        this.distances = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = problem.getDistance(i, j);
+            }
+        }
+        if (n <= MAX_CACHED_CITIES) {
+            this.spanningTreeCosts = new double[1 << n];
+            Arrays.fill(spanningTreeCosts, Double.NaN);
+        } else {
+            this.spanningTreeCosts = null;
+        }
+    }
+
+    private int toNode(int visited, int city) {
+        return (visited << cityBits) | city;
+    }
+
+    @Override
+    public int getStartNode() {
+        return toNode(1, 0);
+    }
+
+    @Override
+    public boolean isGoal(int node) {
+        // the first city is only reached again once all cities were visited
+        return (node >>> cityBits) == allVisited && (node & cityMask) == 0;
+    }
+
+    @Override
+    public void expand(int node, SuccessorConsumer consumer) {
+        int visited = node >>> cityBits;
+        int city = node & cityMask;
+        if (visited == allVisited) {
+            if (city != 0) {
+                consumer.accept(toNode(allVisited, 0), distances[city * n]);
+            }
+            return;
+        }
+        for (int next = 1; next < n; next++) {
+            if ((visited & (1 << next)) == 0) {
+                consumer.accept(toNode(visited | (1 << next), next), distances[city * n + next]);
+            }
+        }
+    }
+
+    /**
+     * Returns a consistent heuristic based on minimal spanning trees: the cost of the minimal
+     * spanning tree over the unvisited cities and the first city plus the shortest connection of the
+     * current city to an unvisited city. For small instances the spanning tree costs are cached per
+     * set of visited cities.
+     *
+     * @return
+     */
+    public Heuristic getHeuristic() {
+        return node -> {
+            int visited = node >>> cityBits;
+            int city = node & cityMask;
+            if (visited == allVisited) {
+                return distances[city * n];
+            }
+            int shortestConnection = Integer.MAX_VALUE;
+            for (int next = 1; next < n; next++) {
+                if ((visited & (1 << next)) == 0) {
+                    shortestConnection = Math.min(shortestConnection, distances[city * n + next]);
+                }
+            }
+            return spanningTreeCost(visited) + shortestConnection;
+        };
+    }
+
+    /**
+     * Returns the cost of the minimal spanning tree over the first city and all cities not contained
+     * in the given <code>visited</code> mask, computed with Prim's algorithm.
+     */
+    private double spanningTreeCost(int visited) {
+        if (spanningTreeCosts != null && !Double.isNaN(spanningTreeCosts[visited])) {
+            return spanningTreeCosts[visited];
+        }
+        int[] vertices = new int[n];
+        int count = 0;
+        vertices[count++] = 0;
+        for (int city = 1; city < n; city++) {
+            if ((visited & (1 << city)) == 0) {
+                vertices[count++] = city;
+            }
+        }
+        int[] connection = new int[count];
+        boolean[] inTree = new boolean[count];
+        Arrays.fill(connection, Integer.MAX_VALUE);
+        connection[0] = 0;
+        long cost = 0;
+        for (int step = 0; step < count; step++) {
+            int closest = -1;
+            for (int i = 0; i < count; i++) {
+                if (!inTree[i] && (closest < 0 || connection[i] < connection[closest])) {
+                    closest = i;
+                }
+            }
+            inTree[closest] = true;
+            cost += connection[closest];
+            int row = vertices[closest] * n;
+            for (int i = 0; i < count; i++) {
+                if (!inTree[i]) {
+                    connection[i] = Math.min(connection[i], distances[row + vertices[i]]);
+                }
+            }
+        }
+        if (spanningTreeCosts != null) {
+            spanningTreeCosts[visited] = cost;
+        }
+        return cost;
+    }
+
+    /**
+     * Converts the path of the given <code>result</code> into a {@link TSPSolution}.
+     *
+     * @param result result of a search of this problem holding a path
+     * @return
+     */
+    public TSPSolution toSolution(SearchResult result) {
+        if (!result.isPathFound()) {
+            throw new IllegalArgumentException("The search result holds no path.");
+        }
+        int[] path = result.getPath();
+        // the last node returns to the first city
+        int[] tour = new int[path.length - 1];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = path[i] & cityMask;
+        }
+        return new TSPSolution(problem, tour);
+    }
+
+}
@@ -12,7 +12,6 @@ import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
  */
 public class TSPSolution extends AbstractSolution<TravelingSalesmanProblem> {
 
-    private final int totalDistance;
     private final City[] cities;
 
     /**
@@ -29,7 +28,33 @@ public class TSPSolution extends AbstractSolution<TravelingSalesmanProblem> {
         super(problem);
         this.cities = Objects.requireNonNull(cities);
         validate();
-        this.totalDistance = calculateTotalDistance();
+    }
+
+    /**
+     * Constructs a new {@link TSPSolution}-instance from a tour given as array of city indices (the
+     * ordinals of the cities).
+     * 
+     * @param problem {@link TravelingSalesmanProblem}-instance for which this solutions is
+     *        constructed
+     * @param tour array of city indices, which defines the order of visit of those cities (has to
+     *        contain each index once)
+     * @throws IllegalSolutionException
+     */
+    public TSPSolution(TravelingSalesmanProblem problem, int[] tour)
+            throws IllegalSolutionException {
+        this(problem, toCities(tour));
+    }
+
+    private static City[] toCities(int[] tour) {
+        City[] values = City.values();
+        City[] cities = new City[tour.length];
+        for (int i = 0; i < tour.length; i++) {
+            if (tour[i] < 0 || tour[i] >= values.length) {
+                throw new IllegalSolutionException("Unknown city index: " + tour[i] + ".");
+            }
+            cities[i] = values[tour[i]];
+        }
+        return cities;
     }
 
     /**
@@ -81,6 +106,20 @@ public class TSPSolution extends AbstractSolution<TravelingSalesmanProblem> {
         return cities;
     }
 
+    /**
+     * Returns the tour of this solution as a new array of city indices (the ordinals of the
+     * cities).
+     * 
+     * @return
+     */
+    public int[] getTour() {
+        int[] tour = new int[cities.length];
+        for (int i = 0; i < cities.length; i++) {
+            tour[i] = cities[i].ordinal();
+        }
+        return tour;
+    }
+
     @Override
     public String getStringRepresentation() {
         StringBuilder sb = new StringBuilder();
@@ -92,18 +131,24 @@ public class TSPSolution extends AbstractSolution<TravelingSalesmanProblem> {
         return sb.toString();
     }
 
+    /**
+     * Returns the negative total distance, so shorter routes have a greater fitness.
+     * 
+     * @return
+     */
     @Override
-    public double getFitness() {
-        return -totalDistance;
+    protected double evaluateFitness() {
+        return -calculateTotalDistance();
     }
 
     /**
-     * Returns the total distance (the sum of connections distances) of this route.
+     * Returns the total distance (the sum of connections distances) of this route, which is
+     * computed on the first call of this method or {@link #getFitness()}.
      * 
      * @return
      */
     public int getTotalDistance() {
-        return totalDistance;
+        return (int) -getFitness();
     }
 
 }
@@ -0,0 +1,62 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import jep.model.optimizationProblem.IllegalSolutionException;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.SolutionCodec;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+
+/**
+ * This class implements a {@link SolutionCodec} of {@link TSPSolution}s, which encodes the tour of
+ * a solution as the number of cities followed by the index (ordinal) of each city in the order of
+ * the tour, using four bytes per value.
+ *
+ */
+public class TSPSolutionCodec implements SolutionCodec<TravelingSalesmanProblem> {
+
+    private final TravelingSalesmanProblem problem;
+
+    /**
+     * Constructs a new {@link TSPSolutionCodec}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance the decoded solutions are
+     *        constructed for
+     */
+    public TSPSolutionCodec(TravelingSalesmanProblem problem) {
+        this.problem = Objects.requireNonNull(problem);
+    }
+
+    @Override
+    public void writeGenome(Solution<TravelingSalesmanProblem> solution, DataOutput output)
+            throws IOException {
+        City[] cities = ((TSPSolution) solution).getCities();
+        output.writeInt(cities.length);
+        for (City city : cities) {
+            output.writeInt(city.ordinal());
+        }
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> readGenome(DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length != problem.getNumberOfCities()) {
+            // checked before allocating the tour, invalid data may hold any length
+            throw new IOException("Invalid tour: " + length + " cities instead of "
+                    + problem.getNumberOfCities() + ".");
+        }
+        int[] tour = new int[length];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = input.readInt();
+        }
+        try {
+            return new TSPSolution(problem, tour);
+        } catch (IllegalSolutionException e) {
+            throw new IOException("Invalid tour: " + e.getMessage(), e);
+        }
+    }
+
+}
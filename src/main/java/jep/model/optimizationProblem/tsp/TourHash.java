@@ -0,0 +1,104 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.function.ToLongFunction;
+
+import jep.model.optimizationProblem.FitnessCache;
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem.City;
+import jep.model.random.SplitMixRandom;
+
+/**
+ * This class implements a Zobrist-style 64-bit hash of a tour, to be used as genome hash of a
+ * {@link FitnessCache}. Each city is assigned a random 64-bit key, the key of an (undirected) edge
+ * is a mix of the keys of its cities, and the hash of a tour is the sum of the keys of its edges.
+ * <p>
+ * Since the hash only depends on the set of edges, all rotations and the reversal of a tour (which
+ * have the same length) have the same hash. It can be updated incrementally: a 2-opt move which
+ * replaces the edges <code>(a, b)</code> and <code>(c, d)</code> by <code>(a, c)</code> and
+ * <code>(b, d)</code> changes the hash by
+ * <code>edgeKey(a, c) + edgeKey(b, d) - edgeKey(a, b) - edgeKey(c, d)</code>.
+ *
+ */
+public class TourHash implements ToLongFunction<Solution<TravelingSalesmanProblem>> {
+
+    /**
+     * Seed of the city keys used by default.
+     */
+    public static final long DEFAULT_SEED = 0x5DEECE66DL;
+
+    private final long[] cityKeys;
+
+    /**
+     * Constructs a new {@link TourHash}-instance using the {@link #DEFAULT_SEED}.
+     *
+     * @param numberOfCities number of cities of the hashed tours (has to be true positive)
+     */
+    public TourHash(int numberOfCities) {
+        this(numberOfCities, DEFAULT_SEED);
+    }
+
+    /**
+     * Constructs a new {@link TourHash}-instance.
+     *
+     * @param numberOfCities number of cities of the hashed tours (has to be true positive)
+     * @param seed seed of the random keys of the cities
+     */
+    public TourHash(int numberOfCities, long seed) {
+        if (numberOfCities <= 0) {
+            throw new IllegalArgumentException(
+                    "The number of cities has to be true positive (> 0).");
+        }
+        SplitMixRandom random = new SplitMixRandom(seed);
+        this.cityKeys = new long[numberOfCities];
+        for (int i = 0; i < numberOfCities; i++) {
+            cityKeys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Returns the key of the undirected edge between the cities <code>a</code> and <code>b</code>.
+     *
+     * @param a index of the first city
+     * @param b index of the second city
+     * @return
+     */
+    public long edgeKey(int a, int b) {
+        long low = cityKeys[Math.min(a, b)];
+        long high = cityKeys[Math.max(a, b)];
+        // finalizer of MurmurHash3, so the keys of edges sharing a city are not correlated
+        long x = low ^ (high * 0x9E3779B97F4A7C15L);
+        x = (x ^ (x >>> 33)) * 0xFF51AFD7ED558CCDL;
+        x = (x ^ (x >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return x ^ (x >>> 33);
+    }
+
+    /**
+     * Returns the hash of the given <code>tour</code> of city indices.
+     *
+     * @param tour tour whose hash is returned
+     * @return
+     */
+    public long hash(int[] tour) {
+        long hash = 0;
+        for (int i = 0; i < tour.length; i++) {
+            hash += edgeKey(tour[i], tour[i + 1 == tour.length ? 0 : i + 1]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the tour of the given <code>solution</code>, which has to be a
+     * {@link TSPSolution}.
+     */
+    @Override
+    public long applyAsLong(Solution<TravelingSalesmanProblem> solution) {
+        City[] cities = ((TSPSolution) solution).getCities();
+        long hash = 0;
+        for (int i = 0; i < cities.length; i++) {
+            hash += edgeKey(cities[i].ordinal(),
+                    cities[i + 1 == cities.length ? 0 : i + 1].ordinal());
+        }
+        return hash;
+    }
+
+}
@@ -13,13 +13,44 @@ import jep.model.optimizationProblem.OptimizationProblem;
 public class TravelingSalesmanProblem implements OptimizationProblem {
 
     /**
-     * Enum which stores 13 "more or less" randomly picked capitals.
+     * Enum which stores 13 "more or less" randomly picked capitals together with their geographic
+     * coordinates (in degrees).
      *
      */
     public enum City {
-        BEIJING, NEW_DEHLI, TOKYO, MOSCOW, LONDON, BERLIN, MADRID, ROME, PARIS, DUBLIN, OTTAWA, WASHINGTON_DC, CANBERRA;
+        BEIJING(39.9042D, 116.4074D),
+        NEW_DEHLI(28.6139D, 77.2090D),
+        TOKYO(35.6762D, 139.6503D),
+        MOSCOW(55.7558D, 37.6173D),
+        LONDON(51.5074D, -0.1278D),
+        BERLIN(52.5200D, 13.4050D),
+        MADRID(40.4168D, -3.7038D),
+        ROME(41.9028D, 12.4964D),
+        PARIS(48.8566D, 2.3522D),
+        DUBLIN(53.3498D, -6.2603D),
+        OTTAWA(45.4215D, -75.6972D),
+        WASHINGTON_DC(38.9072D, -77.0369D),
+        CANBERRA(-35.2809D, 149.1300D);
+
+        private final double latitude;
+        private final double longitude;
+
+        private City(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
     }
 
+    private static final City[] CITIES = City.values();
+
     /**
      * Matrix of distances of direct connections between each pair of capitals.
      */
@@ -52,6 +83,48 @@ public class TravelingSalesmanProblem implements OptimizationProblem {
         return DISTANCE_MATRIX[a.ordinal()][b.ordinal()];
     }
 
+    /**
+     * Returns the number of cities of this problem.
+     * 
+     * @return
+     */
+    public int getNumberOfCities() {
+        return DISTANCE_MATRIX.length;
+    }
+
+    /**
+     * Returns the distance between the two cities with the given indices (the ordinals of the
+     * cities) in kilometers. This allows algorithms working on primitive tours to access the
+     * distances without mapping indices to {@link City}-instances.
+     * 
+     * @param a index of the first city
+     * @param b index of the second city
+     * @return
+     */
+    public int getDistance(int a, int b) {
+        return DISTANCE_MATRIX[a][b];
+    }
+
+    /**
+     * Returns the latitude (in degrees) of the city with the given index.
+     * 
+     * @param city index of the city
+     * @return latitude of the city within [-90, 90], positive north of the equator
+     */
+    public double getLatitude(int city) {
+        return CITIES[city].getLatitude();
+    }
+
+    /**
+     * Returns the longitude (in degrees) of the city with the given index.
+     * 
+     * @param city index of the city
+     * @return longitude of the city within [-180, 180], positive east of Greenwich
+     */
+    public double getLongitude(int city) {
+        return CITIES[city].getLongitude();
+    }
+
     @Override
     public ProblemType getType() {
         return ProblemType.MINIMIZATION;
@@ -0,0 +1,507 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+
+/**
+ * This class implements the two-level doubly-linked list tour representation, which allows to
+ * reverse a path of a tour in <code>O(sqrt(n))</code> time (an array takes <code>O(n)</code>).
+ * <p>
+ * The tour is divided into blocks of about <code>sqrt(n)</code> consecutive cities. The cities of a
+ * block are doubly linked and numbered in ascending order, the blocks themselves form a doubly
+ * linked cycle and are numbered by ascending ranks (with gaps, so a new block usually gets a rank
+ * without renumbering the others). Each block has a reversed bit which states that its cities are
+ * traversed against their links. To reverse a path its end blocks are split so the path consists of
+ * whole blocks, then the order of these blocks is reversed and their reversed bits are toggled. If
+ * the path holds more than half of the blocks the rest of the tour is reversed instead and the
+ * orientation of the whole tour is toggled, which yields the same tour. Afterwards the blocks at both
+ * ends of the path are merged with their neighbors if they fit into a single block, so the number
+ * of blocks stays about the same.
+ * <p>
+ * This class is not thread-safe.
+ *
+ */
+public class TwoLevelDoublyLinkedList {
+
+    private static final int MIN_BLOCK_SIZE = 8;
+    private static final long RANK_GAP = 1L << 20;
+
+    private final int n;
+    private final int blockSize;
+    private final int maxBlocks;
+
+    // cities
+    private final int[] parent;
+    private final int[] sequence;
+    private final int[] linkNext;
+    private final int[] linkPrevious;
+
+    // blocks
+    private final int[] first;
+    private final int[] last;
+    private final boolean[] reversed;
+    private final long[] rank;
+    private final int[] size;
+    private final int[] blockNext;
+    private final int[] blockPrevious;
+    private final int[] pathBuffer;
+    private final long[] rankBuffer;
+    private final int[] freeBlocks;
+    private int freeCount;
+    private int blockCount;
+    private boolean tourReversed;
+
+    /**
+     * Constructs a new {@link TwoLevelDoublyLinkedList}-instance holding the given
+     * <code>tour</code>.
+     *
+     * @param tour array of city indices (each index within <code>[0, tour.length)</code> contained
+     *        once)
+     */
+    public TwoLevelDoublyLinkedList(int[] tour) {
+        Objects.requireNonNull(tour);
+        this.n = tour.length;
+        if (n < 3) {
+            throw new IllegalArgumentException("A tour has to contain 3 cities at least.");
+        }
+        this.blockSize = Math.max(MIN_BLOCK_SIZE, (int) Math.sqrt(n));
+        this.maxBlocks = 3 * ((n + blockSize - 1) / blockSize) + 4;
+        this.parent = new int[n];
+        this.sequence = new int[n];
+        this.linkNext = new int[n];
+        this.linkPrevious = new int[n];
+        // a reversal adds two blocks at most before the blocks are rebuilt (which is only required
+        // if many small blocks could not be merged)
+        int capacity = maxBlocks + 2;
+        this.first = new int[capacity];
+        this.last = new int[capacity];
+        this.reversed = new boolean[capacity];
+        this.rank = new long[capacity];
+        this.size = new int[capacity];
+        this.blockNext = new int[capacity];
+        this.blockPrevious = new int[capacity];
+        this.pathBuffer = new int[capacity];
+        this.rankBuffer = new long[capacity];
+        this.freeBlocks = new int[capacity];
+        build(tour);
+    }
+
+    private void build(int[] tour) {
+        boolean[] contained = new boolean[n];
+        for (int city : tour) {
+            if (city < 0 || city >= n || contained[city]) {
+                throw new IllegalArgumentException("The tour has to contain each city once.");
+            }
+            contained[city] = true;
+        }
+        tourReversed = false;
+        blockCount = (n + blockSize - 1) / blockSize;
+        freeCount = 0;
+        for (int block = first.length - 1; block >= blockCount; block--) {
+            freeBlocks[freeCount++] = block;
+        }
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * blockSize;
+            int to = Math.min(n, from + blockSize);
+            first[block] = tour[from];
+            last[block] = tour[to - 1];
+            reversed[block] = false;
+            rank[block] = block * RANK_GAP;
+            size[block] = to - from;
+            blockNext[block] = block + 1 == blockCount ? 0 : block + 1;
+            blockPrevious[block] = block == 0 ? blockCount - 1 : block - 1;
+            for (int i = from; i < to; i++) {
+                int city = tour[i];
+                parent[city] = block;
+                sequence[city] = i - from;
+                linkNext[city] = i + 1 < to ? tour[i + 1] : -1;
+                linkPrevious[city] = i > from ? tour[i - 1] : -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cities of the tour.
+     *
+     * @return
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns the successor of the given <code>city</code>.
+     *
+     * @param city index of the city
+     * @return
+     */
+    public int next(int city) {
+        return tourReversed ? innerPrevious(city) : innerNext(city);
+    }
+
+    /**
+     * Returns the predecessor of the given <code>city</code>.
+     *
+     * @param city index of the city
+     * @return
+     */
+    public int previous(int city) {
+        return tourReversed ? innerNext(city) : innerPrevious(city);
+    }
+
+    /**
+     * Returns <code>true</code> if <code>b</code> lies on the path from <code>a</code> to
+     * <code>c</code> (both inclusive) and <code>false</code> otherwise.
+     *
+     * @param a index of the first city of the path
+     * @param b index of the tested city
+     * @param c index of the last city of the path
+     * @return
+     */
+    public boolean between(int a, int b, int c) {
+        return tourReversed ? innerBetween(c, b, a) : innerBetween(a, b, c);
+    }
+
+    /**
+     * Toggles the orientation of the tour, successors become predecessors and vice versa. The tour
+     * itself stays the same.
+     */
+    public void toggleOrientation() {
+        tourReversed = !tourReversed;
+    }
+
+    /**
+     * Reverses the path from <code>a</code> to <code>b</code> (both inclusive), afterwards the
+     * predecessor of <code>a</code> is followed by <code>b</code> and <code>a</code> is followed by
+     * the former successor of <code>b</code>. The reversal is undone by reversing the path from
+     * <code>b</code> to <code>a</code>.
+     *
+     * @param a index of the first city of the path
+     * @param b index of the last city of the path
+     */
+    public void reverse(int a, int b) {
+        if (tourReversed) {
+            innerReverse(b, a);
+        } else {
+            innerReverse(a, b);
+        }
+    }
+
+    /**
+     * Writes the tour starting at the given <code>start</code> city into the given array.
+     *
+     * @param start index of the first city
+     * @param tour array the tour is written to (has to have the length of the tour)
+     */
+    public void toArray(int start, int[] tour) {
+        int city = start;
+        for (int i = 0; i < n; i++) {
+            tour[i] = city;
+            city = next(city);
+        }
+    }
+
+    private int firstOf(int block) {
+        return reversed[block] ? last[block] : first[block];
+    }
+
+    private int lastOf(int block) {
+        return reversed[block] ? first[block] : last[block];
+    }
+
+    private int innerNext(int city) {
+        int block = parent[city];
+        if (city == lastOf(block)) {
+            return firstOf(blockNext[block]);
+        }
+        return reversed[block] ? linkPrevious[city] : linkNext[city];
+    }
+
+    private int innerPrevious(int city) {
+        int block = parent[city];
+        if (city == firstOf(block)) {
+            return lastOf(blockPrevious[block]);
+        }
+        return reversed[block] ? linkNext[city] : linkPrevious[city];
+    }
+
+    private boolean innerBefore(int a, int b) {
+        int blockA = parent[a];
+        int blockB = parent[b];
+        if (blockA != blockB) {
+            return rank[blockA] < rank[blockB];
+        }
+        return reversed[blockA] ? sequence[a] > sequence[b] : sequence[a] < sequence[b];
+    }
+
+    private boolean innerBetween(int a, int b, int c) {
+        if (!innerBefore(c, a)) {
+            return !innerBefore(b, a) && !innerBefore(c, b);
+        }
+        return !innerBefore(b, a) || !innerBefore(c, b);
+    }
+
+    private void innerReverse(int a, int b) {
+        if (a == b) {
+            return;
+        }
+        int after = innerNext(b);
+        if (after == a) {
+            // the path is the whole tour
+            tourReversed = !tourReversed;
+            return;
+        }
+        splitBefore(a);
+        splitBefore(after);
+        int blockA = parent[a];
+        int blockB = parent[b];
+        if (isPathShorterThanRest(blockA, blockB)) {
+            reverseBlocks(blockA, blockB);
+        } else {
+            reverseBlocks(blockNext[blockB], blockPrevious[blockA]);
+            tourReversed = !tourReversed;
+        }
+        mergeWithNeighbors(parent[a]);
+        mergeWithNeighbors(parent[b]);
+        if (blockCount > maxBlocks) {
+            int[] tour = new int[n];
+            toArray(a, tour);
+            build(tour);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the blocks <code>from..to</code> are not more than the other
+     * blocks. Both paths are walked at once, so this takes time proportional to the shorter one.
+     */
+    private boolean isPathShorterThanRest(int from, int to) {
+        int path = from;
+        int rest = blockNext[to];
+        int restEnd = blockPrevious[from];
+        while (true) {
+            if (path == to) {
+                return true;
+            }
+            if (rest == restEnd) {
+                return false;
+            }
+            path = blockNext[path];
+            rest = blockNext[rest];
+        }
+    }
+
+    /**
+     * Splits the block of the given <code>city</code> so the city becomes the first city of its
+     * block. The smaller part of the block is moved to a new block.
+     */
+    private void splitBefore(int city) {
+        int block = parent[city];
+        if (city == firstOf(block)) {
+            return;
+        }
+        int before = Math.abs(sequence[city] - sequence[firstOf(block)]);
+        int created = freeBlocks[--freeCount];
+        blockCount++;
+        reversed[created] = reversed[block];
+        if (before <= size[block] - before) {
+            // move the cities in front of the city
+            if (reversed[block]) {
+                moveLinks(block, created, linkNext[city], last[block]);
+            } else {
+                moveLinks(block, created, first[block], linkPrevious[city]);
+            }
+            insertBlockBefore(created, block);
+        } else {
+            // move the city and the cities behind it
+            if (reversed[block]) {
+                moveLinks(block, created, first[block], city);
+            } else {
+                moveLinks(block, created, city, last[block]);
+            }
+            insertBlockBefore(created, blockNext[block]);
+        }
+    }
+
+    /**
+     * Moves the linked cities <code>from..to</code>, which are at one end of the block
+     * <code>source</code>, to the empty block <code>target</code>.
+     */
+    private void moveLinks(int source, int target, int from, int to) {
+        int moved = 0;
+        for (int city = from;; city = linkNext[city]) {
+            parent[city] = target;
+            moved++;
+            if (city == to) {
+                break;
+            }
+        }
+        if (from == first[source]) {
+            first[source] = linkNext[to];
+            linkPrevious[first[source]] = -1;
+            linkNext[to] = -1;
+        } else {
+            last[source] = linkPrevious[from];
+            linkNext[last[source]] = -1;
+            linkPrevious[from] = -1;
+        }
+        first[target] = from;
+        last[target] = to;
+        size[target] = moved;
+        size[source] -= moved;
+    }
+
+    private void mergeWithNeighbors(int block) {
+        block = mergeWithNext(block);
+        mergeWithNext(blockPrevious[block]);
+    }
+
+    /**
+     * Merges the given block with its successor if both fit into a single block. The cities of the
+     * smaller block are moved into the greater one, the id of the remaining block is returned.
+     */
+    private int mergeWithNext(int block) {
+        int successor = blockNext[block];
+        if (successor == block || size[block] + size[successor] > blockSize) {
+            return block;
+        }
+        if (size[block] >= size[successor]) {
+            // append the cities of the successor in tour order
+            int city = firstOf(successor);
+            for (int i = size[successor]; i > 0; i--) {
+                int following = reversed[successor] ? linkPrevious[city] : linkNext[city];
+                appendToBlock(block, city);
+                city = following;
+            }
+            removeBlock(successor);
+            return block;
+        }
+        // prepend the cities of the block in reversed tour order
+        int city = lastOf(block);
+        for (int i = size[block]; i > 0; i--) {
+            int preceding = reversed[block] ? linkNext[city] : linkPrevious[city];
+            prependToBlock(successor, city);
+            city = preceding;
+        }
+        removeBlock(block);
+        return successor;
+    }
+
+    private void appendToBlock(int block, int city) {
+        if (reversed[block]) {
+            linkPrevious[first[block]] = city;
+            linkNext[city] = first[block];
+            linkPrevious[city] = -1;
+            sequence[city] = sequence[first[block]] - 1;
+            first[block] = city;
+        } else {
+            linkNext[last[block]] = city;
+            linkPrevious[city] = last[block];
+            linkNext[city] = -1;
+            sequence[city] = sequence[last[block]] + 1;
+            last[block] = city;
+        }
+        parent[city] = block;
+        size[block]++;
+        checkSequence(block, city);
+    }
+
+    private void prependToBlock(int block, int city) {
+        if (reversed[block]) {
+            linkNext[last[block]] = city;
+            linkPrevious[city] = last[block];
+            linkNext[city] = -1;
+            sequence[city] = sequence[last[block]] + 1;
+            last[block] = city;
+        } else {
+            linkPrevious[first[block]] = city;
+            linkNext[city] = first[block];
+            linkPrevious[city] = -1;
+            sequence[city] = sequence[first[block]] - 1;
+            first[block] = city;
+        }
+        parent[city] = block;
+        size[block]++;
+        checkSequence(block, city);
+    }
+
+    /**
+     * Renumbers the cities of the block once the numbers drift too far from zero, which could
+     * otherwise overflow after many merges.
+     */
+    private void checkSequence(int block, int city) {
+        if (Math.abs(sequence[city]) > (1 << 30)) {
+            int number = 0;
+            for (int c = first[block]; c >= 0; c = linkNext[c]) {
+                sequence[c] = number++;
+            }
+        }
+    }
+
+    private void removeBlock(int block) {
+        int predecessor = blockPrevious[block];
+        int successor = blockNext[block];
+        blockNext[predecessor] = successor;
+        blockPrevious[successor] = predecessor;
+        freeBlocks[freeCount++] = block;
+        blockCount--;
+    }
+
+    private void insertBlockBefore(int block, int successor) {
+        int predecessor = blockPrevious[successor];
+        blockNext[predecessor] = block;
+        blockPrevious[block] = predecessor;
+        blockNext[block] = successor;
+        blockPrevious[successor] = block;
+        if (rank[predecessor] >= rank[successor]) {
+            // the block is inserted behind the block with the highest rank
+            rank[block] = rank[predecessor] + RANK_GAP;
+        } else if (rank[successor] - rank[predecessor] > 1) {
+            rank[block] = (rank[predecessor] + rank[successor]) >>> 1;
+        } else {
+            updateRanks(block);
+        }
+    }
+
+    /**
+     * Reverses the order of the blocks <code>from..to</code>, which must not be all blocks.
+     */
+    private void reverseBlocks(int from, int to) {
+        int before = blockPrevious[from];
+        int after = blockNext[to];
+        int count = 0;
+        for (int block = from;; block = blockNext[block]) {
+            pathBuffer[count++] = block;
+            if (block == to) {
+                break;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int block = pathBuffer[i];
+            reversed[block] = !reversed[block];
+            blockNext[block] = i > 0 ? pathBuffer[i - 1] : after;
+            blockPrevious[block] = i + 1 < count ? pathBuffer[i + 1] : before;
+        }
+        blockNext[before] = to;
+        blockPrevious[after] = from;
+        if (rank[pathBuffer[0]] <= rank[pathBuffer[count - 1]]) {
+            // the blocks keep their ranks in reversed order
+            for (int i = 0; i < count; i++) {
+                rankBuffer[i] = rank[pathBuffer[i]];
+            }
+            for (int i = 0; i < count; i++) {
+                rank[pathBuffer[count - 1 - i]] = rankBuffer[i];
+            }
+        } else {
+            // the path wraps around the block with the highest rank
+            updateRanks(after);
+        }
+    }
+
+    private void updateRanks(int start) {
+        int block = start;
+        for (int i = 0; i < blockCount; i++) {
+            rank[block] = i * RANK_GAP;
+            block = blockNext[block];
+        }
+    }
+
+}
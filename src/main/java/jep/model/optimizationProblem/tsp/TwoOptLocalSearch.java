@@ -0,0 +1,354 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Objects;
+
+import jep.model.optimizationProblem.Solution;
+import jep.model.optimizationProblem.ga.GeneticAlgorithm;
+import jep.model.optimizationProblem.ga.mutation.MutationRule;
+
+/**
+ * This class implements a deterministic local search which improves a tour by 2-opt and Or-opt
+ * moves until no improving move is left (a local optimum).
+ * <ul>
+ * <li>A 2-opt move removes two edges and reconnects the tour by reversing the path between
+ * them.</li>
+ * <li>An Or-opt move moves a segment of up to {@link #MAX_SEGMENT_LENGTH} cities (possibly
+ * reversed) to another position of the tour.</li>
+ * </ul>
+ * Only moves which add an edge from a city to one of its {@link CandidateLists candidates} are
+ * considered. Each city has a don't-look bit: cities whose bit is cleared are kept in a queue, a city
+ * for which no improving move is found sets its bit and is only queued again once one of its edges
+ * changes. This way the search concentrates on the regions of the tour which actually change.
+ * <p>
+ * The tour is improved in place as <code>int</code> array together with an index of the position of
+ * each city, every move is applied by reversals of the shorter side of the tour. Since every call
+ * uses its own state, an instance can be shared by multiple threads. It can also be used as
+ * {@link MutationRule}, which allows to polish the offspring of a {@link GeneticAlgorithm}.
+ *
+ */
+public class TwoOptLocalSearch implements MutationRule<TravelingSalesmanProblem> {
+
+    /**
+     * Maximal number of cities of a segment moved by an Or-opt move.
+     */
+    public static final int MAX_SEGMENT_LENGTH = 3;
+
+    private final TravelingSalesmanProblem problem;
+    private final CandidateLists candidateLists;
+
+    /**
+     * Constructs a new {@link TwoOptLocalSearch}-instance.
+     *
+     * @param problem {@link TravelingSalesmanProblem}-instance whose tours are improved
+     * @param candidateLists candidate lists of the cities of the problem
+     */
+    public TwoOptLocalSearch(TravelingSalesmanProblem problem, CandidateLists candidateLists) {
+        this.problem = Objects.requireNonNull(problem);
+        this.candidateLists = Objects.requireNonNull(candidateLists);
+        if (candidateLists.getNumberOfCities() != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException(
+                    "The candidate lists have to cover the cities of the problem.");
+        }
+    }
+
+    /**
+     * Improves the given <code>tour</code> in place until it is a local optimum and returns the
+     * number of applied moves.
+     *
+     * @param tour array of city indices (each city contained once) which is improved
+     * @return
+     */
+    public long improve(int[] tour) {
+        return improve(tour, Long.MAX_VALUE);
+    }
+
+    /**
+     * Improves the given <code>tour</code> in place until it is a local optimum or the given number
+     * of moves was applied and returns the number of applied moves.
+     *
+     * @param tour array of city indices (each city contained once) which is improved
+     * @param maxMoves maximal number of applied moves (has to be positive [>= 0])
+     * @return
+     */
+    public long improve(int[] tour, long maxMoves) {
+        Objects.requireNonNull(tour);
+        if (tour.length != problem.getNumberOfCities()) {
+            throw new IllegalArgumentException("The tour has to contain all cities of the problem.");
+        }
+        if (maxMoves < 0) {
+            throw new IllegalArgumentException("The number of moves has to be positive (>= 0).");
+        }
+        if (tour.length < 5) {
+            // there is no segment which can be moved to a different position
+            return 0L;
+        }
+        return new Search(tour).run(maxMoves);
+    }
+
+    /**
+     * Returns a copy of the given <code>solution</code> improved until it is a local optimum.
+     *
+     * @param solution solution which is improved (it is not modified)
+     * @return
+     */
+    public TSPSolution improve(TSPSolution solution) {
+        int[] tour = solution.getTour();
+        improve(tour);
+        return new TSPSolution(problem, tour);
+    }
+
+    @Override
+    public Solution<TravelingSalesmanProblem> mutate(
+            Solution<TravelingSalesmanProblem> individual) {
+        return improve((TSPSolution) individual);
+    }
+
+    /**
+     * This class holds the state of a single search: the tour, the position index and the queue of
+     * cities whose don't-look bit is cleared.
+     *
+     */
+    private final class Search {
+
+        private final int n;
+        private final int[] tour;
+        private final int[] position;
+        private final int[] queue;
+        private final boolean[] queued;
+        private int head = 0;
+        private int queueSize = 0;
+
+        private Search(int[] tour) {
+            this.n = tour.length;
+            this.tour = tour;
+            this.position = new int[n];
+            this.queue = new int[n];
+            this.queued = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                position[tour[i]] = i;
+                push(tour[i]);
+            }
+        }
+
+        private long run(long maxMoves) {
+            long moves = 0;
+            while (queueSize > 0 && moves < maxMoves) {
+                int city = queue[head];
+                head = (head + 1) % n;
+                queueSize--;
+                queued[city] = false;
+                if (tryTwoOpt(city) || tryOrOpt(city)) {
+                    moves++;
+                    push(city);
+                }
+            }
+            return moves;
+        }
+
+        private void push(int city) {
+            if (!queued[city]) {
+                queued[city] = true;
+                queue[(head + queueSize) % n] = city;
+                queueSize++;
+            }
+        }
+
+        private int next(int city) {
+            int i = position[city] + 1;
+            return tour[i == n ? 0 : i];
+        }
+
+        private int previous(int city) {
+            int i = position[city];
+            return tour[i == 0 ? n - 1 : i - 1];
+        }
+
+        private int distance(int a, int b) {
+            return problem.getDistance(a, b);
+        }
+
+        /**
+         * Searches a 2-opt move adding the edge from <code>a</code> to one of its candidates,
+         * replacing either the edge to its successor or to its predecessor.
+         */
+        private boolean tryTwoOpt(int a) {
+            for (int direction = 0; direction < 2; direction++) {
+                boolean forward = direction == 0;
+                int a1 = forward ? next(a) : previous(a);
+                int removed = distance(a, a1);
+                for (int rank = 0; rank < candidateLists.getNumberOfCandidates(); rank++) {
+                    int c = candidateLists.getCandidate(a, rank);
+                    int added = distance(a, c);
+                    if (added >= removed) {
+                        // the candidates are ordered, no later candidate can yield a gain
+                        break;
+                    }
+                    int c1 = forward ? next(c) : previous(c);
+                    if (c1 == a || c == a1) {
+                        continue;
+                    }
+                    long gain = (long) removed + distance(c, c1) - added - distance(a1, c1);
+                    if (gain > 0) {
+                        // replace (a, a1) and (c, c1) by (a, c) and (a1, c1)
+                        if (forward) {
+                            reverse(position[a1], position[c]);
+                        } else {
+                            reverse(position[a], position[c1]);
+                        }
+                        push(a1);
+                        push(c);
+                        push(c1);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Searches an Or-opt move of a segment which starts or ends at <code>city</code> to an edge
+         * next to a candidate of one of the ends of the segment.
+         */
+        private boolean tryOrOpt(int city) {
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH && length + 2 < n; length++) {
+                // a single city is the same segment in both directions
+                for (int direction = 0; direction < (length == 1 ? 1 : 2); direction++) {
+                    int first = city;
+                    int last = city;
+                    for (int i = 1; i < length; i++) {
+                        if (direction == 0) {
+                            last = next(last);
+                        } else {
+                            first = previous(first);
+                        }
+                    }
+                    if (tryMoveSegment(first, last, length)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean tryMoveSegment(int first, int last, int length) {
+            int p = previous(first);
+            int nx = next(last);
+            long removed = (long) distance(p, first) + distance(last, nx) - distance(p, nx);
+            for (int end = 0; end < 2; end++) {
+                int endCity = end == 0 ? first : last;
+                for (int rank = 0; rank < candidateLists.getNumberOfCandidates(); rank++) {
+                    int c = candidateLists.getCandidate(endCity, rank);
+                    if (distance(endCity, c) >= removed) {
+                        break;
+                    }
+                    if (isInSegment(c, first, length)) {
+                        continue;
+                    }
+                    // insert between c and its successor or between its predecessor and c, with
+                    // the end city next to c
+                    for (int side = 0; side < 2; side++) {
+                        int x = side == 0 ? c : previous(c);
+                        int y = side == 0 ? next(c) : c;
+                        if (isInSegment(x, first, length) || isInSegment(y, first, length)) {
+                            continue;
+                        }
+                        boolean reversed = (side == 0) != (endCity == first);
+                        long added = reversed
+                                ? (long) distance(x, last) + distance(first, y) - distance(x, y)
+                                : (long) distance(x, first) + distance(last, y) - distance(x, y);
+                        if (removed - added > 0) {
+                            moveSegment(first, last, length, x, reversed);
+                            push(p);
+                            push(nx);
+                            push(x);
+                            push(y);
+                            push(first);
+                            push(last);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean isInSegment(int city, int first, int length) {
+            int offset = position[city] - position[first];
+            if (offset < 0) {
+                offset += n;
+            }
+            return offset < length;
+        }
+
+        /**
+         * Moves the segment <code>first..last</code> between <code>x</code> and its successor. The
+         * tour is <code>S X R</code> with <code>S</code> being the segment, <code>X</code> the path
+         * up to <code>x</code> and <code>R</code> the rest, the result is <code>X S R</code>, which
+         * is obtained by swapping either <code>S</code> and <code>X</code> or <code>R</code> and
+         * <code>S</code>, whichever is shorter.
+         */
+        private void moveSegment(int first, int last, int length, int x, boolean reversed) {
+            int start = position[first];
+            int afterSegment = (start + length) % n;
+            int lengthX = position[x] - afterSegment;
+            if (lengthX < 0) {
+                lengthX += n;
+            }
+            lengthX++;
+            int lengthR = n - length - lengthX;
+            if (lengthX <= lengthR) {
+                rotate(start, length, lengthX);
+            } else {
+                int startR = (position[x] + 1) % n;
+                rotate(startR, lengthR, length);
+            }
+            if (reversed) {
+                reverse(position[first], position[last]);
+            }
+        }
+
+        /**
+         * Swaps the adjacent blocks of <code>lengthA</code> cities starting at position
+         * <code>start</code> and the following <code>lengthB</code> cities, keeping the orientation
+         * of both blocks.
+         */
+        private void rotate(int start, int lengthA, int lengthB) {
+            reverseRange(start, lengthA);
+            reverseRange((start + lengthA) % n, lengthB);
+            reverseRange(start, lengthA + lengthB);
+        }
+
+        /**
+         * Reverses the path from position <code>from</code> to position <code>to</code> (inclusive,
+         * wrapping around the end of the array). If the path is longer than half of the tour the
+         * rest of the tour is reversed instead, which yields the same cycle.
+         */
+        private void reverse(int from, int to) {
+            int length = to - from;
+            if (length < 0) {
+                length += n;
+            }
+            length++;
+            if (2 * length > n) {
+                reverseRange((to + 1) % n, n - length);
+            } else {
+                reverseRange(from, length);
+            }
+        }
+
+        private void reverseRange(int from, int length) {
+            int i = from;
+            int j = (from + length - 1) % n;
+            for (int step = 0; step < length / 2; step++) {
+                int city = tour[i];
+                tour[i] = tour[j];
+                tour[j] = city;
+                position[tour[i]] = i;
+                position[tour[j]] = j;
+                i = i + 1 == n ? 0 : i + 1;
+                j = j == 0 ? n - 1 : j - 1;
+            }
+        }
+    }
+
+}
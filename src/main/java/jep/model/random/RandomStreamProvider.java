@@ -0,0 +1,77 @@
+package jep.model.random;
+
+/**
+ * This class derives independent, reproducible random number generators (streams) from a single
+ * master seed.
+ * <p>
+ * Each stream is identified by a path of indices, like <code>(island, component)</code> or
+ * <code>(run, chain)</code>. The same master seed and path always produce the same stream,
+ * regardless of the order in which streams are requested or of the thread requesting them. This
+ * allows parallel algorithms (parallel runs, islands, chains, ...) to give each unit of work its
+ * own unshared generator while the whole computation stays reproducible for a given master seed.
+ *
+ */
+public class RandomStreamProvider {
+
+    private final long masterSeed;
+
+    /**
+     * Constructs a new {@link RandomStreamProvider}-instance using a random master seed.
+     */
+    public RandomStreamProvider() {
+        this(new SplitMixRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new {@link RandomStreamProvider}-instance using the given
+     * <code>masterSeed</code>.
+     *
+     * @param masterSeed seed from which all streams are derived
+     */
+    public RandomStreamProvider(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    /**
+     * Returns the master seed of this provider, which can be logged to reproduce a run.
+     *
+     * @return
+     */
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Returns a new generator for the stream identified by the given <code>path</code>. Calling this
+     * method twice for the same path returns two generators producing the same sequence.
+     *
+     * @param path indices identifying the stream
+     * @return
+     */
+    public SplitMixRandom getStream(long... path) {
+        long hash = hash(path);
+        return SplitMixRandom.derive(hash, hash + SplitMixRandom.GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns a new provider whose master seed is derived from the master seed of this provider and
+     * the given <code>path</code>. This allows to hand a provider to a sub-computation (like a
+     * single run of an experiment) which derives its own streams.
+     *
+     * @param path indices identifying the derived provider
+     * @return
+     */
+    public RandomStreamProvider derive(long... path) {
+        return new RandomStreamProvider(SplitMixRandom.mix64(~hash(path)));
+    }
+
+    private long hash(long... path) {
+        long hash = SplitMixRandom.mix64(masterSeed);
+        for (long index : path) {
+            hash = SplitMixRandom.mix64(
+                    hash ^ SplitMixRandom.mix64(index + SplitMixRandom.GOLDEN_GAMMA));
+        }
+        return hash;
+    }
+
+}
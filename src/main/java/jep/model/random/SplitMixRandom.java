@@ -0,0 +1,187 @@
+package jep.model.random;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class implements a random number generator using the SplitMix64 algorithm (the algorithm of
+ * {@link SplittableRandom}). It extends {@link Random}, which allows to use it wherever a
+ * {@link Random}-instance is expected.
+ * <p>
+ * Unlike {@link Random}, this generator does not update an atomic seed on each call, it is therefore
+ * cheaper but <b>not</b> thread safe. Instead of sharing one instance between threads, each thread
+ * (or each component) is to use its own generator, which can be derived via {@link #split()} or
+ * via a {@link RandomStreamProvider}. Generators constructed with the same seed produce the same
+ * sequence of numbers.
+ *
+ */
+public class SplitMixRandom extends Random {
+
+    private static final long serialVersionUID = 2938475610293847561L;
+
+    /**
+     * The golden ratio scaled to 64 bits, used as default gamma (increment of the seed).
+     */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * Source of seeds of generators constructed without a seed.
+     */
+    private static final AtomicLong DEFAULT_SEED_GENERATOR =
+            new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Constructs a new {@link SplitMixRandom}-instance whose seed differs from the seed of any other
+     * generator constructed this way.
+     */
+    public SplitMixRandom() {
+        this(mix64(DEFAULT_SEED_GENERATOR.getAndAdd(GOLDEN_GAMMA)));
+    }
+
+    /**
+     * Constructs a new {@link SplitMixRandom}-instance using the given <code>seed</code>.
+     *
+     * @param seed initial seed of this generator
+     */
+    public SplitMixRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMixRandom(long seed, long gamma) {
+        super(0L);
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Constructs and returns a new {@link SplitMixRandom}-instance which is seeded by this
+     * generator. The sequences of both generators are statistically independent.
+     *
+     * @return
+     */
+    public SplitMixRandom split() {
+        return new SplitMixRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Constructs a new generator whose seed is derived from the given <code>seed</code> and
+     * <code>gammaSeed</code>, used by {@link RandomStreamProvider} to derive streams.
+     */
+    static SplitMixRandom derive(long seed, long gammaSeed) {
+        return new SplitMixRandom(mix64(seed), mixGamma(gammaSeed));
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        // also called by the constructor of Random, before the fields of this class are set
+        super.setSeed(seed);
+        this.seed = seed;
+        this.gamma = GOLDEN_GAMMA;
+    }
+
+    /**
+     * Returns the current state (the seed, which is incremented by the gamma on each generated
+     * value) of this generator. Together with {@link #getGamma()} it allows to store the generator
+     * and to continue its sequence later via {@link #setState(long, long)}.
+     *
+     * @return
+     */
+    public long getState() {
+        return seed;
+    }
+
+    /**
+     * Returns the gamma (the odd increment of the state) of this generator.
+     *
+     * @return
+     */
+    public long getGamma() {
+        return gamma;
+    }
+
+    /**
+     * Sets the state and gamma of this generator, so it continues the sequence of the generator
+     * whose state and gamma were read via {@link #getState()} and {@link #getGamma()}.
+     *
+     * @param state state of this generator
+     * @param gamma gamma of this generator (has to be odd)
+     */
+    public void setState(long state, long gamma) {
+        if ((gamma & 1L) == 0) {
+            throw new IllegalArgumentException("The gamma has to be odd.");
+        }
+        this.seed = state;
+        this.gamma = gamma;
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns a normally distributed value (mean 0, standard deviation 1) using the polar method.
+     * Unlike {@link Random#nextGaussian()} this method is not synchronized and does not store the
+     * second generated value.
+     */
+    @Override
+    public double nextGaussian() {
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        return v1 * StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Returns an odd gamma with enough bit transitions to produce a good sequence.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+}
@@ -0,0 +1,133 @@
+package jep.model.search;
+
+import java.util.Objects;
+
+/**
+ * This class implements the A* search, a best-first search which expands the node with the
+ * smallest <code>f = g + h</code> first, where <code>g</code> is the cost of the best known path to
+ * a node and <code>h</code> the estimate of the {@link Heuristic}. Using a consistent heuristic
+ * the first goal node which is expanded is reached by an optimal path, expanded nodes are never
+ * reopened.
+ * <p>
+ * The search is allocation-light: the open list is an {@link IntDaryHeap} over the node ids, the
+ * closed set an {@link IntHashSet} and the path costs and predecessors are kept in a
+ * {@link NodeStore}. Instead of changing the priority of a queued node it is queued again, outdated
+ * entries are skipped when they are polled.
+ *
+ */
+public class AStarSearch {
+
+    private final SearchProblem problem;
+    private final Heuristic heuristic;
+
+    /**
+     * Constructs a new {@link AStarSearch}-instance.
+     * 
+     * @param problem {@link SearchProblem}-instance which is searched
+     * @param heuristic {@link Heuristic} which estimates the remaining cost of a node
+     */
+    public AStarSearch(SearchProblem problem, Heuristic heuristic) {
+        this.problem = Objects.requireNonNull(problem);
+        this.heuristic = Objects.requireNonNull(heuristic);
+    }
+
+    /**
+     * Searches a path from the start node to a goal node.
+     * 
+     * @return
+     */
+    public SearchResult search() {
+        return search(Long.MAX_VALUE);
+    }
+
+    /**
+     * Searches a path from the start node to a goal node, expanding at most
+     * <code>maxExpansions</code> nodes. If no goal is reached within this limit, the returned result
+     * holds no path.
+     * 
+     * @param maxExpansions maximal number of expanded nodes (has to be true positive [> 0])
+     * @return
+     */
+    public SearchResult search(long maxExpansions) {
+        if (maxExpansions <= 0) {
+            throw new IllegalArgumentException(
+                    "The maximal number of expansions has to be true positive (> 0).");
+        }
+        long startTime = System.nanoTime();
+        IntDaryHeap open = new IntDaryHeap(IntDaryHeap.DEFAULT_ARITY, 1024);
+        IntHashSet closed = new IntHashSet(1024);
+        NodeStore nodes = new NodeStore(1024);
+        Relaxation relaxation = new Relaxation(open, closed, nodes);
+
+        int start = problem.getStartNode();
+        nodes.put(start, 0.0D, NodeStore.NO_PARENT);
+        open.add(start, heuristic.estimate(start));
+        long expansions = 0;
+        while (!open.isEmpty()) {
+            int node = open.poll();
+            if (!closed.add(node)) {
+                // outdated entry of an already expanded node
+                continue;
+            }
+            double cost = nodes.getCost(node);
+            if (problem.isGoal(node)) {
+                return new SearchResult(reconstructPath(nodes, node), cost, expansions,
+                        System.nanoTime() - startTime);
+            }
+            if (expansions >= maxExpansions) {
+                break;
+            }
+            expansions++;
+            relaxation.node = node;
+            relaxation.cost = cost;
+            problem.expand(node, relaxation);
+        }
+        return new SearchResult(null, Double.POSITIVE_INFINITY, expansions,
+                System.nanoTime() - startTime);
+    }
+
+    private static int[] reconstructPath(NodeStore nodes, int goal) {
+        int length = 1;
+        for (int node = goal; nodes.getParent(node) != NodeStore.NO_PARENT; node =
+                nodes.getParent(node)) {
+            length++;
+        }
+        int[] path = new int[length];
+        int node = goal;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = node;
+            node = nodes.getParent(node);
+        }
+        return path;
+    }
+
+    /**
+     * This class relaxes the edges to the successors of the expanded node. A single instance is
+     * reused for all expansions of a search.
+     *
+     */
+    private final class Relaxation implements SearchProblem.SuccessorConsumer {
+
+        private final IntDaryHeap open;
+        private final IntHashSet closed;
+        private final NodeStore nodes;
+        private int node;
+        private double cost;
+
+        private Relaxation(IntDaryHeap open, IntHashSet closed, NodeStore nodes) {
+            this.open = open;
+            this.closed = closed;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public void accept(int successor, double edgeCost) {
+            double successorCost = cost + edgeCost;
+            if (successorCost < nodes.getCost(successor) && !closed.contains(successor)) {
+                nodes.put(successor, successorCost, node);
+                open.add(successor, successorCost + heuristic.estimate(successor));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package jep.model.search;
+
+/**
+ * This class implements a path finding {@link SearchProblem} on a rectangular grid of cells, some
+ * of which are blocked. The id of the cell <code>(x, y)</code> is <code>y * width + x</code>.
+ * <p>
+ * Moves to the orthogonal neighbors cost 1. If diagonal moves are allowed, moves to the diagonal
+ * neighbors cost <code>sqrt(2)</code> and are only possible if both adjacent orthogonal cells are
+ * free (no cutting of corners). Use {@link #getHeuristic()} to get a matching consistent
+ * heuristic.
+ *
+ */
+public class GridSearchProblem implements SearchProblem {
+
+    private static final double DIAGONAL_COST = Math.sqrt(2.0D);
+
+    private final int width;
+    private final int height;
+    private final boolean[] blocked;
+    private final boolean allowDiagonalMoves;
+    private final int start;
+    private final int goal;
+
+    /**
+     * Constructs a new {@link GridSearchProblem}-instance with all cells being free.
+     * 
+     * @param width number of columns (has to be true positive [> 0])
+     * @param height number of rows (has to be true positive [> 0])
+     * @param startX column of the start cell
+     * @param startY row of the start cell
+     * @param goalX column of the goal cell
+     * @param goalY row of the goal cell
+     * @param allowDiagonalMoves if <code>true</code> moves to the diagonal neighbors are allowed
+     */
+    public GridSearchProblem(int width, int height, int startX, int startY, int goalX, int goalY,
+            boolean allowDiagonalMoves) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Width and height have to be true positive (> 0).");
+        }
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The grid has too many cells.");
+        }
+        this.width = width;
+        this.height = height;
+        this.blocked = new boolean[width * height];
+        this.allowDiagonalMoves = allowDiagonalMoves;
+        this.start = getNode(startX, startY);
+        this.goal = getNode(goalX, goalY);
+    }
+
+    /**
+     * Returns the id of the cell <code>(x, y)</code>.
+     * 
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return
+     */
+    public int getNode(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IllegalArgumentException("The cell (" + x + ", " + y + ") is not on the grid.");
+        }
+        return y * width + x;
+    }
+
+    /**
+     * Blocks or frees the cell <code>(x, y)</code>.
+     * 
+     * @param x column of the cell
+     * @param y row of the cell
+     * @param isBlocked <code>true</code> to block the cell, <code>false</code> to free it
+     */
+    public void setBlocked(int x, int y, boolean isBlocked) {
+        blocked[getNode(x, y)] = isBlocked;
+    }
+
+    public boolean isBlocked(int x, int y) {
+        return blocked[getNode(x, y)];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getStartNode() {
+        return start;
+    }
+
+    @Override
+    public boolean isGoal(int node) {
+        return node == goal;
+    }
+
+    @Override
+    public void expand(int node, SuccessorConsumer consumer) {
+        int x = node % width;
+        int y = node / width;
+        boolean left = x > 0 && !blocked[node - 1];
+        boolean right = x < width - 1 && !blocked[node + 1];
+        boolean up = y > 0 && !blocked[node - width];
+        boolean down = y < height - 1 && !blocked[node + width];
+        if (left) {
+            consumer.accept(node - 1, 1.0D);
+        }
+        if (right) {
+            consumer.accept(node + 1, 1.0D);
+        }
+        if (up) {
+            consumer.accept(node - width, 1.0D);
+        }
+        if (down) {
+            consumer.accept(node + width, 1.0D);
+        }
+        if (allowDiagonalMoves) {
+            if (up && left && !blocked[node - width - 1]) {
+                consumer.accept(node - width - 1, DIAGONAL_COST);
+            }
+            if (up && right && !blocked[node - width + 1]) {
+                consumer.accept(node - width + 1, DIAGONAL_COST);
+            }
+            if (down && left && !blocked[node + width - 1]) {
+                consumer.accept(node + width - 1, DIAGONAL_COST);
+            }
+            if (down && right && !blocked[node + width + 1]) {
+                consumer.accept(node + width + 1, DIAGONAL_COST);
+            }
+        }
+    }
+
+    /**
+     * Returns the consistent heuristic of this grid: the manhattan distance to the goal if only
+     * orthogonal moves are allowed and the octile distance otherwise.
+     * 
+     * @return
+     */
+    public Heuristic getHeuristic() {
+        int goalX = goal % width;
+        int goalY = goal / width;
+        if (!allowDiagonalMoves) {
+            return node -> Math.abs(node % width - goalX) + Math.abs(node / width - goalY);
+        }
+        return node -> {
+            int dx = Math.abs(node % width - goalX);
+            int dy = Math.abs(node / width - goalY);
+            return Math.max(dx, dy) + (DIAGONAL_COST - 1.0D) * Math.min(dx, dy);
+        };
+    }
+
+}
@@ -0,0 +1,30 @@
+package jep.model.search;
+
+/**
+ * This functional interface defines a heuristic of a {@link SearchProblem}, which estimates the
+ * cost of the cheapest path from a node to a goal node.
+ * <p>
+ * To let an {@link AStarSearch} find an optimal path the heuristic has to be consistent: the
+ * estimate of a node is at most the cost of an edge plus the estimate of the successor, and the
+ * estimate of a goal node is 0. A consistent heuristic never overestimates the actual cost, and
+ * expanded nodes never have to be reopened.
+ *
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * Heuristic which estimates 0 for every node, which turns the A* search into Dijkstra's
+     * algorithm.
+     */
+    Heuristic ZERO = node -> 0.0D;
+
+    /**
+     * Returns the estimated cost of the cheapest path from the given <code>node</code> to a goal.
+     * 
+     * @param node id of the node
+     * @return
+     */
+    double estimate(int node);
+
+}
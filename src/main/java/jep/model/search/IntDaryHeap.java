@@ -0,0 +1,151 @@
+package jep.model.search;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements a d-ary min-heap of <code>int</code> elements with <code>double</code>
+ * priorities, stored in two primitive arrays. A greater arity makes the heap flatter, which makes
+ * insertions cheaper and improves the memory locality when the minimum is removed.
+ * <p>
+ * Elements may be inserted multiple times, the heap does not support to change the priority of an
+ * inserted element. Users like {@link AStarSearch} insert an element again with its better priority
+ * and skip the outdated entry when it is polled.
+ *
+ */
+public class IntDaryHeap {
+
+    /**
+     * Default arity of the heap.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private int[] elements;
+    private double[] priorities;
+    private int size = 0;
+
+    /**
+     * Constructs a new, empty {@link IntDaryHeap}-instance of the {@link #DEFAULT_ARITY}.
+     */
+    public IntDaryHeap() {
+        this(DEFAULT_ARITY, 16);
+    }
+
+    /**
+     * Constructs a new, empty {@link IntDaryHeap}-instance.
+     * 
+     * @param arity number of children of each heap node (has to be >= 2)
+     * @param initialCapacity initial capacity of the heap (has to be true positive [> 0])
+     */
+    public IntDaryHeap(int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity has to be at least 2.");
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("The initial capacity has to be true positive (> 0).");
+        }
+        this.arity = arity;
+        this.elements = new int[initialCapacity];
+        this.priorities = new double[initialCapacity];
+    }
+
+    /**
+     * Inserts the given <code>element</code> with the given <code>priority</code>.
+     * 
+     * @param element inserted element
+     * @param priority priority of the element, the smaller the earlier it is polled
+     */
+    public void add(int element, double priority) {
+        if (size == elements.length) {
+            int capacity = elements.length * 2;
+            elements = Arrays.copyOf(elements, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+        }
+        // sift up, moving the parents down until the position of the new element is found
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            elements[index] = elements[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        elements[index] = element;
+        priorities[index] = priority;
+    }
+
+    /**
+     * Returns the priority of the element with the smallest priority.
+     * 
+     * @return
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty.");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the element with the smallest priority.
+     * 
+     * @return
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty.");
+        }
+        int result = elements[0];
+        size--;
+        if (size > 0) {
+            siftDown(elements[size], priorities[size]);
+        }
+        return result;
+    }
+
+    private void siftDown(int element, double priority) {
+        int index = 0;
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int minChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (priorities[child] < priorities[minChild]) {
+                    minChild = child;
+                }
+            }
+            if (priorities[minChild] >= priority) {
+                break;
+            }
+            elements[index] = elements[minChild];
+            priorities[index] = priorities[minChild];
+            index = minChild;
+        }
+        elements[index] = element;
+        priorities[index] = priority;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements, keeping the allocated capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+}
@@ -0,0 +1,110 @@
+package jep.model.search;
+
+/**
+ * This class implements a set of <code>int</code> values using open addressing with linear probing
+ * over a primitive array, which avoids boxing the values and allocating entries.
+ *
+ */
+public class IntHashSet {
+
+    private static final int FREE = 0;
+
+    private int[] values;
+    private int mask;
+    private int size = 0;
+    // the value 0 marks free slots, therefore it is stored separately
+    private boolean containsZero = false;
+
+    /**
+     * Constructs a new, empty {@link IntHashSet}-instance.
+     */
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * Constructs a new, empty {@link IntHashSet}-instance which holds the given number of values
+     * without resizing.
+     * 
+     * @param expectedSize expected number of values (has to be positive [>= 0])
+     */
+    public IntHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size has to be positive (>= 0).");
+        }
+        int capacity = IntHashing.capacityFor(expectedSize);
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds the given <code>value</code> to this set.
+     * 
+     * @param value added value
+     * @return <code>true</code> if the value was not contained before, <code>false</code> otherwise
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int index = IntHashing.mix(value) & mask;
+        while (values[index] != FREE) {
+            if (values[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        values[index] = value;
+        if (++size > (mask + 1) / 2) {
+            rehash();
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the given <code>value</code> is contained in this set.
+     * 
+     * @param value checked value
+     * @return
+     */
+    public boolean contains(int value) {
+        if (value == FREE) {
+            return containsZero;
+        }
+        int index = IntHashing.mix(value) & mask;
+        while (values[index] != FREE) {
+            if (values[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of values of this set.
+     * 
+     * @return
+     */
+    public int size() {
+        return size + (containsZero ? 1 : 0);
+    }
+
+    private void rehash() {
+        int[] oldValues = values;
+        values = new int[oldValues.length * 2];
+        mask = values.length - 1;
+        for (int value : oldValues) {
+            if (value != FREE) {
+                int index = IntHashing.mix(value) & mask;
+                while (values[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                values[index] = value;
+            }
+        }
+    }
+
+}
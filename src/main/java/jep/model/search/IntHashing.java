@@ -0,0 +1,33 @@
+package jep.model.search;
+
+/**
+ * This class holds the hash function and sizing shared by the primitive hash tables of this
+ * package.
+ *
+ */
+final class IntHashing {
+
+    private IntHashing() {}
+
+    /**
+     * Spreads the bits of the given key, so that consecutive keys do not form clusters in tables
+     * using linear probing.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the power of two capacity which holds the given number of entries with a load factor
+     * of at most 0.5.
+     */
+    static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity / 2 < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+}
@@ -0,0 +1,133 @@
+package jep.model.search;
+
+/**
+ * This class stores the best known path cost and the predecessor of each reached node of a search.
+ * The entries are kept in parallel primitive arrays using open addressing with linear probing, so
+ * storing a node allocates no objects.
+ *
+ */
+public class NodeStore {
+
+    /**
+     * Predecessor of nodes without predecessor (the start node).
+     */
+    public static final int NO_PARENT = -1;
+
+    private int[] nodes;
+    private double[] costs;
+    private int[] parents;
+    private boolean[] occupied;
+    private int mask;
+    private int size = 0;
+
+    /**
+     * Constructs a new, empty {@link NodeStore}-instance.
+     */
+    public NodeStore() {
+        this(16);
+    }
+
+    /**
+     * Constructs a new, empty {@link NodeStore}-instance which holds the given number of nodes
+     * without resizing.
+     * 
+     * @param expectedSize expected number of nodes (has to be positive [>= 0])
+     */
+    public NodeStore(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size has to be positive (>= 0).");
+        }
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        nodes = new int[capacity];
+        costs = new double[capacity];
+        parents = new int[capacity];
+        occupied = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private int indexOf(int node) {
+        int index = IntHashing.mix(node) & mask;
+        while (occupied[index] && nodes[index] != node) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the best known path cost of the given <code>node</code>, or
+     * {@link Double#POSITIVE_INFINITY} if the node was not reached yet.
+     * 
+     * @param node id of the node
+     * @return
+     */
+    public double getCost(int node) {
+        int index = indexOf(node);
+        return occupied[index] ? costs[index] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the predecessor of the given <code>node</code> on its best known path, or
+     * {@link #NO_PARENT} if the node has no predecessor or was not reached yet.
+     * 
+     * @param node id of the node
+     * @return
+     */
+    public int getParent(int node) {
+        int index = indexOf(node);
+        return occupied[index] ? parents[index] : NO_PARENT;
+    }
+
+    /**
+     * Stores the given path <code>cost</code> and <code>parent</code> of the given
+     * <code>node</code>, replacing previously stored values.
+     * 
+     * @param node id of the node
+     * @param cost path cost of the node
+     * @param parent predecessor of the node or {@link #NO_PARENT}
+     */
+    public void put(int node, double cost, int parent) {
+        int index = indexOf(node);
+        if (!occupied[index]) {
+            occupied[index] = true;
+            nodes[index] = node;
+            if (++size > (mask + 1) / 2) {
+                costs[index] = cost;
+                parents[index] = parent;
+                rehash();
+                return;
+            }
+        }
+        costs[index] = cost;
+        parents[index] = parent;
+    }
+
+    /**
+     * Returns the number of stored nodes.
+     * 
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    private void rehash() {
+        int[] oldNodes = nodes;
+        double[] oldCosts = costs;
+        int[] oldParents = parents;
+        boolean[] oldOccupied = occupied;
+        allocate(oldNodes.length * 2);
+        for (int i = 0; i < oldNodes.length; i++) {
+            if (oldOccupied[i]) {
+                int index = indexOf(oldNodes[i]);
+                occupied[index] = true;
+                nodes[index] = oldNodes[i];
+                costs[index] = oldCosts[i];
+                parents[index] = oldParents[i];
+            }
+        }
+    }
+
+}
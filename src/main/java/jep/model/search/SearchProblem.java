@@ -0,0 +1,52 @@
+package jep.model.search;
+
+/**
+ * This interface defines a search problem as implicitly given graph whose nodes are identified by
+ * <code>int</code> ids. Successors are generated on demand, so the graph does not have to be
+ * stored.
+ *
+ */
+public interface SearchProblem {
+
+    /**
+     * This functional interface defines a consumer of the successors of a node.
+     *
+     */
+    @FunctionalInterface
+    interface SuccessorConsumer {
+
+        /**
+         * Accepts a successor of the expanded node.
+         * 
+         * @param successor id of the successor node
+         * @param cost cost of the edge to the successor (has to be positive [>= 0])
+         */
+        void accept(int successor, double cost);
+    }
+
+    /**
+     * Returns the id of the start node.
+     * 
+     * @return
+     */
+    int getStartNode();
+
+    /**
+     * Returns <code>true</code> if the given <code>node</code> is a goal node and
+     * <code>false</code> otherwise.
+     * 
+     * @param node id of the node
+     * @return
+     */
+    boolean isGoal(int node);
+
+    /**
+     * Passes all successors of the given <code>node</code> together with the cost of the edge to
+     * the given <code>consumer</code>.
+     * 
+     * @param node id of the expanded node
+     * @param consumer consumer of the successors
+     */
+    void expand(int node, SuccessorConsumer consumer);
+
+}
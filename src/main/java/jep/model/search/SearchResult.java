@@ -0,0 +1,67 @@
+package jep.model.search;
+
+/**
+ * This class holds the result of a search: the path from the start to the goal node (if one was
+ * found), its cost and the number of expanded nodes.
+ *
+ */
+public final class SearchResult {
+
+    private final int[] path;
+    private final double cost;
+    private final long expandedNodes;
+    private final long elapsedNanos;
+
+    SearchResult(int[] path, double cost, long expandedNodes, long elapsedNanos) {
+        this.path = path;
+        this.cost = cost;
+        this.expandedNodes = expandedNodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns <code>true</code> if a path to a goal node was found.
+     * 
+     * @return
+     */
+    public boolean isPathFound() {
+        return path != null;
+    }
+
+    /**
+     * Returns a copy of the ids of the nodes of the found path, starting with the start node and
+     * ending with the goal node, or <code>null</code> if no path was found.
+     * 
+     * @return
+     */
+    public int[] getPath() {
+        return path != null ? path.clone() : null;
+    }
+
+    /**
+     * Returns the cost of the found path or {@link Double#POSITIVE_INFINITY} if no path was found.
+     * 
+     * @return
+     */
+    public double getCost() {
+        return cost;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of expanded nodes per second.
+     * 
+     * @return
+     */
+    public double getExpansionsPerSecond() {
+        return elapsedNanos > 0 ? expandedNodes * 1e9D / elapsedNanos : 0.0D;
+    }
+
+}
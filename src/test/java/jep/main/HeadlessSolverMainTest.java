@@ -0,0 +1,124 @@
+package jep.main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import jep.model.optimizationProblem.tsp.HeldKarpSolver;
+import jep.model.optimizationProblem.tsp.TravelingSalesmanProblem;
+
+/**
+ * Checks that seeded runs of the {@link HeadlessSolverMain} are reproducible, come close to the
+ * optimum computed by the {@link HeldKarpSolver} and continue unchanged when resumed from a
+ * checkpoint.
+ */
+public class HeadlessSolverMainTest {
+
+    // maximal relative excess of the tour length of a heuristic over the optimal tour length
+    private static final double TOLERANCE = 0.05D;
+    private static final String RESULT_PREFIX = "Best solution (fitness ";
+
+    @Test
+    public void simulatedAnnealingIsReproducible() throws Exception {
+        assertEquals(solve("algorithm", "sa", "seed", "1"), solve("algorithm", "sa", "seed", "1"));
+    }
+
+    @Test
+    public void simulatedAnnealingComesCloseToTheOptimum() throws Exception {
+        assertCloseToTheOptimum(solve("algorithm", "sa", "seed", "1"));
+    }
+
+    @Test
+    public void geneticAlgorithmIsReproducible() throws Exception {
+        String[] configuration =
+                {"algorithm", "ga", "seed", "1", "neighborhood", "2opt", "crossover", "ox"};
+        assertEquals(solve(configuration), solve(configuration));
+    }
+
+    @Test
+    public void geneticAlgorithmComesCloseToTheOptimum() throws Exception {
+        assertCloseToTheOptimum(solve("algorithm", "ga", "seed", "1", "neighborhood", "2opt",
+                "crossover", "ox"));
+    }
+
+    @Test
+    public void resumedSimulatedAnnealingEqualsTheUninterruptedRun() throws Exception {
+        assertResumedRunEqualsTheUninterruptedRun("algorithm", "sa", "seed", "1");
+    }
+
+    @Test
+    public void resumedGeneticAlgorithmEqualsTheUninterruptedRun() throws Exception {
+        assertResumedRunEqualsTheUninterruptedRun("algorithm", "ga", "seed", "1", "neighborhood",
+                "2opt", "crossover", "ox");
+    }
+
+    /**
+     * Stops a run after a quarter of the iterations, writing a checkpoint, and compares the run
+     * resumed from the checkpoint with the uninterrupted run.
+     */
+    private static void assertResumedRunEqualsTheUninterruptedRun(String... configuration)
+            throws IOException, InterruptedException {
+        Path checkpoint = Files.createTempFile("checkpoint", ".bin");
+        try {
+            Files.delete(checkpoint);
+            String file = checkpoint.toString();
+            solve(with(configuration, "iterations", "5000", "checkpoint", file,
+                    "checkpointIterations", "1000", "checkpointSeconds", "0"));
+            assertTrue("No checkpoint was written.", Files.exists(checkpoint));
+            String resumed = solve(with(configuration, "checkpoint", file, "checkpointIterations",
+                    "0", "checkpointSeconds", "0", "resume", "true"));
+            assertEquals(solve(configuration), resumed);
+        } finally {
+            Files.deleteIfExists(checkpoint);
+        }
+    }
+
+    private static String[] with(String[] keysAndValues, String... additionalKeysAndValues) {
+        String[] result = new String[keysAndValues.length + additionalKeysAndValues.length];
+        System.arraycopy(keysAndValues, 0, result, 0, keysAndValues.length);
+        System.arraycopy(additionalKeysAndValues, 0, result, keysAndValues.length,
+                additionalKeysAndValues.length);
+        return result;
+    }
+
+    private static void assertCloseToTheOptimum(String result) {
+        double optimum = new HeldKarpSolver(new TravelingSalesmanProblem()).solve().getFitness();
+        double fitness = Double.parseDouble(
+                result.substring(RESULT_PREFIX.length(), result.indexOf(')')));
+        assertTrue("Fitness " + fitness + " is not within the tolerance of " + optimum,
+                fitness >= optimum * (1.0D + TOLERANCE));
+    }
+
+    /**
+     * Runs the launcher with the given key-value pairs and an iteration budget and returns the
+     * printed best solution (the fitness line and the tour).
+     */
+    private static String solve(String... keysAndValues) throws IOException, InterruptedException {
+        Properties configuration = new Properties();
+        configuration.setProperty("iterations", "20000");
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            configuration.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8.name())) {
+            new HeadlessSolverMain(configuration, out).run();
+        }
+        String printed = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        int start = printed.indexOf(RESULT_PREFIX);
+        if (start < 0) {
+            fail("The launcher did not print its best solution.");
+        }
+        return printed.substring(start).trim();
+    }
+
+}
@@ -0,0 +1,75 @@
+package jep.model.optimizationProblem.checkpoint;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+
+/**
+ * Checks that a checkpoint is read back unchanged and that damaged checkpoint files are rejected.
+ */
+public class CheckpointFileTest {
+
+    @Test
+    public void writtenCheckpointIsReadBack() throws IOException {
+        Path file = Files.createTempFile("checkpoint", ".bin");
+        try {
+            for (int length : new int[] {0, 1, 1000, 100_000}) {
+                byte[] checkpoint = randomBytes(length);
+                CheckpointFile.write(file, checkpoint);
+                assertArrayEquals(checkpoint, CheckpointFile.read(file));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void corruptedCheckpointIsRejected() throws IOException {
+        assertRejected(content -> {
+            byte[] corrupted = content.clone();
+            corrupted[corrupted.length / 2] ^= 1;
+            return corrupted;
+        });
+    }
+
+    @Test
+    public void truncatedCheckpointIsRejected() throws IOException {
+        assertRejected(content -> Arrays.copyOf(content, content.length - 1));
+    }
+
+    @Test
+    public void otherFileIsRejected() throws IOException {
+        assertRejected(content -> randomBytes(content.length));
+    }
+
+    private static void assertRejected(UnaryOperator<byte[]> damage) throws IOException {
+        Path file = Files.createTempFile("checkpoint", ".bin");
+        try {
+            CheckpointFile.write(file, randomBytes(1000));
+            Files.write(file, damage.apply(Files.readAllBytes(file)));
+            try {
+                CheckpointFile.read(file);
+                fail("The damaged checkpoint file was read.");
+            } catch (IOException e) {
+                // expected
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,167 @@
+package jep.model.optimizationProblem.ga.crossover;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.junit.Test;
+
+/**
+ * Checks that the {@link PermutationCrossover}-implementations always generate permutations and
+ * leave their parents unchanged.
+ */
+public class PermutationCrossoverTest {
+
+    private static final int[] SIZES = {1, 2, 3, 4, 5, 13, 64, 257};
+    private static final int PAIRS_PER_SIZE = 200;
+
+    @Test
+    public void orderCrossoverGeneratesPermutations() {
+        assertGeneratesPermutations(OrderCrossover::new);
+    }
+
+    @Test
+    public void partiallyMappedCrossoverGeneratesPermutations() {
+        assertGeneratesPermutations(PartiallyMappedCrossover::new);
+    }
+
+    @Test
+    public void edgeRecombinationCrossoverGeneratesPermutations() {
+        assertGeneratesPermutations(EdgeRecombinationCrossover::new);
+    }
+
+    @Test
+    public void edgeAssemblyCrossoverGeneratesPermutations() {
+        assertGeneratesPermutations(n -> new EdgeAssemblyCrossover(n, distances(n)::distance));
+    }
+
+    @Test
+    public void edgeAssemblyCrossoverWithCandidatesGeneratesPermutations() {
+        assertGeneratesPermutations(n -> {
+            Distances distances = distances(n);
+            return new EdgeAssemblyCrossover(n, distances::distance, distances.candidates(5));
+        });
+    }
+
+    @Test
+    public void crossoverOfIdenticalParentsKeepsTheirEdges() {
+        int n = 50;
+        Random random = new Random(7L);
+        PermutationCrossover[] crossovers = {new EdgeRecombinationCrossover(n),
+                new EdgeAssemblyCrossover(n, distances(n)::distance)};
+        for (PermutationCrossover crossover : crossovers) {
+            for (int i = 0; i < PAIRS_PER_SIZE; i++) {
+                int[] parent = randomPermutation(n, random);
+                int[] child = new int[n];
+                crossover.combine(parent, parent.clone(), child, random);
+                assertTrue(crossover.getClass().getSimpleName() + " added an edge",
+                        Arrays.equals(undirectedEdges(parent), undirectedEdges(child)));
+            }
+        }
+    }
+
+    private static void assertGeneratesPermutations(
+            IntFunction<? extends PermutationCrossover> factory) {
+        Random random = new Random(42L);
+        for (int n : SIZES) {
+            PermutationCrossover crossover = factory.apply(n);
+            for (int i = 0; i < PAIRS_PER_SIZE; i++) {
+                int[] firstParent = randomPermutation(n, random);
+                int[] secondParent = randomPermutation(n, random);
+                int[] firstCopy = firstParent.clone();
+                int[] secondCopy = secondParent.clone();
+                int[] child = new int[n];
+                crossover.combine(firstParent, secondParent, child, random);
+                assertTrue(crossover.getClass().getSimpleName() + " generated "
+                        + Arrays.toString(child), isPermutation(child));
+                assertArrayEquals(firstCopy, firstParent);
+                assertArrayEquals(secondCopy, secondParent);
+            }
+        }
+    }
+
+    private static boolean isPermutation(int[] values) {
+        boolean[] seen = new boolean[values.length];
+        for (int value : values) {
+            if (value < 0 || value >= values.length || seen[value]) {
+                return false;
+            }
+            seen[value] = true;
+        }
+        return true;
+    }
+
+    private static int[] randomPermutation(int n, Random random) {
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = random.nextInt(i + 1);
+            permutation[i] = permutation[j];
+            permutation[j] = i;
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns the edges of the given tour as sorted array of <code>min * n + max</code>.
+     */
+    private static int[] undirectedEdges(int[] tour) {
+        int n = tour.length;
+        int[] edges = new int[n];
+        for (int i = 0; i < n; i++) {
+            int a = tour[i];
+            int b = tour[(i + 1) % n];
+            edges[i] = Math.min(a, b) * n + Math.max(a, b);
+        }
+        Arrays.sort(edges);
+        return edges;
+    }
+
+    private static Distances distances(int n) {
+        return new Distances(n, new Random(n));
+    }
+
+    /**
+     * Euclidean distances of random points in the plane, rounded to integers.
+     */
+    private static final class Distances {
+
+        private final double[] x;
+        private final double[] y;
+
+        private Distances(int n, Random random) {
+            this.x = new double[n];
+            this.y = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = random.nextDouble() * 1000.0D;
+                y[i] = random.nextDouble() * 1000.0D;
+            }
+        }
+
+        private int distance(int a, int b) {
+            return (int) Math.round(Math.hypot(x[a] - x[b], y[a] - y[b]));
+        }
+
+        private int[] candidates(int k) {
+            int n = x.length;
+            int[] candidates = new int[n * k];
+            for (int e = 0; e < n; e++) {
+                Integer[] others = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    others[i] = i;
+                }
+                int element = e;
+                Arrays.sort(others, (a, b) -> Integer.compare(distance(element, a),
+                        distance(element, b)));
+                for (int i = 0; i < k; i++) {
+                    // the element itself is its own nearest point, use the next one instead
+                    candidates[e * k + i] = others[Math.min(i + 1, n - 1)];
+                }
+            }
+            return candidates;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package jep.model.optimizationProblem.tsp;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Checks the exact optimum of the {@link TravelingSalesmanProblem} of the examples.
+ */
+public class HeldKarpSolverTest {
+
+    private static final double OPTIMUM = -45811.0D;
+
+    @Test
+    public void solveFindsTheOptimum() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        assertEquals(OPTIMUM, new HeldKarpSolver(problem).solve().getFitness(), 0.0D);
+    }
+
+    @Test
+    public void sequentialSolveFindsTheOptimum() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        assertEquals(OPTIMUM, new HeldKarpSolver(problem, false).solve().getFitness(), 0.0D);
+    }
+
+}
@@ -0,0 +1,159 @@
+package jep.model.optimizationProblem.tsp;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the queries of the {@link KdTree} against a brute-force search. As points may have the
+ * same distance the distances of the results are compared, not the indices.
+ */
+public class KdTreeTest {
+
+    private static final int QUERIES = 300;
+
+    @Test
+    public void nearestNeighborsMatchBruteForce() {
+        assertNearestNeighborsMatchBruteForce(randomPoints(1000, 0, new Random(3L)));
+    }
+
+    @Test
+    public void nearestNeighborsMatchBruteForceWithDuplicateCoordinates() {
+        // coordinates from a coarse grid, so many points share a coordinate or their location
+        assertNearestNeighborsMatchBruteForce(randomPoints(1000, 5, new Random(5L)));
+    }
+
+    @Test
+    public void nearestNeighborsOfIdenticalPointsAreFound() {
+        int n = 50_000;
+        double[] coordinates = new double[n];
+        KdTree tree = new KdTree(coordinates, coordinates.clone(), coordinates.clone());
+        int[] neighbors = tree.nearestNeighbors(0, 10);
+        assertEquals(10, neighbors.length);
+        for (int neighbor : neighbors) {
+            assertEquals(true, neighbor > 0 && neighbor < n);
+        }
+    }
+
+    @Test
+    public void nearestMatchesBruteForceWhilePointsAreRemoved() {
+        Random random = new Random(7L);
+        double[][] points = randomPoints(500, 0, random);
+        KdTree tree = new KdTree(points[0], points[1], points[2]);
+        boolean[] removed = new boolean[points[0].length];
+        for (int i = 0; i < points[0].length - 1; i++) {
+            int query = random.nextInt(points[0].length);
+            int nearest = tree.nearest(query);
+            assertEquals(bruteForceNearestDistance(points, query, removed),
+                    distance(points, query, nearest), 0.0D);
+            int point = random.nextInt(points[0].length);
+            tree.remove(point);
+            removed[point] = true;
+            assertEquals(countRemaining(removed), tree.getRemainingPoints());
+        }
+        tree.reset();
+        assertEquals(points[0].length, tree.getRemainingPoints());
+    }
+
+    @Test
+    public void nearestReturnsMinusOneIfAllPointsAreRemoved() {
+        double[][] points = randomPoints(10, 0, new Random(9L));
+        KdTree tree = new KdTree(points[0], points[1], points[2]);
+        for (int i = 0; i < 10; i++) {
+            tree.remove(i);
+        }
+        assertEquals(-1, tree.nearest(0.5D, 0.5D, 0.5D));
+        assertEquals(-1, tree.nearest(3));
+    }
+
+    @Test
+    public void candidateListsHoldTheNearestCities() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        KdTree tree = KdTree.forCities(problem);
+        int n = problem.getNumberOfCities();
+        for (int city = 0; city < n; city++) {
+            int[] neighbors = tree.nearestNeighbors(city, n - 1);
+            assertEquals(n - 1, neighbors.length);
+            for (int i = 1; i < neighbors.length; i++) {
+                // the chord length grows with the great circle distance
+                assertEquals(true, problem.getDistance(city, neighbors[i - 1])
+                        <= problem.getDistance(city, neighbors[i]) + 1);
+            }
+        }
+    }
+
+    private static void assertNearestNeighborsMatchBruteForce(double[][] points) {
+        KdTree tree = new KdTree(points[0], points[1], points[2]);
+        Random random = new Random(1L);
+        int n = points[0].length;
+        for (int i = 0; i < QUERIES; i++) {
+            int query = random.nextInt(n);
+            int k = 1 + random.nextInt(20);
+            int[] neighbors = tree.nearestNeighbors(query, k);
+            double[] expected = bruteForceDistances(points, query);
+            assertEquals(k, neighbors.length);
+            for (int j = 0; j < k; j++) {
+                assertEquals(expected[j], distance(points, query, neighbors[j]), 0.0D);
+            }
+        }
+    }
+
+    /**
+     * Returns the random points as array of the x, y and z coordinates. With a grid size greater
+     * than 0 the coordinates are multiples of <code>1 / gridSize</code>.
+     */
+    private static double[][] randomPoints(int n, int gridSize, Random random) {
+        double[][] points = new double[3][n];
+        for (int axis = 0; axis < 3; axis++) {
+            for (int i = 0; i < n; i++) {
+                points[axis][i] = gridSize > 0 ? random.nextInt(gridSize + 1) / (double) gridSize
+                        : random.nextDouble();
+            }
+        }
+        return points;
+    }
+
+    private static double distance(double[][] points, int a, int b) {
+        double dx = points[0][a] - points[0][b];
+        double dy = points[1][a] - points[1][b];
+        double dz = points[2][a] - points[2][b];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] bruteForceDistances(double[][] points, int query) {
+        int n = points[0].length;
+        double[] distances = new double[n - 1];
+        for (int i = 0, k = 0; i < n; i++) {
+            if (i != query) {
+                distances[k++] = distance(points, query, i);
+            }
+        }
+        Arrays.sort(distances);
+        return distances;
+    }
+
+    private static double bruteForceNearestDistance(double[][] points, int query,
+            boolean[] removed) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < removed.length; i++) {
+            if (i != query && !removed[i]) {
+                best = Math.min(best, distance(points, query, i));
+            }
+        }
+        return best;
+    }
+
+    private static int countRemaining(boolean[] removed) {
+        int count = 0;
+        for (boolean value : removed) {
+            if (!value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
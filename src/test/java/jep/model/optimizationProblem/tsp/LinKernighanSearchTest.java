@@ -0,0 +1,58 @@
+package jep.model.optimizationProblem.tsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Checks that the improvement returned by the {@link LinKernighanSearch} is the actual difference
+ * of the tour lengths.
+ */
+public class LinKernighanSearchTest {
+
+    private static final int TOURS = 100;
+    private static final long TIME_BUDGET = TimeUnit.SECONDS.toNanos(10L);
+
+    @Test
+    public void improvementIsTheDifferenceOfTheTourLengths() {
+        assertImprovementIsTheDifferenceOfTheTourLengths(0L);
+    }
+
+    @Test
+    public void improvementWithKicksIsTheDifferenceOfTheTourLengths() {
+        assertImprovementIsTheDifferenceOfTheTourLengths(20L);
+    }
+
+    @Test
+    public void optimizeWithKicksFindsTheOptimum() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        long optimum = -(long) new HeldKarpSolver(problem).solve().getFitness();
+        LinKernighanSearch search = new LinKernighanSearch(problem, new CandidateLists(problem, 8),
+                LinKernighanSearch.DEFAULT_MAX_DEPTH, new Random(29L));
+        int[] tour = TourTests.randomPermutation(problem.getNumberOfCities(), new Random(31L));
+        search.optimize(tour, TIME_BUDGET, 200L);
+        assertEquals(optimum, TourTests.length(problem, tour));
+    }
+
+    private static void assertImprovementIsTheDifferenceOfTheTourLengths(long maxKicks) {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        LinKernighanSearch search = new LinKernighanSearch(problem, new CandidateLists(problem, 5),
+                LinKernighanSearch.DEFAULT_MAX_DEPTH, new Random(37L));
+        Random random = new Random(41L);
+        for (int i = 0; i < TOURS; i++) {
+            int[] tour = TourTests.randomPermutation(problem.getNumberOfCities(), random);
+            long before = TourTests.length(problem, tour);
+            long improvement = search.optimize(tour, TIME_BUDGET, maxKicks);
+            long after = TourTests.length(problem, tour);
+            assertTrue(TourTests.isPermutation(tour));
+            assertTrue(improvement >= 0L);
+            assertEquals(before - after, improvement);
+            assertTrue(search.getNumberOfKicks() <= maxKicks);
+        }
+    }
+
+}
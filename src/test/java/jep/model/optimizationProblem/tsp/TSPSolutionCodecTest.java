@@ -0,0 +1,68 @@
+package jep.model.optimizationProblem.tsp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that the {@link TSPSolutionCodec} reads back the tours it wrote and rejects invalid tours.
+ */
+public class TSPSolutionCodecTest {
+
+    private final TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+    private final TSPSolutionCodec codec = new TSPSolutionCodec(problem);
+
+    @Test
+    public void writtenTourIsReadBack() throws IOException {
+        Random random = new Random(43L);
+        for (int i = 0; i < 100; i++) {
+            int[] tour = TourTests.randomPermutation(problem.getNumberOfCities(), random);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            codec.writeGenome(new TSPSolution(problem, tour), new DataOutputStream(bytes));
+            TSPSolution solution = (TSPSolution) codec.readGenome(
+                    new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            assertArrayEquals(tour, solution.getTour());
+        }
+    }
+
+    @Test
+    public void tourOfAnotherLengthIsRejected() throws IOException {
+        assertRejected(problem.getNumberOfCities() + 1, new int[0]);
+        assertRejected(-1, new int[0]);
+        assertRejected(Integer.MAX_VALUE, new int[0]);
+    }
+
+    @Test
+    public void tourVisitingACityTwiceIsRejected() throws IOException {
+        int n = problem.getNumberOfCities();
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = i / 2;
+        }
+        assertRejected(n, tour);
+    }
+
+    private void assertRejected(int length, int[] cities) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(length);
+        for (int city : cities) {
+            output.writeInt(city);
+        }
+        try {
+            codec.readGenome(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            fail("The invalid tour was read.");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package jep.model.optimizationProblem.tsp;
+
+import java.util.Random;
+
+/**
+ * Helper methods of the tests on tours.
+ */
+final class TourTests {
+
+    private TourTests() {
+    }
+
+    static int[] randomPermutation(int n, Random random) {
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = random.nextInt(i + 1);
+            permutation[i] = permutation[j];
+            permutation[j] = i;
+        }
+        return permutation;
+    }
+
+    static boolean isPermutation(int[] values) {
+        boolean[] seen = new boolean[values.length];
+        for (int value : values) {
+            if (value < 0 || value >= values.length || seen[value]) {
+                return false;
+            }
+            seen[value] = true;
+        }
+        return true;
+    }
+
+    static long length(TravelingSalesmanProblem problem, int[] tour) {
+        long length = 0L;
+        for (int i = 0; i < tour.length; i++) {
+            length += problem.getDistance(tour[i], tour[(i + 1) % tour.length]);
+        }
+        return length;
+    }
+
+}
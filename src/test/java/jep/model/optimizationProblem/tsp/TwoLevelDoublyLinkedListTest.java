@@ -0,0 +1,140 @@
+package jep.model.optimizationProblem.tsp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the {@link TwoLevelDoublyLinkedList} against a tour held as plain array.
+ */
+public class TwoLevelDoublyLinkedListTest {
+
+    private static final int[] SIZES = {3, 4, 5, 13, 100, 1000};
+    private static final int REVERSALS = 2000;
+
+    @Test
+    public void reversalsMatchAnArrayTour() {
+        Random random = new Random(11L);
+        for (int n : SIZES) {
+            ArrayTour expected = new ArrayTour(TourTests.randomPermutation(n, random));
+            TwoLevelDoublyLinkedList list = new TwoLevelDoublyLinkedList(expected.tour.clone());
+            for (int i = 0; i < REVERSALS; i++) {
+                int a = random.nextInt(n);
+                int b = random.nextInt(n);
+                if (random.nextInt(10) == 0) {
+                    // reversing the path from b to a undoes the last reversal
+                    list.reverse(a, b);
+                    list.reverse(b, a);
+                } else {
+                    expected.reverse(a, b);
+                    list.reverse(a, b);
+                }
+                if (random.nextInt(20) == 0) {
+                    list.toggleOrientation();
+                    expected.toggleOrientation();
+                }
+                assertSameTour(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void betweenMatchesAnArrayTour() {
+        Random random = new Random(13L);
+        int n = 200;
+        ArrayTour expected = new ArrayTour(TourTests.randomPermutation(n, random));
+        TwoLevelDoublyLinkedList list = new TwoLevelDoublyLinkedList(expected.tour.clone());
+        for (int i = 0; i < REVERSALS; i++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            expected.reverse(a, b);
+            list.reverse(a, b);
+            int c = random.nextInt(n);
+            assertEquals(expected.between(a, c, b), list.between(a, c, b));
+            assertEquals(expected.between(b, c, a), list.between(b, c, a));
+        }
+    }
+
+    @Test
+    public void toArrayStartsAtTheGivenCity() {
+        int[] tour = {4, 2, 0, 3, 1};
+        int[] result = new int[tour.length];
+        new TwoLevelDoublyLinkedList(tour).toArray(0, result);
+        assertArrayEquals(new int[] {0, 3, 1, 4, 2}, result);
+    }
+
+    private static void assertSameTour(ArrayTour expected, TwoLevelDoublyLinkedList list) {
+        for (int city = 0; city < expected.tour.length; city++) {
+            assertEquals(expected.next(city), list.next(city));
+            assertEquals(expected.previous(city), list.previous(city));
+        }
+    }
+
+    /**
+     * Reference implementation which reverses a path by swapping the cities of the array.
+     */
+    private static final class ArrayTour {
+
+        private final int[] tour;
+        private final int[] position;
+        private boolean reversed = false;
+
+        private ArrayTour(int[] tour) {
+            this.tour = tour;
+            this.position = new int[tour.length];
+            for (int i = 0; i < tour.length; i++) {
+                position[tour[i]] = i;
+            }
+        }
+
+        private int next(int city) {
+            int n = tour.length;
+            return tour[(position[city] + (reversed ? n - 1 : 1)) % n];
+        }
+
+        private int previous(int city) {
+            int n = tour.length;
+            return tour[(position[city] + (reversed ? 1 : n - 1)) % n];
+        }
+
+        private boolean between(int a, int b, int c) {
+            if (reversed) {
+                int tmp = a;
+                a = c;
+                c = tmp;
+            }
+            int n = tour.length;
+            int start = position[a];
+            return (position[b] - start + n) % n <= (position[c] - start + n) % n;
+        }
+
+        private void toggleOrientation() {
+            reversed = !reversed;
+        }
+
+        private void reverse(int a, int b) {
+            if (reversed) {
+                int tmp = a;
+                a = b;
+                b = tmp;
+            }
+            int n = tour.length;
+            int i = position[a];
+            int j = position[b];
+            int length = (j - i + n) % n + 1;
+            for (int k = 0; k < length / 2; k++) {
+                int left = (i + k) % n;
+                int right = (j - k + n) % n;
+                int tmp = tour[left];
+                tour[left] = tour[right];
+                tour[right] = tmp;
+                position[tour[left]] = left;
+                position[tour[right]] = right;
+            }
+        }
+    }
+
+}
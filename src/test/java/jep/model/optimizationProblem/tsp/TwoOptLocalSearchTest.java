@@ -0,0 +1,87 @@
+package jep.model.optimizationProblem.tsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that the {@link TwoOptLocalSearch} only applies improving moves and stops in a local
+ * optimum.
+ */
+public class TwoOptLocalSearchTest {
+
+    private static final int TOURS = 200;
+
+    @Test
+    public void everyMoveShortensTheTour() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        TwoOptLocalSearch search = new TwoOptLocalSearch(problem, new CandidateLists(problem, 5));
+        Random random = new Random(17L);
+        for (int i = 0; i < TOURS; i++) {
+            int[] tour = TourTests.randomPermutation(problem.getNumberOfCities(), random);
+            long before = TourTests.length(problem, tour);
+            long moves = search.improve(tour);
+            long after = TourTests.length(problem, tour);
+            assertTrue(TourTests.isPermutation(tour));
+            // the distances are integers, so every improving move saves at least 1
+            assertTrue("The tour got shorter by " + (before - after) + " in " + moves + " moves",
+                    before - after >= moves);
+        }
+    }
+
+    @Test
+    public void noImprovingTwoOptMoveIsLeft() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        int n = problem.getNumberOfCities();
+        // with candidate lists of all other cities every 2-opt move is considered
+        TwoOptLocalSearch search =
+                new TwoOptLocalSearch(problem, new CandidateLists(problem, n - 1));
+        Random random = new Random(19L);
+        for (int i = 0; i < TOURS; i++) {
+            int[] tour = TourTests.randomPermutation(n, random);
+            search.improve(tour);
+            assertEquals(0L, bestTwoOptGain(problem, tour));
+            assertEquals(0L, search.improve(tour));
+        }
+    }
+
+    @Test
+    public void moveBudgetIsRespected() {
+        TravelingSalesmanProblem problem = new TravelingSalesmanProblem();
+        TwoOptLocalSearch search = new TwoOptLocalSearch(problem, new CandidateLists(problem, 5));
+        Random random = new Random(23L);
+        for (int i = 0; i < TOURS; i++) {
+            int[] tour = TourTests.randomPermutation(problem.getNumberOfCities(), random);
+            assertTrue(search.improve(tour, 2L) <= 2L);
+            assertTrue(TourTests.isPermutation(tour));
+        }
+    }
+
+    /**
+     * Returns the greatest gain of a 2-opt move of the given <code>tour</code> (0 if no move
+     * improves it), found by trying all pairs of edges.
+     */
+    private static long bestTwoOptGain(TravelingSalesmanProblem problem, int[] tour) {
+        int n = tour.length;
+        long best = 0L;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 2; j < n; j++) {
+                int a = tour[i];
+                int b = tour[i + 1];
+                int c = tour[j];
+                int d = tour[(j + 1) % n];
+                if (d == a) {
+                    continue;
+                }
+                long gain = (long) problem.getDistance(a, b) + problem.getDistance(c, d)
+                        - problem.getDistance(a, c) - problem.getDistance(b, d);
+                best = Math.max(best, gain);
+            }
+        }
+        return best;
+    }
+
+}